@@ -0,0 +1,91 @@
+// Copyright (c) 2021, Oracle and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import io.kubernetes.client.openapi.models.V1Pod;
+import io.kubernetes.client.util.Watch;
+import io.kubernetes.client.util.Watchable;
+import oracle.kubernetes.operator.benchmarks.DomainFixtures;
+import oracle.kubernetes.operator.builders.WatchBuilder;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the dispatch of a burst of pod watch events, one for each server in a domain, from a watcher to its
+ * listener. The listener does no work, so that only the cost of the watcher's own processing is measured.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+public class WatcherBenchmark {
+
+  @Param({"10", "100", "1000"})
+  public int servers;
+
+  private final List<Watch.Response<V1Pod>> events = new ArrayList<>();
+  private BenchmarkWatcher watcher;
+
+  /**
+   * Creates a modification event for each server pod, and a watcher which is not connected to Kubernetes.
+   */
+  @Setup
+  public void setUp() {
+    for (V1Pod pod : new DomainFixtures(servers).createServerPods()) {
+      events.add(DomainFixtures.createWatchResponse("MODIFIED", pod));
+    }
+    watcher = new BenchmarkWatcher();
+  }
+
+  /**
+   * Dispatches one event for each server.
+   */
+  @Benchmark
+  public int dispatchEvents() {
+    for (Watch.Response<V1Pod> event : events) {
+      watcher.receiveSharedResponse(event);
+    }
+    return watcher.received;
+  }
+
+  static class BenchmarkWatcher extends Watcher<V1Pod> {
+    private int received;
+
+    BenchmarkWatcher() {
+      super("0", null, new AtomicBoolean(false));
+      setListener(response -> received++);
+    }
+
+    @Override
+    public Watchable<V1Pod> initiateWatch(WatchBuilder watchBuilder) {
+      throw new UnsupportedOperationException("benchmark watchers receive only dispatched events");
+    }
+
+    @Override
+    public String getNamespace() {
+      return DomainFixtures.NAMESPACE;
+    }
+
+    @Override
+    public String getDomainUid(Watch.Response<V1Pod> item) {
+      return DomainFixtures.DOMAIN_UID;
+    }
+  }
+}
@@ -0,0 +1,256 @@
+// Copyright (c) 2021, Oracle and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.benchmarks;
+
+import java.lang.reflect.Constructor;
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import io.kubernetes.client.custom.IntOrString;
+import io.kubernetes.client.custom.Quantity;
+import io.kubernetes.client.openapi.models.V1Container;
+import io.kubernetes.client.openapi.models.V1ContainerPort;
+import io.kubernetes.client.openapi.models.V1EnvVar;
+import io.kubernetes.client.openapi.models.V1ExecAction;
+import io.kubernetes.client.openapi.models.V1HTTPGetAction;
+import io.kubernetes.client.openapi.models.V1LocalObjectReference;
+import io.kubernetes.client.openapi.models.V1ObjectMeta;
+import io.kubernetes.client.openapi.models.V1Pod;
+import io.kubernetes.client.openapi.models.V1PodSecurityContext;
+import io.kubernetes.client.openapi.models.V1PodSpec;
+import io.kubernetes.client.openapi.models.V1Probe;
+import io.kubernetes.client.openapi.models.V1ResourceRequirements;
+import io.kubernetes.client.openapi.models.V1SecretVolumeSource;
+import io.kubernetes.client.openapi.models.V1Volume;
+import io.kubernetes.client.openapi.models.V1VolumeMount;
+import io.kubernetes.client.util.Watch;
+import oracle.kubernetes.weblogic.domain.model.DomainStatus;
+import oracle.kubernetes.weblogic.domain.model.ServerHealth;
+import oracle.kubernetes.weblogic.domain.model.ServerStatus;
+
+import static oracle.kubernetes.operator.LabelConstants.CLUSTERNAME_LABEL;
+import static oracle.kubernetes.operator.LabelConstants.CLUSTERRESTARTVERSION_LABEL;
+import static oracle.kubernetes.operator.LabelConstants.CREATEDBYOPERATOR_LABEL;
+import static oracle.kubernetes.operator.LabelConstants.DOMAINNAME_LABEL;
+import static oracle.kubernetes.operator.LabelConstants.DOMAINRESTARTVERSION_LABEL;
+import static oracle.kubernetes.operator.LabelConstants.DOMAINUID_LABEL;
+import static oracle.kubernetes.operator.LabelConstants.SERVERNAME_LABEL;
+import static oracle.kubernetes.operator.LabelConstants.SERVERRESTARTVERSION_LABEL;
+
+/**
+ * Synthetic resources for a single domain, sized by its number of servers. The first server is the administration
+ * server; all others are managed servers in a single cluster. The fixtures are built entirely in memory, so that
+ * the benchmarks which use them need neither a Kubernetes cluster nor a WebLogic domain.
+ */
+public class DomainFixtures {
+
+  public static final String NAMESPACE = "bench-ns";
+  public static final String DOMAIN_UID = "domain1";
+  public static final String DOMAIN_NAME = "base_domain";
+  public static final String CLUSTER_NAME = "cluster-1";
+  public static final String ADMIN_SERVER_NAME = "admin-server";
+  public static final String IMAGE = "container-registry.oracle.com/middleware/weblogic:12.2.1.4";
+
+  // the approximate size of the generated configuration overrides for each server
+  private static final int OVERRIDE_SIZE_PER_SERVER = 2_000;
+
+  private final int numServers;
+
+  public DomainFixtures(int numServers) {
+    this.numServers = numServers;
+  }
+
+  /**
+   * Returns the names of the servers in the domain, beginning with the administration server.
+   */
+  public List<String> getServerNames() {
+    List<String> names = new ArrayList<>();
+    names.add(ADMIN_SERVER_NAME);
+    for (int i = 1; i < numServers; i++) {
+      names.add(getManagedServerName(i));
+    }
+    return names;
+  }
+
+  private String getManagedServerName(int i) {
+    return "managed-server" + i;
+  }
+
+  /**
+   * Creates a pod for each server in the domain.
+   */
+  public List<V1Pod> createServerPods() {
+    List<V1Pod> pods = new ArrayList<>();
+    for (String serverName : getServerNames()) {
+      pods.add(createServerPod(serverName, IMAGE));
+    }
+    return pods;
+  }
+
+  /**
+   * Creates a pod for the specified server, resembling those created by the operator.
+   * @param serverName the name of the server
+   * @param image the image to run
+   */
+  public V1Pod createServerPod(String serverName, String image) {
+    return new V1Pod()
+          .metadata(createMetadata(serverName))
+          .spec(new V1PodSpec()
+                .securityContext(new V1PodSecurityContext().runAsUser(1000L).fsGroup(1000L))
+                .addImagePullSecretsItem(new V1LocalObjectReference().name("ocr-secret"))
+                .addVolumesItem(new V1Volume().name("weblogic-credentials-volume")
+                      .secret(new V1SecretVolumeSource().secretName(DOMAIN_UID + "-weblogic-credentials")))
+                .addVolumesItem(new V1Volume().name("weblogic-scripts-cm-volume"))
+                .addContainersItem(createWebLogicContainer(serverName, image)));
+  }
+
+  private V1ObjectMeta createMetadata(String serverName) {
+    V1ObjectMeta metadata = new V1ObjectMeta()
+          .name(DOMAIN_UID + "-" + serverName)
+          .namespace(NAMESPACE)
+          .resourceVersion("1")
+          .putLabelsItem(CREATEDBYOPERATOR_LABEL, "true")
+          .putLabelsItem(DOMAINUID_LABEL, DOMAIN_UID)
+          .putLabelsItem(DOMAINNAME_LABEL, DOMAIN_NAME)
+          .putLabelsItem(SERVERNAME_LABEL, serverName)
+          .putLabelsItem(DOMAINRESTARTVERSION_LABEL, "1")
+          .putLabelsItem(CLUSTERRESTARTVERSION_LABEL, "1")
+          .putLabelsItem(SERVERRESTARTVERSION_LABEL, "1")
+          .putAnnotationsItem("prometheus.io/port", "8001")
+          .putAnnotationsItem("prometheus.io/path", "/wls-exporter/metrics")
+          .putAnnotationsItem("prometheus.io/scrape", "true");
+    return isAdminServer(serverName) ? metadata : metadata.putLabelsItem(CLUSTERNAME_LABEL, CLUSTER_NAME);
+  }
+
+  private boolean isAdminServer(String serverName) {
+    return ADMIN_SERVER_NAME.equals(serverName);
+  }
+
+  private V1Container createWebLogicContainer(String serverName, String image) {
+    return new V1Container()
+          .name("weblogic-server")
+          .image(image)
+          .imagePullPolicy("IfNotPresent")
+          .addCommandItem("/weblogic-operator/scripts/startServer.sh")
+          .addPortsItem(new V1ContainerPort().name("default").containerPort(8001).protocol("TCP"))
+          .addPortsItem(new V1ContainerPort().name("default-secure").containerPort(8002).protocol("TCP"))
+          .addEnvItem(new V1EnvVar().name("DOMAIN_NAME").value(DOMAIN_NAME))
+          .addEnvItem(new V1EnvVar().name("DOMAIN_HOME").value("/u01/oracle/user_projects/domains/" + DOMAIN_NAME))
+          .addEnvItem(new V1EnvVar().name("ADMIN_NAME").value(ADMIN_SERVER_NAME))
+          .addEnvItem(new V1EnvVar().name("ADMIN_PORT").value("7001"))
+          .addEnvItem(new V1EnvVar().name("SERVER_NAME").value(serverName))
+          .addEnvItem(new V1EnvVar().name("DOMAIN_UID").value(DOMAIN_UID))
+          .addEnvItem(new V1EnvVar().name("NODEMGR_HOME").value("/u01/nodemanager"))
+          .addEnvItem(new V1EnvVar().name("LOG_HOME").value("/shared/logs/" + DOMAIN_UID))
+          .addEnvItem(new V1EnvVar().name("USER_MEM_ARGS").value("-Djava.security.egd=file:/dev/./urandom"))
+          .resources(new V1ResourceRequirements()
+                .putRequestsItem("cpu", Quantity.fromString("250m"))
+                .putRequestsItem("memory", Quantity.fromString("768Mi"))
+                .putLimitsItem("cpu", Quantity.fromString("2"))
+                .putLimitsItem("memory", Quantity.fromString("2Gi")))
+          .livenessProbe(new V1Probe().initialDelaySeconds(30).periodSeconds(45).timeoutSeconds(5)
+                .exec(new V1ExecAction().addCommandItem("/weblogic-operator/scripts/livenessProbe.sh")))
+          .readinessProbe(new V1Probe().initialDelaySeconds(30).periodSeconds(5).timeoutSeconds(5)
+                .httpGet(new V1HTTPGetAction().path("/weblogic/ready").port(new IntOrString(8001))))
+          .addVolumeMountsItem(new V1VolumeMount().name("weblogic-credentials-volume")
+                .mountPath("/weblogic-operator/secrets").readOnly(true))
+          .addVolumeMountsItem(new V1VolumeMount().name("weblogic-scripts-cm-volume")
+                .mountPath("/weblogic-operator/scripts").readOnly(true));
+  }
+
+  /**
+   * Creates the domain topology, in the form written by the introspector.
+   */
+  public String createTopologyYaml() {
+    StringBuilder sb = new StringBuilder()
+          .append("domainValid: true\n")
+          .append("domain:\n")
+          .append("  name: \"").append(DOMAIN_NAME).append("\"\n")
+          .append("  adminServerName: \"").append(ADMIN_SERVER_NAME).append("\"\n")
+          .append("  configuredClusters:\n")
+          .append("  - name: \"").append(CLUSTER_NAME).append("\"\n")
+          .append("    servers:\n");
+    for (int i = 1; i < numServers; i++) {
+      sb.append("      - name: \"").append(getManagedServerName(i)).append("\"\n")
+            .append("        listenPort: 8001\n")
+            .append("        listenAddress: \"").append(DOMAIN_UID).append("-").append(getManagedServerName(i))
+            .append("\"\n")
+            .append("        sslListenPort: 8002\n")
+            .append("        networkAccessPoints:\n")
+            .append("          - name: \"t3-channel\"\n")
+            .append("            protocol: \"t3\"\n")
+            .append("            listenPort: 8005\n")
+            .append("            publicPort: 8005\n");
+    }
+    return sb.append("  servers:\n")
+          .append("    - name: \"").append(ADMIN_SERVER_NAME).append("\"\n")
+          .append("      listenPort: 7001\n")
+          .append("      listenAddress: \"").append(DOMAIN_UID).append("-").append(ADMIN_SERVER_NAME).append("\"\n")
+          .append("      adminPort: 7099\n")
+          .toString();
+  }
+
+  /**
+   * Creates the data of the introspector config map: the topology, plus a configuration override file per server.
+   */
+  public Map<String, String> createIntrospectorData() {
+    Map<String, String> data = new HashMap<>();
+    data.put("topology.yaml", createTopologyYaml());
+    for (String serverName : getServerNames()) {
+      data.put("Sit-Cfg-SERVER--" + serverName + ".xml", createOverride(serverName));
+    }
+    return data;
+  }
+
+  private String createOverride(String serverName) {
+    StringBuilder sb = new StringBuilder("<server><name>").append(serverName).append("</name>");
+    while (sb.length() < OVERRIDE_SIZE_PER_SERVER) {
+      sb.append("<network-access-point><listen-address>").append(DOMAIN_UID).append('-').append(serverName)
+            .append("</listen-address></network-access-point>");
+    }
+    return sb.append("</server>").toString();
+  }
+
+  /**
+   * Creates a domain status in which every server has the specified state and health.
+   * @param state the state of each server
+   * @param health the overall health of each server
+   */
+  public DomainStatus createDomainStatus(String state, String health) {
+    DomainStatus status = new DomainStatus().withReplicas(numServers - 1);
+    OffsetDateTime activationTime = OffsetDateTime.parse("2021-06-01T12:00:00Z");
+    for (String serverName : getServerNames()) {
+      status.addServer(new ServerStatus()
+            .withServerName(serverName)
+            .withClusterName(isAdminServer(serverName) ? null : CLUSTER_NAME)
+            .withState(state)
+            .withDesiredState("RUNNING")
+            .withNodeName("node-" + (serverName.hashCode() & 7))
+            .withHealth(new ServerHealth().withOverallHealth(health).withActivationTime(activationTime)));
+    }
+    return status;
+  }
+
+  /**
+   * Creates a watch event.
+   * @param type the event type, such as "MODIFIED"
+   * @param object the changed resource
+   * @param <T> the type of resource
+   */
+  @SuppressWarnings("unchecked")
+  public static <T> Watch.Response<T> createWatchResponse(String type, T object) {
+    try {
+      @SuppressWarnings("rawtypes")
+      Constructor<Watch.Response> constructor
+            = Watch.Response.class.getDeclaredConstructor(String.class, Object.class);
+      constructor.setAccessible(true);
+      return (Watch.Response<T>) constructor.newInstance(type, object);
+    } catch (ReflectiveOperationException e) {
+      throw new IllegalStateException("Unable to create a watch response", e);
+    }
+  }
+}
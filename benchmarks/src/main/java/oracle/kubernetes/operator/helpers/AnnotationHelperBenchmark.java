@@ -0,0 +1,62 @@
+// Copyright (c) 2021, Oracle and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.helpers;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import io.kubernetes.client.openapi.models.V1Pod;
+import io.kubernetes.client.util.Yaml;
+import oracle.kubernetes.operator.benchmarks.DomainFixtures;
+import org.apache.commons.codec.digest.DigestUtils;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Measures the computation of the hashes recorded in the weblogic.sha256 annotation of every server pod in a domain.
+ * The yamlString benchmark reproduces the original computation, which built the YAML as a string before hashing it,
+ * for comparison with the streaming hash now used by the operator.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(1)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+public class AnnotationHelperBenchmark {
+
+  @Param({"10", "100", "1000"})
+  public int servers;
+
+  private List<V1Pod> pods;
+
+  @Setup
+  public void setUp() {
+    pods = new DomainFixtures(servers).createServerPods();
+  }
+
+  @Benchmark
+  public void streamedHash(Blackhole blackhole) {
+    for (V1Pod pod : pods) {
+      blackhole.consume(AnnotationHelper.createHash(pod));
+    }
+  }
+
+  @Benchmark
+  public void yamlString(Blackhole blackhole) {
+    for (V1Pod pod : pods) {
+      blackhole.consume(DigestUtils.sha256Hex(Yaml.dump(pod)));
+    }
+  }
+}
@@ -0,0 +1,63 @@
+// Copyright (c) 2021, Oracle and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.helpers;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import oracle.kubernetes.operator.benchmarks.DomainFixtures;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the division of the introspector results among config maps. With 1,000 servers, the data exceeds
+ * the size limit of a single config map.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+public class ConfigMapSplitterBenchmark {
+
+  @Param({"10", "100", "1000"})
+  public int servers;
+
+  private Map<String, String> data;
+
+  @Setup
+  public void setUp() {
+    data = new DomainFixtures(servers).createIntrospectorData();
+  }
+
+  @Benchmark
+  public List<Target> split() {
+    return new ConfigMapSplitter<>(Target::new).split(data);
+  }
+
+  static class Target implements SplitterTarget {
+    private final Map<String, String> data;
+    private int numTargets;
+
+    Target(Map<String, String> data, Integer size) {
+      this.data = data;
+    }
+
+    @Override
+    public void recordNumTargets(int numTargets) {
+      this.numTargets = numTargets;
+    }
+  }
+}
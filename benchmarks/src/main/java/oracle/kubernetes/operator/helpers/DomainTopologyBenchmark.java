@@ -0,0 +1,46 @@
+// Copyright (c) 2021, Oracle and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.helpers;
+
+import java.util.concurrent.TimeUnit;
+
+import oracle.kubernetes.operator.benchmarks.DomainFixtures;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the parsing of the domain topology written by the introspector.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+public class DomainTopologyBenchmark {
+
+  @Param({"10", "100", "1000"})
+  public int servers;
+
+  private String topologyYaml;
+
+  @Setup
+  public void setUp() {
+    topologyYaml = new DomainFixtures(servers).createTopologyYaml();
+  }
+
+  @Benchmark
+  public DomainTopology parse() {
+    return DomainTopology.parseDomainTopologyYaml(topologyYaml);
+  }
+}
@@ -0,0 +1,76 @@
+// Copyright (c) 2021, Oracle and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.helpers;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import io.kubernetes.client.openapi.models.V1Pod;
+import oracle.kubernetes.operator.benchmarks.DomainFixtures;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import static oracle.kubernetes.operator.helpers.CompatibilityCheck.CompatibilityScope.DOMAIN;
+
+/**
+ * Measures the comparison of the desired and existing pods of every server in a domain, both when they match
+ * and when a changed image requires every pod to be replaced.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+public class PodCompatibilityBenchmark {
+
+  @Param({"10", "100", "1000"})
+  public int servers;
+
+  private List<V1Pod> existingPods;
+  private List<V1Pod> samePods;
+  private List<V1Pod> changedPods;
+
+  /**
+   * Creates the existing pods and two sets of desired pods, one identical to them and one with a new image.
+   */
+  @Setup
+  public void setUp() {
+    DomainFixtures fixtures = new DomainFixtures(servers);
+    existingPods = fixtures.createServerPods();
+    samePods = fixtures.createServerPods();
+    changedPods = new ArrayList<>();
+    for (String serverName : fixtures.getServerNames()) {
+      changedPods.add(fixtures.createServerPod(serverName, DomainFixtures.IMAGE + "-patched"));
+    }
+  }
+
+  @Benchmark
+  public void compatiblePods(Blackhole blackhole) {
+    compare(samePods, blackhole);
+  }
+
+  @Benchmark
+  public void incompatiblePods(Blackhole blackhole) {
+    compare(changedPods, blackhole);
+  }
+
+  private void compare(List<V1Pod> desiredPods, Blackhole blackhole) {
+    for (int i = 0; i < desiredPods.size(); i++) {
+      PodCompatibility compatibility = new PodCompatibility(desiredPods.get(i), existingPods.get(i));
+      blackhole.consume(compatibility.isCompatible() ? null : compatibility.getScopedIncompatibility(DOMAIN));
+    }
+  }
+}
@@ -0,0 +1,66 @@
+// Copyright (c) 2021, Oracle and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.logging;
+
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Level;
+import java.util.logging.LogRecord;
+
+import io.kubernetes.client.openapi.models.V1ObjectMeta;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the throughput of formatting operator log records as JSON, for a plain message, a message with a model
+ * object parameter, and a message with an exception.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(1)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Threads(4)
+public class LoggingFormatterBenchmark {
+
+  private final LoggingFormatter formatter = new LoggingFormatter();
+  private final V1ObjectMeta metadata = new V1ObjectMeta().name("domain1-managed-server1").namespace("ns1")
+        .putLabelsItem("weblogic.domainUID", "domain1").putLabelsItem("weblogic.serverName", "managed-server1");
+  private final RuntimeException exception = new RuntimeException("benchmark");
+
+  @Benchmark
+  public String plainMessage() {
+    return formatter.format(createRecord("Server {0} is {1}", "managed-server1", "RUNNING"));
+  }
+
+  @Benchmark
+  public String modelParameter() {
+    return formatter.format(createRecord("Creating pod {0}", metadata));
+  }
+
+  /**
+   * Formats a record with an exception, whose stack trace is included in the output.
+   */
+  @Benchmark
+  public String withException() {
+    LogRecord record = createRecord("Failed to read {0}", "managed-server1");
+    record.setThrown(exception);
+    return formatter.format(record);
+  }
+
+  private LogRecord createRecord(String message, Object... parameters) {
+    LogRecord record = new LogRecord(Level.FINE, message);
+    record.setLoggerName("Operator");
+    record.setParameters(parameters);
+    return record;
+  }
+}
@@ -0,0 +1,102 @@
+// Copyright (c) 2021, Oracle and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.work;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the overhead of running a chain of steps in a fiber, from its start until its completion callback.
+ * The steps do no work, so that only the cost of the fiber machinery is measured.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+public class FiberBenchmark {
+
+  @Param({"10", "100", "1000"})
+  public int steps;
+
+  private Engine engine;
+  private Step chain;
+
+  /**
+   * Creates the engine and the chain of steps to run.
+   */
+  @Setup
+  public void setUp() {
+    engine = new Engine("benchmark");
+    chain = createChain(steps);
+  }
+
+  @TearDown
+  public void tearDown() {
+    engine.getExecutor().shutdownNow();
+  }
+
+  static Step createChain(int length) {
+    Step step = null;
+    for (int i = 0; i < length; i++) {
+      step = new EmptyStep(step);
+    }
+    return step;
+  }
+
+  /**
+   * Runs the chain of steps in a new fiber and waits for it to complete.
+   */
+  @Benchmark
+  public Packet runFiber() throws InterruptedException {
+    CountDownLatch done = new CountDownLatch(1);
+    Packet packet = new Packet();
+    engine.createFiber().start(chain, packet, new LatchCallback(done));
+    done.await();
+    return packet;
+  }
+
+  static class EmptyStep extends Step {
+    EmptyStep(Step next) {
+      super(next);
+    }
+
+    @Override
+    public NextAction apply(Packet packet) {
+      return doNext(packet);
+    }
+  }
+
+  static class LatchCallback implements Fiber.CompletionCallback {
+    private final CountDownLatch latch;
+
+    LatchCallback(CountDownLatch latch) {
+      this.latch = latch;
+    }
+
+    @Override
+    public void onCompletion(Packet packet) {
+      latch.countDown();
+    }
+
+    @Override
+    public void onThrowable(Packet packet, Throwable throwable) {
+      latch.countDown();
+    }
+  }
+}
@@ -0,0 +1,95 @@
+// Copyright (c) 2021, Oracle and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.work;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the cost of starting fibers through a single fiber gate from several threads at once, as happens when
+ * watch events and status updates for many domains in one namespace arrive together. Each request is for a
+ * randomly chosen domain, so that requests for the same domain sometimes replace a running fiber.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(1)
+@Threads(4)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+public class FiberGateBenchmark {
+
+  private static final Fiber.CompletionCallback IGNORE_COMPLETION = new Fiber.CompletionCallback() {
+    @Override
+    public void onCompletion(Packet packet) {
+      // no action needed
+    }
+
+    @Override
+    public void onThrowable(Packet packet, Throwable throwable) {
+      // no action needed
+    }
+  };
+
+  @Param({"10", "100", "1000"})
+  public int domains;
+
+  private Engine engine;
+  private FiberGate gate;
+  private Step chain;
+
+  /**
+   * Creates the engine, the gate and a short chain of steps for each fiber.
+   */
+  @Setup
+  public void setUp() {
+    engine = new Engine("benchmark");
+    gate = new FiberGate(engine);
+    chain = FiberBenchmark.createChain(5);
+  }
+
+  @TearDown
+  public void tearDown() {
+    engine.getExecutor().shutdownNow();
+  }
+
+  /**
+   * Waits for the fibers started during an iteration to finish, so that they do not slow the next one.
+   */
+  @TearDown(Level.Iteration)
+  public void drain() throws InterruptedException {
+    while (!gate.getCurrentFibers().isEmpty()) {
+      Thread.sleep(1);
+    }
+  }
+
+  @Benchmark
+  public Fiber startFiber() {
+    return gate.startFiber(chooseDomain(), chain, new Packet(), IGNORE_COMPLETION);
+  }
+
+  @Benchmark
+  public Fiber startFiberIfNoCurrentFiber() {
+    return gate.startFiberIfNoCurrentFiber(chooseDomain(), chain, new Packet(), IGNORE_COMPLETION);
+  }
+
+  private String chooseDomain() {
+    return "domain" + ThreadLocalRandom.current().nextInt(domains);
+  }
+}
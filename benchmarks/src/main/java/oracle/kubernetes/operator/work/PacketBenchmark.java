@@ -0,0 +1,138 @@
+// Copyright (c) 2021, Oracle and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.work;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import oracle.kubernetes.operator.work.FiberBenchmark.LatchCallback;
+import oracle.kubernetes.operator.work.Step.StepAndPacket;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the per-server cost of a fork-join, as made for each server by the steps which start servers or read
+ * their status. Each forked packet is a copy of a parent packet populated as for a domain, and each forked step
+ * sets one value and looks up SPIs several times.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+public class PacketBenchmark {
+
+  private static final int PARENT_VALUES = 30;
+  private static final int SPI_LOOKUPS_PER_STEP = 5;
+
+  @Param({"10", "200"})
+  public int servers;
+
+  private Engine engine;
+  private Packet parent;
+
+  /**
+   * Creates the engine and a parent packet with components and values similar to those of a make-right.
+   */
+  @Setup
+  public void setUp() {
+    engine = new Engine("benchmark");
+    parent = new Packet();
+    parent.getComponents().put("domain", Component.createFor(new DomainSpi(), Integer.valueOf(1)));
+    parent.getComponents().put("main", Component.createFor(new MainSpi()));
+    parent.getComponents().put("fiber", Component.createFor(new FiberSpi()));
+    for (int i = 0; i < PARENT_VALUES; i++) {
+      parent.put("value" + i, "value" + i);
+    }
+  }
+
+  @TearDown
+  public void tearDown() {
+    engine.getExecutor().shutdownNow();
+  }
+
+  /**
+   * Copies the parent packet once per server, as a fork-join does, and runs the forked steps directly.
+   */
+  @Benchmark
+  public int copyAndLookup() {
+    int found = 0;
+    for (int i = 0; i < servers; i++) {
+      Packet packet = parent.copy();
+      packet.put("serverName", "managed-server" + i);
+      found += lookupSpis(packet);
+    }
+    return found;
+  }
+
+  /**
+   * Runs a fork-join with one forked fiber per server, and waits for it to complete.
+   */
+  @Benchmark
+  public Packet forkJoin() throws InterruptedException {
+    CountDownLatch done = new CountDownLatch(1);
+    Packet packet = parent.copy();
+    engine.createFiber().start(new ForkStep(servers), packet, new LatchCallback(done));
+    done.await();
+    return packet;
+  }
+
+  private static int lookupSpis(Packet packet) {
+    int found = 0;
+    for (int i = 0; i < SPI_LOOKUPS_PER_STEP; i++) {
+      found += packet.getSpi(DomainSpi.class) != null ? 1 : 0;
+    }
+    return found;
+  }
+
+  static class ForkStep extends Step {
+    private final int servers;
+
+    ForkStep(int servers) {
+      this.servers = servers;
+    }
+
+    @Override
+    public NextAction apply(Packet packet) {
+      Collection<StepAndPacket> startDetails = new ArrayList<>();
+      for (int i = 0; i < servers; i++) {
+        Packet p = packet.copy();
+        p.put("serverName", "managed-server" + i);
+        startDetails.add(new StepAndPacket(new ServerStep(), p));
+      }
+      return doForkJoin(getNext(), packet, startDetails);
+    }
+  }
+
+  static class ServerStep extends Step {
+    @Override
+    public NextAction apply(Packet packet) {
+      lookupSpis(packet);
+      packet.put("serverState", "RUNNING");
+      return doNext(packet);
+    }
+  }
+
+  static class DomainSpi {
+  }
+
+  static class MainSpi {
+  }
+
+  static class FiberSpi {
+  }
+}
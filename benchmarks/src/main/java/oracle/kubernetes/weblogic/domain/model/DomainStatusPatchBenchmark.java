@@ -0,0 +1,71 @@
+// Copyright (c) 2021, Oracle and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.weblogic.domain.model;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import com.google.gson.JsonObject;
+import jakarta.json.Json;
+import jakarta.json.JsonPatchBuilder;
+import oracle.kubernetes.operator.benchmarks.DomainFixtures;
+import oracle.kubernetes.operator.utils.PatchUtils;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the generation of the JSON patch which updates a domain status, and its conversion to the form sent to
+ * Kubernetes, both when nothing has changed and when every server has changed state.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+public class DomainStatusPatchBenchmark {
+
+  @Param({"10", "100", "1000"})
+  public int servers;
+
+  private DomainStatus oldStatus;
+  private DomainStatus sameStatus;
+  private DomainStatus changedStatus;
+
+  /**
+   * Creates the current status, and two new statuses: one identical and one in which all servers have started.
+   */
+  @Setup
+  public void setUp() {
+    DomainFixtures fixtures = new DomainFixtures(servers);
+    oldStatus = fixtures.createDomainStatus("STARTING", "ok");
+    sameStatus = fixtures.createDomainStatus("STARTING", "ok");
+    changedStatus = fixtures.createDomainStatus("RUNNING", "ok");
+  }
+
+  @Benchmark
+  public List<JsonObject> unchangedStatus() {
+    return createPatch(sameStatus);
+  }
+
+  @Benchmark
+  public List<JsonObject> allServersChanged() {
+    return createPatch(changedStatus);
+  }
+
+  private List<JsonObject> createPatch(DomainStatus newStatus) {
+    JsonPatchBuilder builder = Json.createPatchBuilder();
+    newStatus.createPatchFrom(builder, oldStatus);
+    return PatchUtils.toKubernetesPatch(builder.build());
+  }
+}
@@ -0,0 +1,99 @@
+// Copyright (c) 2021, Oracle and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.weblogic.domain.model;
+
+import java.util.concurrent.TimeUnit;
+
+import io.kubernetes.client.openapi.models.V1ObjectMeta;
+import io.kubernetes.client.openapi.models.V1SecretReference;
+import oracle.kubernetes.weblogic.domain.DomainConfigurator;
+import oracle.kubernetes.weblogic.domain.DomainConfiguratorFactory;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the cost of resolving the effective configuration of every managed server in a cluster as often as a
+ * make-right does: once each to create its pod, to create its service, and to compute its status.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+public class EffectiveConfigurationBenchmark {
+
+  private static final String CLUSTER_NAME = "cluster-1";
+  private static final int LOOKUPS_PER_SERVER = 3;
+
+  @Param({"10", "500"})
+  public int servers;
+
+  private Domain domain;
+
+  /**
+   * Creates a domain whose spec configures environment variables, resources and probes at the domain and cluster
+   * levels, and an environment variable for each managed server.
+   */
+  @Setup
+  public void setUp() {
+    domain = new Domain()
+          .withMetadata(new V1ObjectMeta().name("domain1").namespace("bench-ns").generation(1L))
+          .withSpec(new DomainSpec()
+                .withDomainUid("domain1")
+                .withWebLogicCredentialsSecret(new V1SecretReference().name("domain1-weblogic-credentials")));
+
+    DomainConfigurator configurator = DomainConfiguratorFactory.forDomain(domain)
+          .withEnvironmentVariable("USER_MEM_ARGS", "-Djava.security.egd=file:/dev/./urandom")
+          .withRequestRequirement("memory", "768Mi")
+          .withLimitRequirement("memory", "2Gi");
+    configurator.configureCluster(CLUSTER_NAME)
+          .withReplicas(servers)
+          .withEnvironmentVariable("JAVA_OPTIONS", "-Dweblogic.StdoutDebugEnabled=false")
+          .withRequestRequirement("cpu", "250m")
+          .withLivenessProbeSettings(30, 5, 45)
+          .withReadinessProbeSettings(30, 5, 5);
+    for (int i = 1; i <= servers; i++) {
+      configurator.configureServer(getServerName(i)).withEnvironmentVariable("SERVER_INDEX", Integer.toString(i));
+    }
+  }
+
+  private String getServerName(int i) {
+    return "managed-server" + i;
+  }
+
+  @Benchmark
+  public int uncached() {
+    domain.disableEffectiveConfigurationCache();
+    return resolveAllServers();
+  }
+
+  /**
+   * Resolves the servers with a newly enabled cache, as at the start of each make-right.
+   */
+  @Benchmark
+  public int cached() {
+    domain.enableEffectiveConfigurationCache();
+    return resolveAllServers();
+  }
+
+  private int resolveAllServers() {
+    int count = 0;
+    for (int lookup = 0; lookup < LOOKUPS_PER_SERVER; lookup++) {
+      for (int i = 1; i <= servers; i++) {
+        count += domain.getServer(getServerName(i), CLUSTER_NAME).getEnvironmentVariables().size();
+      }
+    }
+    return count;
+  }
+}
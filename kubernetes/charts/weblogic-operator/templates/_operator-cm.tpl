@@ -40,6 +40,18 @@ data:
   {{- if .introspectorJobNameSuffix }}
   introspectorJobNameSuffix: {{ .introspectorJobNameSuffix | quote }}
   {{- end }}
+  {{- if .introspectorCompressionThreshold }}
+  introspectorCompressionThreshold: {{ .introspectorCompressionThreshold | quote }}
+  {{- end }}
+  {{- if .serverHttpMaxConcurrentRequests }}
+  serverHttpMaxConcurrentRequests: {{ .serverHttpMaxConcurrentRequests | quote }}
+  {{- end }}
+  {{- if .serverStatusReadMode }}
+  serverStatusReadMode: {{ .serverStatusReadMode | quote }}
+  {{- end }}
+  {{- if .domainStatusUpdateWindowMillis }}
+  domainStatusUpdateWindowMillis: {{ .domainStatusUpdateWindowMillis | quote }}
+  {{- end }}
   {{- if .externalServiceNameSuffix }}
   externalServiceNameSuffix: {{ .externalServiceNameSuffix | quote }}
   {{- end }}
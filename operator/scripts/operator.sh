@@ -61,6 +61,10 @@ if [ "${MOCK_WLS}" == 'true' ]; then
   MOCKING_WLS="-DmockWLS=true"
 fi
 
+if [ "${JAVA_LOGGING_INFER_CALLER}" == 'true' ]; then
+  INFER_CALLER="-DinferLogCaller=true"
+fi
+
 LOGGING="-Djava.util.logging.config.file=${LOGGING_CONFIG}"
 mkdir -m 777 -p /logs
 cp /operator/logstash.conf /logs/logstash.conf
@@ -71,6 +75,6 @@ cp /operator/logstash.conf /logs/logstash.conf
 HEAP="-XshowSettings:vm"
 
 # Start operator
-java $HEAP $MOCKING_WLS $DEBUG $LOGGING -jar /operator/weblogic-kubernetes-operator.jar &
+java $HEAP $MOCKING_WLS $INFER_CALLER $DEBUG $LOGGING -jar /operator/weblogic-kubernetes-operator.jar &
 PID=$!
 wait $PID
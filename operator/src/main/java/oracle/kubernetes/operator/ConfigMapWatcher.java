@@ -58,9 +58,18 @@ public class ConfigMapWatcher extends Watcher<V1ConfigMap> {
 
   @Override
   public Watchable<V1ConfigMap> initiateWatch(WatchBuilder watchBuilder) throws ApiException {
+    return createWatch(watchBuilder, ns);
+  }
+
+  @Override
+  WatchMultiplexer.WatchInitiator<V1ConfigMap> getClusterWatchInitiator() {
+    return watchBuilder -> createWatch(watchBuilder, WatchBuilder.ALL_NAMESPACES);
+  }
+
+  private Watchable<V1ConfigMap> createWatch(WatchBuilder watchBuilder, String namespace) throws ApiException {
     return watchBuilder
         .withLabelSelector(LabelConstants.CREATEDBYOPERATOR_LABEL)
-        .createConfigMapWatch(ns);
+        .createConfigMapWatch(namespace);
   }
 
   @Override
@@ -3,17 +3,21 @@
 
 package oracle.kubernetes.operator;
 
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.TreeSet;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.ThreadFactory;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.function.Consumer;
 import java.util.function.Function;
 import javax.annotation.Nonnull;
 
+import io.kubernetes.client.common.KubernetesListObject;
+import io.kubernetes.client.common.KubernetesObject;
 import io.kubernetes.client.openapi.models.CoreV1Event;
 import io.kubernetes.client.openapi.models.CoreV1EventList;
 import io.kubernetes.client.openapi.models.V1ConfigMap;
@@ -47,9 +51,11 @@ public class DomainNamespaces {
 
   private final Map<String, NamespaceStatus> namespaceStatuses = new ConcurrentHashMap<>();
   private final Map<String, AtomicBoolean> namespaceStoppingMap = new ConcurrentHashMap<>();
+  private final ResourceCaches caches = new ResourceCaches();
 
   private final WatcherControl<V1ConfigMap, ConfigMapWatcher> configMapWatchers
-        = new WatcherControl<>(ConfigMapWatcher::create, d -> d::dispatchConfigMapWatch);
+        = new WatcherControl<>(ConfigMapWatcher::create,
+              d -> cached(caches.getConfigMaps(), d::dispatchConfigMapWatch), caches.getConfigMaps());
   private final WatcherControl<Domain, DomainWatcher> domainWatchers
         = new WatcherControl<>(DomainWatcher::create, d -> d::dispatchDomainWatch);
   private final WatcherControl<CoreV1Event, EventWatcher> eventWatchers
@@ -57,13 +63,19 @@ public class DomainNamespaces {
   private final WatcherControl<CoreV1Event, OperatorEventWatcher> operatorEventWatchers
       = new WatcherControl<>(OperatorEventWatcher::create, d -> d::dispatchEventWatch);
   private final WatcherControl<V1Job, JobWatcher> jobWatchers
-        = new WatcherControl<>(JobWatcher::create, d -> NULL_LISTENER);
+        = new WatcherControl<>(JobWatcher::create, d -> cached(caches.getJobs(), NULL_LISTENER), caches.getJobs());
   private final WatcherControl<V1Pod, PodWatcher> podWatchers
-        = new WatcherControl<>(PodWatcher::create, d -> d::dispatchPodWatch);
+        = new WatcherControl<>(PodWatcher::create,
+              d -> cached(caches.getPods(), dispatchPodWatch(d)), caches.getPods());
   private final WatcherControl<V1Service, ServiceWatcher> serviceWatchers
-        = new WatcherControl<>(ServiceWatcher::create, d -> d::dispatchServiceWatch);
+        = new WatcherControl<>(ServiceWatcher::create,
+              d -> cached(caches.getServices(), d::dispatchServiceWatch), caches.getServices());
   private final WatcherControl<V1beta1PodDisruptionBudget, PodDisruptionBudgetWatcher> podDisruptionBudgetWatchers
-          = new WatcherControl<>(PodDisruptionBudgetWatcher::create, d -> d::dispatchPodDisruptionBudgetWatch);
+          = new WatcherControl<>(PodDisruptionBudgetWatcher::create,
+              d -> cached(caches.getPodDisruptionBudgets(), d::dispatchPodDisruptionBudgetWatch),
+              caches.getPodDisruptionBudgets());
+
+  private final List<WatchListener<V1Pod>> podWatchListeners = new CopyOnWriteArrayList<>();
 
   private final SemanticVersion productVersion;
 
@@ -100,6 +112,7 @@ public class DomainNamespaces {
    */
   void stopAllWatchers() {
     namespaceStoppingMap.forEach((key, value) -> value.set(true));
+    WatchMultiplexer.stopAll();
   }
 
   /**
@@ -118,6 +131,7 @@ public class DomainNamespaces {
     podDisruptionBudgetWatchers.removeWatcher(ns);
     configMapWatchers.removeWatcher(ns);
     jobWatchers.removeWatcher(ns);
+    caches.removeNamespace(ns);
 
     DomainProcessorImpl.cleanupNamespace(ns);
   }
@@ -154,6 +168,36 @@ public class DomainNamespaces {
     return podDisruptionBudgetWatchers.getWatcher(namespace);
   }
 
+  ResourceCaches getResourceCaches() {
+    return caches;
+  }
+
+  /**
+   * Adds a listener to be notified of each pod watch event, after the domain processor.
+   * @param listener a pod watch listener
+   */
+  void addPodWatchListener(WatchListener<V1Pod> listener) {
+    podWatchListeners.add(listener);
+  }
+
+  private WatchListener<V1Pod> dispatchPodWatch(DomainProcessor domainProcessor) {
+    return item -> {
+      domainProcessor.dispatchPodWatch(item);
+      podWatchListeners.forEach(listener -> listener.receivedResponse(item));
+    };
+  }
+
+  // Returns a listener which keeps the specified cache current before passing each event to the specified listener.
+  private static <T extends KubernetesObject> WatchListener<T> cached(
+        ResourceCache<T, ?> cache, WatchListener<T> listener) {
+    return item -> {
+      if (ResourceCaches.isEnabled()) {
+        cache.recordWatchEvent(item);
+      }
+      listener.receivedResponse(item);
+    };
+  }
+
   /**
    * Returns the internal status object for the specified namespace.
    * @param ns the name of the namespace.
@@ -175,6 +219,7 @@ public class DomainNamespaces {
    * Returns a set up steps to update the specified namespace.
    * This will include adding any existing domains, pod, services,
    * and will also start watchers for the namespace if they aren't already running.
+   * The resources are always listed from Kubernetes, so that each recheck also resynchronizes the resource caches.
    * @param ns the name of the namespace
    * @param processor processing to be done to bring up any found domains
    */
@@ -209,10 +254,16 @@ public class DomainNamespaces {
     private final Map<String, W> watchers = new ConcurrentHashMap<>();
     private final WatcherFactory<T,W> factory;
     private final ListenerSelector<T> selector;
+    private final ResourceCache<?, ?> cache;
 
     private WatcherControl(WatcherFactory<T, W> factory, ListenerSelector<T> selector) {
+      this(factory, selector, null);
+    }
+
+    private WatcherControl(WatcherFactory<T, W> factory, ListenerSelector<T> selector, ResourceCache<?, ?> cache) {
       this.factory = factory;
       this.selector = selector;
+      this.cache = cache;
     }
 
     void startWatcher(String namespace, String resourceVersion, DomainProcessor domainProcessor) {
@@ -220,7 +271,9 @@ public class DomainNamespaces {
     }
 
     W createWatcher(String ns, String resourceVersion, WatchListener<T> listener) {
-      return factory.create(getThreadFactory(), ns, resourceVersion, getWatchTuning(), listener, isStopping(ns));
+      W watcher = factory.create(getThreadFactory(), ns, resourceVersion, getWatchTuning(), listener, isStopping(ns));
+      Optional.ofNullable(cache).ifPresent(c -> watcher.setGapListener(() -> c.markUnsynchronized(ns)));
+      return watcher;
     }
 
     W getWatcher(String ns) {
@@ -247,7 +300,10 @@ public class DomainNamespaces {
 
     @Override
     Consumer<V1ConfigMapList> getConfigMapListProcessing() {
-      return l -> configMapWatchers.startWatcher(ns, getResourceVersion(l), domainProcessor);
+      return l -> {
+        seedCache(caches.getConfigMaps(), l);
+        configMapWatchers.startWatcher(ns, getResourceVersion(l), domainProcessor);
+      };
     }
 
     @Override
@@ -262,27 +318,46 @@ public class DomainNamespaces {
 
     @Override
     Consumer<V1JobList> getJobListProcessing() {
-      return l -> jobWatchers.startWatcher(ns, getResourceVersion(l), domainProcessor);
+      return l -> {
+        seedCache(caches.getJobs(), l);
+        jobWatchers.startWatcher(ns, getResourceVersion(l), domainProcessor);
+      };
     }
 
     @Override
     Consumer<V1PodList> getPodListProcessing() {
-      return l -> podWatchers.startWatcher(ns, getResourceVersion(l), domainProcessor);
+      return l -> {
+        seedCache(caches.getPods(), l);
+        podWatchers.startWatcher(ns, getResourceVersion(l), domainProcessor);
+      };
     }
 
     @Override
     Consumer<V1ServiceList> getServiceListProcessing() {
-      return l -> serviceWatchers.startWatcher(ns, getResourceVersion(l), domainProcessor);
+      return l -> {
+        seedCache(caches.getServices(), l);
+        serviceWatchers.startWatcher(ns, getResourceVersion(l), domainProcessor);
+      };
     }
 
     @Override
     Consumer<V1beta1PodDisruptionBudgetList> getPodDisruptionBudgetListProcessing() {
-      return l -> podDisruptionBudgetWatchers.startWatcher(ns, getResourceVersion(l), domainProcessor);
+      return l -> {
+        seedCache(caches.getPodDisruptionBudgets(), l);
+        podDisruptionBudgetWatchers.startWatcher(ns, getResourceVersion(l), domainProcessor);
+      };
     }
 
     @Override
     Consumer<DomainList> getDomainListProcessing() {
       return l -> domainWatchers.startWatcher(ns, getResourceVersion(l), domainProcessor);
     }
+
+    // each list of the namespace, including those made by periodic rechecks, resynchronizes the cache
+    private <L extends KubernetesListObject> void seedCache(ResourceCache<?, L> cache, L list) {
+      if (ResourceCaches.isEnabled()) {
+        cache.recordList(ns, list);
+      }
+    }
   }
 }
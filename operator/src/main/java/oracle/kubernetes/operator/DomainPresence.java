@@ -8,6 +8,7 @@ import java.util.Optional;
 public class DomainPresence {
   private static final int DEFAULT_TIMEOUT_SECONDS = 5;
   private static final int DEFAULT_RETRY_MAX_COUNT = 5;
+  private static final int DEFAULT_MAX_RETRY_DELAY_SECONDS = 300;
 
   static int getDomainPresenceFailureRetrySeconds() {
     return Optional.ofNullable(TuningParameters.getInstance())
@@ -20,4 +21,22 @@ public class DomainPresence {
         .map(parameters -> parameters.getMainTuning().domainPresenceFailureRetryMaxCount)
         .orElse(DEFAULT_RETRY_MAX_COUNT);
   }
+
+  /**
+   * Returns the delay before retrying a failed make-right. The delay starts at domainPresenceFailureRetrySeconds
+   * and doubles with each consecutive failure, up to the make-right maximum retry delay.
+   * @param failureCount the number of earlier consecutive failures for the domain
+   * @return a delay in seconds
+   */
+  static long getDomainPresenceFailureRetryDelaySeconds(int failureCount) {
+    long maxDelay = Optional.ofNullable(TuningParameters.getInstance())
+        .map(parameters -> parameters.getMakeRightTuning().maxRetryDelaySeconds)
+        .orElse(DEFAULT_MAX_RETRY_DELAY_SECONDS);
+    long initialDelay = getDomainPresenceFailureRetrySeconds();
+    long delay = initialDelay;
+    for (int i = 0; i < failureCount && delay < maxDelay; i++) {
+      delay *= 2;
+    }
+    return Math.max(initialDelay, Math.min(delay, maxDelay));
+  }
 }
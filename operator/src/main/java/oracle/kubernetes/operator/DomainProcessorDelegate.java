@@ -69,4 +69,13 @@ public interface DomainProcessorDelegate {
    */
   ScheduledFuture<?> scheduleWithFixedDelay(
       Runnable command, long initialDelay, long delay, TimeUnit unit);
+
+  /**
+   * Returns the caches from which the resources of domain namespaces may be listed.
+   *
+   * @return the resource caches, or null if resources must always be listed from Kubernetes
+   */
+  default ResourceCaches getResourceCaches() {
+    return null;
+  }
 }
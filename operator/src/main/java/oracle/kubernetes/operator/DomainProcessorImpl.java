@@ -5,6 +5,7 @@ package oracle.kubernetes.operator;
 
 import java.time.OffsetDateTime;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
@@ -13,7 +14,6 @@ import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.BiConsumer;
@@ -36,6 +36,7 @@ import io.kubernetes.client.openapi.models.V1beta1PodDisruptionBudget;
 import io.kubernetes.client.openapi.models.V1beta1PodDisruptionBudgetList;
 import io.kubernetes.client.util.Watch;
 import oracle.kubernetes.operator.TuningParameters.MainTuning;
+import oracle.kubernetes.operator.TuningParameters.MakeRightTuning;
 import oracle.kubernetes.operator.calls.FailureStatusSourceException;
 import oracle.kubernetes.operator.helpers.ConfigMapHelper;
 import oracle.kubernetes.operator.helpers.DomainPresenceInfo;
@@ -57,6 +58,7 @@ import oracle.kubernetes.operator.logging.LoggingFactory;
 import oracle.kubernetes.operator.logging.LoggingFilter;
 import oracle.kubernetes.operator.logging.MessageKeys;
 import oracle.kubernetes.operator.logging.OncePerMessageLoggingFilter;
+import oracle.kubernetes.operator.metrics.MetricsRegistry;
 import oracle.kubernetes.operator.steps.BeforeAdminServiceStep;
 import oracle.kubernetes.operator.steps.DeleteDomainStep;
 import oracle.kubernetes.operator.steps.DomainPresenceStep;
@@ -86,6 +88,7 @@ import static oracle.kubernetes.operator.ProcessingConstants.SERVER_STATE_MAP;
 import static oracle.kubernetes.operator.helpers.EventHelper.EventItem.DOMAIN_PROCESSING_ABORTED;
 import static oracle.kubernetes.operator.helpers.EventHelper.EventItem.DOMAIN_PROCESSING_RETRYING;
 import static oracle.kubernetes.operator.helpers.LegalNames.toJobIntrospectorName;
+import static oracle.kubernetes.operator.steps.ReadHealthStep.HEALTH_READ_METRIC;
 
 public class DomainProcessorImpl implements DomainProcessor {
 
@@ -97,7 +100,7 @@ public class DomainProcessorImpl implements DomainProcessor {
   // Map namespace to map of domainUID to Domain; tests may replace this value.
   @SuppressWarnings({"FieldMayBeFinal", "CanBeFinal"})
   private static Map<String, Map<String, DomainPresenceInfo>> DOMAINS = new ConcurrentHashMap<>();
-  private static final Map<String, Map<String, ScheduledFuture<?>>> statusUpdaters = new ConcurrentHashMap<>();
+  private static final StatusUpdateScheduler statusScheduler = new StatusUpdateScheduler();
   private final DomainProcessorDelegate delegate;
   private final SemanticVersion productVersion;
 
@@ -122,11 +125,24 @@ public class DomainProcessorImpl implements DomainProcessor {
     return DOMAINS.computeIfAbsent(ns, k -> new ConcurrentHashMap<>()).get(domainUid);
   }
 
+  /**
+   * Returns the domain with the specified namespace and UID, as most recently recorded by the operator.
+   * @param ns the namespace of the domain
+   * @param domainUid the UID of the domain
+   * @return the domain, or null if the operator is not processing such a domain
+   */
+  public static Domain getKnownDomain(String ns, String domainUid) {
+    return Optional.ofNullable(DOMAINS.get(ns))
+          .map(m -> m.get(domainUid))
+          .map(DomainPresenceInfo::getDomain)
+          .orElse(null);
+  }
+
   static void cleanupNamespace(String namespace) {
     DOMAINS.remove(namespace);
     domainEventK8SObjects.remove(namespace);
     namespaceEventK8SObjects.remove(namespace);
-    statusUpdaters.remove((namespace));
+    statusScheduler.removeNamespace(namespace);
   }
 
   static void registerDomainPresenceInfo(DomainPresenceInfo info) {
@@ -146,25 +162,12 @@ public class DomainProcessorImpl implements DomainProcessor {
   private static void unregisterDomain(String ns, String domainUid) {
     unregisterPresenceInfo(ns, domainUid);
     unregisterEventK8SObject(ns, domainUid);
-  }
-
-  private static void registerStatusUpdater(
-        String ns, String domainUid, ScheduledFuture<?> future) {
-    ScheduledFuture<?> existing =
-          statusUpdaters.computeIfAbsent(ns, k -> new ConcurrentHashMap<>()).put(domainUid, future);
-    if (existing != null) {
-      existing.cancel(false);
-    }
+    MetricsRegistry.getInstance().remove(HEALTH_READ_METRIC, "namespace", ns, "domain_uid", domainUid);
+    DomainStatusUpdateBatcher.remove(ns, domainUid);
   }
 
   private static void unregisterStatusUpdater(String ns, String domainUid) {
-    Map<String, ScheduledFuture<?>> map = statusUpdaters.get(ns);
-    if (map != null) {
-      ScheduledFuture<?> existing = map.remove(domainUid);
-      if (existing != null) {
-        existing.cancel(true);
-      }
-    }
+    statusScheduler.unregister(ns, domainUid);
   }
 
   public static void updateEventK8SObjects(CoreV1Event event) {
@@ -342,7 +345,13 @@ public class DomainProcessorImpl implements DomainProcessor {
   }
 
   private FiberGate getMakeRightFiberGate(String ns) {
-    return makeRightFiberGates.computeIfAbsent(ns, k -> delegate.createFiberGate());
+    return makeRightFiberGates.computeIfAbsent(ns, k -> createMakeRightFiberGate());
+  }
+
+  private FiberGate createMakeRightFiberGate() {
+    MakeRightTuning tuning = TuningParameters.getInstance().getMakeRightTuning();
+    return delegate.createFiberGate()
+          .withQueueing(tuning.coalescingWindowMillis, tuning.maxConcurrentPerNamespace);
   }
 
   private FiberGate getStatusFiberGate(String ns) {
@@ -411,6 +420,7 @@ public class DomainProcessorImpl implements DomainProcessor {
         // fall through
       case "MODIFIED":
         info.setServerPodFromEvent(serverName, pod);
+        statusScheduler.expedite(info.getNamespace(), domainUid);
         break;
       case "DELETED":
         boolean removed = info.deleteServerPodFromEvent(serverName, pod);
@@ -629,58 +639,67 @@ public class DomainProcessorImpl implements DomainProcessor {
     final OncePerMessageLoggingFilter loggingFilter = new OncePerMessageLoggingFilter();
 
     MainTuning main = TuningParameters.getInstance().getMainTuning();
-    registerStatusUpdater(
+    statusScheduler.startTicking(delegate);
+    statusScheduler.register(
         info.getNamespace(),
         info.getDomainUid(),
-        delegate.scheduleWithFixedDelay(
-            () -> {
-              try {
-                Packet packet = new Packet();
-                packet
-                    .getComponents()
-                    .put(
-                        ProcessingConstants.DOMAIN_COMPONENT_NAME,
-                        Component.createFor(
-                            info, delegate.getKubernetesVersion()));
-                packet.put(LoggingFilter.LOGGING_FILTER_PACKET_KEY, loggingFilter);
-                Step strategy =
-                    ServerStatusReader.createStatusStep(main.statusUpdateTimeoutSeconds, null);
-
-                getStatusFiberGate(info.getNamespace())
-                    .startFiberIfNoCurrentFiber(
-                        info.getDomainUid(),
-                        strategy,
-                        packet,
-                        new CompletionCallback() {
-                          @Override
-                          public void onCompletion(Packet packet) {
-                            AtomicInteger serverHealthRead =
-                                packet.getValue(
-                                    ProcessingConstants.REMAINING_SERVERS_HEALTH_TO_READ);
-                            if (serverHealthRead == null || serverHealthRead.get() == 0) {
-                              loggingFilter.setFiltering(false).resetLogHistory();
-                            } else {
-                              loggingFilter.setFiltering(true);
-                            }
-                          }
+        () -> {
+          try {
+            Packet packet = new Packet();
+            packet
+                .getComponents()
+                .put(
+                    ProcessingConstants.DOMAIN_COMPONENT_NAME,
+                    Component.createFor(
+                        info, delegate.getKubernetesVersion()));
+            packet.put(LoggingFilter.LOGGING_FILTER_PACKET_KEY, loggingFilter);
+            Step strategy =
+                ServerStatusReader.createStatusStep(main.statusUpdateTimeoutSeconds, null);
+
+            getStatusFiberGate(info.getNamespace())
+                .startFiberIfNoCurrentFiber(
+                    info.getDomainUid(),
+                    strategy,
+                    packet,
+                    new CompletionCallback() {
+                      @Override
+                      public void onCompletion(Packet packet) {
+                        AtomicInteger serverHealthRead =
+                            packet.getValue(
+                                ProcessingConstants.REMAINING_SERVERS_HEALTH_TO_READ);
+                        if (serverHealthRead == null || serverHealthRead.get() == 0) {
+                          loggingFilter.setFiltering(false).resetLogHistory();
+                          recordStatusResult(info, getObservedStatus(packet));
+                        } else {
+                          loggingFilter.setFiltering(true);
+                          recordStatusResult(info, null);
+                        }
+                      }
 
-                          @Override
-                          public void onThrowable(Packet packet, Throwable throwable) {
-                            logThrowable(throwable);
-                            loggingFilter.setFiltering(true);
-                          }
-                        });
-              } catch (Throwable t) {
-                try (LoggingContext ignored
-                         = LoggingContext.setThreadContext()
-                    .namespace(info.getNamespace()).domainUid(info.getDomainUid())) {
-                  LOGGER.severe(MessageKeys.EXCEPTION, t);
-                }
-              }
-            },
-            main.initialShortDelay,
-            main.initialShortDelay,
-            TimeUnit.SECONDS));
+                      @Override
+                      public void onThrowable(Packet packet, Throwable throwable) {
+                        logThrowable(throwable);
+                        loggingFilter.setFiltering(true);
+                        recordStatusResult(info, null);
+                      }
+                    });
+          } catch (Throwable t) {
+            try (LoggingContext ignored
+                     = LoggingContext.setThreadContext()
+                .namespace(info.getNamespace()).domainUid(info.getDomainUid())) {
+              LOGGER.severe(MessageKeys.EXCEPTION, t);
+            }
+          }
+        });
+  }
+
+  private static void recordStatusResult(DomainPresenceInfo info, Object observedStatus) {
+    statusScheduler.recordResult(info.getNamespace(), info.getDomainUid(), observedStatus);
+  }
+
+  // the server states and health read by a status update; equal values mean that nothing has changed
+  private static Object getObservedStatus(Packet packet) {
+    return Arrays.asList(packet.get(SERVER_STATE_MAP), packet.get(SERVER_HEALTH_MAP));
   }
 
   private void logThrowable(Throwable throwable) {
@@ -1093,6 +1112,7 @@ public class DomainProcessorImpl implements DomainProcessor {
           @Override
           public void onThrowable(Packet packet, Throwable throwable) {
             logThrowable(throwable);
+            disableEffectiveConfigurationCache(packet.getSpi(DomainPresenceInfo.class));
 
             gate.startFiberIfLastFiberMatches(
                 domainUid,
@@ -1151,17 +1171,19 @@ public class DomainProcessorImpl implements DomainProcessor {
                         }
                       }
                     },
-                    DomainPresence.getDomainPresenceFailureRetrySeconds(),
+                    getFailureRetryDelaySeconds(ns, domainUid),
                     TimeUnit.SECONDS);
           }
         };
 
     LOGGER.fine("Starting fiber for domainUid -> " + domainUid + ", isWillInterrupt -> " + isWillInterrupt);
-    if (isWillInterrupt) {
-      gate.startFiber(domainUid, plan.step, plan.packet, cc);
-    } else {
-      gate.startFiberIfNoCurrentFiber(domainUid, plan.step, plan.packet, cc);
-    }
+    gate.enqueueFiber(domainUid, plan.step, plan.packet, cc, isWillInterrupt);
+  }
+
+  private long getFailureRetryDelaySeconds(String ns, String domainUid) {
+    return DomainPresence.getDomainPresenceFailureRetryDelaySeconds(
+          Optional.ofNullable(getExistingDomainPresenceInfo(ns, domainUid))
+                .map(DomainPresenceInfo::getRetryCount).orElse(0));
   }
 
   Step createDomainUpPlan(DomainPresenceInfo info) {
@@ -1227,11 +1249,20 @@ public class DomainProcessorImpl implements DomainProcessor {
 
     @Override
     public NextAction apply(Packet packet) {
-      packet.getSpi(DomainPresenceInfo.class).complete();
+      DomainPresenceInfo info = packet.getSpi(DomainPresenceInfo.class);
+      disableEffectiveConfigurationCache(info);
+      info.complete();
       return doNext(packet);
     }
   }
 
+  // the effective configuration is cached only while a make-right is in progress
+  private static void disableEffectiveConfigurationCache(DomainPresenceInfo info) {
+    Optional.ofNullable(info)
+          .map(DomainPresenceInfo::getDomain)
+          .ifPresent(Domain::disableEffectiveConfigurationCache);
+  }
+
   private static class StartPlanStep extends Step {
     private final DomainPresenceInfo info;
 
@@ -1260,7 +1291,8 @@ public class DomainProcessorImpl implements DomainProcessor {
     }
 
     private Step getRecordExistingResourcesSteps() {
-      NamespacedResources resources = new NamespacedResources(info.getNamespace(), info.getDomainUid());
+      NamespacedResources resources
+          = new NamespacedResources(info.getNamespace(), info.getDomainUid(), delegate.getResourceCaches());
 
       resources.addProcessing(new NamespacedResources.Processors() {
         @Override
@@ -1311,6 +1343,7 @@ public class DomainProcessorImpl implements DomainProcessor {
     @Override
     public NextAction apply(Packet packet) {
       info.setDeleting(false);
+      Optional.ofNullable(info.getDomain()).ifPresent(Domain::enableEffectiveConfigurationCache);
       return doNext(packet);
     }
   }
@@ -0,0 +1,281 @@
+// Copyright (c) 2021, Oracle and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator;
+
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import oracle.kubernetes.operator.DomainStatusUpdater.DomainStatusUpdaterContext;
+import oracle.kubernetes.operator.helpers.DomainPresenceInfo;
+import oracle.kubernetes.operator.metrics.Counter;
+import oracle.kubernetes.operator.metrics.MetricsRegistry;
+import oracle.kubernetes.operator.work.AsyncFiber;
+import oracle.kubernetes.operator.work.Packet;
+import oracle.kubernetes.utils.SystemClock;
+import oracle.kubernetes.weblogic.domain.model.Domain;
+import oracle.kubernetes.weblogic.domain.model.DomainStatus;
+
+/**
+ * Merges the status updates made to a domain within a short window, so that at most one status write is sent
+ * for each domain in each window. The window is set by the "domainStatusUpdateWindowMillis" tuning parameter;
+ * when it is not positive, which is the default, each status update is written as soon as it is made.
+ *
+ * <p>The first update to a domain which finds no open batch starts one, which is written on a fiber of its own once
+ * the window since the previous write has elapsed, so that the write is made even if the fiber which started the
+ * batch is cancelled. That fiber, and those of updates made meanwhile, which join the batch, are suspended. When the
+ * batch has been written, those fibers are resumed and recompute their updates, which will then normally find the
+ * status unchanged.
+ */
+class DomainStatusUpdateBatcher {
+
+  static final String WINDOW_PARAM = "domainStatusUpdateWindowMillis";
+
+  // a batch which has not been written this long after it was due is assumed to have lost its writer
+  static final long ABANDONED_BATCH_MILLIS = TimeUnit.SECONDS.toMillis(30);
+
+  static final Counter WRITES_AVOIDED = MetricsRegistry.getInstance().counter(
+        "wko_domain_status_writes_avoided_total",
+        "Number of domain status updates which were merged into another update's write, or found to be no change");
+  static final Counter WRITE_CONFLICTS = MetricsRegistry.getInstance().counter(
+        "wko_domain_status_write_conflicts_total",
+        "Number of domain status writes rejected because the domain had changed since it was read");
+
+  private static final Map<String, DomainEntry> entries = new HashMap<>();
+
+  private DomainStatusUpdateBatcher() {
+  }
+
+  static boolean isEnabled() {
+    return getWindowMillis() > 0;
+  }
+
+  private static long getWindowMillis() {
+    return Optional.ofNullable(TuningParameters.getInstance())
+          .map(t -> t.get(WINDOW_PARAM))
+          .map(DomainStatusUpdateBatcher::parseWindow)
+          .orElse(0L);
+  }
+
+  private static long parseWindow(String value) {
+    try {
+      return Long.parseLong(value.trim());
+    } catch (NumberFormatException e) {
+      return 0;
+    }
+  }
+
+  private static String getKey(DomainPresenceInfo info) {
+    return info.getNamespace() + "/" + info.getDomainUid();
+  }
+
+  /**
+   * Returns true if the specified domain has a batch open to further updates.
+   * @param info the domain's presence info
+   */
+  static synchronized boolean hasOpenBatch(DomainPresenceInfo info) {
+    return getOpenBatch(info) != null;
+  }
+
+  private static Batch getOpenBatch(DomainPresenceInfo info) {
+    return Optional.ofNullable(entries.get(getKey(info))).map(DomainEntry::getOpenBatch).orElse(null);
+  }
+
+  /**
+   * Starts a batch of updates to a domain, beginning with the specified update.
+   * @param context the context of the first update
+   * @return the new batch, or null if the domain already has an open batch
+   */
+  static synchronized Batch startBatch(DomainStatusUpdaterContext context) {
+    DomainEntry entry = entries.computeIfAbsent(getKey(context.getInfo()), k -> new DomainEntry());
+    if (entry.getOpenBatch() != null) {
+      return null;
+    }
+
+    entry.openBatch = new Batch(context.getInfo(), entry.getNextWriteTime());
+    entry.openBatch.contexts.add(context);
+    return entry.openBatch;
+  }
+
+  /**
+   * Adds the specified update to the domain's open batch, suspending its fiber until the batch is written. If
+   * the domain has no open batch, resumes the fiber at once, so that it may start one.
+   * @param context the context of the update
+   * @param fiber the suspended fiber which is making the update
+   * @param packet the packet with which to resume the fiber
+   */
+  static synchronized void joinOrResume(DomainStatusUpdaterContext context, AsyncFiber fiber, Packet packet) {
+    Batch batch = getOpenBatch(context.getInfo());
+    if (batch == null) {
+      fiber.resume(packet);
+    } else {
+      batch.contexts.add(context);
+      addWaiter(batch, fiber, packet);
+    }
+  }
+
+  /**
+   * Suspends the fiber which started the specified batch until the batch is written.
+   * @param batch a batch returned by {@link #startBatch(DomainStatusUpdaterContext)}
+   * @param fiber the suspended fiber which started the batch
+   * @param packet the packet with which to resume the fiber
+   */
+  static synchronized void awaitWrite(Batch batch, AsyncFiber fiber, Packet packet) {
+    if (batch.written) {
+      fiber.resume(packet);
+    } else {
+      addWaiter(batch, fiber, packet);
+    }
+  }
+
+  private static void addWaiter(Batch batch, AsyncFiber fiber, Packet packet) {
+    Waiter waiter = new Waiter(fiber, packet);
+    batch.waiters.add(waiter);
+    fiber.scheduleOnce(batch.getDelayMillis() + ABANDONED_BATCH_MILLIS, TimeUnit.MILLISECONDS, waiter::resume);
+  }
+
+  /**
+   * Closes the specified batch to further updates, and records the time of its write.
+   * @param batch a batch which is about to be written
+   */
+  static synchronized void closeBatch(Batch batch) {
+    Optional.ofNullable(entries.get(getKey(batch.info))).ifPresent(entry -> entry.close(batch));
+  }
+
+  /**
+   * Discards the state kept for the specified domain.
+   * @param namespace the namespace of the domain
+   * @param domainUid the UID of the domain
+   */
+  static synchronized void remove(String namespace, String domainUid) {
+    entries.remove(namespace + "/" + domainUid);
+  }
+
+  private static class DomainEntry {
+    private OffsetDateTime lastWriteTime;
+    private Batch openBatch;
+
+    private OffsetDateTime getNextWriteTime() {
+      return Optional.ofNullable(lastWriteTime)
+            .map(t -> t.plus(Duration.ofMillis(getWindowMillis())))
+            .orElse(SystemClock.now());
+    }
+
+    // an abandoned batch is discarded; its waiting fibers resume on their own
+    private Batch getOpenBatch() {
+      if (openBatch != null && openBatch.isAbandoned()) {
+        openBatch = null;
+      }
+      return openBatch;
+    }
+
+    private void close(Batch batch) {
+      if (openBatch == batch) {
+        openBatch = null;
+      }
+      lastWriteTime = SystemClock.now();
+    }
+  }
+
+  static class Batch {
+    private final DomainPresenceInfo info;
+    private final OffsetDateTime writeTime;
+    private final List<DomainStatusUpdaterContext> contexts = new ArrayList<>();
+    private final List<Waiter> waiters = new ArrayList<>();
+    private boolean written;
+
+    private Batch(DomainPresenceInfo info, OffsetDateTime writeTime) {
+      this.info = info;
+      this.writeTime = writeTime;
+    }
+
+    /**
+     * Returns the number of milliseconds until this batch should be written.
+     */
+    long getDelayMillis() {
+      return Math.max(0, Duration.between(SystemClock.now(), writeTime).toMillis());
+    }
+
+    private boolean isAbandoned() {
+      return Duration.between(writeTime, SystemClock.now()).toMillis() > ABANDONED_BATCH_MILLIS;
+    }
+
+    /**
+     * Applies the updates in this batch, in the order in which they were made, to the specified status.
+     * @param status the current domain status
+     * @return the updated status
+     */
+    DomainStatus applyUpdates(DomainStatus status) {
+      DomainStatus result = status;
+      for (DomainStatusUpdaterContext context : getContexts()) {
+        result = context.getNewStatus(result);
+      }
+      return result;
+    }
+
+    /**
+     * Records the outcome of the write of this batch.
+     * @param written true if the status was written, false if the updates did not change it
+     */
+    void recordWrite(boolean written) {
+      WRITES_AVOIDED.inc(getContexts().size() - (written ? 1 : 0));
+    }
+
+    /**
+     * Records the domain returned by the write of this batch in the presence info of each update.
+     * @param domain the updated domain
+     */
+    void setDomain(Domain domain) {
+      getContexts().stream()
+            .map(DomainStatusUpdaterContext::getInfo)
+            .filter(Objects::nonNull)
+            .distinct()
+            .forEach(i -> i.setDomain(domain));
+    }
+
+    /**
+     * Resumes the fibers which joined this batch, and any which later wait for it.
+     */
+    void resumeWaiters() {
+      getWaiters().forEach(Waiter::resume);
+    }
+
+    private List<DomainStatusUpdaterContext> getContexts() {
+      synchronized (DomainStatusUpdateBatcher.class) {
+        return new ArrayList<>(contexts);
+      }
+    }
+
+    private List<Waiter> getWaiters() {
+      synchronized (DomainStatusUpdateBatcher.class) {
+        written = true;
+        return new ArrayList<>(waiters);
+      }
+    }
+  }
+
+  private static class Waiter {
+    private final AsyncFiber fiber;
+    private final Packet packet;
+    private final AtomicBoolean resumed = new AtomicBoolean();
+
+    Waiter(AsyncFiber fiber, Packet packet) {
+      this.fiber = fiber;
+      this.packet = packet;
+    }
+
+    void resume() {
+      if (resumed.compareAndSet(false, true)) {
+        fiber.resume(packet);
+      }
+    }
+  }
+}
@@ -12,6 +12,7 @@ import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.TimeUnit;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
@@ -23,6 +24,7 @@ import io.kubernetes.client.openapi.models.V1Pod;
 import io.kubernetes.client.openapi.models.V1PodSpec;
 import jakarta.json.Json;
 import jakarta.json.JsonPatchBuilder;
+import oracle.kubernetes.operator.DomainStatusUpdateBatcher.Batch;
 import oracle.kubernetes.operator.calls.CallResponse;
 import oracle.kubernetes.operator.calls.FailureStatusSource;
 import oracle.kubernetes.operator.calls.UnrecoverableErrorBuilder;
@@ -41,7 +43,9 @@ import oracle.kubernetes.operator.rest.ScanCache;
 import oracle.kubernetes.operator.steps.DefaultResponseStep;
 import oracle.kubernetes.operator.wlsconfig.WlsClusterConfig;
 import oracle.kubernetes.operator.wlsconfig.WlsDomainConfig;
+import oracle.kubernetes.operator.work.AsyncFiber;
 import oracle.kubernetes.operator.work.Component;
+import oracle.kubernetes.operator.work.Fiber;
 import oracle.kubernetes.operator.work.NextAction;
 import oracle.kubernetes.operator.work.Packet;
 import oracle.kubernetes.operator.work.Step;
@@ -56,6 +60,7 @@ import oracle.kubernetes.weblogic.domain.model.OnlineUpdate;
 import oracle.kubernetes.weblogic.domain.model.ServerHealth;
 import oracle.kubernetes.weblogic.domain.model.ServerStatus;
 
+import static java.net.HttpURLConnection.HTTP_CONFLICT;
 import static oracle.kubernetes.operator.LabelConstants.CLUSTERNAME_LABEL;
 import static oracle.kubernetes.operator.MIINonDynamicChangesMethod.CommitUpdateOnly;
 import static oracle.kubernetes.operator.ProcessingConstants.DOMAIN_TOPOLOGY;
@@ -278,6 +283,10 @@ public class DomainStatusUpdater {
               Component.createFor(info));
       }
       DomainStatusUpdaterContext context = createContext(packet);
+      if (DomainStatusUpdateBatcher.isEnabled() && context.getInfo() != null && context.getDomain() != null) {
+        return applyBatched(context, packet);
+      }
+
       DomainStatus newStatus = context.getNewStatus();
 
       return context.isStatusUnchanged(newStatus)
@@ -287,7 +296,39 @@ public class DomainStatusUpdater {
           packet);
     }
 
-    private Step createAbortedEventStepIfNeeded(DomainStatus newStatus, DomainStatus oldStatus, Step next) {
+    // joins an open batch of updates for the domain, if any; otherwise, starts one if this update changes the status.
+    // A fiber which joins or starts a batch runs this step again after the batch has been written.
+    private NextAction applyBatched(DomainStatusUpdaterContext context, Packet packet) {
+      if (DomainStatusUpdateBatcher.hasOpenBatch(context.getInfo())) {
+        return doSuspend(this, fiber -> DomainStatusUpdateBatcher.joinOrResume(context, fiber, packet));
+      }
+
+      if (context.isStatusUnchanged(context.getNewStatus())) {
+        return doNext(packet);
+      }
+
+      Batch batch = DomainStatusUpdateBatcher.startBatch(context);
+      if (batch == null) {
+        return doSuspend(this, fiber -> DomainStatusUpdateBatcher.joinOrResume(context, fiber, packet));
+      }
+      return doSuspend(this, fiber -> startBatchWrite(batch, fiber, packet));
+    }
+
+    // the batch is written on a fiber of its own, so that it is written even if this fiber is cancelled
+    private void startBatchWrite(Batch batch, AsyncFiber fiber, Packet packet) {
+      DomainStatusUpdateBatcher.awaitWrite(batch, fiber, packet);
+      Fiber writer = fiber.createIndependentFiber();
+      Packet writePacket = packet.copy();
+      long delayMillis = batch.getDelayMillis();
+      if (delayMillis == 0) {
+        writer.start(new BatchWriteStep(batch), writePacket, null);
+      } else {
+        fiber.scheduleOnce(delayMillis, TimeUnit.MILLISECONDS,
+            () -> writer.start(new BatchWriteStep(batch), writePacket, null));
+      }
+    }
+
+    private static Step createAbortedEventStepIfNeeded(DomainStatus newStatus, DomainStatus oldStatus, Step next) {
       if (hasJustExceededMaxRetryCount(newStatus, oldStatus)) {
         return Step.chain(EventHelper.createEventStep(
                 new EventData(DOMAIN_PROCESSING_ABORTED)
@@ -301,13 +342,13 @@ public class DomainStatusUpdater {
       return next;
     }
 
-    private boolean hasJustExceededMaxRetryCount(DomainStatus newStatus, DomainStatus oldStatus) {
+    private static boolean hasJustExceededMaxRetryCount(DomainStatus newStatus, DomainStatus oldStatus) {
       return oldStatus != null
           && newStatus.getIntrospectJobFailureCount() == (oldStatus.getIntrospectJobFailureCount() + 1)
           && newStatus.getIntrospectJobFailureCount() >= DomainPresence.getDomainPresenceFailureRetryMaxCount();
     }
 
-    private boolean hasJustGotFatalIntrospectorError(DomainStatus newStatus, DomainStatus oldStatus) {
+    private static boolean hasJustGotFatalIntrospectorError(DomainStatus newStatus, DomainStatus oldStatus) {
       return newStatus.getMessage() != null && newStatus.getMessage().contains(FATAL_INTROSPECTOR_ERROR)
           && (oldStatus.getMessage() == null || !oldStatus.getMessage().contains(FATAL_INTROSPECTOR_ERROR));
     }
@@ -343,6 +384,95 @@ public class DomainStatusUpdater {
     }
   }
 
+  /**
+   * A step which writes the status resulting from a batch of updates, then resumes the fibers which made them.
+   * It runs on a fiber of its own, and so has no next step.
+   */
+  static class BatchWriteStep extends Step {
+    private final Batch batch;
+
+    BatchWriteStep(Batch batch) {
+      this.batch = batch;
+    }
+
+    @Override
+    public NextAction apply(Packet packet) {
+      DomainStatusUpdateBatcher.closeBatch(batch);
+      DomainStatusUpdaterContext context = new DomainStatusUpdaterContext(packet, null);
+      DomainStatus newStatus = batch.applyUpdates(context.getStatus());
+      if (context.isStatusUnchanged(newStatus)) {
+        batch.recordWrite(false);
+        batch.resumeWaiters();
+        return doNext(packet);
+      }
+
+      batch.recordWrite(true);
+      LOGGER.fine(MessageKeys.DOMAIN_STATUS, context.getDomainUid(), newStatus);
+      return doNext(DomainStatusUpdaterStep.createAbortedEventStepIfNeeded(
+          newStatus, context.getStatus(), createReplaceStep(context, newStatus)), packet);
+    }
+
+    private Step createReplaceStep(DomainStatusUpdaterContext context, DomainStatus newStatus) {
+      Domain newDomain = new Domain()
+          .withKind(KubernetesConstants.DOMAIN)
+          .withApiVersion(KubernetesConstants.API_VERSION_WEBLOGIC_ORACLE)
+          .withMetadata(context.getMetadata())
+          .withSpec(null)
+          .withStatus(newStatus);
+
+      return new CallBuilder().replaceDomainStatusAsync(
+            context.getDomainName(),
+            context.getNamespace(),
+            newDomain,
+            new BatchWriteResponseStep(this, context, getNext()));
+    }
+  }
+
+  static class BatchWriteResponseStep extends DefaultResponseStep<Domain> {
+    private final BatchWriteStep writeStep;
+    private final DomainStatusUpdaterContext context;
+
+    BatchWriteResponseStep(BatchWriteStep writeStep, DomainStatusUpdaterContext context, Step next) {
+      super(next);
+      this.writeStep = writeStep;
+      this.context = context;
+    }
+
+    @Override
+    public NextAction onSuccess(Packet packet, CallResponse<Domain> callResponse) {
+      if (callResponse.getResult() != null) {
+        packet.getSpi(DomainPresenceInfo.class).setDomain(callResponse.getResult());
+        writeStep.batch.setDomain(callResponse.getResult());
+      }
+      writeStep.batch.resumeWaiters();
+      return doNext(packet);
+    }
+
+    @Override
+    public NextAction onFailure(Packet packet, CallResponse<Domain> callResponse) {
+      recordConflict(callResponse);
+      if (UnrecoverableErrorBuilder.isAsyncCallUnrecoverableFailure(callResponse)) {
+        writeStep.batch.resumeWaiters();
+        return super.onFailure(packet, callResponse);
+      } else {
+        return onFailure(createRetry(), packet, callResponse);
+      }
+    }
+
+    // re-reads the domain and reapplies the updates in the batch
+    private Step createRetry() {
+      return Step.chain(
+          new CallBuilder().readDomainAsync(context.getDomainName(), context.getNamespace(), new DomainUpdateStep()),
+          writeStep);
+    }
+  }
+
+  private static void recordConflict(CallResponse<Domain> callResponse) {
+    if (callResponse.getStatusCode() == HTTP_CONFLICT) {
+      DomainStatusUpdateBatcher.WRITE_CONFLICTS.inc();
+    }
+  }
+
   static class StatusReplaceResponseStep extends DefaultResponseStep<Domain> {
     private final DomainStatusUpdaterStep updaterStep;
     private final DomainStatusUpdaterContext context;
@@ -364,6 +494,7 @@ public class DomainStatusUpdater {
 
     @Override
     public NextAction onFailure(Packet packet, CallResponse<Domain> callResponse) {
+      recordConflict(callResponse);
       if (UnrecoverableErrorBuilder.isAsyncCallUnrecoverableFailure(callResponse)) {
         return super.onFailure(packet, callResponse);
       } else {
@@ -398,48 +529,48 @@ public class DomainStatusUpdater {
     }
 
     DomainStatus getNewStatus() {
-      DomainStatus newStatus = cloneStatus();
+      return getNewStatus(getStatus());
+    }
+
+    /**
+     * Returns the result of applying this update to the specified status, which is not modified.
+     * @param currentStatus the status to update, or null if the domain has none
+     * @return the updated status
+     */
+    DomainStatus getNewStatus(DomainStatus currentStatus) {
+      DomainStatus newStatus = Optional.ofNullable(currentStatus).map(DomainStatus::new).orElse(new DomainStatus());
       modifyStatus(newStatus);
 
       if (newStatus.getMessage() == null) {
         newStatus.setMessage(
             Optional.ofNullable(info).map(DomainPresenceInfo::getValidationWarningsAsString).orElse(null));
       }
-      if (shouldUpdateFailureCount(newStatus)) {
+      if (shouldUpdateFailureCount(currentStatus, newStatus)) {
         newStatus.incrementIntrospectJobFailureCount();
       }
 
       return newStatus;
     }
 
-    private String getExistingStatusMessage() {
-      return Optional.ofNullable(info)
-              .map(DomainPresenceInfo::getDomain)
-              .map(Domain::getStatus)
+    private String getExistingStatusMessage(DomainStatus currentStatus) {
+      return Optional.ofNullable(currentStatus)
               .map(DomainStatus::getMessage)
               .orElse(null);
     }
 
-    private DomainCondition getProgressingCondition() {
-      return Optional.ofNullable(info)
-          .map(DomainPresenceInfo::getDomain)
-          .map(Domain::getStatus)
-          .map(this::getProgressingCondition).orElse(null);
-    }
-
     private DomainCondition getProgressingCondition(DomainStatus status) {
       return Optional.ofNullable(status)
           .map(s -> s.getConditionWithType(Progressing)).orElse(null);
     }
 
-    private boolean shouldUpdateFailureCount(DomainStatus newStatus) {
-      return transitFromProgressing(newStatus)
-          && getExistingStatusMessage() == null
+    private boolean shouldUpdateFailureCount(DomainStatus currentStatus, DomainStatus newStatus) {
+      return transitFromProgressing(currentStatus, newStatus)
+          && getExistingStatusMessage(currentStatus) == null
           && isBackoffLimitExceeded(newStatus);
     }
 
-    private boolean transitFromProgressing(DomainStatus newStatus) {
-      return getProgressingCondition() != null && getProgressingCondition(newStatus) == null;
+    private boolean transitFromProgressing(DomainStatus currentStatus, DomainStatus newStatus) {
+      return getProgressingCondition(currentStatus) != null && getProgressingCondition(newStatus) == null;
     }
 
     private boolean isBackoffLimitExceeded(DomainStatus newStatus) {
@@ -490,10 +621,6 @@ public class DomainStatusUpdater {
     private String getDomainName() {
       return getMetadata().getName();
     }
-
-    DomainStatus cloneStatus() {
-      return Optional.ofNullable(getStatus()).map(DomainStatus::new).orElse(new DomainStatus());
-    }
   }
 
   /**
@@ -37,6 +37,12 @@ public interface IntrospectorConfigMapConstants {
    */
   String SIT_CONFIG_FILE_PREFIX = "Sit-Cfg";
 
+  /**
+   * The suffix added to the name of a file which the operator has stored gzip-compressed and base64-encoded.
+   * The server pod scripts expand such files before using them.
+   */
+  String COMPRESSED_FILE_SUFFIX = ".gz";
+
   /**  The suffix for naming introspector config maps. */
   String INTROSPECTOR_CONFIG_MAP_NAME_SUFFIX = "-weblogic-domain-introspect-cm";
 
@@ -188,6 +188,15 @@ public class JobWatcher extends Watcher<V1Job> implements WatchListener<V1Job>,
 
   @Override
   public Watchable<V1Job> initiateWatch(WatchBuilder watchBuilder) throws ApiException {
+    return createWatch(watchBuilder, namespace);
+  }
+
+  @Override
+  WatchMultiplexer.WatchInitiator<V1Job> getClusterWatchInitiator() {
+    return watchBuilder -> createWatch(watchBuilder, WatchBuilder.ALL_NAMESPACES);
+  }
+
+  private Watchable<V1Job> createWatch(WatchBuilder watchBuilder, String namespace) throws ApiException {
     return watchBuilder
         .withLabelSelectors(LabelConstants.DOMAINUID_LABEL, LabelConstants.CREATEDBYOPERATOR_LABEL)
         .createJobWatch(namespace);
@@ -77,7 +77,8 @@ public class Main {
   private static final AtomicReference<OffsetDateTime> lastFullRecheck =
       new AtomicReference<>(SystemClock.now());
   private static final Semaphore shutdownSignal = new Semaphore(0);
-  private static final int DEFAULT_STUCK_POD_RECHECK_SECONDS = 30;
+  private static final int DEFAULT_STUCK_POD_RECHECK_SECONDS = 300;
+  private static final int INITIAL_STUCK_POD_CHECK_SECONDS = 30;
 
   private final MainDelegate delegate;
   private final StuckPodProcessing stuckPodProcessing;
@@ -145,7 +146,8 @@ public class Main {
       productVersion = new SemanticVersion(buildVersion);
       kubernetesVersion = HealthCheckHelper.performK8sVersionCheck();
 
-      engine = new Engine(scheduledExecutorService);
+      engine = new Engine(scheduledExecutorService, Engine.createWorkExecutor("fiber", container,
+            TuningParameters.getInstance().getEngineTuning()));
       domainProcessor = new DomainProcessorImpl(this, productVersion);
 
       domainNamespaces = new DomainNamespaces(productVersion);
@@ -248,6 +250,16 @@ public class Main {
     public ScheduledFuture<?> scheduleWithFixedDelay(Runnable command, long initialDelay, long delay, TimeUnit unit) {
       return engine.getExecutor().scheduleWithFixedDelay(command, initialDelay, delay, unit);
     }
+
+    @Override
+    public ResourceCaches getResourceCaches() {
+      return domainNamespaces.getResourceCaches();
+    }
+
+    @Override
+    public ScheduledFuture<?> schedule(Runnable command, long delay, TimeUnit unit) {
+      return engine.getExecutor().schedule(command, delay, unit);
+    }
   }
 
   /**
@@ -299,6 +311,7 @@ public class Main {
   Main(MainDelegate delegate) {
     this.delegate = delegate;
     stuckPodProcessing = new StuckPodProcessing(delegate);
+    delegate.getDomainNamespaces().addPodWatchListener(stuckPodProcessing::dispatchPodWatch);
   }
 
   void startOperator(Runnable completionAction) {
@@ -374,7 +387,8 @@ public class Main {
       int recheckInterval = TuningParameters.getInstance().getMainTuning().domainNamespaceRecheckIntervalSeconds;
       int stuckPodInterval = getStuckPodInterval();
       delegate.scheduleWithFixedDelay(recheckDomains(), recheckInterval, recheckInterval, TimeUnit.SECONDS);
-      delegate.scheduleWithFixedDelay(checkStuckPods(), stuckPodInterval, stuckPodInterval, TimeUnit.SECONDS);
+      delegate.scheduleWithFixedDelay(checkStuckPods(),
+            Math.min(INITIAL_STUCK_POD_CHECK_SECONDS, stuckPodInterval), stuckPodInterval, TimeUnit.SECONDS);
 
       markReadyAndStartLivenessThread();
 
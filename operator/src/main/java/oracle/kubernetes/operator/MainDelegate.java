@@ -33,4 +33,6 @@ interface MainDelegate {
   KubernetesVersion getKubernetesVersion();
 
   ScheduledFuture<?> scheduleWithFixedDelay(Runnable command, long initialDelay, long delay, TimeUnit unit);
+
+  ScheduledFuture<?> schedule(Runnable command, long delay, TimeUnit unit);
 }
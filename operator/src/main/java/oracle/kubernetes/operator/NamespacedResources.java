@@ -9,6 +9,7 @@ import java.util.Objects;
 import java.util.Optional;
 import java.util.function.Consumer;
 import java.util.function.Function;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 import javax.annotation.Nonnull;
 
@@ -35,10 +36,23 @@ class NamespacedResources {
   private final String namespace;
   private final String domainUid;
   private final List<Processors> processors = new ArrayList<>();
+  private final ResourceCaches caches;
 
   NamespacedResources(String namespace, String domainUid) {
+    this(namespace, domainUid, null);
+  }
+
+  /**
+   * Creates an object to list resources, which will answer from the specified caches when they are enabled
+   * and synchronized with the namespace.
+   * @param namespace the namespace whose resources are to be listed
+   * @param domainUid the UID of a domain, or null to list the resources of all domains
+   * @param caches the resource caches for the namespace; may be null
+   */
+  NamespacedResources(String namespace, String domainUid, ResourceCaches caches) {
     this.namespace = namespace;
     this.domainUid = domainUid;
+    this.caches = caches;
   }
 
   void addProcessing(Processors processor) {
@@ -133,8 +147,8 @@ class NamespacedResources {
   }
 
   private Step createConfigMapListStep(List<Consumer<V1ConfigMapList>> processing) {
-    return new CallBuilder()
-             .listConfigMapsAsync(namespace, new ListResponseStep<>(processing));
+    return createCachedListStep(ResourceCaches::getConfigMaps, processing,
+          () -> new CallBuilder().listConfigMapsAsync(namespace, new ListResponseStep<>(processing)));
   }
 
   private Step getPodEventListSteps() {
@@ -164,8 +178,8 @@ class NamespacedResources {
   }
 
   private Step createPodDisruptionBudgetListStep(List<Consumer<V1beta1PodDisruptionBudgetList>> processing) {
-    return new CallBuilder()
-            .listPodDisruptionBudgetAsync(namespace, new ListResponseStep<>(processing));
+    return createCachedListStep(ResourceCaches::getPodDisruptionBudgets, processing,
+          () -> new CallBuilder().listPodDisruptionBudgetAsync(namespace, new ListResponseStep<>(processing)));
   }
 
   private Step getJobListSteps() {
@@ -173,7 +187,8 @@ class NamespacedResources {
   }
 
   private Step createJobListStep(List<Consumer<V1JobList>> processing) {
-    return createSubResourceCallBuilder().listJobAsync(namespace, new ListResponseStep<>(processing));
+    return createCachedListStep(ResourceCaches::getJobs, processing,
+          () -> createSubResourceCallBuilder().listJobAsync(namespace, new ListResponseStep<>(processing)));
   }
 
   private Step getPodListSteps() {
@@ -181,7 +196,8 @@ class NamespacedResources {
   }
 
   private Step createPodListStep(List<Consumer<V1PodList>> processing) {
-    return createSubResourceCallBuilder().listPodAsync(namespace, new ListResponseStep<>(processing));
+    return createCachedListStep(ResourceCaches::getPods, processing,
+          () -> createSubResourceCallBuilder().listPodAsync(namespace, new ListResponseStep<>(processing)));
   }
 
   private CallBuilder createSubResourceCallBuilder() {
@@ -197,7 +213,8 @@ class NamespacedResources {
   }
 
   private Step createServiceListStep(List<Consumer<V1ServiceList>> processing) {
-    return createSubResourceCallBuilder().listServiceAsync(namespace, new ListResponseStep<>(processing));
+    return createCachedListStep(ResourceCaches::getServices, processing,
+          () -> createSubResourceCallBuilder().listServiceAsync(namespace, new ListResponseStep<>(processing)));
   }
 
   private Step getDomainListSteps() {
@@ -213,6 +230,18 @@ class NamespacedResources {
     return nullIfEmpty(processors.stream().map(method).filter(Objects::nonNull).collect(Collectors.toList()));
   }
 
+  // uses the cache, if it is synchronized; otherwise, creates a step to list the resources
+  private <L extends KubernetesListObject> Step createCachedListStep(
+        Function<ResourceCaches, ResourceCache<?, L>> selector, List<Consumer<L>> processing,
+        Supplier<Step> listStepFactory) {
+    return Optional.ofNullable(caches)
+          .filter(c -> ResourceCaches.isEnabled())
+          .map(selector)
+          .filter(cache -> cache.isSynchronized(namespace))
+          .<Step>map(cache -> new CachedListStep<>(cache, processing, listStepFactory))
+          .orElseGet(listStepFactory);
+  }
+
   private <T> Optional<List<T>> nullIfEmpty(@Nonnull List<T> list) {
     return list.isEmpty() ? Optional.empty() : Optional.of(list);
   }
@@ -226,6 +255,30 @@ class NamespacedResources {
     }
   }
 
+  private class CachedListStep<L extends KubernetesListObject> extends Step {
+    private final ResourceCache<?, L> cache;
+    private final List<Consumer<L>> processors;
+    private final Supplier<Step> listStepFactory;
+
+    CachedListStep(ResourceCache<?, L> cache, List<Consumer<L>> processors, Supplier<Step> listStepFactory) {
+      this.cache = cache;
+      this.processors = processors;
+      this.listStepFactory = listStepFactory;
+    }
+
+    // the cache may have stopped being synchronized since this step was created; if so, list the resources instead
+    @Override
+    public NextAction apply(Packet packet) {
+      Optional<L> list = cache.list(namespace, domainUid);
+      if (list.isEmpty()) {
+        return doNext(Step.chain(listStepFactory.get(), getNext()), packet);
+      }
+
+      processors.forEach(p -> p.accept(list.get()));
+      return doNext(packet);
+    }
+  }
+
   private static class ListResponseStep<L extends KubernetesListObject> extends DefaultResponseStep<L> {
     private final List<Consumer<L>> processors;
 
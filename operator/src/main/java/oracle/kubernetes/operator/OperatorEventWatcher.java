@@ -60,7 +60,16 @@ public class OperatorEventWatcher extends Watcher<CoreV1Event> {
 
   @Override
   public Watchable<CoreV1Event> initiateWatch(WatchBuilder watchBuilder) throws ApiException {
-    return watchBuilder.withLabelSelector(OPERATOR_EVENT_LABEL_FILTER).createEventWatch(ns);
+    return createWatch(watchBuilder, ns);
+  }
+
+  @Override
+  WatchMultiplexer.WatchInitiator<CoreV1Event> getClusterWatchInitiator() {
+    return watchBuilder -> createWatch(watchBuilder, WatchBuilder.ALL_NAMESPACES);
+  }
+
+  private Watchable<CoreV1Event> createWatch(WatchBuilder watchBuilder, String namespace) throws ApiException {
+    return watchBuilder.withLabelSelector(OPERATOR_EVENT_LABEL_FILTER).createEventWatch(namespace);
   }
 
   @Override
@@ -58,9 +58,19 @@ public class PodDisruptionBudgetWatcher extends Watcher<V1beta1PodDisruptionBudg
 
   @Override
   public Watchable<V1beta1PodDisruptionBudget> initiateWatch(WatchBuilder watchBuilder) throws ApiException {
+    return createWatch(watchBuilder, ns);
+  }
+
+  @Override
+  WatchMultiplexer.WatchInitiator<V1beta1PodDisruptionBudget> getClusterWatchInitiator() {
+    return watchBuilder -> createWatch(watchBuilder, WatchBuilder.ALL_NAMESPACES);
+  }
+
+  private Watchable<V1beta1PodDisruptionBudget> createWatch(WatchBuilder watchBuilder, String namespace)
+        throws ApiException {
     return watchBuilder
         .withLabelSelectors(LabelConstants.DOMAINUID_LABEL, LabelConstants.CREATEDBYOPERATOR_LABEL)
-        .createPodDisruptionBudgetWatch(ns);
+        .createPodDisruptionBudgetWatch(namespace);
   }
 
   @Override
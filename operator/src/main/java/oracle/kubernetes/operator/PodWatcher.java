@@ -143,6 +143,15 @@ public class PodWatcher extends Watcher<V1Pod> implements WatchListener<V1Pod>,
 
   @Override
   public Watchable<V1Pod> initiateWatch(WatchBuilder watchBuilder) throws ApiException {
+    return createWatch(watchBuilder, namespace);
+  }
+
+  @Override
+  WatchMultiplexer.WatchInitiator<V1Pod> getClusterWatchInitiator() {
+    return watchBuilder -> createWatch(watchBuilder, WatchBuilder.ALL_NAMESPACES);
+  }
+
+  private Watchable<V1Pod> createWatch(WatchBuilder watchBuilder, String namespace) throws ApiException {
     return watchBuilder
         .withLabelSelectors(LabelConstants.DOMAINUID_LABEL, LabelConstants.CREATEDBYOPERATOR_LABEL)
         .createPodWatch(namespace);
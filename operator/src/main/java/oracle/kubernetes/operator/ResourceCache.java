@@ -0,0 +1,297 @@
+// Copyright (c) 2021, Oracle and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator;
+
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.BiFunction;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+import javax.annotation.Nonnull;
+
+import io.kubernetes.client.common.KubernetesListObject;
+import io.kubernetes.client.common.KubernetesObject;
+import io.kubernetes.client.openapi.models.V1ListMeta;
+import io.kubernetes.client.openapi.models.V1ObjectMeta;
+import io.kubernetes.client.util.Watch;
+import oracle.kubernetes.operator.helpers.KubernetesUtils;
+import oracle.kubernetes.operator.metrics.Histogram;
+import oracle.kubernetes.operator.metrics.MetricsRegistry;
+
+import static oracle.kubernetes.operator.LabelConstants.DOMAINUID_LABEL;
+import static oracle.kubernetes.operator.LabelConstants.SERVERNAME_LABEL;
+
+/**
+ * An in-memory store of the Kubernetes resources of a single kind, seeded from a list of each namespace and then
+ * kept current by the watch events for that kind. Resources are indexed by namespace, by domain UID label
+ * and by server name label, so that the operator can answer list requests without calling Kubernetes.
+ *
+ * <p>A namespace is only considered synchronized once a complete list has been recorded for it, and ceases to be
+ * if its watch reports that events may have been missed. Until it is listed again, callers must list the resources
+ * from Kubernetes. Each later list replaces the cached view of the namespace, correcting any missed events.
+ *
+ * @param <T> the type of resource
+ * @param <L> the type of a list of the resources
+ */
+class ResourceCache<T extends KubernetesObject, L extends KubernetesListObject> {
+
+  private final Map<String, NamespaceStore<T>> namespaces = new ConcurrentHashMap<>();
+  private final BiFunction<List<T>, V1ListMeta, L> listFactory;
+  private final Predicate<KubernetesObject> filter;
+  private final Histogram lookupLatency;
+
+  /**
+   * Creates a cache.
+   * @param kind the kind of resource, used to label metrics
+   * @param listFactory a function to create a list of the resource from a collection of items and its metadata
+   * @param filter selects the listed resources which are also reported by the watcher, and may therefore be cached
+   */
+  ResourceCache(String kind, BiFunction<List<T>, V1ListMeta, L> listFactory, Predicate<KubernetesObject> filter) {
+    this.listFactory = listFactory;
+    this.filter = filter;
+    this.lookupLatency = MetricsRegistry.getInstance().histogram(
+          "wko_resource_cache_lookup_seconds", "Time to answer a list request from the resource cache",
+          Histogram.LATENCY_BUCKETS, "kind", kind);
+    MetricsRegistry.getInstance().gauge(
+          "wko_resource_cache_objects", "Number of resources held in the resource cache",
+          this::size, "kind", kind);
+  }
+
+  /**
+   * Records a page of the result of listing the resources in a namespace. Once the last page has been recorded,
+   * any cached resource which the list did not include, and which is no newer than the list, is discarded, and
+   * the namespace is considered synchronized.
+   * @param namespace the namespace which was listed
+   * @param list a page of results
+   */
+  @SuppressWarnings("unchecked")
+  void recordList(String namespace, L list) {
+    NamespaceStore<T> store = getStore(namespace);
+    list.getItems().stream().filter(filter).forEach(item -> store.putListed((T) item));
+    if (isLastPage(list)) {
+      store.completeList(KubernetesUtils.getResourceVersion(list));
+    }
+  }
+
+  /**
+   * Marks the specified namespace as no longer synchronized, as when its watch may have missed events. List
+   * requests for the namespace will not be answered from the cache until it has been listed again.
+   * @param namespace the namespace
+   */
+  void markUnsynchronized(String namespace) {
+    Optional.ofNullable(namespaces.get(namespace)).ifPresent(NamespaceStore::markUnsynchronized);
+  }
+
+  private boolean isLastPage(L list) {
+    return Optional.ofNullable(list.getMetadata()).map(V1ListMeta::getContinue).map(String::isEmpty).orElse(true);
+  }
+
+  /**
+   * Updates the cache from a watch event.
+   * @param item the watch event
+   */
+  void recordWatchEvent(Watch.Response<T> item) {
+    Optional.ofNullable(item.object).map(KubernetesObject::getMetadata).map(V1ObjectMeta::getNamespace)
+          .map(namespaces::get)
+          .ifPresent(store -> store.apply(item.type, item.object));
+  }
+
+  /**
+   * Returns true if the cache holds a complete, current view of the specified namespace.
+   * @param namespace the namespace to check
+   */
+  boolean isSynchronized(String namespace) {
+    return Optional.ofNullable(namespaces.get(namespace)).map(NamespaceStore::isSynchronized).orElse(false);
+  }
+
+  /**
+   * Returns a list of the cached resources in a namespace, optionally restricted to a single domain.
+   * @param namespace the namespace
+   * @param domainUid the UID of a domain, or null for all resources in the namespace
+   * @return a list of resources, or empty if the namespace is not synchronized
+   */
+  Optional<L> list(String namespace, String domainUid) {
+    final long start = System.nanoTime();
+    try {
+      return Optional.ofNullable(namespaces.get(namespace))
+            .filter(NamespaceStore::isSynchronized)
+            .map(store -> createList(store, domainUid));
+    } finally {
+      lookupLatency.observeSince(start);
+    }
+  }
+
+  private L createList(NamespaceStore<T> store, String domainUid) {
+    return listFactory.apply(store.getItems(domainUid), new V1ListMeta().resourceVersion(store.resourceVersion));
+  }
+
+  /**
+   * Returns the cached resource for the specified server, if any.
+   * @param namespace the namespace
+   * @param domainUid the UID of the domain
+   * @param serverName the name of the server
+   * @return a resource labeled with the domain UID and server name, or empty
+   */
+  Optional<T> getServerResource(String namespace, String domainUid, String serverName) {
+    return Optional.ofNullable(namespaces.get(namespace)).map(store -> store.getServerResource(domainUid, serverName));
+  }
+
+  /**
+   * Discards all resources for the specified namespace.
+   * @param namespace the namespace
+   */
+  void removeNamespace(String namespace) {
+    namespaces.remove(namespace);
+  }
+
+  int size() {
+    return namespaces.values().stream().mapToInt(NamespaceStore::size).sum();
+  }
+
+  private NamespaceStore<T> getStore(String namespace) {
+    return namespaces.computeIfAbsent(namespace, n -> new NamespaceStore<>());
+  }
+
+  static class NamespaceStore<T extends KubernetesObject> {
+    private final Map<String, T> byName = new ConcurrentHashMap<>();
+    private final Map<String, Set<String>> namesByDomainUid = new ConcurrentHashMap<>();
+    private final Map<String, String> namesByServer = new ConcurrentHashMap<>();
+    // the versions at which resources were reported deleted, so that a list which began earlier cannot restore them
+    private final Map<String, BigInteger> deletedVersions = new HashMap<>();
+    private final Set<String> listedNames = new HashSet<>();
+    private volatile boolean synchronizedWithList;
+    private volatile String resourceVersion;
+
+    boolean isSynchronized() {
+      return synchronizedWithList;
+    }
+
+    void markUnsynchronized() {
+      synchronizedWithList = false;
+    }
+
+    int size() {
+      return byName.size();
+    }
+
+    synchronized void apply(String type, T object) {
+      if ("DELETED".equals(type)) {
+        remove(object);
+        deletedVersions.put(object.getMetadata().getName(), KubernetesUtils.getResourceVersion(object.getMetadata()));
+      } else if ("ADDED".equals(type) || "MODIFIED".equals(type)) {
+        put(object);
+      }
+      updateResourceVersion(object.getMetadata().getResourceVersion());
+    }
+
+    synchronized void putListed(T object) {
+      String name = object.getMetadata().getName();
+      listedNames.add(name);
+      if (!isDeletedSince(name, KubernetesUtils.getResourceVersion(object.getMetadata()))) {
+        put(object);
+      }
+    }
+
+    private boolean isDeletedSince(String name, BigInteger version) {
+      return Optional.ofNullable(deletedVersions.get(name)).map(v -> v.compareTo(version) >= 0).orElse(false);
+    }
+
+    // discards resources which were deleted before the list was made, and which no watch event reported
+    synchronized void completeList(String listVersion) {
+      BigInteger version = KubernetesUtils.getResourceVersion(listVersion);
+      new ArrayList<>(byName.values()).stream()
+            .filter(object -> !listedNames.contains(object.getMetadata().getName()))
+            .filter(object -> KubernetesUtils.getResourceVersion(object.getMetadata()).compareTo(version) <= 0)
+            .forEach(this::remove);
+      deletedVersions.values().removeIf(v -> v.compareTo(version) <= 0);
+      listedNames.clear();
+      updateResourceVersion(listVersion);
+      synchronizedWithList = true;
+    }
+
+    private void put(T object) {
+      String name = object.getMetadata().getName();
+      T existing = byName.get(name);
+      if (existing == null || !isOlder(object, existing)) {
+        Optional.ofNullable(existing).ifPresent(this::removeFromIndexes);
+        byName.put(name, object);
+        addToIndexes(object);
+      }
+    }
+
+    private boolean isOlder(T object, T existing) {
+      return KubernetesUtils.getResourceVersion(object.getMetadata())
+            .compareTo(KubernetesUtils.getResourceVersion(existing.getMetadata())) < 0;
+    }
+
+    private void remove(T object) {
+      Optional.ofNullable(byName.remove(object.getMetadata().getName())).ifPresent(this::removeFromIndexes);
+    }
+
+    private void addToIndexes(T object) {
+      String name = object.getMetadata().getName();
+      Optional.ofNullable(getDomainUid(object))
+            .ifPresent(uid -> namesByDomainUid.computeIfAbsent(uid, u -> ConcurrentHashMap.newKeySet()).add(name));
+      Optional.ofNullable(getServerKey(object)).ifPresent(key -> namesByServer.put(key, name));
+    }
+
+    private void removeFromIndexes(T object) {
+      String name = object.getMetadata().getName();
+      Optional.ofNullable(getDomainUid(object)).map(namesByDomainUid::get).ifPresent(names -> names.remove(name));
+      Optional.ofNullable(getServerKey(object)).ifPresent(key -> namesByServer.remove(key, name));
+    }
+
+    private void updateResourceVersion(String newResourceVersion) {
+      if (KubernetesUtils.getResourceVersion(newResourceVersion)
+            .compareTo(KubernetesUtils.getResourceVersion(resourceVersion)) > 0) {
+        resourceVersion = newResourceVersion;
+      }
+    }
+
+    @Nonnull
+    List<T> getItems(String domainUid) {
+      if (domainUid == null) {
+        return new ArrayList<>(byName.values());
+      }
+      return getNames(domainUid).stream().map(byName::get).filter(Objects::nonNull).collect(Collectors.toList());
+    }
+
+    private Collection<String> getNames(String domainUid) {
+      return Optional.ofNullable(namesByDomainUid.get(domainUid)).<Collection<String>>map(ArrayList::new)
+            .orElse(Collections.emptyList());
+    }
+
+    T getServerResource(String domainUid, String serverName) {
+      return Optional.ofNullable(namesByServer.get(toServerKey(domainUid, serverName))).map(byName::get).orElse(null);
+    }
+
+    private static String getDomainUid(KubernetesObject object) {
+      return getLabel(object, DOMAINUID_LABEL);
+    }
+
+    private static String getServerKey(KubernetesObject object) {
+      return Optional.ofNullable(getLabel(object, SERVERNAME_LABEL))
+            .map(serverName -> toServerKey(getDomainUid(object), serverName))
+            .orElse(null);
+    }
+
+    private static String toServerKey(String domainUid, String serverName) {
+      return domainUid + "/" + serverName;
+    }
+
+    private static String getLabel(KubernetesObject object, String name) {
+      return Optional.ofNullable(object.getMetadata().getLabels()).map(l -> l.get(name)).orElse(null);
+    }
+  }
+}
@@ -0,0 +1,103 @@
+// Copyright (c) 2021, Oracle and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator;
+
+import java.util.Arrays;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+import io.kubernetes.client.common.KubernetesObject;
+import io.kubernetes.client.openapi.models.V1ConfigMap;
+import io.kubernetes.client.openapi.models.V1ConfigMapList;
+import io.kubernetes.client.openapi.models.V1Job;
+import io.kubernetes.client.openapi.models.V1JobList;
+import io.kubernetes.client.openapi.models.V1Pod;
+import io.kubernetes.client.openapi.models.V1PodList;
+import io.kubernetes.client.openapi.models.V1Service;
+import io.kubernetes.client.openapi.models.V1ServiceList;
+import io.kubernetes.client.openapi.models.V1beta1PodDisruptionBudget;
+import io.kubernetes.client.openapi.models.V1beta1PodDisruptionBudgetList;
+
+import static oracle.kubernetes.operator.LabelConstants.CREATEDBYOPERATOR_LABEL;
+import static oracle.kubernetes.operator.LabelConstants.DOMAINUID_LABEL;
+
+/**
+ * The resource caches for the kinds of resources which the operator both watches and lists in each
+ * domain namespace. Caching is enabled by the "ResourceCache" feature gate.
+ */
+class ResourceCaches {
+
+  static final String RESOURCE_CACHE = "ResourceCache";
+
+  private final ResourceCache<V1Pod, V1PodList> pods
+        = new ResourceCache<>("Pod", (items, meta) -> new V1PodList().items(items).metadata(meta),
+              ResourceCaches::isDomainResource);
+  private final ResourceCache<V1Service, V1ServiceList> services
+        = new ResourceCache<>("Service", (items, meta) -> new V1ServiceList().items(items).metadata(meta),
+              ResourceCaches::isDomainResource);
+  private final ResourceCache<V1beta1PodDisruptionBudget, V1beta1PodDisruptionBudgetList> podDisruptionBudgets
+        = new ResourceCache<>("PodDisruptionBudget",
+              (items, meta) -> new V1beta1PodDisruptionBudgetList().items(items).metadata(meta),
+              ResourceCaches::isDomainResource);
+  private final ResourceCache<V1Job, V1JobList> jobs
+        = new ResourceCache<>("Job", (items, meta) -> new V1JobList().items(items).metadata(meta),
+              ResourceCaches::isDomainResource);
+  private final ResourceCache<V1ConfigMap, V1ConfigMapList> configMaps
+        = new ResourceCache<>("ConfigMap", (items, meta) -> new V1ConfigMapList().items(items).metadata(meta),
+              ResourceCaches::isCreatedByOperator);
+
+  /**
+   * Returns true if list requests should be answered from the resource caches when possible.
+   */
+  static boolean isEnabled() {
+    return Optional.ofNullable(TuningParameters.getInstance())
+          .map(TuningParameters::getFeatureGates)
+          .map(g -> g.isFeatureEnabled(RESOURCE_CACHE))
+          .orElse(false);
+  }
+
+  // These predicates match the label selectors used by the corresponding watchers,
+  // since only resources reported by the watchers can be kept current.
+  private static boolean isCreatedByOperator(KubernetesObject object) {
+    return hasLabels(object, CREATEDBYOPERATOR_LABEL);
+  }
+
+  private static boolean isDomainResource(KubernetesObject object) {
+    return hasLabels(object, DOMAINUID_LABEL, CREATEDBYOPERATOR_LABEL);
+  }
+
+  private static boolean hasLabels(KubernetesObject object, String... names) {
+    return Optional.ofNullable(object.getMetadata().getLabels())
+          .map(labels -> Arrays.stream(names).allMatch(labels::containsKey))
+          .orElse(false);
+  }
+
+  ResourceCache<V1Pod, V1PodList> getPods() {
+    return pods;
+  }
+
+  ResourceCache<V1Service, V1ServiceList> getServices() {
+    return services;
+  }
+
+  ResourceCache<V1beta1PodDisruptionBudget, V1beta1PodDisruptionBudgetList> getPodDisruptionBudgets() {
+    return podDisruptionBudgets;
+  }
+
+  ResourceCache<V1Job, V1JobList> getJobs() {
+    return jobs;
+  }
+
+  ResourceCache<V1ConfigMap, V1ConfigMapList> getConfigMaps() {
+    return configMaps;
+  }
+
+  /**
+   * Discards all cached resources for the specified namespace.
+   * @param namespace the namespace no longer managed by the operator
+   */
+  void removeNamespace(String namespace) {
+    Stream.of(pods, services, podDisruptionBudgets, jobs, configMaps).forEach(c -> c.removeNamespace(namespace));
+  }
+}
@@ -7,6 +7,9 @@ import java.io.IOException;
 import java.io.InputStreamReader;
 import java.io.Reader;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
@@ -14,12 +17,13 @@ import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Function;
 import java.util.stream.Collectors;
-import javax.annotation.Nonnull;
 
 import io.kubernetes.client.openapi.ApiClient;
 import io.kubernetes.client.openapi.ApiException;
+import io.kubernetes.client.openapi.models.V1ContainerStatus;
 import io.kubernetes.client.openapi.models.V1ObjectMeta;
 import io.kubernetes.client.openapi.models.V1Pod;
+import io.kubernetes.client.openapi.models.V1PodStatus;
 import oracle.kubernetes.operator.helpers.ClientPool;
 import oracle.kubernetes.operator.helpers.DomainPresenceInfo;
 import oracle.kubernetes.operator.helpers.KubernetesUtils;
@@ -29,6 +33,9 @@ import oracle.kubernetes.operator.logging.LoggingContext;
 import oracle.kubernetes.operator.logging.LoggingFacade;
 import oracle.kubernetes.operator.logging.LoggingFactory;
 import oracle.kubernetes.operator.logging.MessageKeys;
+import oracle.kubernetes.operator.metrics.Counter;
+import oracle.kubernetes.operator.metrics.Histogram;
+import oracle.kubernetes.operator.metrics.MetricsRegistry;
 import oracle.kubernetes.operator.steps.ReadHealthStep;
 import oracle.kubernetes.operator.utils.KubernetesExec;
 import oracle.kubernetes.operator.utils.KubernetesExecFactory;
@@ -37,7 +44,6 @@ import oracle.kubernetes.operator.work.NextAction;
 import oracle.kubernetes.operator.work.Packet;
 import oracle.kubernetes.operator.work.Step;
 import oracle.kubernetes.utils.OperatorUtils;
-import oracle.kubernetes.utils.SystemClock;
 import oracle.kubernetes.weblogic.domain.model.ServerHealth;
 
 import static oracle.kubernetes.operator.KubernetesConstants.CONTAINER_NAME;
@@ -50,6 +56,12 @@ public class ServerStatusReader {
   private static final KubernetesExecFactory EXEC_FACTORY = new KubernetesExecFactoryImpl();
   private static final Function<Step, Step> STEP_FACTORY = ReadHealthStep::createReadHealthStep;
 
+  static final String HTTP_MODE = "http";
+  static final String EXEC_MODE = "exec";
+  static final Counter STATES_FROM_POD = MetricsRegistry.getInstance().counter(
+        "wko_server_state_read_from_pod_total",
+        "Number of server states chosen from the pod status, because no container was running to be asked");
+
   private ServerStatusReader() {
   }
 
@@ -144,18 +156,8 @@ public class ServerStatusReader {
       ConcurrentMap<String, String> serverStateMap =
           (ConcurrentMap<String, String>) packet.get(SERVER_STATE_MAP);
 
-      TuningParameters.MainTuning main = TuningParameters.getInstance().getMainTuning();
+      // the status update scheduler delays the updates of domains whose status is unchanged, so each read is made
       LastKnownStatus lastKnownStatus = info.getLastKnownServerStatus(serverName);
-      if (lastKnownStatus != null
-          && !WebLogicConstants.UNKNOWN_STATE.equals(lastKnownStatus.getStatus())
-          && lastKnownStatus.getUnchangedCount() >= main.unchangedCountToDelayStatusRecheck) {
-        if (SystemClock.now()
-            .isBefore(lastKnownStatus.getTime().plusSeconds((int) main.eventualLongDelay))) {
-          String state = lastKnownStatus.getStatus();
-          serverStateMap.put(serverName, state);
-          return doNext(packet);
-        }
-      }
 
       if (PodHelper.getReadyStatus(pod)) {
         // set default to UNKNOWN; will be corrected in ReadHealthStep
@@ -163,19 +165,129 @@ public class ServerStatusReader {
         return doNext(packet);
       }
 
+      ServerStateReader stateReader = new ServerStateReader(info, pod, serverName, lastKnownStatus);
+      Step readWithExec = new ReadStateWithExecStep(stateReader, timeoutSeconds, getNext());
+      if (!isHttpStateReadEnabled()) {
+        return doNext(readWithExec, packet);
+      } else if (!isWebLogicContainerRunning(pod)) {
+        // nothing can answer inside the pod; record the state that a failed exec would have produced
+        serverStateMap.put(serverName, stateReader.chooseStateOrLastKnownServerStatus(null));
+        STATES_FROM_POD.inc();
+        return doNext(packet);
+      } else {
+        packet.put(ProcessingConstants.SERVER_NAME, serverName);
+        return doNext(STEP_FACTORY.apply(new HttpStateResultStep(stateReader, readWithExec, getNext())), packet);
+      }
+    }
+
+    private boolean isWebLogicContainerRunning(V1Pod pod) {
+      return Optional.ofNullable(pod.getStatus())
+          .map(V1PodStatus::getContainerStatuses)
+          .orElse(Collections.emptyList())
+          .stream()
+          .filter(status -> CONTAINER_NAME.equals(status.getName()))
+          .map(V1ContainerStatus::getState)
+          .filter(Objects::nonNull)
+          .anyMatch(state -> state.getRunning() != null);
+    }
+  }
+
+  /**
+   * Returns true if the state of a server whose pod is not ready should be read with the REST call also used
+   * to read its health, falling back to running the readState script in its pod only when the REST call does not
+   * return a state. Otherwise, the state of such servers is always read by running the script.
+   */
+  static boolean isHttpStateReadEnabled() {
+    return Optional.ofNullable(TuningParameters.getInstance())
+        .map(TuningParameters::getMainTuning)
+        .map(t -> t.serverStatusReadMode)
+        .map(HTTP_MODE::equalsIgnoreCase)
+        .orElse(false);
+  }
+
+  private static Histogram getStateReadLatency(String mode) {
+    return MetricsRegistry.getInstance().histogram("wko_server_state_read_seconds",
+        "Time to read the state of a WebLogic server whose pod is not ready",
+        Histogram.LATENCY_BUCKETS, "mode", mode);
+  }
+
+  // The state of a single server, which is recorded along with its last known status.
+  private static class ServerStateReader {
+    private final DomainPresenceInfo info;
+    private final V1Pod pod;
+    private final String serverName;
+    private final LastKnownStatus lastKnownStatus;
+
+    ServerStateReader(DomainPresenceInfo info, V1Pod pod, String serverName, LastKnownStatus lastKnownStatus) {
+      this.info = info;
+      this.pod = pod;
+      this.serverName = serverName;
+      this.lastKnownStatus = lastKnownStatus;
+    }
+
+    private String getNamespace() {
+      return Optional.ofNullable(pod.getMetadata()).map(V1ObjectMeta::getNamespace).orElse(null);
+    }
+
+    private String getDomainUid() {
+      return KubernetesUtils.getDomainUidLabel(
+          Optional.ofNullable(pod).map(V1Pod::getMetadata).orElse(null));
+    }
+
+    private LoggingContext setThreadContext() {
+      return LoggingContext.setThreadContext().namespace(getNamespace()).domainUid(getDomainUid());
+    }
+
+    private String chooseStateOrLastKnownServerStatus(String state) {
+      if (state != null) {
+        state = state.trim();
+        if (!state.isEmpty()) {
+          info.updateLastKnownServerStatus(serverName, state);
+          return state;
+        }
+      }
+
+      if (lastKnownStatus != null) {
+        return lastKnownStatus.getStatus();
+      }
+      state =
+          (PodHelper.isDeleting(pod)
+              ? WebLogicConstants.SHUTTING_DOWN_STATE
+              : WebLogicConstants.STARTING_STATE);
+      info.updateLastKnownServerStatus(serverName, state);
+      return state;
+    }
+  }
+
+  private static class ReadStateWithExecStep extends Step {
+    private final ServerStateReader stateReader;
+    private final long timeoutSeconds;
+
+    ReadStateWithExecStep(ServerStateReader stateReader, long timeoutSeconds, Step next) {
+      super(next);
+      this.stateReader = stateReader;
+      this.timeoutSeconds = timeoutSeconds;
+    }
+
+    @Override
+    public NextAction apply(Packet packet) {
+      @SuppressWarnings("unchecked")
+      ConcurrentMap<String, String> serverStateMap =
+          (ConcurrentMap<String, String>) packet.get(SERVER_STATE_MAP);
+      final V1Pod pod = stateReader.pod;
       final boolean stdin = false;
       final boolean tty = false;
 
       return doSuspend(
           fiber -> {
+            final long startNanos = System.nanoTime();
             Process proc = null;
             String state = null;
             ClientPool helper = ClientPool.getInstance();
             ApiClient client = helper.take();
 
             try {
-              try (LoggingContext stack =
-                       LoggingContext.setThreadContext().namespace(getNamespace(pod)).domainUid(getDomainUid(pod))) {
+              try (LoggingContext stack = stateReader.setThreadContext()) {
 
                 KubernetesExec kubernetesExec = EXEC_FACTORY.create(client, pod, CONTAINER_NAME);
                 kubernetesExec.setStdin(stdin);
@@ -202,8 +314,7 @@ public class ServerStatusReader {
             } catch (InterruptedException ignore) {
               Thread.currentThread().interrupt();
             } catch (IOException | ApiException e) {
-              try (LoggingContext stack =
-                       LoggingContext.setThreadContext().namespace(getNamespace(pod)).domainUid(getDomainUid(pod))) {
+              try (LoggingContext stack = stateReader.setThreadContext()) {
                 LOGGER.warning(MessageKeys.EXCEPTION, e);
               }
             } finally {
@@ -213,44 +324,47 @@ public class ServerStatusReader {
               }
             }
 
-            try (LoggingContext stack =
-                     LoggingContext.setThreadContext().namespace(getNamespace(pod)).domainUid(getDomainUid(pod))) {
+            try (LoggingContext stack = stateReader.setThreadContext()) {
               LOGGER.fine("readState: " + state + " for " + pod.getMetadata().getName());
-              state = chooseStateOrLastKnownServerStatus(lastKnownStatus, state);
-              serverStateMap.put(serverName, state);
+              state = stateReader.chooseStateOrLastKnownServerStatus(state);
+              serverStateMap.put(stateReader.serverName, state);
             }
+            getStateReadLatency(EXEC_MODE).observeSince(startNanos);
             fiber.resume(packet);
           });
     }
+  }
 
-    private String getNamespace(@Nonnull V1Pod pod) {
-      return Optional.ofNullable(pod.getMetadata()).map(V1ObjectMeta::getNamespace).orElse(null);
-    }
+  // Follows the REST call for server health, made in place of the readState script. If that call returned
+  // a state, it is used; otherwise, the state is read by the specified fallback step.
+  private static class HttpStateResultStep extends Step {
+    private final ServerStateReader stateReader;
+    private final String serverName;
+    private final Step fallback;
+    private final long startNanos = System.nanoTime();
 
-    public String getDomainUid(V1Pod pod) {
-      return KubernetesUtils.getDomainUidLabel(
-          Optional.ofNullable(pod).map(V1Pod::getMetadata).orElse(null));
+    HttpStateResultStep(ServerStateReader stateReader, Step fallback, Step next) {
+      super(next);
+      this.stateReader = stateReader;
+      this.serverName = stateReader.serverName;
+      this.fallback = fallback;
     }
 
-    private String chooseStateOrLastKnownServerStatus(
-        LastKnownStatus lastKnownStatus, String state) {
-      if (state != null) {
-        state = state.trim();
-        if (!state.isEmpty()) {
-          info.updateLastKnownServerStatus(serverName, state);
-          return state;
-        }
+    @Override
+    public NextAction apply(Packet packet) {
+      @SuppressWarnings("unchecked")
+      Map<String, String> serverStateMap = (Map<String, String>) packet.get(SERVER_STATE_MAP);
+      String state = serverStateMap.get(serverName);
+      if (state != null && !WebLogicConstants.UNKNOWN_STATE.equals(state)) {
+        getStateReadLatency(HTTP_MODE).observeSince(startNanos);
+        return doNext(packet);
       }
 
-      if (lastKnownStatus != null) {
-        return lastKnownStatus.getStatus();
-      }
-      state =
-          (PodHelper.isDeleting(pod)
-              ? WebLogicConstants.SHUTTING_DOWN_STATE
-              : WebLogicConstants.STARTING_STATE);
-      info.updateLastKnownServerStatus(serverName, state);
-      return state;
+      // discard the failed health read, so that it neither prevents a later attempt nor replaces the last known
+      // status which the fallback uses when it cannot read the state either
+      packet.<Map<String, ServerHealth>>getValue(SERVER_HEALTH_MAP).remove(serverName);
+      stateReader.info.restoreLastKnownServerStatus(serverName, stateReader.lastKnownStatus);
+      return doNext(fallback, packet);
     }
   }
 
@@ -271,6 +385,10 @@ public class ServerStatusReader {
           (ConcurrentMap<String, String>) packet.get(SERVER_STATE_MAP);
       String state = serverStateMap.get(serverName);
 
+      if (isHealthAlreadyRead(packet)) {
+        return doNext(packet);
+      }
+
       if (PodHelper.getReadyStatus(pod)
           || WebLogicConstants.STATES_SUPPORTING_REST.contains(state)) {
         packet.put(ProcessingConstants.SERVER_NAME, serverName);
@@ -279,6 +397,11 @@ public class ServerStatusReader {
 
       return doNext(packet);
     }
+
+    // The health will already have been read if the same REST call was used to read the server state.
+    private boolean isHealthAlreadyRead(Packet packet) {
+      return packet.<Map<String, ServerHealth>>getValue(SERVER_HEALTH_MAP).containsKey(serverName);
+    }
   }
 
   static class StatusUpdateHookStep extends Step {
@@ -58,9 +58,18 @@ public class ServiceWatcher extends Watcher<V1Service> {
 
   @Override
   public Watchable<V1Service> initiateWatch(WatchBuilder watchBuilder) throws ApiException {
+    return createWatch(watchBuilder, ns);
+  }
+
+  @Override
+  WatchMultiplexer.WatchInitiator<V1Service> getClusterWatchInitiator() {
+    return watchBuilder -> createWatch(watchBuilder, WatchBuilder.ALL_NAMESPACES);
+  }
+
+  private Watchable<V1Service> createWatch(WatchBuilder watchBuilder, String namespace) throws ApiException {
     return watchBuilder
         .withLabelSelectors(LabelConstants.DOMAINUID_LABEL, LabelConstants.CREATEDBYOPERATOR_LABEL)
-        .createServiceWatch(ns);
+        .createServiceWatch(namespace);
   }
 
   @Override
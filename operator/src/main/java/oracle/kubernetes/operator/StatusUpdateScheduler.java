@@ -0,0 +1,260 @@
+// Copyright (c) 2021, Oracle and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongUnaryOperator;
+import java.util.function.Supplier;
+
+import oracle.kubernetes.operator.TuningParameters.MainTuning;
+import oracle.kubernetes.operator.logging.LoggingFacade;
+import oracle.kubernetes.operator.logging.LoggingFactory;
+import oracle.kubernetes.operator.logging.MessageKeys;
+import oracle.kubernetes.operator.metrics.MetricsRegistry;
+
+/**
+ * Schedules the periodic status updates of all domains from a single timer. Each domain is held in a hashed
+ * timing wheel with one slot per second, so that the cost of a tick is proportional to the number of domains
+ * due, rather than to the number of domains managed.
+ *
+ * <p>Each domain starts with an interval of initialShortDelay seconds. Once its status has been unchanged for
+ * unchangedCountToDelayStatusRecheck consecutive updates, the interval doubles after every further unchanged
+ * update, up to eventualLongDelay seconds. A changed status, or a pod event for the domain, restores the short
+ * interval. A random jitter is added when a domain is scheduled so that domains registered together do not
+ * continue to be updated in the same second.
+ */
+class StatusUpdateScheduler {
+
+  private static final LoggingFacade LOGGER = LoggingFactory.getLogger("Operator", "Operator");
+
+  static final int WHEEL_SIZE = 512;
+
+  // the maximum jitter added to each interval, as a fraction of that interval
+  private static final int JITTER_DIVISOR = 10;
+
+  private final Supplier<MainTuning> tuningSupplier;
+  private final LongUnaryOperator jitter;
+  private final List<Set<Entry>> wheel = new ArrayList<>(WHEEL_SIZE);
+  private final Map<String, Map<String, Entry>> entries = new HashMap<>();
+  private long currentTick;
+  private ScheduledFuture<?> ticker;
+  private DomainProcessorDelegate tickerOwner;
+
+  StatusUpdateScheduler() {
+    this(StatusUpdateScheduler::getMainTuning, max -> ThreadLocalRandom.current().nextLong(max + 1));
+  }
+
+  /**
+   * Creates a scheduler.
+   * @param tuningSupplier a supplier of the tuning parameters which control the update intervals
+   * @param jitter a function which, given a maximum, returns a random value between zero and that maximum
+   */
+  StatusUpdateScheduler(Supplier<MainTuning> tuningSupplier, LongUnaryOperator jitter) {
+    this.tuningSupplier = tuningSupplier;
+    this.jitter = jitter;
+    for (int i = 0; i < WHEEL_SIZE; i++) {
+      wheel.add(new HashSet<>());
+    }
+  }
+
+  private static MainTuning getMainTuning() {
+    return TuningParameters.getInstance().getMainTuning();
+  }
+
+  /**
+   * Ensures that the scheduler is ticking once a second using the specified delegate. If the scheduler was started
+   * by a different delegate, its timer is replaced and the updates registered through that delegate are discarded.
+   * @param delegate the delegate which provides the timer
+   */
+  synchronized void startTicking(DomainProcessorDelegate delegate) {
+    if (tickerOwner == delegate) {
+      return;
+    }
+
+    Optional.ofNullable(ticker).ifPresent(t -> t.cancel(false));
+    new ArrayList<>(entries.keySet()).forEach(this::removeNamespace);
+    tickerOwner = delegate;
+    ticker = delegate.scheduleWithFixedDelay(this::tick, 1, 1, TimeUnit.SECONDS);
+    MetricsRegistry.getInstance().gauge("wko_status_updates_scheduled",
+          "Number of domains whose status is periodically updated", this::size);
+  }
+
+  /**
+   * Registers the status update for a domain, replacing any previous registration. The first update will run
+   * within initialShortDelay seconds.
+   * @param namespace the namespace of the domain
+   * @param domainUid the UID of the domain
+   * @param statusUpdate the action which starts a status update
+   */
+  synchronized void register(String namespace, String domainUid, Runnable statusUpdate) {
+    Entry entry = new Entry(namespace, domainUid, statusUpdate, getShortDelay());
+    Optional.ofNullable(entries.computeIfAbsent(namespace, k -> new HashMap<>()).put(domainUid, entry))
+          .ifPresent(this::removeFromWheel);
+
+    place(entry, entry.interval - jitter.applyAsLong(entry.interval - 1));
+  }
+
+  /**
+   * Stops the status updates for a domain.
+   * @param namespace the namespace of the domain
+   * @param domainUid the UID of the domain
+   */
+  synchronized void unregister(String namespace, String domainUid) {
+    Optional.ofNullable(entries.get(namespace)).map(m -> m.remove(domainUid)).ifPresent(this::removeFromWheel);
+  }
+
+  /**
+   * Stops the status updates for all domains in a namespace.
+   * @param namespace the namespace no longer managed by the operator
+   */
+  synchronized void removeNamespace(String namespace) {
+    Optional.ofNullable(entries.remove(namespace)).map(Map::values).ifPresent(c -> c.forEach(this::removeFromWheel));
+  }
+
+  /**
+   * Restores the short interval for a domain and runs its next status update on the next tick. Called when
+   * something has happened which is likely to change the domain's status.
+   * @param namespace the namespace of the domain
+   * @param domainUid the UID of the domain
+   */
+  synchronized void expedite(String namespace, String domainUid) {
+    getEntry(namespace, domainUid).ifPresent(entry -> {
+      entry.resetInterval(getShortDelay());
+      removeFromWheel(entry);
+      place(entry, 1);
+    });
+  }
+
+  /**
+   * Records the outcome of a status update for a domain, and adjusts its interval accordingly.
+   * @param namespace the namespace of the domain
+   * @param domainUid the UID of the domain
+   * @param observedStatus the status read by the update, compared for equality with the previous one;
+   *                       null if the update did not obtain a complete status
+   */
+  synchronized void recordResult(String namespace, String domainUid, Object observedStatus) {
+    getEntry(namespace, domainUid).ifPresent(entry -> recordResult(entry, observedStatus));
+  }
+
+  private void recordResult(Entry entry, Object observedStatus) {
+    MainTuning main = tuningSupplier.get();
+    long shortDelay = getShortDelay();
+    if (observedStatus != null && Objects.equals(observedStatus, entry.lastObservedStatus)) {
+      if (++entry.unchangedCount >= main.unchangedCountToDelayStatusRecheck) {
+        entry.interval = Math.min(entry.interval * 2, Math.max(main.eventualLongDelay, shortDelay));
+      }
+    } else {
+      entry.lastObservedStatus = observedStatus;
+      entry.resetInterval(shortDelay);
+      if (getRemainingDelay(entry) > shortDelay) {
+        removeFromWheel(entry);
+        place(entry, shortDelay);
+      }
+    }
+  }
+
+  /**
+   * Advances the wheel by one second and starts the status updates which are due.
+   */
+  void tick() {
+    for (Entry entry : advance()) {
+      try {
+        entry.statusUpdate.run();
+      } catch (Throwable t) {
+        LOGGER.severe(MessageKeys.EXCEPTION, t);
+      }
+    }
+  }
+
+  private synchronized List<Entry> advance() {
+    currentTick++;
+    List<Entry> due = new ArrayList<>();
+    for (Entry entry : new ArrayList<>(getSlot(currentTick))) {
+      if (entry.rounds > 0) {
+        entry.rounds--;
+      } else {
+        removeFromWheel(entry);
+        place(entry, entry.interval + jitter.applyAsLong(entry.interval / JITTER_DIVISOR));
+        due.add(entry);
+      }
+    }
+    return due;
+  }
+
+  synchronized long getInterval(String namespace, String domainUid) {
+    return getEntry(namespace, domainUid).map(e -> e.interval).orElse(0L);
+  }
+
+  synchronized int size() {
+    return entries.values().stream().mapToInt(Map::size).sum();
+  }
+
+  private Optional<Entry> getEntry(String namespace, String domainUid) {
+    return Optional.ofNullable(entries.get(namespace)).map(m -> m.get(domainUid));
+  }
+
+  private long getShortDelay() {
+    return Math.max(1, tuningSupplier.get().initialShortDelay);
+  }
+
+  // A slot is visited once every WHEEL_SIZE ticks; an entry whose delay exceeds that
+  // waits in its slot for the number of extra revolutions recorded in 'rounds'.
+  private void place(Entry entry, long delaySeconds) {
+    long delay = Math.max(1, delaySeconds);
+    entry.slot = (int) ((currentTick + delay) % WHEEL_SIZE);
+    entry.rounds = (delay - 1) / WHEEL_SIZE;
+    wheel.get(entry.slot).add(entry);
+  }
+
+  private long getRemainingDelay(Entry entry) {
+    long ticksToSlot = Math.floorMod(entry.slot - currentTick, WHEEL_SIZE);
+    return (ticksToSlot == 0 ? WHEEL_SIZE : ticksToSlot) + entry.rounds * WHEEL_SIZE;
+  }
+
+  private void removeFromWheel(Entry entry) {
+    wheel.get(entry.slot).remove(entry);
+  }
+
+  private Set<Entry> getSlot(long tick) {
+    return wheel.get((int) (tick % WHEEL_SIZE));
+  }
+
+  private static class Entry {
+    private final String namespace;
+    private final String domainUid;
+    private final Runnable statusUpdate;
+    private long interval;
+    private int unchangedCount;
+    private Object lastObservedStatus;
+    private int slot;
+    private long rounds;
+
+    Entry(String namespace, String domainUid, Runnable statusUpdate, long interval) {
+      this.namespace = namespace;
+      this.domainUid = domainUid;
+      this.statusUpdate = statusUpdate;
+      this.interval = interval;
+    }
+
+    void resetInterval(long interval) {
+      this.interval = interval;
+      this.unchangedCount = 0;
+    }
+
+    @Override
+    public String toString() {
+      return namespace + "/" + domainUid;
+    }
+  }
+}
@@ -3,17 +3,23 @@
 
 package oracle.kubernetes.operator;
 
+import java.time.Duration;
 import java.time.OffsetDateTime;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
 import javax.annotation.Nonnull;
 
 import io.kubernetes.client.openapi.models.V1ObjectMeta;
 import io.kubernetes.client.openapi.models.V1Pod;
 import io.kubernetes.client.openapi.models.V1PodList;
+import io.kubernetes.client.util.Watch;
 import oracle.kubernetes.operator.calls.CallResponse;
 import oracle.kubernetes.operator.helpers.CallBuilder;
 import oracle.kubernetes.operator.helpers.PodHelper;
@@ -32,11 +38,21 @@ import static oracle.kubernetes.operator.logging.MessageKeys.POD_FORCE_DELETED;
 /**
  * Under certain circumstances, when a Kubernetes node goes down, it may mark its pods as terminating, but never
  * actually remove them. This code detects such cases, deletes the pods and triggers the necessary make-right flows.
+ *
+ * <p>Pods which the pod watchers report as terminating are scheduled to be deleted shortly after their grace periods
+ * expire, unless they are reported deleted first. Other pods in the same namespace whose grace periods have expired
+ * by then are deleted with them, so that the namespace is read again once for the batch. A periodic list of the pods
+ * in each namespace acts as a backstop for pods whose watch events were missed, such as those which were already
+ * terminating when the operator started.
  */
 public class StuckPodProcessing {
   private static final LoggingFacade LOGGER = LoggingFactory.getLogger("Operator", "Operator");
 
+  // the time allowed after a pod's grace period for Kubernetes to remove it, before the operator forces its deletion
+  static final int FORCED_DELETE_MARGIN_SECONDS = 10;
+
   private final MainDelegate mainDelegate;
+  private final Map<String, DeletionTimer> deletionTimers = new ConcurrentHashMap<>();
 
   public StuckPodProcessing(MainDelegate mainDelegate) {
     this.mainDelegate = mainDelegate;
@@ -49,6 +65,133 @@ public class StuckPodProcessing {
     mainDelegate.runSteps(Main.createPacketWithLoggingContext(namespace), step, null);
   }
 
+  /**
+   * Schedules or cancels the forced deletion of a pod, as reported by a pod watcher.
+   * @param item a pod watch event
+   */
+  void dispatchPodWatch(Watch.Response<V1Pod> item) {
+    switch (item.type) {
+      case "ADDED":
+      case "MODIFIED":
+        if (isTerminating(item.object)) {
+          scheduleForcedDelete(item.object);
+        } else {
+          cancelForcedDelete(item.object);
+        }
+        break;
+      case "DELETED":
+        cancelForcedDelete(item.object);
+        break;
+      default:
+    }
+  }
+
+  private static boolean isTerminating(V1Pod pod) {
+    return Optional.ofNullable(pod).map(V1Pod::getMetadata).map(V1ObjectMeta::getDeletionTimestamp).isPresent();
+  }
+
+  private static OffsetDateTime getExpectedDeleteTime(V1Pod pod) {
+    return getDeletionTimeStamp(pod).plusSeconds((int) getDeletionGracePeriodSeconds(pod));
+  }
+
+  private static long getDeletionGracePeriodSeconds(V1Pod pod) {
+    return Optional.of(pod).map(V1Pod::getMetadata).map(V1ObjectMeta::getDeletionGracePeriodSeconds).orElse(1L);
+  }
+
+  private static OffsetDateTime getDeletionTimeStamp(V1Pod pod) {
+    return Optional.of(pod).map(V1Pod::getMetadata).map(V1ObjectMeta::getDeletionTimestamp).orElse(SystemClock.now());
+  }
+
+  // a pod which is modified while terminating keeps its timer, unless its expected delete time has changed
+  private void scheduleForcedDelete(V1Pod pod) {
+    OffsetDateTime deleteTime = getExpectedDeleteTime(pod);
+    deletionTimers.compute(getKey(pod), (key, timer) -> {
+      if (timer != null && timer.deleteTime.equals(deleteTime)) {
+        timer.pod = pod;
+        return timer;
+      }
+      Optional.ofNullable(timer).ifPresent(DeletionTimer::cancel);
+      return new DeletionTimer(key, pod, deleteTime);
+    });
+  }
+
+  private void cancelForcedDelete(V1Pod pod) {
+    Optional.ofNullable(pod).map(this::getKey).map(deletionTimers::remove).ifPresent(DeletionTimer::cancel);
+  }
+
+  private void forceDelete(String namespace, List<V1Pod> pods) {
+    Packet packet = Main.createPacketWithLoggingContext(namespace);
+    getStuckPodList(packet).addAll(pods);
+    mainDelegate.runSteps(packet, new PodActionsStep(namespace), null);
+  }
+
+  // takes the other pods in the namespace whose grace periods have also expired, so that they are deleted together
+  private List<V1Pod> takeExpiredPods(DeletionTimer expired) {
+    List<V1Pod> pods = new ArrayList<>(List.of(expired.pod));
+    for (DeletionTimer timer : deletionTimers.values()) {
+      if (timer.isExpiredBy(expired) && deletionTimers.remove(timer.key, timer)) {
+        timer.cancel();
+        pods.add(timer.pod);
+      }
+    }
+    return pods;
+  }
+
+  private String getKey(V1Pod pod) {
+    return getNamespace(pod) + "/" + getName(pod);
+  }
+
+  private String getName(V1Pod pod) {
+    return Objects.requireNonNull(pod.getMetadata()).getName();
+  }
+
+  private String getNamespace(V1Pod pod) {
+    return Objects.requireNonNull(pod.getMetadata()).getNamespace();
+  }
+
+  private String getDomainUid(V1Pod pod) {
+    return PodHelper.getPodDomainUid(pod);
+  }
+
+  private class DeletionTimer {
+    private final String key;
+    private final String namespace;
+    private final OffsetDateTime deleteTime;
+    private final ScheduledFuture<?> future;
+    private volatile V1Pod pod;
+
+    DeletionTimer(String key, V1Pod pod, OffsetDateTime deleteTime) {
+      this.key = key;
+      this.namespace = getNamespace(pod);
+      this.pod = pod;
+      this.deleteTime = deleteTime;
+      this.future = mainDelegate.schedule(this::expire, getDelayMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    private OffsetDateTime getExpireTime() {
+      return deleteTime.plusSeconds(FORCED_DELETE_MARGIN_SECONDS);
+    }
+
+    private long getDelayMillis() {
+      return Math.max(0, Duration.between(SystemClock.now(), getExpireTime()).toMillis());
+    }
+
+    private boolean isExpiredBy(DeletionTimer other) {
+      return namespace.equals(other.namespace) && !deleteTime.isAfter(other.getExpireTime());
+    }
+
+    // a timer which has been cancelled or replaced may still run, but must not delete the pod
+    private void expire() {
+      if (deletionTimers.remove(key, this)) {
+        forceDelete(namespace, takeExpiredPods(this));
+      }
+    }
+
+    private void cancel() {
+      future.cancel(false);
+    }
+  }
+
   @SuppressWarnings("unchecked")
   private List<V1Pod> getStuckPodList(Packet packet) {
     return (List<V1Pod>) packet.computeIfAbsent("STUCK_PODS", k -> new ArrayList<>());
@@ -65,27 +208,23 @@ public class StuckPodProcessing {
 
     @Override
     public NextAction onSuccess(Packet packet, CallResponse<V1PodList> callResponse) {
-      callResponse.getResult().getItems().stream()
-            .filter(pod -> isStuck(pod, now))
-            .forEach(pod -> addStuckPodToPacket(packet, pod));
-      
-      return doContinueListOrNext(callResponse, packet);
-    }
-
-    private boolean isStuck(V1Pod pod, OffsetDateTime now)  {
-      return getExpectedDeleteTime(pod).isBefore(now);
-    }
+      callResponse.getResult().getItems().forEach(pod -> processPod(packet, pod));
 
-    private OffsetDateTime getExpectedDeleteTime(V1Pod pod) {
-      return getDeletionTimeStamp(pod).plusSeconds((int) getDeletionGracePeriodSeconds(pod));
+      return doContinueListOrNext(callResponse, packet);
     }
 
-    private long getDeletionGracePeriodSeconds(V1Pod pod) {
-      return Optional.of(pod).map(V1Pod::getMetadata).map(V1ObjectMeta::getDeletionGracePeriodSeconds).orElse(1L);
+    // a terminating pod which is not yet stuck is scheduled for deletion, in case its watch events were missed
+    private void processPod(Packet packet, V1Pod pod) {
+      if (isStuck(pod, now)) {
+        cancelForcedDelete(pod);
+        addStuckPodToPacket(packet, pod);
+      } else if (isTerminating(pod)) {
+        scheduleForcedDelete(pod);
+      }
     }
 
-    private OffsetDateTime getDeletionTimeStamp(V1Pod pod) {
-      return Optional.of(pod).map(V1Pod::getMetadata).map(V1ObjectMeta::getDeletionTimestamp).orElse(SystemClock.now());
+    private boolean isStuck(V1Pod pod, OffsetDateTime now)  {
+      return getExpectedDeleteTime(pod).isBefore(now);
     }
 
     private void addStuckPodToPacket(Packet packet, V1Pod stuckPod) {
@@ -128,18 +267,6 @@ public class StuckPodProcessing {
             .deletePodAsync(getName(pod), getNamespace(pod), getDomainUid(pod), null,
                   new ForcedDeleteResponseStep(getName(pod), getNamespace(pod), getDomainUid(pod)));
     }
-
-    private String getName(V1Pod pod) {
-      return Objects.requireNonNull(pod.getMetadata()).getName();
-    }
-
-    private String getNamespace(V1Pod pod) {
-      return Objects.requireNonNull(pod.getMetadata()).getNamespace();
-    }
-
-    private String getDomainUid(V1Pod pod) {
-      return PodHelper.getPodDomainUid(pod);
-    }
   }
 
   static class ForcedDeleteResponseStep extends DefaultResponseStep<Object> {
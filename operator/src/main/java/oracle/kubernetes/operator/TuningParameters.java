@@ -27,6 +27,12 @@ public interface TuningParameters extends Map<String, String> {
 
   CallBuilderTuning getCallBuilderTuning();
 
+  HttpClientTuning getHttpClientTuning();
+
+  EngineTuning getEngineTuning();
+
+  MakeRightTuning getMakeRightTuning();
+
   WatchTuning getWatchTuning();
 
   PodTuning getPodTuning();
@@ -45,6 +51,7 @@ public interface TuningParameters extends Map<String, String> {
     public final long initialShortDelay;
     public final long eventualLongDelay;
     public final int weblogicCredentialsSecretRereadIntervalSeconds;
+    public final String serverStatusReadMode;
 
     /**
      * create main tuning.
@@ -55,10 +62,11 @@ public interface TuningParameters extends Map<String, String> {
      * @param domainNamespaceRecheckIntervalSeconds domain namespace recheck interval
      * @param statusUpdateTimeoutSeconds status update timeout
      * @param unchangedCountToDelayStatusRecheck unchanged count to delay status recheck
-     * @param stuckPodRecheckSeconds time between checks for stuck pods
+     * @param stuckPodRecheckSeconds time between full checks for stuck pods
      * @param initialShortDelay initial short delay
      * @param eventualLongDelay eventual long delay
      * @param weblogicCredentialsSecretRereadIntervalSeconds credentials secret reread interval
+     * @param serverStatusReadMode how to read the state of a server whose pod is not ready: "exec" or "http"
      */
     public MainTuning(
           int initializationRetryDelaySeconds,
@@ -71,7 +79,8 @@ public interface TuningParameters extends Map<String, String> {
           int stuckPodRecheckSeconds,
           long initialShortDelay,
           long eventualLongDelay,
-          int weblogicCredentialsSecretRereadIntervalSeconds) {
+          int weblogicCredentialsSecretRereadIntervalSeconds,
+          String serverStatusReadMode) {
       this.initializationRetryDelaySeconds = initializationRetryDelaySeconds;
       this.domainPresenceFailureRetrySeconds = domainPresenceFailureRetrySeconds;
       this.domainPresenceFailureRetryMaxCount = domainPresenceFailureRetryMaxCount;
@@ -83,6 +92,7 @@ public interface TuningParameters extends Map<String, String> {
       this.initialShortDelay = initialShortDelay;
       this.eventualLongDelay = eventualLongDelay;
       this.weblogicCredentialsSecretRereadIntervalSeconds = weblogicCredentialsSecretRereadIntervalSeconds;
+      this.serverStatusReadMode = serverStatusReadMode;
     }
 
     @Override
@@ -97,6 +107,7 @@ public interface TuningParameters extends Map<String, String> {
           .append("initialShortDelay", initialShortDelay)
           .append("eventualLongDelay", eventualLongDelay)
           .append("weblogicCredentialsSecretRereadIntervalSeconds", weblogicCredentialsSecretRereadIntervalSeconds)
+          .append("serverStatusReadMode", serverStatusReadMode)
           .toString();
     }
 
@@ -112,6 +123,7 @@ public interface TuningParameters extends Map<String, String> {
           .append(initialShortDelay)
           .append(eventualLongDelay)
           .append(weblogicCredentialsSecretRereadIntervalSeconds)
+          .append(serverStatusReadMode)
           .toHashCode();
     }
 
@@ -134,6 +146,7 @@ public interface TuningParameters extends Map<String, String> {
           .append(initialShortDelay, mt.initialShortDelay)
           .append(eventualLongDelay, mt.eventualLongDelay)
           .append(weblogicCredentialsSecretRereadIntervalSeconds, mt.weblogicCredentialsSecretRereadIntervalSeconds)
+          .append(serverStatusReadMode, mt.serverStatusReadMode)
           .isEquals();
     }
   }
@@ -142,17 +155,34 @@ public interface TuningParameters extends Map<String, String> {
     public final int callRequestLimit;
     public final int callMaxRetryCount;
     public final int callTimeoutSeconds;
+    public final int callRateLimitQps;
+    public final int callRateLimitBurst;
 
     /**
-     * Create call builder tuning.
+     * Create call builder tuning with no client-side rate limit.
      * @param callRequestLimit call request limit
      * @param callMaxRetryCount call max retry count
      * @param callTimeoutSeconds call timeout
      */
     public CallBuilderTuning(int callRequestLimit, int callMaxRetryCount, int callTimeoutSeconds) {
+      this(callRequestLimit, callMaxRetryCount, callTimeoutSeconds, 0, 0);
+    }
+
+    /**
+     * Create call builder tuning.
+     * @param callRequestLimit call request limit
+     * @param callMaxRetryCount call max retry count
+     * @param callTimeoutSeconds call timeout
+     * @param callRateLimitQps sustained rate of asynchronous requests per second; zero for no limit
+     * @param callRateLimitBurst number of asynchronous requests which may be sent at once
+     */
+    public CallBuilderTuning(int callRequestLimit, int callMaxRetryCount, int callTimeoutSeconds,
+                             int callRateLimitQps, int callRateLimitBurst) {
       this.callRequestLimit = callRequestLimit;
       this.callMaxRetryCount = callMaxRetryCount;
       this.callTimeoutSeconds = callTimeoutSeconds;
+      this.callRateLimitQps = callRateLimitQps;
+      this.callRateLimitBurst = callRateLimitBurst;
     }
 
     @Override
@@ -161,6 +191,8 @@ public interface TuningParameters extends Map<String, String> {
           .append("callRequestLimit", callRequestLimit)
           .append("callMaxRetryCount", callMaxRetryCount)
           .append("callTimeoutSeconds", callTimeoutSeconds)
+          .append("callRateLimitQps", callRateLimitQps)
+          .append("callRateLimitBurst", callRateLimitBurst)
           .toString();
     }
 
@@ -170,6 +202,8 @@ public interface TuningParameters extends Map<String, String> {
           .append(callRequestLimit)
           .append(callMaxRetryCount)
           .append(callTimeoutSeconds)
+          .append(callRateLimitQps)
+          .append(callRateLimitBurst)
           .toHashCode();
     }
 
@@ -186,6 +220,171 @@ public interface TuningParameters extends Map<String, String> {
           .append(callRequestLimit, cbt.callRequestLimit)
           .append(callMaxRetryCount, cbt.callMaxRetryCount)
           .append(callTimeoutSeconds, cbt.callTimeoutSeconds)
+          .append(callRateLimitQps, cbt.callRateLimitQps)
+          .append(callRateLimitBurst, cbt.callRateLimitBurst)
+          .isEquals();
+    }
+  }
+
+  class HttpClientTuning {
+    public final int maxRequests;
+    public final int maxRequestsPerHost;
+    public final int maxIdleConnections;
+    public final long keepAliveDurationSeconds;
+    public final boolean http2Enabled;
+
+    /**
+     * Create HTTP client tuning.
+     * @param maxRequests maximum number of concurrently executing asynchronous requests
+     * @param maxRequestsPerHost maximum number of concurrently executing asynchronous requests to the API server
+     * @param maxIdleConnections maximum number of idle connections kept in the connection pool
+     * @param keepAliveDurationSeconds time to keep an idle connection in the pool
+     * @param http2Enabled true if HTTP/2 may be negotiated with the API server
+     */
+    public HttpClientTuning(int maxRequests, int maxRequestsPerHost, int maxIdleConnections,
+                            long keepAliveDurationSeconds, boolean http2Enabled) {
+      this.maxRequests = maxRequests;
+      this.maxRequestsPerHost = maxRequestsPerHost;
+      this.maxIdleConnections = maxIdleConnections;
+      this.keepAliveDurationSeconds = keepAliveDurationSeconds;
+      this.http2Enabled = http2Enabled;
+    }
+
+    @Override
+    public String toString() {
+      return new ToStringBuilder(this)
+          .append("maxRequests", maxRequests)
+          .append("maxRequestsPerHost", maxRequestsPerHost)
+          .append("maxIdleConnections", maxIdleConnections)
+          .append("keepAliveDurationSeconds", keepAliveDurationSeconds)
+          .append("http2Enabled", http2Enabled)
+          .toString();
+    }
+
+    @Override
+    public int hashCode() {
+      return new HashCodeBuilder()
+          .append(maxRequests)
+          .append(maxRequestsPerHost)
+          .append(maxIdleConnections)
+          .append(keepAliveDurationSeconds)
+          .append(http2Enabled)
+          .toHashCode();
+    }
+
+    @Override
+    public boolean equals(Object o) {
+      if (o == null) {
+        return false;
+      }
+      if (!(o instanceof HttpClientTuning)) {
+        return false;
+      }
+      HttpClientTuning hct = (HttpClientTuning) o;
+      return new EqualsBuilder()
+          .append(maxRequests, hct.maxRequests)
+          .append(maxRequestsPerHost, hct.maxRequestsPerHost)
+          .append(maxIdleConnections, hct.maxIdleConnections)
+          .append(keepAliveDurationSeconds, hct.keepAliveDurationSeconds)
+          .append(http2Enabled, hct.http2Enabled)
+          .isEquals();
+    }
+  }
+
+  class EngineTuning {
+    public final int threadCount;
+    public final boolean virtualThreads;
+
+    /**
+     * Create engine tuning.
+     * @param threadCount number of platform threads which run fibers
+     * @param virtualThreads true if each fiber run should use a new virtual thread, when the JVM supports them
+     */
+    public EngineTuning(int threadCount, boolean virtualThreads) {
+      this.threadCount = threadCount;
+      this.virtualThreads = virtualThreads;
+    }
+
+    @Override
+    public String toString() {
+      return new ToStringBuilder(this)
+          .append("threadCount", threadCount)
+          .append("virtualThreads", virtualThreads)
+          .toString();
+    }
+
+    @Override
+    public int hashCode() {
+      return new HashCodeBuilder()
+          .append(threadCount)
+          .append(virtualThreads)
+          .toHashCode();
+    }
+
+    @Override
+    public boolean equals(Object o) {
+      if (o == null) {
+        return false;
+      }
+      if (!(o instanceof EngineTuning)) {
+        return false;
+      }
+      EngineTuning et = (EngineTuning) o;
+      return new EqualsBuilder()
+          .append(threadCount, et.threadCount)
+          .append(virtualThreads, et.virtualThreads)
+          .isEquals();
+    }
+  }
+
+  class MakeRightTuning {
+    public final long coalescingWindowMillis;
+    public final int maxConcurrentPerNamespace;
+    public final int maxRetryDelaySeconds;
+
+    /**
+     * Create make-right tuning.
+     * @param coalescingWindowMillis time to hold a make-right request, merging later requests for the same domain
+     * @param maxConcurrentPerNamespace maximum number of make-right fibers running at once in a namespace
+     * @param maxRetryDelaySeconds upper limit of the exponential delay before retrying a failed make-right
+     */
+    public MakeRightTuning(long coalescingWindowMillis, int maxConcurrentPerNamespace, int maxRetryDelaySeconds) {
+      this.coalescingWindowMillis = coalescingWindowMillis;
+      this.maxConcurrentPerNamespace = maxConcurrentPerNamespace;
+      this.maxRetryDelaySeconds = maxRetryDelaySeconds;
+    }
+
+    @Override
+    public String toString() {
+      return new ToStringBuilder(this)
+          .append("coalescingWindowMillis", coalescingWindowMillis)
+          .append("maxConcurrentPerNamespace", maxConcurrentPerNamespace)
+          .append("maxRetryDelaySeconds", maxRetryDelaySeconds)
+          .toString();
+    }
+
+    @Override
+    public int hashCode() {
+      return new HashCodeBuilder()
+          .append(coalescingWindowMillis)
+          .append(maxConcurrentPerNamespace)
+          .append(maxRetryDelaySeconds)
+          .toHashCode();
+    }
+
+    @Override
+    public boolean equals(Object o) {
+      if (o == null) {
+        return false;
+      }
+      if (!(o instanceof MakeRightTuning)) {
+        return false;
+      }
+      MakeRightTuning mrt = (MakeRightTuning) o;
+      return new EqualsBuilder()
+          .append(coalescingWindowMillis, mrt.coalescingWindowMillis)
+          .append(maxConcurrentPerNamespace, mrt.maxConcurrentPerNamespace)
+          .append(maxRetryDelaySeconds, mrt.maxRetryDelaySeconds)
           .isEquals();
     }
   }
@@ -25,6 +25,9 @@ public class TuningParametersImpl extends ConfigMapConsumer implements TuningPar
   private final ReadWriteLock lock = new ReentrantReadWriteLock();
   private MainTuning main = null;
   private CallBuilderTuning callBuilder = null;
+  private HttpClientTuning httpClient = null;
+  private EngineTuning engine = null;
+  private MakeRightTuning makeRight = null;
   private WatchTuning watch = null;
   private PodTuning pod = null;
   private FeatureGates featureGates = null;
@@ -60,16 +63,38 @@ public class TuningParametersImpl extends ConfigMapConsumer implements TuningPar
             (int) readTuningParameter("domainNamespaceRecheckIntervalSeconds", 3),
             (int) readTuningParameter("statusUpdateTimeoutSeconds", 10),
             (int) readTuningParameter("statusUpdateUnchangedCountToDelayStatusRecheck", 10),
-            (int) readTuningParameter("stuckPodRecheckSeconds", 30),
+            (int) readTuningParameter("stuckPodRecheckSeconds", 300),
             readTuningParameter("statusUpdateInitialShortDelay", 5),
             readTuningParameter("statusUpdateEventualLongDelay", 30),
-            (int) readTuningParameter("weblogicCredentialsSecretRereadIntervalSeconds", 120));
+            (int) readTuningParameter("weblogicCredentialsSecretRereadIntervalSeconds", 120),
+            getOrDefault("serverStatusReadMode", "exec"));
 
     CallBuilderTuning callBuilder =
         new CallBuilderTuning(
             (int) readTuningParameter("callRequestLimit", DEFAULT_CALL_LIMIT),
             (int) readTuningParameter("callMaxRetryCount", 5),
-            (int) readTuningParameter("callTimeoutSeconds", 10));
+            (int) readTuningParameter("callTimeoutSeconds", 10),
+            (int) readTuningParameter("callRateLimitQps", 50),
+            (int) readTuningParameter("callRateLimitBurst", 100));
+
+    HttpClientTuning httpClient =
+        new HttpClientTuning(
+            (int) readTuningParameter("httpClientMaxRequests", 256),
+            (int) readTuningParameter("httpClientMaxRequestsPerHost", 64),
+            (int) readTuningParameter("httpClientMaxIdleConnections", 16),
+            readTuningParameter("httpClientKeepAliveDurationSeconds", 300),
+            !"false".equalsIgnoreCase(get("httpClientHttp2Enabled")));
+
+    EngineTuning engine =
+        new EngineTuning(
+            (int) readTuningParameter("engineThreadCount", 10),
+            "true".equalsIgnoreCase(get("engineVirtualThreads")));
+
+    MakeRightTuning makeRight =
+        new MakeRightTuning(
+            readTuningParameter("makeRightCoalescingWindowMillis", 500),
+            (int) readTuningParameter("makeRightMaxConcurrentPerNamespace", 10),
+            (int) readTuningParameter("makeRightMaxRetryDelaySeconds", 300));
 
     WatchTuning watch =
         new WatchTuning(
@@ -95,6 +120,9 @@ public class TuningParametersImpl extends ConfigMapConsumer implements TuningPar
     try {
       if (!main.equals(this.main)
           || !callBuilder.equals(this.callBuilder)
+          || !httpClient.equals(this.httpClient)
+          || !engine.equals(this.engine)
+          || !makeRight.equals(this.makeRight)
           || !watch.equals(this.watch)
           || !pod.equals(this.pod)
           || !featureGates.equals(this.featureGates)) {
@@ -102,6 +130,9 @@ public class TuningParametersImpl extends ConfigMapConsumer implements TuningPar
       }
       this.main = main;
       this.callBuilder = callBuilder;
+      this.httpClient = httpClient;
+      this.engine = engine;
+      this.makeRight = makeRight;
       this.watch = watch;
       this.pod = pod;
       this.featureGates = featureGates;
@@ -142,6 +173,36 @@ public class TuningParametersImpl extends ConfigMapConsumer implements TuningPar
     }
   }
 
+  @Override
+  public HttpClientTuning getHttpClientTuning() {
+    lock.readLock().lock();
+    try {
+      return httpClient;
+    } finally {
+      lock.readLock().unlock();
+    }
+  }
+
+  @Override
+  public EngineTuning getEngineTuning() {
+    lock.readLock().lock();
+    try {
+      return engine;
+    } finally {
+      lock.readLock().unlock();
+    }
+  }
+
+  @Override
+  public MakeRightTuning getMakeRightTuning() {
+    lock.readLock().lock();
+    try {
+      return makeRight;
+    } finally {
+      lock.readLock().unlock();
+    }
+  }
+
   @Override
   public WatchTuning getWatchTuning() {
     lock.readLock().lock();
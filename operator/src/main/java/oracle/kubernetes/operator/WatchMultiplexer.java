@@ -0,0 +1,216 @@
+// Copyright (c) 2021, Oracle and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator;
+
+import java.io.IOException;
+import java.math.BigInteger;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import io.kubernetes.client.openapi.ApiException;
+import io.kubernetes.client.openapi.models.V1ObjectMeta;
+import io.kubernetes.client.util.Watch;
+import io.kubernetes.client.util.Watchable;
+import oracle.kubernetes.operator.builders.WatchBuilder;
+import oracle.kubernetes.operator.helpers.KubernetesUtils;
+import oracle.kubernetes.operator.watcher.WatchListener;
+
+/**
+ * A single cluster-wide watch for one resource type, shared by the namespaced watchers of that type.
+ * Rather than each namespace running its own watch in its own thread, the namespaced watchers attach themselves
+ * to the multiplexer, which runs one watch across all namespaces and dispatches each event to the watcher
+ * registered for the namespace of the changed object. Events for namespaces with no attached watcher are ignored.
+ *
+ * <p>A watcher which attaches after the shared watch has passed the resource version from which that watcher must
+ * start, would miss the events between the two. The shared watch therefore restarts from the earlier version, and
+ * holds back the attaching watcher's events until it has done so. Each watcher ignores the events it has already
+ * seen, which the restarted watch may repeat.
+ *
+ * <p>Shared watches are enabled by the "ClusterScopedWatches" feature gate, and only apply when the operator
+ * is not running with the Dedicated namespace selection strategy, since they require cluster-wide list permissions
+ * (the Helm chart grants these when enableClusterRoleBinding is true).
+ *
+ * @param <T> The type of the object to be watched.
+ */
+class WatchMultiplexer<T> extends Watcher<T> implements WatchListener<T> {
+
+  static final String CLUSTER_SCOPED_WATCHES = "ClusterScopedWatches";
+
+  private static final Map<Class<?>, WatchMultiplexer<?>> multiplexers = new ConcurrentHashMap<>();
+
+  private final Map<String, Watcher<T>> watchers = new ConcurrentHashMap<>();
+  private final Set<String> awaitingReplay = ConcurrentHashMap.newKeySet();
+  private final WatchInitiator<T> initiator;
+  private final AtomicBoolean stopping;
+  private final AtomicBoolean started = new AtomicBoolean(false);
+  private String restartVersion;
+  private Watchable<T> currentWatch;
+
+  /**
+   * A function to initiate a watch across all namespaces.
+   * @param <T> The type of the object to be watched.
+   */
+  @FunctionalInterface
+  interface WatchInitiator<T> {
+    Watchable<T> initiateWatch(WatchBuilder watchBuilder) throws ApiException;
+  }
+
+  private WatchMultiplexer(Watcher<T> firstWatcher, WatchInitiator<T> initiator, AtomicBoolean stopping) {
+    super(firstWatcher.getResourceVersion(), firstWatcher.getTuning(), stopping);
+    setListener(this);
+    this.initiator = initiator;
+    this.stopping = stopping;
+  }
+
+  /**
+   * Returns true if namespaced watchers should share cluster-wide watches.
+   */
+  static boolean isEnabled() {
+    return Optional.ofNullable(TuningParameters.getInstance())
+          .map(TuningParameters::getFeatureGates)
+          .map(g -> g.isFeatureEnabled(CLUSTER_SCOPED_WATCHES))
+          .orElse(false)
+          && Namespaces.getSelectionStrategy() != Namespaces.SelectionStrategy.Dedicated;
+  }
+
+  /**
+   * Attaches the specified watcher to the shared watch for its type, starting that watch if needed.
+   * @param factory the thread factory to use if a new shared watch must be started
+   * @param watcher a namespaced watcher
+   * @param <T> The type of the object to be watched.
+   */
+  @SuppressWarnings("unchecked")
+  static <T> void attach(ThreadFactory factory, Watcher<T> watcher) {
+    WatchMultiplexer<T> multiplexer
+          = (WatchMultiplexer<T>) multiplexers.computeIfAbsent(watcher.getClass(), c -> create(watcher));
+    multiplexer.addWatcher(watcher);
+    if (multiplexer.started.compareAndSet(false, true)) {
+      multiplexer.start(factory);
+    }
+  }
+
+  private static <T> WatchMultiplexer<T> create(Watcher<T> watcher) {
+    return new WatchMultiplexer<>(watcher, watcher.getClusterWatchInitiator(), new AtomicBoolean(false));
+  }
+
+  private synchronized void addWatcher(Watcher<T> watcher) {
+    watchers.put(watcher.getNamespace(), watcher);
+    if (isEarlier(watcher.getResourceVersion(), getRestartVersion())) {
+      restartVersion = watcher.getResourceVersion();
+      if (currentWatch != null) {
+        awaitingReplay.add(watcher.getNamespace());
+        closeCurrentWatch();
+      }
+    }
+  }
+
+  // the version from which the next shared watch will start
+  synchronized String getRestartVersion() {
+    return Optional.ofNullable(restartVersion).orElse(getResourceVersion());
+  }
+
+  private static boolean isEarlier(String first, String second) {
+    BigInteger firstVersion = KubernetesUtils.getResourceVersion(first);
+    BigInteger secondVersion = KubernetesUtils.getResourceVersion(second);
+    return firstVersion.signum() > 0 && secondVersion.signum() > 0 && firstVersion.compareTo(secondVersion) < 0;
+  }
+
+  // ends the current shared watch, so that the watch thread will start a new one
+  private void closeCurrentWatch() {
+    try {
+      currentWatch.close();
+    } catch (IOException e) {
+      // no-op; the watch is abandoned in any case
+    }
+  }
+
+  /**
+   * Requests all shared watches to stop.
+   */
+  static void stopAll() {
+    multiplexers.values().forEach(WatchMultiplexer::stop);
+    multiplexers.clear();
+  }
+
+  private void stop() {
+    stopping.set(true);
+    watchers.clear();
+  }
+
+  // for test
+  static int getNumSharedWatches() {
+    return multiplexers.size();
+  }
+
+  // for test
+  @SuppressWarnings("unchecked")
+  static <T> WatchMultiplexer<T> getSharedWatch(Class<? extends Watcher<T>> watcherClass) {
+    return (WatchMultiplexer<T>) multiplexers.get(watcherClass);
+  }
+
+  // for test
+  int getNumAttachedWatchers() {
+    return watchers.size();
+  }
+
+  // an error in the shared watch may have caused each attached watcher to miss events
+  @Override
+  void reportGap() {
+    watchers.values().forEach(Watcher::reportGap);
+  }
+
+  @Override
+  public synchronized Watchable<T> initiateWatch(WatchBuilder watchBuilder) throws ApiException {
+    Optional.ofNullable(restartVersion).ifPresent(watchBuilder::withResourceVersion);
+    restartVersion = null;
+    awaitingReplay.clear();
+    currentWatch = initiator.initiateWatch(watchBuilder);
+    return currentWatch;
+  }
+
+  @Override
+  public String getNamespace() {
+    return null;
+  }
+
+  @Override
+  String getNamespace(Watch.Response<T> item) {
+    return getObjectNamespace(item);
+  }
+
+  @Override
+  public String getDomainUid(Watch.Response<T> item) {
+    return getAttachedWatcher(item).map(w -> w.getDomainUid(item)).orElse(null);
+  }
+
+  @Override
+  public void receivedResponse(Watch.Response<T> item) {
+    getAttachedWatcher(item).ifPresent(w -> dispatch(w, item));
+  }
+
+  private void dispatch(Watcher<T> watcher, Watch.Response<T> item) {
+    if (watcher.isStopping()) {
+      watchers.remove(watcher.getNamespace(), watcher);
+    } else {
+      watcher.receiveSharedResponse(item);
+    }
+  }
+
+  private Optional<Watcher<T>> getAttachedWatcher(Watch.Response<T> item) {
+    return Optional.ofNullable(getObjectNamespace(item))
+          .filter(ns -> !awaitingReplay.contains(ns))
+          .map(watchers::get);
+  }
+
+  private String getObjectNamespace(Watch.Response<T> item) {
+    return Optional.ofNullable(item.object)
+          .flatMap(Watcher::getMetadata)
+          .map(V1ObjectMeta::getNamespace)
+          .orElse(null);
+  }
+}
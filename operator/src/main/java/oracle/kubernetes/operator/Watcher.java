@@ -48,6 +48,7 @@ abstract class Watcher<T> {
   private String resourceVersion;
   private final AtomicBoolean stopping;
   private WatchListener<T> listener;
+  private Runnable gapListener;
   private Thread thread = null;
   private long lastInitialize = 0;
 
@@ -93,7 +94,6 @@ abstract class Watcher<T> {
     }
   }
 
-  // for test
   String getResourceVersion() {
     return resourceVersion;
   }
@@ -107,9 +107,38 @@ abstract class Watcher<T> {
     this.listener = listener;
   }
 
-  /** Kick off the watcher processing that runs in a separate thread. */
+  /**
+   * Sets an action to run when this watcher may have missed events, as when its watch reports an error and must
+   * restart from a later resource version.
+   *
+   * @param gapListener the action to run
+   */
+  void setGapListener(Runnable gapListener) {
+    this.gapListener = gapListener;
+  }
+
+  /**
+   * Reports that this watcher may have missed events.
+   */
+  void reportGap() {
+    Optional.ofNullable(gapListener).ifPresent(Runnable::run);
+  }
+
+  WatchTuning getTuning() {
+    return tuning;
+  }
+
+  /**
+   * Kick off the watcher processing. Normally this runs in a separate thread; if shared cluster-wide watches
+   * are enabled and this watcher supports them, the watcher is instead attached to the shared watch
+   * for its resource type, which will dispatch the events for this watcher's namespace.
+   */
   void start(ThreadFactory factory) {
-    thread = STARTER.startWatcher(factory, this::doWatch);
+    if (WatchMultiplexer.isEnabled() && getClusterWatchInitiator() != null) {
+      WatchMultiplexer.attach(factory, this);
+    } else {
+      thread = STARTER.startWatcher(factory, this::doWatch);
+    }
   }
 
   public static Thread startAsynchronousWatch(ThreadFactory factory, Runnable doWatch) {
@@ -174,7 +203,7 @@ abstract class Watcher<T> {
         }
 
         try (LoggingContext ignored =
-                 LoggingContext.setThreadContext().namespace(getNamespace()).domainUid(getDomainUid(item))) {
+                 LoggingContext.setThreadContext().namespace(getNamespace(item)).domainUid(getDomainUid(item))) {
           if (isError(item)) {
             handleErrorResponse(item);
           } else {
@@ -220,6 +249,48 @@ abstract class Watcher<T> {
    */
   public abstract String getNamespace();
 
+  /**
+   * Gets the Kubernetes namespace associated with a watch response.
+   *
+   * @param item Response item
+   * @return String object or null if the watcher is not namespaced
+   */
+  String getNamespace(Watch.Response<T> item) {
+    return getNamespace();
+  }
+
+  /**
+   * Returns a function which initiates a watch for this watcher's resource type across all namespaces, or null
+   * if this watcher must always run its own watch. Watchers which return a non-null value may share a single
+   * cluster-wide watch with the watchers of the same type in other namespaces.
+   *
+   * @return an initiator for a cluster-wide watch, or null
+   */
+  WatchMultiplexer.WatchInitiator<T> getClusterWatchInitiator() {
+    return null;
+  }
+
+  /**
+   * Handles an event received by a shared cluster-wide watch for this watcher's namespace.
+   *
+   * @param item Response item
+   */
+  void receiveSharedResponse(Watch.Response<T> item) {
+    if (!isStopping() && !isAlreadySeen(item)) {
+      handleRegularUpdate(item);
+    }
+  }
+
+  // a shared watch which restarts from an earlier version may repeat events which this watcher has already seen
+  private boolean isAlreadySeen(Watch.Response<T> item) {
+    if (isNullOrEmpty(resourceVersion) || resourceVersion.equals(IGNORED)) {
+      return false;
+    }
+
+    BigInteger itemVersion = KubernetesUtils.getResourceVersion(getResourceVersionFromMetadata(item.object));
+    return itemVersion.signum() > 0 && itemVersion.compareTo(KubernetesUtils.getResourceVersion(resourceVersion)) <= 0;
+  }
+
   /**
    * Gets the domainUID associated with a watch response.
    *
@@ -246,6 +317,7 @@ abstract class Watcher<T> {
     } else {
       resourceVersion = Optional.of(item.status).map(V1Status::getMessage).map(this::resourceVersion).orElse(IGNORED);
     }
+    reportGap();
   }
 
   private String resourceVersion(String message) {
@@ -277,13 +349,16 @@ abstract class Watcher<T> {
   }
 
   private String getResourceVersionFromMetadata(Object object) {
+    return getMetadata(object).map(V1ObjectMeta::getResourceVersion).orElse(IGNORED);
+  }
+
+  static Optional<V1ObjectMeta> getMetadata(Object object) {
     try {
       Method getMetadata = object.getClass().getDeclaredMethod("getMetadata");
-      return Optional.ofNullable((V1ObjectMeta) getMetadata.invoke(object))
-              .map(V1ObjectMeta::getResourceVersion).orElse(IGNORED);
+      return Optional.ofNullable((V1ObjectMeta) getMetadata.invoke(object));
     } catch (Exception e) {
       LOGGER.warning(MessageKeys.EXCEPTION, e);
-      return IGNORED;
+      return Optional.empty();
     }
   }
 
@@ -36,6 +36,9 @@ public class WatchBuilder {
 
   private static final String RESOURCE_VERSION_MATCH_UNSET = null;
 
+  /** The namespace value which requests a watch across all namespaces, where supported. */
+  public static final String ALL_NAMESPACES = null;
+
   @SuppressWarnings({"FieldMayBeFinal", "CanBeFinal"}) // Leave non-final for unit test
   private static WatchFactory FACTORY = new WatchFactoryImpl();
 
@@ -47,7 +50,7 @@ public class WatchBuilder {
   /**
    * Creates a web hook object to track service calls.
    *
-   * @param namespace the namespace
+   * @param namespace the namespace, or ALL_NAMESPACES to watch all namespaces
    * @return the active web hook
    * @throws ApiException if there is an error on the call that sets up the web hook.
    */
@@ -58,7 +61,7 @@ public class WatchBuilder {
   /**
    * Creates a web hook object to track pod disruption budgets.
    *
-   * @param namespace the namespace
+   * @param namespace the namespace, or ALL_NAMESPACES to watch all namespaces
    * @return the active web hook
    * @throws ApiException if there is an error on the call that sets up the web hook.
    */
@@ -70,7 +73,7 @@ public class WatchBuilder {
   /**
    * Creates a web hook object to track pods.
    *
-   * @param namespace the namespace
+   * @param namespace the namespace, or ALL_NAMESPACES to watch all namespaces
    * @return the active web hook
    * @throws ApiException if there is an error on the call that sets up the web hook.
    */
@@ -82,7 +85,7 @@ public class WatchBuilder {
   /**
    * Creates a web hook object to track jobs.
    *
-   * @param namespace the namespace
+   * @param namespace the namespace, or ALL_NAMESPACES to watch all namespaces
    * @return the active web hook
    * @throws ApiException if there is an error on the call that sets up the web hook.
    */
@@ -94,7 +97,7 @@ public class WatchBuilder {
   /**
    * Creates a web hook object to track events.
    *
-   * @param namespace the namespace
+   * @param namespace the namespace, or ALL_NAMESPACES to watch all namespaces
    * @return the active web hook
    * @throws ApiException if there is an error on the call that sets up the web hook.
    */
@@ -118,7 +121,7 @@ public class WatchBuilder {
   /**
    * Creates a web hook object to track config map calls.
    *
-   * @param namespace the namespace
+   * @param namespace the namespace, or ALL_NAMESPACES to watch all namespaces
    * @return the active web hook
    * @throws ApiException if there is an error on the call that sets up the web hook.
    */
@@ -215,6 +218,21 @@ public class WatchBuilder {
       configureClient(client);
 
       try {
+        if (namespace == null) {
+          return new CoreV1Api(client)
+              .listServiceForAllNamespacesCall(
+                  ALLOW_BOOKMARKS,
+                  START_LIST,
+                  callParams.getFieldSelector(),
+                  callParams.getLabelSelector(),
+                  callParams.getLimit(),
+                  callParams.getPretty(),
+                  callParams.getResourceVersion(),
+                  RESOURCE_VERSION_MATCH_UNSET,
+                  callParams.getTimeoutSeconds(),
+                  WATCH,
+                  null);
+        }
         return new CoreV1Api(client)
             .listNamespacedServiceCall(
                 namespace,
@@ -252,6 +270,21 @@ public class WatchBuilder {
       configureClient(client);
 
       try {
+        if (namespace == null) {
+          return new CoreV1Api(client)
+              .listPodForAllNamespacesCall(
+                  ALLOW_BOOKMARKS,
+                  START_LIST,
+                  callParams.getFieldSelector(),
+                  callParams.getLabelSelector(),
+                  callParams.getLimit(),
+                  callParams.getPretty(),
+                  callParams.getResourceVersion(),
+                  RESOURCE_VERSION_MATCH_UNSET,
+                  callParams.getTimeoutSeconds(),
+                  WATCH,
+                  null);
+        }
         return new CoreV1Api(client)
             .listNamespacedPodCall(
                 namespace,
@@ -284,6 +317,21 @@ public class WatchBuilder {
       configureClient(client);
 
       try {
+        if (namespace == null) {
+          return new BatchV1Api(client)
+              .listJobForAllNamespacesCall(
+                  ALLOW_BOOKMARKS,
+                  START_LIST,
+                  callParams.getFieldSelector(),
+                  callParams.getLabelSelector(),
+                  callParams.getLimit(),
+                  callParams.getPretty(),
+                  callParams.getResourceVersion(),
+                  RESOURCE_VERSION_MATCH_UNSET,
+                  callParams.getTimeoutSeconds(),
+                  WATCH,
+                  null);
+        }
         return new BatchV1Api(client)
             .listNamespacedJobCall(
                 namespace,
@@ -316,6 +364,21 @@ public class WatchBuilder {
       configureClient(client);
 
       try {
+        if (namespace == null) {
+          return new CoreV1Api(client)
+              .listEventForAllNamespacesCall(
+                  ALLOW_BOOKMARKS,
+                  START_LIST,
+                  callParams.getFieldSelector(),
+                  callParams.getLabelSelector(),
+                  callParams.getLimit(),
+                  callParams.getPretty(),
+                  callParams.getResourceVersion(),
+                  RESOURCE_VERSION_MATCH_UNSET,
+                  callParams.getTimeoutSeconds(),
+                  WATCH,
+                  null);
+        }
         return new CoreV1Api(client)
             .listNamespacedEventCall(
                 namespace,
@@ -348,6 +411,21 @@ public class WatchBuilder {
       configureClient(client);
 
       try {
+        if (namespace == null) {
+          return new PolicyV1beta1Api(client)
+              .listPodDisruptionBudgetForAllNamespacesCall(
+                  ALLOW_BOOKMARKS,
+                  START_LIST,
+                  callParams.getFieldSelector(),
+                  callParams.getLabelSelector(),
+                  callParams.getLimit(),
+                  callParams.getPretty(),
+                  callParams.getResourceVersion(),
+                  RESOURCE_VERSION_MATCH_UNSET,
+                  callParams.getTimeoutSeconds(),
+                  WATCH,
+                  null);
+        }
         return new PolicyV1beta1Api(client)
             .listNamespacedPodDisruptionBudgetCall(
                 namespace,
@@ -410,6 +488,21 @@ public class WatchBuilder {
       configureClient(client);
 
       try {
+        if (namespace == null) {
+          return new CoreV1Api(client)
+              .listConfigMapForAllNamespacesCall(
+                  ALLOW_BOOKMARKS,
+                  START_LIST,
+                  callParams.getFieldSelector(),
+                  callParams.getLabelSelector(),
+                  callParams.getLimit(),
+                  callParams.getPretty(),
+                  callParams.getResourceVersion(),
+                  RESOURCE_VERSION_MATCH_UNSET,
+                  callParams.getTimeoutSeconds(),
+                  WATCH,
+                  null);
+        }
         return new CoreV1Api(client)
             .listNamespacedConfigMapCall(
                 namespace,
@@ -58,6 +58,7 @@ public class AsyncRequestStep<T> extends Step implements RetryStrategyListener {
   private final String fieldSelector;
   private final String labelSelector;
   private final String resourceVersion;
+  private final RequestRateLimiter.Lane lane;
   private int timeoutSeconds;
 
   /**
@@ -124,6 +125,7 @@ public class AsyncRequestStep<T> extends Step implements RetryStrategyListener {
     this.fieldSelector = fieldSelector;
     this.labelSelector = labelSelector;
     this.resourceVersion = resourceVersion;
+    this.lane = RequestRateLimiter.Lane.forCall(requestParams.call);
 
     // TODO, RJE: consider reimplementing the connection between the response and request steps using just
     // elements in the packet so that all step implementations are stateless.
@@ -282,19 +284,30 @@ public class AsyncRequestStep<T> extends Step implements RetryStrategyListener {
     }
 
     AsyncRequestStepProcessing processing = new AsyncRequestStepProcessing(packet, retry, cont);
-    return doSuspend(
-        (fiber) -> {
-          try {
-            CancellableCall cc = processing.createCall(fiber);
-            scheduleTimeoutCheck(fiber, timeoutSeconds, () -> processing.handleTimeout(fiber, cc));
-          } catch (ApiException t) {
-            logAsyncFailure(t, t.getResponseBody());
-            processing.resumeAfterThrowable(fiber);
-          } catch (Throwable t) {
-            logAsyncFailure(t, "");
-            processing.resumeAfterThrowable(fiber);
-          }
-        });
+    return doSuspend((fiber) -> startCallWhenPermitted(fiber, processing));
+  }
+
+  // Start the call once the client-side rate limiter permits it, checking again after any suggested delay.
+  private void startCallWhenPermitted(AsyncFiber fiber, AsyncRequestStepProcessing processing) {
+    long waitMillis = RequestRateLimiter.getInstance().tryAcquire(lane);
+    if (waitMillis > 0) {
+      fiber.scheduleOnce(waitMillis, TimeUnit.MILLISECONDS, () -> startCallWhenPermitted(fiber, processing));
+    } else {
+      startCall(fiber, processing);
+    }
+  }
+
+  private void startCall(AsyncFiber fiber, AsyncRequestStepProcessing processing) {
+    try {
+      CancellableCall cc = processing.createCall(fiber);
+      scheduleTimeoutCheck(fiber, timeoutSeconds, () -> processing.handleTimeout(fiber, cc));
+    } catch (ApiException t) {
+      logAsyncFailure(t, t.getResponseBody());
+      processing.resumeAfterThrowable(fiber);
+    } catch (Throwable t) {
+      logAsyncFailure(t, "");
+      processing.resumeAfterThrowable(fiber);
+    }
   }
 
   // Schedule the timeout check to happen on the fiber at some number of seconds in the future.
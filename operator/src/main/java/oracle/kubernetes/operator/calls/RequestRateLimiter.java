@@ -0,0 +1,127 @@
+// Copyright (c) 2021, Oracle and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.calls;
+
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+
+import oracle.kubernetes.operator.TuningParameters;
+import oracle.kubernetes.operator.TuningParameters.CallBuilderTuning;
+import oracle.kubernetes.operator.metrics.MetricsRegistry;
+
+/**
+ * A client-side token bucket which limits the rate of asynchronous requests to the Kubernetes API server.
+ * Each request is assigned to a lane according to its purpose. All lanes draw from a single bucket, but a lane
+ * may only take a token if doing so leaves the bucket at or above its reserve, a fraction of the burst size
+ * which is kept for the lanes of higher priority. As a result, background traffic such as status updates and
+ * events is throttled first, and cannot starve the requests which bring domains to their desired state.
+ *
+ * <p>The rate and burst size are set by the callRateLimitQps and callRateLimitBurst tuning parameters.
+ * A rate of zero disables the limiter.
+ */
+public class RequestRateLimiter {
+
+  private static final RequestRateLimiter INSTANCE = new RequestRateLimiter(
+        System::nanoTime, RequestRateLimiter::getCallBuilderTuning);
+
+  private final LongSupplier nanoClock;
+  private final Supplier<CallBuilderTuning> tuningSupplier;
+  private double tokens;
+  private long lastRefillNanos;
+  private boolean initialized;
+
+  /**
+   * The classes of requests, in decreasing order of priority.
+   */
+  public enum Lane {
+    MAKE_RIGHT(0),
+    LIST(10),
+    STATUS(30),
+    EVENT(50);
+
+    private final int reservePercent;
+
+    Lane(int reservePercent) {
+      this.reservePercent = reservePercent;
+    }
+
+    /**
+     * Returns the lane for the specified call.
+     * @param call the name of a Kubernetes API call, as recorded in its request parameters
+     * @return the lane for the call
+     */
+    public static Lane forCall(String call) {
+      if (call.endsWith("Status")) {
+        return STATUS;
+      } else if (call.startsWith("list")) {
+        return LIST;
+      } else if (call.endsWith("Event")) {
+        return EVENT;
+      } else {
+        return MAKE_RIGHT;
+      }
+    }
+
+    private String getLabel() {
+      return name().toLowerCase();
+    }
+  }
+
+  RequestRateLimiter(LongSupplier nanoClock, Supplier<CallBuilderTuning> tuningSupplier) {
+    this.nanoClock = nanoClock;
+    this.tuningSupplier = tuningSupplier;
+  }
+
+  public static RequestRateLimiter getInstance() {
+    return INSTANCE;
+  }
+
+  private static CallBuilderTuning getCallBuilderTuning() {
+    return Optional.ofNullable(TuningParameters.getInstance()).map(TuningParameters::getCallBuilderTuning).orElse(null);
+  }
+
+  /**
+   * Attempts to take a token for a request in the specified lane.
+   * @param lane the lane of the request
+   * @return zero if the request may proceed; otherwise, the number of milliseconds to wait before trying again
+   */
+  public long tryAcquire(Lane lane) {
+    CallBuilderTuning tuning = tuningSupplier.get();
+    if (tuning == null || tuning.callRateLimitQps <= 0) {
+      return 0;
+    }
+
+    long waitMillis = tryAcquire(lane, tuning.callRateLimitQps, Math.max(1, tuning.callRateLimitBurst));
+    if (waitMillis > 0) {
+      MetricsRegistry.getInstance().counter("wko_api_requests_throttled_total",
+            "Number of times an asynchronous Kubernetes API request was delayed by the client-side rate limiter",
+            "lane", lane.getLabel()).inc();
+    }
+    return waitMillis;
+  }
+
+  private synchronized long tryAcquire(Lane lane, double qps, int burst) {
+    refill(qps, burst);
+    double reserve = Math.min(burst - 1, burst * lane.reservePercent / 100.0);
+    if (tokens - 1 >= reserve) {
+      tokens -= 1;
+      return 0;
+    }
+    double missingTokens = reserve + 1 - tokens;
+    return Math.max(1, (long) Math.ceil(missingTokens * TimeUnit.SECONDS.toMillis(1) / qps));
+  }
+
+  private void refill(double qps, int burst) {
+    long now = nanoClock.getAsLong();
+    if (!initialized) {
+      tokens = burst;
+      initialized = true;
+    } else {
+      tokens = Math.min(burst, tokens + (now - lastRefillNanos) * qps / TimeUnit.SECONDS.toNanos(1));
+    }
+    lastRefillNanos = now;
+  }
+}
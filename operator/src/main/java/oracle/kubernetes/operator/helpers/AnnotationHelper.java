@@ -3,6 +3,13 @@
 
 package oracle.kubernetes.operator.helpers;
 
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.security.DigestOutputStream;
+import java.security.MessageDigest;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
@@ -12,15 +19,18 @@ import io.kubernetes.client.common.KubernetesObject;
 import io.kubernetes.client.openapi.models.V1ObjectMeta;
 import io.kubernetes.client.openapi.models.V1Pod;
 import io.kubernetes.client.util.Yaml;
+import org.apache.commons.codec.binary.Hex;
 import org.apache.commons.codec.digest.DigestUtils;
 
+import static java.nio.charset.StandardCharsets.UTF_8;
+
 /** Annotates pods, services with details about the Domain instance and checks these annotations. */
 public class AnnotationHelper {
   static final String SHA256_ANNOTATION = "weblogic.sha256";
   private static final boolean DEBUG = false;
   private static final String HASHED_STRING = "hashedString";
   @SuppressWarnings({"FieldMayBeFinal", "CanBeFinal"})
-  private static Function<Object, String> HASH_FUNCTION = o -> DigestUtils.sha256Hex(Yaml.dump(o));
+  private static Function<Object, String> HASH_FUNCTION = AnnotationHelper::sha256Hex;
 
   /**
    * Marks metadata with annotations that let Prometheus know how to retrieve metrics from the
@@ -69,6 +79,24 @@ public class AnnotationHelper {
     return HASH_FUNCTION.apply(objectToHash);
   }
 
+  /**
+   * Computes the SHA-256 hash of the YAML representation of the specified object. The YAML is encoded directly
+   * into the digest rather than first being built as a string, but the result is the same as that of
+   * {@code DigestUtils.sha256Hex(Yaml.dump(object))}, so that hashes recorded by earlier versions remain valid.
+   * @param object the object to hash
+   * @return the hash as a hexadecimal string
+   */
+  static String sha256Hex(Object object) {
+    MessageDigest digest = DigestUtils.getSha256Digest();
+    OutputStream digestStream = new DigestOutputStream(OutputStream.nullOutputStream(), digest);
+    try (Writer writer = new OutputStreamWriter(digestStream, UTF_8)) {
+      Yaml.dump(object, writer);
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+    return Hex.encodeHexString(digest.digest());
+  }
+
   static String getHash(KubernetesObject kubernetesObject) {
     return getAnnotation(kubernetesObject.getMetadata(), AnnotationHelper::getSha256Annotation);
   }
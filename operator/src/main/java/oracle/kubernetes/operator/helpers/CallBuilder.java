@@ -4,6 +4,7 @@
 package oracle.kubernetes.operator.helpers;
 
 import java.io.IOException;
+import java.io.Reader;
 import java.lang.reflect.Type;
 import java.util.ArrayList;
 import java.util.HashMap;
@@ -11,6 +12,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.concurrent.Callable;
+import java.util.function.Function;
 import javax.annotation.Nonnull;
 
 import com.google.gson.reflect.TypeToken;
@@ -54,6 +56,9 @@ import io.kubernetes.client.openapi.models.VersionInfo;
 import io.kubernetes.client.util.ClientBuilder;
 import io.kubernetes.client.util.credentials.AccessTokenAuthentication;
 import okhttp3.Call;
+import okhttp3.Callback;
+import okhttp3.Response;
+import okhttp3.ResponseBody;
 import oracle.kubernetes.operator.TuningParameters;
 import oracle.kubernetes.operator.TuningParameters.CallBuilderTuning;
 import oracle.kubernetes.operator.builders.CallParamsImpl;
@@ -1997,6 +2002,78 @@ public class CallBuilder {
         responseStep, new RequestParams("readPodLog", namespace, name, null, domainUid), readPodLog);
   }
 
+  /**
+   * Asynchronous step for reading a pod log as a stream. The log is passed to the specified function as it is
+   * received, rather than first being read into memory, and the response step receives the function's result.
+   * @param name the name of the pod
+   * @param namespace the namespace containing the pod
+   * @param domainUid the UID of the domain to which the pod belongs
+   * @param logReader a function which reads the log
+   * @param responseStep the step to receive the result of reading the log
+   * @param <T> the type of the result of reading the log
+   * @return asynchronous step
+   */
+  public <T> Step readPodLogAsync(
+      String name, String namespace, String domainUid, Function<Reader, T> logReader, ResponseStep<T> responseStep) {
+    return createRequestAsync(
+        responseStep, new RequestParams("readPodLog", namespace, name, logReader, domainUid), readPodLogStream());
+  }
+
+  @SuppressWarnings("unchecked")
+  private <T> CallFactory<T> readPodLogStream() {
+    return (requestParams, usage, cont, callback) ->
+        wrap(
+            readPodLogStreamAsync(
+                usage,
+                requestParams.name,
+                requestParams.namespace,
+                (Function<Reader, T>) requestParams.body,
+                callback));
+  }
+
+  private <T> Call readPodLogStreamAsync(
+      ApiClient client, String name, String namespace, Function<Reader, T> logReader, ApiCallback<T> callback)
+      throws ApiException {
+    Call call = new CoreV1Api(client)
+        .readNamespacedPodLogCall(
+            name, namespace, container, null, null, null, pretty, null, null, null, null, null);
+    call.enqueue(new PodLogCallback<>(logReader, callback));
+    return call;
+  }
+
+  // reads a successful response body as it arrives, rather than converting it to a string first
+  private static class PodLogCallback<T> implements Callback {
+    private final Function<Reader, T> logReader;
+    private final ApiCallback<T> callback;
+
+    PodLogCallback(Function<Reader, T> logReader, ApiCallback<T> callback) {
+      this.logReader = logReader;
+      this.callback = callback;
+    }
+
+    @Override
+    public void onFailure(@Nonnull Call call, @Nonnull IOException e) {
+      callback.onFailure(new ApiException(e), 0, null);
+    }
+
+    @Override
+    public void onResponse(@Nonnull Call call, @Nonnull Response response) {
+      Map<String, List<String>> headers = response.headers().toMultimap();
+      try (ResponseBody body = response.body()) {
+        if (!response.isSuccessful()) {
+          callback.onFailure(
+              new ApiException(response.message(), response.code(), headers, body == null ? null : body.string()),
+              response.code(), headers);
+        } else {
+          T result = body == null ? null : logReader.apply(body.charStream());
+          callback.onSuccess(result, response.code(), headers);
+        }
+      } catch (IOException | RuntimeException e) {
+        callback.onFailure(new ApiException(e), response.code(), headers);
+      }
+    }
+  }
+
   private Call readPodLogAsync(
       ApiClient client,
       String name,
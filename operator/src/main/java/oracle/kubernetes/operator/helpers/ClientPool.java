@@ -4,6 +4,10 @@
 package oracle.kubernetes.operator.helpers;
 
 import java.io.IOException;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.SynchronousQueue;
 import java.util.concurrent.ThreadFactory;
@@ -15,11 +19,16 @@ import java.util.concurrent.atomic.AtomicReference;
 import io.kubernetes.client.openapi.ApiClient;
 import io.kubernetes.client.openapi.Configuration;
 import io.kubernetes.client.util.ClientBuilder;
+import okhttp3.ConnectionPool;
 import okhttp3.Dispatcher;
 import okhttp3.OkHttpClient;
+import okhttp3.Protocol;
+import oracle.kubernetes.operator.TuningParameters;
+import oracle.kubernetes.operator.TuningParameters.HttpClientTuning;
 import oracle.kubernetes.operator.logging.LoggingFacade;
 import oracle.kubernetes.operator.logging.LoggingFactory;
 import oracle.kubernetes.operator.logging.MessageKeys;
+import oracle.kubernetes.operator.metrics.MetricsRegistry;
 import oracle.kubernetes.operator.work.Container;
 import oracle.kubernetes.operator.work.ContainerResolver;
 
@@ -30,6 +39,8 @@ public class ClientPool extends Pool<ApiClient> {
   @SuppressWarnings({"FieldMayBeFinal", "CanBeFinal"})
   private static ClientPool SINGLETON = new ClientPool();
   private static ThreadFactory threadFactory;
+  private static final List<Protocol> HTTP2_PROTOCOLS = Arrays.asList(Protocol.HTTP_2, Protocol.HTTP_1_1);
+  private static final List<Protocol> HTTP1_PROTOCOLS = Collections.singletonList(Protocol.HTTP_1_1);
   private final AtomicBoolean isFirst = new AtomicBoolean(true);
 
   // With OKHttp3, each client has it's own connection pool, so instance will be shared
@@ -103,6 +114,49 @@ public class ClientPool extends Pool<ApiClient> {
     return this;
   }
 
+  private static HttpClientTuning getHttpClientTuning() {
+    return Optional.ofNullable(TuningParameters.getInstance())
+          .map(TuningParameters::getHttpClientTuning)
+          .orElse(null);
+  }
+
+  /**
+   * Returns a copy of the specified HTTP client, which dispatches asynchronous calls on the specified executor,
+   * with its dispatcher limits, connection pool and protocols configured from the tuning parameters.
+   * Also registers gauges reporting the use of the dispatcher and the connection pool.
+   * @param httpClient the HTTP client created by the Kubernetes client builder
+   * @param executor the executor for asynchronous calls
+   * @param tuning the HTTP client tuning parameters; if null, the OkHttp defaults are retained
+   * @return a configured HTTP client
+   */
+  static OkHttpClient tuneHttpClient(OkHttpClient httpClient, ExecutorService executor, HttpClientTuning tuning) {
+    Dispatcher dispatcher = new Dispatcher(executor);
+    OkHttpClient.Builder builder = httpClient.newBuilder().dispatcher(dispatcher);
+    if (tuning != null) {
+      dispatcher.setMaxRequests(tuning.maxRequests);
+      dispatcher.setMaxRequestsPerHost(tuning.maxRequestsPerHost);
+      builder.connectionPool(
+            new ConnectionPool(tuning.maxIdleConnections, tuning.keepAliveDurationSeconds, TimeUnit.SECONDS));
+      builder.protocols(tuning.http2Enabled ? HTTP2_PROTOCOLS : HTTP1_PROTOCOLS);
+    }
+
+    OkHttpClient result = builder.build();
+    registerGauges(result);
+    return result;
+  }
+
+  private static void registerGauges(OkHttpClient httpClient) {
+    MetricsRegistry registry = MetricsRegistry.getInstance();
+    registry.gauge("wko_http_client_queued_calls", "Number of Kubernetes API calls waiting to execute",
+          httpClient.dispatcher()::queuedCallsCount);
+    registry.gauge("wko_http_client_running_calls", "Number of Kubernetes API calls executing",
+          httpClient.dispatcher()::runningCallsCount);
+    registry.gauge("wko_http_client_connections", "Number of connections in the Kubernetes API client pool",
+          httpClient.connectionPool()::connectionCount);
+    registry.gauge("wko_http_client_idle_connections", "Number of idle connections in the Kubernetes API client pool",
+          httpClient.connectionPool()::idleConnectionCount);
+  }
+
   private static class DefaultClientFactory implements ClientFactory {
     private final AtomicBoolean first = new AtomicBoolean(true);
 
@@ -129,9 +183,7 @@ public class ClientPool extends Pool<ApiClient> {
                   super.execute(wrapRunnable(command));
                 }
               };
-          OkHttpClient httpClient =
-              client.getHttpClient().newBuilder().dispatcher(new Dispatcher(exec)).build();
-          client.setHttpClient(httpClient);
+          client.setHttpClient(tuneHttpClient(client.getHttpClient(), exec, getHttpClientTuning()));
         }
 
         return client;
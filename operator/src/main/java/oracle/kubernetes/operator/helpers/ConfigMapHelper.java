@@ -4,10 +4,14 @@
 package oracle.kubernetes.operator.helpers;
 
 import java.io.BufferedReader;
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.io.Reader;
 import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
 import java.time.OffsetDateTime;
 import java.util.ArrayList;
+import java.util.Base64;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
@@ -16,7 +20,10 @@ import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
+import java.util.zip.GZIPOutputStream;
 import javax.annotation.Nonnull;
 
 import com.google.gson.Gson;
@@ -33,10 +40,14 @@ import oracle.kubernetes.operator.DomainStatusUpdater;
 import oracle.kubernetes.operator.IntrospectorConfigMapConstants;
 import oracle.kubernetes.operator.LabelConstants;
 import oracle.kubernetes.operator.ProcessingConstants;
+import oracle.kubernetes.operator.TuningParameters;
 import oracle.kubernetes.operator.calls.CallResponse;
+import oracle.kubernetes.operator.calls.UnrecoverableErrorBuilder;
 import oracle.kubernetes.operator.logging.LoggingFacade;
 import oracle.kubernetes.operator.logging.LoggingFactory;
 import oracle.kubernetes.operator.logging.MessageKeys;
+import oracle.kubernetes.operator.metrics.Histogram;
+import oracle.kubernetes.operator.metrics.MetricsRegistry;
 import oracle.kubernetes.operator.rest.Scan;
 import oracle.kubernetes.operator.rest.ScanCache;
 import oracle.kubernetes.operator.steps.DefaultResponseStep;
@@ -52,6 +63,7 @@ import org.yaml.snakeyaml.Yaml;
 import static java.lang.System.lineSeparator;
 import static java.time.temporal.ChronoUnit.MILLIS;
 import static oracle.kubernetes.operator.DomainStatusUpdater.BAD_TOPOLOGY;
+import static oracle.kubernetes.operator.IntrospectorConfigMapConstants.COMPRESSED_FILE_SUFFIX;
 import static oracle.kubernetes.operator.IntrospectorConfigMapConstants.DOMAINZIP_HASH;
 import static oracle.kubernetes.operator.IntrospectorConfigMapConstants.DOMAIN_INPUTS_HASH;
 import static oracle.kubernetes.operator.IntrospectorConfigMapConstants.DOMAIN_RESTART_VERSION;
@@ -61,6 +73,7 @@ import static oracle.kubernetes.operator.IntrospectorConfigMapConstants.SIT_CONF
 import static oracle.kubernetes.operator.KubernetesConstants.SCRIPT_CONFIG_MAP_NAME;
 import static oracle.kubernetes.operator.LabelConstants.INTROSPECTION_DOMAIN_SPEC_GENERATION;
 import static oracle.kubernetes.operator.LabelConstants.INTROSPECTION_STATE_LABEL;
+import static oracle.kubernetes.operator.LabelConstants.INTROSPECTOR_DATA_ENCODING;
 import static oracle.kubernetes.operator.ProcessingConstants.DOMAIN_VALIDATION_ERRORS;
 import static oracle.kubernetes.operator.helpers.KubernetesUtils.getDomainUidLabel;
 import static oracle.kubernetes.operator.helpers.NamespaceHelper.getOperatorNamespace;
@@ -71,10 +84,23 @@ public class ConfigMapHelper {
 
   private static final String SCRIPT_LOCATION = "/scripts";
   private static final String UPDATEDOMAINRESULT = "UPDATEDOMAINRESULT";
+  private static final String COMPRESSION_THRESHOLD_PARAM = "introspectorCompressionThreshold";
+  private static final String GZIP_ENCODING = "gzip";
   private static final ConfigMapComparator COMPARATOR = new ConfigMapComparator();
 
   private static final FileGroupReader scriptReader = new FileGroupReader(SCRIPT_LOCATION);
 
+  private static final double[] WRITTEN_SIZE_BUCKETS = {0, 1024, 16 * 1024, 64 * 1024, 256 * 1024, 1 << 20, 4 << 20};
+  private static final double[] SIZE_BUCKETS = {64 * 1024, 256 * 1024, 1 << 20, 4 << 20, 16 << 20, 64 << 20};
+  private static final Histogram INTROSPECTION_RESULT_CHARS = MetricsRegistry.getInstance().histogram(
+        "wko_introspection_result_chars",
+        "Number of characters in the files parsed from the introspector output for one introspection",
+        SIZE_BUCKETS);
+  private static final Histogram INTROSPECTION_DATA_WRITTEN = MetricsRegistry.getInstance().histogram(
+        "wko_introspection_config_map_bytes_written",
+        "Approximate size of the config map data written to record one introspection",
+        WRITTEN_SIZE_BUCKETS);
+
   private ConfigMapHelper() {
   }
 
@@ -89,10 +115,23 @@ public class ConfigMapHelper {
   }
 
   static Map<String, String> parseIntrospectorResult(String text, String domainUid) {
+    return parseIntrospectorResult(new StringReader(text), domainUid, line -> { });
+  }
+
+  /**
+   * Parses the introspection results in a single pass over the specified reader. The contents of each file are
+   * accumulated in one reused buffer, so that only the trimmed contents are copied into the returned map.
+   * @param text a reader for the introspector output
+   * @param domainUid the UID of the introspected domain
+   * @param otherLines a consumer for the lines which are not part of a file
+   * @return a map of file names to contents
+   */
+  static Map<String, String> parseIntrospectorResult(Reader text, String domainUid, Consumer<String> otherLines) {
     Map<String, String> map = new HashMap<>();
+    StringBuilder buffer = new StringBuilder();
     String updateResultToken = ">>>  updatedomainResult=";
 
-    try (BufferedReader reader = new BufferedReader(new StringReader(text))) {
+    try (BufferedReader reader = new BufferedReader(text)) {
       String line = reader.readLine();
       while (line != null) {
         if (line.contains(updateResultToken)) {
@@ -102,7 +141,9 @@ public class ConfigMapHelper {
         }
         if (line.startsWith(">>>") && !line.endsWith("EOF")) {
           String filename = extractFilename(line);
-          readFile(reader, filename, map, domainUid);
+          readFile(reader, filename, map, domainUid, buffer);
+        } else {
+          otherLines.accept(line);
         }
         line = reader.readLine();
       }
@@ -114,18 +155,17 @@ public class ConfigMapHelper {
   }
 
   static void readFile(
-      BufferedReader reader, String fileName, Map<String, String> map, String domainUid) {
-    StringBuilder stringBuilder = new StringBuilder();
+      BufferedReader reader, String fileName, Map<String, String> map, String domainUid, StringBuilder buffer) {
+    buffer.setLength(0);
     try {
       String line = reader.readLine();
       while (line != null) {
         if (line.startsWith(">>>") && line.endsWith("EOF")) {
-          map.put(fileName, stringBuilder.toString().trim());
+          map.put(fileName, trimmedContents(buffer));
           return;
         } else {
-          // add line to StringBuilder
-          stringBuilder.append(line);
-          stringBuilder.append(System.getProperty("line.separator"));
+          buffer.append(line);
+          buffer.append(lineSeparator());
         }
         line = reader.readLine();
       }
@@ -134,6 +174,74 @@ public class ConfigMapHelper {
     }
   }
 
+  // equivalent to buffer.toString().trim(), without the intermediate copy
+  private static String trimmedContents(StringBuilder buffer) {
+    int end = buffer.length();
+    while (end > 0 && buffer.charAt(end - 1) <= ' ') {
+      end--;
+    }
+    int start = 0;
+    while (start < end && buffer.charAt(start) <= ' ') {
+      start++;
+    }
+    return buffer.substring(start, end);
+  }
+
+  /**
+   * Replaces each situational configuration file larger than the "introspectorCompressionThreshold" tuning
+   * parameter with its gzip-compressed, base64-encoded contents, stored under its name with a ".gz" suffix,
+   * when that is smaller. The server pod scripts expand such files before copying them into the domain home.
+   * No files are compressed unless the parameter is set.
+   *
+   * @param data the introspector results to update
+   * @return true if any file was compressed
+   */
+  static boolean compressLargeEntries(Map<String, String> data) {
+    final int threshold = getCompressionThreshold();
+    boolean compressed = false;
+    for (String key : new ArrayList<>(data.keySet())) {
+      String value = data.get(key);
+      if (threshold > 0 && isCompressible(key) && value.length() > threshold) {
+        String encoded = compress(value);
+        if (encoded.length() < value.length()) {
+          data.remove(key);
+          data.put(key + COMPRESSED_FILE_SUFFIX, encoded);
+          compressed = true;
+        }
+      }
+    }
+    return compressed;
+  }
+
+  private static int getCompressionThreshold() {
+    return Optional.ofNullable(TuningParameters.getInstance())
+          .map(t -> t.get(COMPRESSION_THRESHOLD_PARAM))
+          .map(ConfigMapHelper::parseOrZero)
+          .orElse(0);
+  }
+
+  private static int parseOrZero(String value) {
+    try {
+      return Integer.parseInt(value.trim());
+    } catch (NumberFormatException e) {
+      return 0;
+    }
+  }
+
+  private static boolean isCompressible(String key) {
+    return key.startsWith(SIT_CONFIG_FILE_PREFIX) && key.endsWith(".xml");
+  }
+
+  private static String compress(String value) {
+    ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+    try (GZIPOutputStream out = new GZIPOutputStream(bytes)) {
+      out.write(value.getBytes(StandardCharsets.UTF_8));
+    } catch (IOException e) {
+      return value;  // cannot happen when writing to memory; leaves the value uncompressed
+    }
+    return Base64.getEncoder().encodeToString(bytes.toByteArray());
+  }
+
   static String extractFilename(String line) {
     int lastSlash = line.lastIndexOf('/');
     return line.substring(lastSlash + 1);
@@ -262,6 +370,22 @@ public class ConfigMapHelper {
           new V1ConfigMap().kind("ConfigMap").apiVersion("v1").metadata(createMetadata()).data(data), data);
     }
 
+    /**
+     * Returns true if an outdated config map should be updated by patching only those entries which differ from
+     * the existing map, rather than by replacing it.
+     */
+    boolean isUpdatedByEntry() {
+      return false;
+    }
+
+    /**
+     * This method is invoked each time the config map is written. Subclasses may override it to record
+     * the amount of data written.
+     * @param numChars the number of characters of data written
+     */
+    void recordDataWritten(long numChars) {
+    }
+
     private V1ObjectMeta createMetadata() {
       V1ObjectMeta metadata = updateForOwnerReference(
           new V1ObjectMeta()
@@ -331,7 +455,7 @@ public class ConfigMapHelper {
         if (existingMap == null) {
           return doNext(createConfigMap(getNext()), packet);
         } else if (isOutdated(existingMap)) {
-          return doNext(replaceConfigMap(getNext()), packet);
+          return doNext(updateConfigMap(existingMap, getNext()), packet);
         } else if (mustPatchCurrentMap(existingMap)) {
           return doNext(patchCurrentMap(existingMap, getNext()), packet);
         } else if (mustPatchImageHashInMap(existingMap, packet)) {
@@ -344,6 +468,7 @@ public class ConfigMapHelper {
       }
 
       private Step createConfigMap(Step next) {
+        recordDataWritten(getDataSize(getModel().getData().keySet()));
         return new CallBuilder()
             .createConfigMapAsync(namespace, getModel(), createCreateResponseStep(next));
       }
@@ -352,10 +477,43 @@ public class ConfigMapHelper {
         LOGGER.fine(MessageKeys.CM_EXISTS, getName(), namespace);
       }
 
-      private Step replaceConfigMap(Step next) {
-        return new CallBuilder().replaceConfigMapAsync(name, namespace,
-                                        model,
-                                        createReplaceResponseStep(next));
+      private Step updateConfigMap(V1ConfigMap existingMap, Step next) {
+        return isUpdatedByEntry() ? patchChangedEntries(existingMap, next) : replaceConfigMap(next);
+      }
+
+      // Writes only the entries which differ from those in the existing map, and removes those which are
+      // no longer present, along with the new hash and labels.
+      private Step patchChangedEntries(V1ConfigMap existingMap, Step next) {
+        final Map<String, String> existingData = Optional.ofNullable(existingMap.getData()).orElse(Map.of());
+        final Map<String, String> newData = getModel().getData();
+        final List<String> changedKeys = getChangedKeys(existingData, newData);
+        JsonPatchBuilder patchBuilder = Json.createPatchBuilder();
+
+        if (existingMap.getData() == null) {
+          patchBuilder.add("/data", JsonValue.EMPTY_JSON_OBJECT);
+        }
+        changedKeys.forEach(key -> patchBuilder.add("/data/" + key, newData.get(key)));
+        existingData.keySet().stream()
+              .filter(key -> !newData.containsKey(key))
+              .forEach(key -> patchBuilder.remove("/data/" + key));
+
+        patchBuilder.replace("/metadata/annotations/" + AnnotationHelper.SHA256_ANNOTATION,
+              AnnotationHelper.getHash(getModel()));
+        KubernetesUtils.addPatches(
+            patchBuilder, "/metadata/labels/", getMapLabels(existingMap), getLabels());
+
+        recordDataWritten(getDataSize(changedKeys));
+        return new CallBuilder()
+            .patchConfigMapAsync(name, namespace,
+                getDomainUidLabel(existingMap.getMetadata()),
+                new V1Patch(patchBuilder.build().toString()), new PatchEntriesResponseStep(next));
+      }
+
+      private List<String> getChangedKeys(Map<String, String> existingData, Map<String, String> newData) {
+        return newData.entrySet().stream()
+              .filter(e -> !Objects.equals(e.getValue(), existingData.get(e.getKey())))
+              .map(Map.Entry::getKey)
+              .collect(Collectors.toList());
       }
 
       private boolean mustPatchCurrentMap(V1ConfigMap currentMap) {
@@ -403,6 +561,21 @@ public class ConfigMapHelper {
       }
     }
 
+    private Step replaceConfigMap(Step next) {
+      recordDataWritten(getDataSize(getModel().getData().keySet()));
+      return new CallBuilder().replaceConfigMapAsync(name, namespace,
+                                      getModel(),
+                                      createReplaceResponseStep(next));
+    }
+
+    private long getDataSize(Collection<String> keys) {
+      long size = 0;
+      for (String key : keys) {
+        size += Optional.ofNullable(getModel().getData().get(key)).map(String::length).orElse(0);
+      }
+      return size;
+    }
+
     private ResponseStep<V1ConfigMap> createCreateResponseStep(Step next) {
       return new CreateResponseStep(next);
     }
@@ -448,6 +621,30 @@ public class ConfigMapHelper {
     }
 
 
+    // If the entries could not be patched, for example because the map was changed by something other than
+    // the operator, falls back to replacing the entire map.
+    private class PatchEntriesResponseStep extends ResponseStep<V1ConfigMap> {
+
+      PatchEntriesResponseStep(Step next) {
+        super(next);
+      }
+
+      @Override
+      public NextAction onSuccess(Packet packet, CallResponse<V1ConfigMap> callResponse) {
+        LOGGER.info(MessageKeys.CM_PATCHED, getName(), namespace);
+        recordCurrentMap(packet, callResponse.getResult());
+        return doNext(packet);
+      }
+
+      @Override
+      public NextAction onFailure(Packet packet, CallResponse<V1ConfigMap> callResponse) {
+        if (UnrecoverableErrorBuilder.isAsyncCallUnrecoverableFailure(callResponse)) {
+          return doNext(replaceConfigMap(getNext()), packet);
+        }
+        return super.onFailure(conflictStep, packet, callResponse);
+      }
+    }
+
     private ResponseStep<V1ConfigMap> createPatchResponseStep(Step next) {
       return new PatchResponseStep(next);
     }
@@ -470,7 +667,7 @@ public class ConfigMapHelper {
   /**
    * Factory for a step that creates or updates the generated domain config map from introspection results.
    * Reads the following packet fields:
-   *   DOMAIN_INTROSPECTOR_LOG_RESULT     the introspection result
+   *   DOMAIN_INTROSPECTOR_LOG_RESULT     the files parsed from the introspection result
    * and updates:
    *   DOMAIN_TOPOLOGY                    the parsed topology
    *   DOMAIN_HASH                        a hash of the topology
@@ -520,6 +717,8 @@ public class ConfigMapHelper {
     private final Step conflictStep;
     private final DomainPresenceInfo info;
     private Map<String, String> data;
+    private boolean compressed;
+    private final AtomicLong dataWritten = new AtomicLong();
     private WlsDomainConfig wlsDomainConfig;
     private final String nonDynamicChangesFileKey = "non_dynamic_changes.file";
 
@@ -530,15 +729,22 @@ public class ConfigMapHelper {
       parseIntrospectorResult();
     }
 
+    // the introspector output was parsed into a map of files as it was read from the job pod log
+    @SuppressWarnings("unchecked")
     private void parseIntrospectorResult() {
-      String result = (String) packet.remove(ProcessingConstants.DOMAIN_INTROSPECTOR_LOG_RESULT);
-      data = ConfigMapHelper.parseIntrospectorResult(result, info.getDomainUid());
+      data = Optional.ofNullable(packet.remove(ProcessingConstants.DOMAIN_INTROSPECTOR_LOG_RESULT))
+            .map(result -> (Map<String, String>) result)
+            .orElse(new HashMap<>());
       Optional.ofNullable(data.get(IntrospectorConfigMapConstants.TOPOLOGY_YAML))
               .map(t -> data.put(IntrospectorConfigMapConstants.TOPOLOGY_JSON, convertToJson(t)));
+      INTROSPECTION_RESULT_CHARS.observe(getResultSize());
+      compressed = compressLargeEntries(data);
 
-      LOGGER.fine("================");
-      LOGGER.fine(data.toString());
-      LOGGER.fine("================");
+      if (LOGGER.isFineEnabled()) {
+        LOGGER.fine("================");
+        LOGGER.fine(data.toString());
+        LOGGER.fine("================");
+      }
 
       wlsDomainConfig = Optional.ofNullable(data.get(IntrospectorConfigMapConstants.TOPOLOGY_YAML))
             .map(this::getDomainTopology)
@@ -559,6 +765,14 @@ public class ConfigMapHelper {
       }
     }
 
+    private long getResultSize() {
+      long size = 0;
+      for (String value : data.values()) {
+        size += value.length();
+      }
+      return size;
+    }
+
     public static String convertToJson(String yaml) {
       return new Gson().toJson(new Yaml().load(yaml), LinkedHashMap.class);
     }
@@ -609,9 +823,22 @@ public class ConfigMapHelper {
               .map(c -> c.createStepAndPacket(packet))
               .collect(Collectors.toList());
         packet.put(NUM_CONFIG_MAPS, Integer.toString(startDetails.size()));
-        return doForkJoin(getNext(), packet, startDetails);
+        return doForkJoin(new RecordDataWrittenStep(getNext()), packet, startDetails);
+      }
+
+    }
+
+    private class RecordDataWrittenStep extends Step {
+
+      RecordDataWrittenStep(Step next) {
+        super(next);
       }
 
+      @Override
+      public NextAction apply(Packet packet) {
+        INTROSPECTION_DATA_WRITTEN.observe(dataWritten.get());
+        return doNext(packet);
+      }
     }
 
     private IntrospectorConfigMapContext createIntrospectorConfigMapContext() {
@@ -620,7 +847,12 @@ public class ConfigMapHelper {
 
     private IntrospectorConfigMapContext createIntrospectorConfigMapContext(
         Map<String, String> data, int index) {
-      return new IntrospectorConfigMapContext(conflictStep, info, data, index);
+      IntrospectorConfigMapContext context
+            = new IntrospectorConfigMapContext(conflictStep, info, data, index, dataWritten);
+      if (compressed) {
+        context.addLabel(INTROSPECTOR_DATA_ENCODING, GZIP_ENCODING);
+      }
+      return context;
     }
 
     private String getModelInImageSpecHash() {
@@ -686,10 +918,12 @@ public class ConfigMapHelper {
   public static class IntrospectorConfigMapContext extends ConfigMapContext implements SplitterTarget {
 
     private boolean patchOnly;
+    private final AtomicLong dataWritten;
 
     IntrospectorConfigMapContext(Step conflictStep, DomainPresenceInfo info,
-                                 Map<String, String> data, int index) {
+                                 Map<String, String> data, int index, AtomicLong dataWritten) {
       super(conflictStep, getConfigMapName(info, index), info.getNamespace(), data, info);
+      this.dataWritten = dataWritten;
 
       addLabel(LabelConstants.DOMAINUID_LABEL, info.getDomainUid());
     }
@@ -718,6 +952,16 @@ public class ConfigMapHelper {
       return !patchOnly && isRemovableKey(entry.getKey());
     }
 
+    @Override
+    boolean isUpdatedByEntry() {
+      return true;
+    }
+
+    @Override
+    void recordDataWritten(long numChars) {
+      dataWritten.addAndGet(numChars);
+    }
+
     private boolean isRemovableKey(String key) {
       return key.startsWith(SIT_CONFIG_FILE_PREFIX);
     }
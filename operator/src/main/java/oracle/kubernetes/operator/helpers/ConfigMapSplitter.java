@@ -96,7 +96,8 @@ public class ConfigMapSplitter<T extends SplitterTarget> {
 
   static class DataEntry implements Comparable<DataEntry> {
     private final String key;
-    private String value;
+    private final String value;
+    private int offset;
 
     public DataEntry(Map.Entry<String, String> mapEntry) {
       key = mapEntry.getKey();
@@ -104,21 +105,22 @@ public class ConfigMapSplitter<T extends SplitterTarget> {
     }
 
     /**
-     * Adds to the specified map, as much of this entry as will fit, removing it from the string
-     * still to be added. Returns the number of characters added.
+     * Adds to the specified map, as much of this entry as will fit, advancing past it in the string
+     * still to be added. Returns the number of characters added. An entry which fits entirely is added
+     * without a copy.
      * @param map the map to update
      * @param limit the maximum number of characters to add
      */
     int addToMap(Map<String, String> map, int limit) {
-      final int numCharsAdded = Math.min(limit, value.length());
-      map.put(key, value.substring(0, numCharsAdded));
-      value = value.substring(numCharsAdded);
+      final int numCharsAdded = Math.min(limit, getRemainingLength());
+      map.put(key, value.substring(offset, offset + numCharsAdded));
+      offset += numCharsAdded;
 
       return numCharsAdded;
     }
 
     private int getRemainingLength() {
-      return value.length();
+      return value.length() - offset;
     }
 
     @Override
@@ -367,6 +367,36 @@ public class DomainPresenceInfo {
             });
   }
 
+  /**
+   * Restores a status previously returned for the specified server, discarding any reported since.
+   *
+   * @param serverName the name of the server
+   * @param status the status to restore, or null if none had been reported
+   */
+  public void restoreLastKnownServerStatus(String serverName, LastKnownStatus status) {
+    getSko(serverName).getLastKnownStatus().set(status);
+  }
+
+  /**
+   * Returns the state and health last read for the specified server.
+   *
+   * @param serverName the name of the server
+   * @return the last read health, or null if none has been read
+   */
+  public LastKnownHealth getLastKnownServerHealth(String serverName) {
+    return getSko(serverName).getLastKnownHealth().get();
+  }
+
+  /**
+   * Records the state and health read for the specified server.
+   *
+   * @param serverName the name of the server
+   * @param health the health read
+   */
+  public void setLastKnownServerHealth(String serverName, LastKnownHealth health) {
+    getSko(serverName).getLastKnownHealth().set(health);
+  }
+
   /**
    * Applies an add or modify event for a server service. If the current service is newer than the
    * one associated with the event, ignores the event.
@@ -555,7 +585,11 @@ public class DomainPresenceInfo {
     return retryCount.incrementAndGet();
   }
 
-  int getRetryCount() {
+  /**
+   * Returns the number of consecutive make-right failures since the last successful completion.
+   * @return a failure count
+   */
+  public int getRetryCount() {
     return retryCount.get();
   }
 
@@ -582,11 +616,13 @@ public class DomainPresenceInfo {
   }
 
   /**
-   * Sets the domain.
+   * Sets the domain. If the effective configuration of the current domain is being cached, the new domain
+   * shares that cache.
    *
    * @param domain Domain
    */
   public void setDomain(Domain domain) {
+    Optional.ofNullable(domain).ifPresent(d -> d.shareEffectiveConfigurationCache(getDomain()));
     this.domain.set(domain);
   }
 
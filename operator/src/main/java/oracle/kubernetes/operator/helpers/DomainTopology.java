@@ -63,8 +63,9 @@ public class DomainTopology {
     try {
       DomainTopology domainTopology = mapper.readValue(topologyYaml, DomainTopology.class);
 
-      LOGGER.fine(
-          ReflectionToStringBuilder.toString(domainTopology, ToStringStyle.MULTI_LINE_STYLE));
+      if (LOGGER.isFineEnabled()) {
+        LOGGER.fine(ReflectionToStringBuilder.toString(domainTopology, ToStringStyle.MULTI_LINE_STYLE));
+      }
 
       return domainTopology;
 
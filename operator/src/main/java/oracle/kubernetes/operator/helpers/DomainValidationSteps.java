@@ -3,27 +3,33 @@
 
 package oracle.kubernetes.operator.helpers;
 
+import java.time.OffsetDateTime;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
 
+import io.kubernetes.client.common.KubernetesObject;
 import io.kubernetes.client.openapi.models.V1ConfigMap;
-import io.kubernetes.client.openapi.models.V1ConfigMapList;
-import io.kubernetes.client.openapi.models.V1ObjectMeta;
 import io.kubernetes.client.openapi.models.V1PodSpec;
 import io.kubernetes.client.openapi.models.V1Secret;
-import io.kubernetes.client.openapi.models.V1SecretList;
 import oracle.kubernetes.operator.DomainStatusUpdater;
 import oracle.kubernetes.operator.MakeRightDomainOperation;
 import oracle.kubernetes.operator.ProcessingConstants;
-import oracle.kubernetes.operator.calls.AsyncRequestStep;
 import oracle.kubernetes.operator.calls.CallResponse;
+import oracle.kubernetes.operator.calls.RequestParams;
 import oracle.kubernetes.operator.helpers.EventHelper.EventData;
 import oracle.kubernetes.operator.helpers.EventHelper.EventItem;
 import oracle.kubernetes.operator.logging.LoggingFacade;
 import oracle.kubernetes.operator.logging.LoggingFactory;
 import oracle.kubernetes.operator.logging.MessageKeys;
+import oracle.kubernetes.operator.metrics.Histogram;
+import oracle.kubernetes.operator.metrics.MetricsRegistry;
 import oracle.kubernetes.operator.steps.DefaultResponseStep;
 import oracle.kubernetes.operator.wlsconfig.WlsClusterConfig;
 import oracle.kubernetes.operator.wlsconfig.WlsDomainConfig;
@@ -32,6 +38,7 @@ import oracle.kubernetes.operator.wlsconfig.WlsServerConfig;
 import oracle.kubernetes.operator.work.NextAction;
 import oracle.kubernetes.operator.work.Packet;
 import oracle.kubernetes.operator.work.Step;
+import oracle.kubernetes.utils.SystemClock;
 import oracle.kubernetes.weblogic.domain.model.Domain;
 import oracle.kubernetes.weblogic.domain.model.DomainSpec;
 import oracle.kubernetes.weblogic.domain.model.KubernetesResourceLookup;
@@ -46,10 +53,20 @@ public class DomainValidationSteps {
   private static final LoggingFacade LOGGER = LoggingFactory.getLogger("Operator", "Operator");
   private static final String SECRETS = "secrets";
   private static final String CONFIGMAPS = "configmaps";
+  private static final String BYTES_READ = "validationBytesRead";
+  static final long REFERENCE_CACHE_SECONDS = 10;
+
+  private static final double[] READ_SIZE_BUCKETS = {0, 1024, 16 * 1024, 64 * 1024, 256 * 1024, 1 << 20, 4 << 20};
+  private static final Histogram VALIDATION_BYTES_READ = MetricsRegistry.getInstance().histogram(
+        "wko_domain_validation_bytes_read",
+        "Approximate size of the secret and config map data read to validate a domain once",
+        READ_SIZE_BUCKETS);
+
+  @SuppressWarnings({"FieldMayBeFinal", "CanBeFinal"}) // keep non-final for unit test
+  private static ReferenceCache referenceCache = new ReferenceCache();
 
   public static Step createDomainValidationSteps(String namespace, Step next) {
-    return Step.chain(createListSecretsStep(namespace), createListConfigMapsStep(namespace),
-              new DomainValidationStep(next));
+    return new ReadReferencedResourcesStep(namespace, new DomainValidationStep(next));
   }
 
   static Step createAdditionalDomainValidationSteps(V1PodSpec podSpec) {
@@ -60,57 +77,141 @@ public class DomainValidationSteps {
     return new DomainAfterIntrospectValidationStep();
   }
 
-  private static Step createListSecretsStep(String domainNamespace) {
-    return new CallBuilder().listSecretsAsync(domainNamespace, new ListSecretsResponseStep());
-  }
-
   static Step createValidateDomainTopologyStep(Step next) {
     return new ValidateDomainTopologyStep(next);
   }
 
-  static class ListSecretsResponseStep extends DefaultResponseStep<V1SecretList> {
+  /**
+   * Reads the secrets and config maps to which the domain refers, so that validation can check that they exist.
+   * Only those resources named in the domain spec are read, rather than every one in the namespace; resources
+   * found recently, by the validation of this or another domain, are not read again.
+   */
+  static class ReadReferencedResourcesStep extends Step {
+    private final String namespace;
+
+    ReadReferencedResourcesStep(String namespace, Step next) {
+      super(next);
+      this.namespace = namespace;
+    }
 
     @Override
-    public NextAction onSuccess(Packet packet, CallResponse<V1SecretList> callResponse) {
-      List<V1Secret> list = getSecrets(packet);
-      list.addAll(callResponse.getResult().getItems());
-      packet.put(SECRETS, list);
+    public NextAction apply(Packet packet) {
+      Domain domain = packet.getSpi(DomainPresenceInfo.class).getDomain();
+      Set<String> secrets = ConcurrentHashMap.newKeySet();
+      Set<String> configMaps = ConcurrentHashMap.newKeySet();
+      packet.put(SECRETS, secrets);
+      packet.put(CONFIGMAPS, configMaps);
+      packet.put(BYTES_READ, new AtomicLong());
+
+      List<Step> reads = new ArrayList<>();
+      for (String name : domain.getReferencedSecretNames()) {
+        if (referenceCache.isKnownToExist(SECRETS, namespace, name)) {
+          secrets.add(getKey(namespace, name));
+        } else {
+          reads.add(new CallBuilder().readSecretAsync(name, namespace, new ReadSecretResponseStep()));
+        }
+      }
+      for (String name : domain.getReferencedConfigMapNames()) {
+        if (referenceCache.isKnownToExist(CONFIGMAPS, namespace, name)) {
+          configMaps.add(getKey(namespace, name));
+        } else {
+          reads.add(new CallBuilder().readConfigMapAsync(name, namespace, domain.getDomainUid(),
+                new ReadConfigMapResponseStep()));
+        }
+      }
 
-      return doContinueListOrNext(callResponse, packet);
+      reads.add(getNext());
+      return doNext(Step.chain(reads.toArray(new Step[0])), packet);
     }
+  }
+
+  private static String getKey(String namespace, String name) {
+    return namespace + "/" + name;
+  }
+
+  private abstract static class ReadReferenceResponseStep<T extends KubernetesObject> extends DefaultResponseStep<T> {
+    private final String kind;
 
-    static List<V1Secret> getSecrets(Packet packet) {
-      return Optional.ofNullable(getSecretsIfContinue(packet)).orElse(new ArrayList<>());
+    ReadReferenceResponseStep(String kind) {
+      this.kind = kind;
     }
 
-    @SuppressWarnings("unchecked")
-    private static List<V1Secret> getSecretsIfContinue(Packet packet) {
-      return packet.get(AsyncRequestStep.CONTINUE) != null ? (List<V1Secret>) packet.get(SECRETS) : null;
+    @Override
+    public NextAction onSuccess(Packet packet, CallResponse<T> callResponse) {
+      RequestParams params = callResponse.getRequestParams();
+      T resource = callResponse.getResult();
+      if (resource == null) {
+        referenceCache.forget(kind, params.namespace, params.name);
+      } else {
+        referenceCache.recordExists(kind, params.namespace, params.name);
+        getFoundNames(packet, kind).add(getKey(params.namespace, params.name));
+        getBytesRead(packet).addAndGet(getDataSize(resource));
+      }
+      return doNext(packet);
     }
+
+    abstract long getDataSize(T resource);
   }
 
-  private static Step createListConfigMapsStep(String domainNamespace) {
-    return new CallBuilder().listConfigMapsAsync(domainNamespace, new ListConfigMapsResponseStep());
+  private static class ReadSecretResponseStep extends ReadReferenceResponseStep<V1Secret> {
+    ReadSecretResponseStep() {
+      super(SECRETS);
+    }
+
+    @Override
+    long getDataSize(V1Secret secret) {
+      return Optional.ofNullable(secret.getData()).map(Map::values).orElse(Collections.emptyList()).stream()
+            .filter(Objects::nonNull)
+            .mapToLong(value -> value.length)
+            .sum();
+    }
   }
 
-  static class ListConfigMapsResponseStep extends DefaultResponseStep<V1ConfigMapList> {
+  private static class ReadConfigMapResponseStep extends ReadReferenceResponseStep<V1ConfigMap> {
+    ReadConfigMapResponseStep() {
+      super(CONFIGMAPS);
+    }
 
     @Override
-    public NextAction onSuccess(Packet packet, CallResponse<V1ConfigMapList> callResponse) {
-      List<V1ConfigMap> list = getConfigMaps(packet);
-      list.addAll(callResponse.getResult().getItems());
-      packet.put(CONFIGMAPS, list);
+    long getDataSize(V1ConfigMap configMap) {
+      return Optional.ofNullable(configMap.getData()).map(Map::values).orElse(Collections.emptyList()).stream()
+            .filter(Objects::nonNull)
+            .mapToLong(String::length)
+            .sum();
+    }
+  }
+
+  @SuppressWarnings("unchecked")
+  private static Set<String> getFoundNames(Packet packet, String kind) {
+    return Optional.ofNullable((Set<String>) packet.get(kind)).orElse(Collections.emptySet());
+  }
+
+  private static AtomicLong getBytesRead(Packet packet) {
+    return Optional.ofNullable((AtomicLong) packet.get(BYTES_READ)).orElse(new AtomicLong());
+  }
+
+  // Remembers, for a short time, the secrets and config maps which were found to exist. Resources which were not
+  // found are always read again, so that validation does not fail a domain whose resources were just created.
+  static class ReferenceCache {
+    private final Map<String, OffsetDateTime> expirations = new ConcurrentHashMap<>();
+
+    boolean isKnownToExist(String kind, String namespace, String name) {
+      return Optional.ofNullable(expirations.get(getCacheKey(kind, namespace, name)))
+            .map(expiration -> SystemClock.now().isBefore(expiration))
+            .orElse(false);
+    }
 
-      return doContinueListOrNext(callResponse, packet);
+    void recordExists(String kind, String namespace, String name) {
+      expirations.values().removeIf(expiration -> !SystemClock.now().isBefore(expiration));
+      expirations.put(getCacheKey(kind, namespace, name), SystemClock.now().plusSeconds(REFERENCE_CACHE_SECONDS));
     }
 
-    static List<V1ConfigMap> getConfigMaps(Packet packet) {
-      return Optional.ofNullable(getConfigMapsIfContinue(packet)).orElse(new ArrayList<>());
+    void forget(String kind, String namespace, String name) {
+      expirations.remove(getCacheKey(kind, namespace, name));
     }
 
-    @SuppressWarnings("unchecked")
-    private static List<V1ConfigMap> getConfigMapsIfContinue(Packet packet) {
-      return packet.get(AsyncRequestStep.CONTINUE) != null ? (List<V1ConfigMap>) packet.get(CONFIGMAPS) : null;
+    private String getCacheKey(String kind, String namespace, String name) {
+      return kind + ":" + getKey(namespace, name);
     }
   }
 
@@ -125,6 +226,7 @@ public class DomainValidationSteps {
       DomainPresenceInfo info = packet.getSpi(DomainPresenceInfo.class);
       Domain domain = info.getDomain();
       List<String> validationFailures = domain.getValidationFailures(new KubernetesResourceLookupImpl(packet));
+      VALIDATION_BYTES_READ.observe(getBytesRead(packet).get());
 
       if (validationFailures.isEmpty()) {
         return doNext(packet);
@@ -287,36 +389,12 @@ public class DomainValidationSteps {
 
     @Override
     public boolean isSecretExists(String name, String namespace) {
-      return getSecrets(packet).stream().anyMatch(s -> isSpecifiedSecret(s, name, namespace));
-    }
-
-    boolean isSpecifiedSecret(V1Secret secret, String name, String namespace) {
-      return hasMatchingMetadata(secret.getMetadata(), name, namespace);
-    }
-
-    @SuppressWarnings("unchecked")
-    private List<V1Secret> getSecrets(Packet packet) {
-      return (List<V1Secret>) packet.get(SECRETS);
+      return getFoundNames(packet, SECRETS).contains(getKey(namespace, name));
     }
 
     @Override
     public boolean isConfigMapExists(String name, String namespace) {
-      return getConfigMaps(packet).stream().anyMatch(s -> isSpecifiedConfigMap(s, name, namespace));
-    }
-
-    boolean isSpecifiedConfigMap(V1ConfigMap configmap, String name, String namespace) {
-      return hasMatchingMetadata(configmap.getMetadata(), name, namespace);
-    }
-
-    @SuppressWarnings("unchecked")
-    private List<V1ConfigMap> getConfigMaps(Packet packet) {
-      return (List<V1ConfigMap>) packet.get(CONFIGMAPS);
-    }
-
-    private boolean hasMatchingMetadata(V1ObjectMeta metadata, String name, String namespace) {
-      return metadata != null
-            && Objects.equals(name, metadata.getName())
-            && Objects.equals(namespace, metadata.getNamespace());
+      return getFoundNames(packet, CONFIGMAPS).contains(getKey(namespace, name));
     }
   }
 
@@ -3,10 +3,12 @@
 
 package oracle.kubernetes.operator.helpers;
 
+import java.io.Reader;
 import java.time.OffsetDateTime;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 
@@ -500,13 +502,64 @@ public class JobHelper {
     private Step readDomainIntrospectorPodLog(String jobPodName, String namespace, String domainUid, Step next) {
       return new CallBuilder()
               .readPodLogAsync(
-                      jobPodName, namespace, domainUid, new ReadDomainIntrospectorPodLogResponseStep(next));
+                      jobPodName, namespace, domainUid,
+                      reader -> IntrospectorLog.read(reader, domainUid),
+                      new ReadDomainIntrospectorPodLogResponseStep(next));
     }
 
   }
 
-  private static class ReadDomainIntrospectorPodLogResponseStep extends ResponseStep<String> {
+  /**
+   * The introspector pod log, parsed as it is read. The introspector's own log messages are collected to be logged
+   * by the operator, and the files which it reports are collected to be recorded in the introspector config map.
+   * Neither the whole log nor a copy of it is held in memory.
+   */
+  static class IntrospectorLog {
+    private final List<String> messages = new ArrayList<>();
+    private final Map<String, String> files;
     private StringBuilder logMessage = new StringBuilder();
+
+    private IntrospectorLog(Reader reader, String domainUid) {
+      files = ConfigMapHelper.parseIntrospectorResult(reader, domainUid, this::addLogLine);
+      addLogMessage();
+    }
+
+    static IntrospectorLog read(Reader reader, String domainUid) {
+      return new IntrospectorLog(reader, domainUid);
+    }
+
+    // Parse log messages out of a Job Log
+    //  - assumes each job log message starts with '@['
+    //  - assumes any lines that don't start with '@[' are part
+    //    of the previous log message
+    //  - ignores all lines in the log up to the first line that starts with '@['
+    //  - the contents of the files in the log are not part of any log message
+    private void addLogLine(String line) {
+      if (line.startsWith("@[")) {
+        addLogMessage();
+        logMessage = new StringBuilder(INTROSPECTOR_LOG_PREFIX).append(line.trim());
+      } else if (logMessage.length() > 0) {
+        logMessage.append(System.lineSeparator()).append(line.trim());
+      }
+    }
+
+    private void addLogMessage() {
+      if (logMessage.length() > 0) {
+        messages.add(logMessage.toString());
+        logMessage = new StringBuilder();
+      }
+    }
+
+    List<String> getMessages() {
+      return messages;
+    }
+
+    Map<String, String> getFiles() {
+      return files;
+    }
+  }
+
+  private static class ReadDomainIntrospectorPodLogResponseStep extends ResponseStep<IntrospectorLog> {
     private final List<String> severeStatuses = new ArrayList<>();
 
     ReadDomainIntrospectorPodLogResponseStep(Step nextStep) {
@@ -514,16 +567,15 @@ public class JobHelper {
     }
 
     @Override
-    public NextAction onSuccess(Packet packet, CallResponse<String> callResponse) {
-      String result = callResponse.getResult();
-      LOGGER.fine("+++++ ReadDomainIntrospectorPodLogResponseStep: \n" + result);
+    public NextAction onSuccess(Packet packet, CallResponse<IntrospectorLog> callResponse) {
+      IntrospectorLog result = callResponse.getResult();
 
       if (result != null) {
-        convertJobLogsToOperatorLogs(result);
+        result.getMessages().forEach(this::logToOperator);
         if (!severeStatuses.isEmpty()) {
           updateStatus(packet.getSpi(DomainPresenceInfo.class));
         }
-        packet.put(ProcessingConstants.DOMAIN_INTROSPECTOR_LOG_RESULT, result);
+        packet.put(ProcessingConstants.DOMAIN_INTROSPECTOR_LOG_RESULT, result.getFiles());
         MakeRightDomainOperation.recordInspection(packet);
       }
 
@@ -575,29 +627,7 @@ public class JobHelper {
       return !JobWatcher.isComplete(domainIntrospectorJob);
     }
 
-    // Parse log messages out of a Job Log
-    //  - assumes each job log message starts with '@['
-    //  - assumes any lines that don't start with '@[' are part
-    //    of the previous log message
-    //  - ignores all lines in the log up to the first line that starts with '@['
-    private void convertJobLogsToOperatorLogs(String jobLogs) {
-      for (String line : jobLogs.split(EOL_PATTERN)) {
-        if (line.startsWith("@[")) {
-          logToOperator();
-          logMessage = new StringBuilder(INTROSPECTOR_LOG_PREFIX).append(line.trim());
-        } else if (logMessage.length() > 0) {
-          logMessage.append(System.lineSeparator()).append(line.trim());
-        }
-      }
-      logToOperator();
-    }
-
-    private void logToOperator() {
-      if (logMessage.length() == 0) {
-        return;
-      }
-
-      String logMsg = logMessage.toString();
+    private void logToOperator(String logMsg) {
       switch (getLogLevel(logMsg)) {
         case "SEVERE":
           addSevereStatus(logMsg); // fall through
@@ -0,0 +1,53 @@
+// Copyright (c) 2021, Oracle and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.helpers;
+
+import java.util.Arrays;
+
+import oracle.kubernetes.weblogic.domain.model.ServerHealth;
+import org.apache.commons.codec.digest.DigestUtils;
+
+/**
+ * The state and health last parsed from a server's health response, with a digest of that response, so that
+ * an identical response need not be parsed again. The health is shared by every read which returns it, and must
+ * not be modified.
+ */
+public class LastKnownHealth {
+  private final byte[] digest;
+  private final String state;
+  private final ServerHealth health;
+
+  /**
+   * Construct last known health.
+   * @param responseBody the body of the response from which the state and health were parsed
+   * @param state the server state, or null if the response did not include one
+   * @param health the server health
+   */
+  public LastKnownHealth(String responseBody, String state, ServerHealth health) {
+    this.digest = digest(responseBody);
+    this.state = state;
+    this.health = health;
+  }
+
+  private static byte[] digest(String responseBody) {
+    return DigestUtils.sha256(responseBody);
+  }
+
+  /**
+   * Returns true if the specified response body is the one from which this state and health were parsed.
+   * @param responseBody the body of a health response
+   * @return true if the body is unchanged
+   */
+  public boolean isFrom(String responseBody) {
+    return Arrays.equals(digest, digest(responseBody));
+  }
+
+  public String getState() {
+    return state;
+  }
+
+  public ServerHealth getHealth() {
+    return health;
+  }
+}
@@ -14,6 +14,7 @@ class ServerKubernetesObjects {
   private final AtomicReference<V1Pod> pod = new AtomicReference<>(null);
   private final AtomicBoolean isPodBeingDeleted = new AtomicBoolean(false);
   private final AtomicReference<LastKnownStatus> lastKnownStatus = new AtomicReference<>(null);
+  private final AtomicReference<LastKnownHealth> lastKnownHealth = new AtomicReference<>(null);
   private final AtomicReference<V1Service> service = new AtomicReference<>(null);
   private final AtomicReference<V1Service> externalService = new AtomicReference<>();
 
@@ -47,6 +48,15 @@ class ServerKubernetesObjects {
     return lastKnownStatus;
   }
 
+  /**
+   * Managed server health, as last read.
+   *
+   * @return Health
+   */
+  AtomicReference<LastKnownHealth> getLastKnownHealth() {
+    return lastKnownHealth;
+  }
+
   /**
    * The Service.
    *
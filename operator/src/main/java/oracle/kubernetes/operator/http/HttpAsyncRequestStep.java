@@ -9,14 +9,18 @@ import java.net.http.HttpClient;
 import java.net.http.HttpRequest;
 import java.net.http.HttpResponse;
 import java.util.Optional;
+import java.util.concurrent.CancellationException;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 import oracle.kubernetes.operator.helpers.DomainPresenceInfo;
 import oracle.kubernetes.operator.logging.LoggingContext;
 import oracle.kubernetes.operator.logging.LoggingFacade;
 import oracle.kubernetes.operator.logging.LoggingFactory;
 import oracle.kubernetes.operator.logging.MessageKeys;
+import oracle.kubernetes.operator.metrics.Histogram;
+import oracle.kubernetes.operator.metrics.MetricsRegistry;
 import oracle.kubernetes.operator.work.AsyncFiber;
 import oracle.kubernetes.operator.work.NextAction;
 import oracle.kubernetes.operator.work.Packet;
@@ -26,7 +30,8 @@ import static oracle.kubernetes.operator.http.TrustAllX509ExtendedTrustManager.g
 import static oracle.kubernetes.operator.logging.LoggingContext.setThreadContext;
 
 /**
- * An asynchronous step to handle http requests.
+ * An asynchronous step to handle http requests. Requests are sent by a dispatcher shared by all domains, which
+ * limits the number in flight; the timeout of a request starts when it is sent.
  */
 public class HttpAsyncRequestStep extends Step {
 
@@ -42,8 +47,13 @@ public class HttpAsyncRequestStep extends Step {
 
   @SuppressWarnings({"FieldMayBeFinal", "CanBeFinal"})
   private static FutureFactory factory = DEFAULT_FACTORY;
+  @SuppressWarnings({"FieldMayBeFinal", "CanBeFinal"})
+  private static HttpRequestDispatcher dispatcher = new HttpRequestDispatcher();
   private final HttpRequest request;
   private long timeoutSeconds = DEFAULT_TIMEOUT_SECONDS;
+  private boolean adaptiveTimeout;
+  private String latencyMetricName;
+  private String latencyMetricHelp;
   private static final HttpClient httpClient = HttpClient.newBuilder()
       .sslContext(getTrustingSSLContext())
       .build();
@@ -86,6 +96,29 @@ public class HttpAsyncRequestStep extends Step {
     return this;
   }
 
+  /**
+   * Shortens the timeout for this request to one based on the latency observed for the targeted host, when that
+   * is shorter. The configured timeout then applies only to hosts without a history of responses.
+   * @return this step
+   */
+  public HttpAsyncRequestStep withAdaptiveTimeout() {
+    this.adaptiveTimeout = true;
+    return this;
+  }
+
+  /**
+   * Records the time from sending this request to receiving its response in the specified histogram,
+   * labeled with the namespace and UID of the domain being processed.
+   * @param name the name of the histogram
+   * @param help a description of the histogram
+   * @return this step
+   */
+  public HttpAsyncRequestStep withLatencyMetric(String name, String help) {
+    this.latencyMetricName = name;
+    this.latencyMetricHelp = help;
+    return this;
+  }
+
   @Override
   public NextAction apply(Packet packet) {
     AsyncProcessing processing = new AsyncProcessing(packet);
@@ -94,7 +127,10 @@ public class HttpAsyncRequestStep extends Step {
 
   class AsyncProcessing {
     private final Packet packet;
+    private final AtomicBoolean resumed = new AtomicBoolean();
     private CompletableFuture<HttpResponse<String>> future;
+    private long timeoutMillis;
+    private volatile long sentNanos;
 
     AsyncProcessing(Packet packet) {
       this.packet = packet;
@@ -102,18 +138,60 @@ public class HttpAsyncRequestStep extends Step {
 
     void process(AsyncFiber fiber) {
       HttpResponseStep.removeResponse(packet);
-      future = factory.createFuture(request);
-      future.whenComplete((response, throwable) -> resume(fiber, response, throwable));
-      fiber.scheduleOnce(timeoutSeconds, TimeUnit.SECONDS, () -> checkTimeout(fiber));
+      timeoutMillis = getTimeoutMillis();
+      future = new CompletableFuture<>();
+      future.whenComplete((response, throwable) -> complete(fiber, response, throwable));
+      dispatcher.send(request, factory, future, () -> onSend(fiber));
+    }
+
+    private long getTimeoutMillis() {
+      long maxMillis = TimeUnit.SECONDS.toMillis(timeoutSeconds);
+      return adaptiveTimeout ? dispatcher.getTimeoutMillis(request.uri(), maxMillis) : maxMillis;
+    }
+
+    private void onSend(AsyncFiber fiber) {
+      sentNanos = System.nanoTime();
+      fiber.scheduleOnce(timeoutMillis, TimeUnit.MILLISECONDS, () -> checkTimeout(fiber));
+    }
+
+    private void complete(AsyncFiber fiber, HttpResponse<String> response, Throwable throwable) {
+      if (response != null || (sentNanos != 0 && !(throwable instanceof CancellationException))) {
+        recordLatency(getElapsedNanos());
+      }
+      resume(fiber, response, throwable);
+    }
+
+    // a response which completes while its request is being sent took no measurable time
+    private long getElapsedNanos() {
+      long sent = sentNanos;
+      return sent == 0 ? 0 : System.nanoTime() - sent;
+    }
+
+    private void recordLatency(long nanos) {
+      dispatcher.recordLatency(request.uri(), nanos);
+      Optional.ofNullable(latencyMetricName).ifPresent(name -> getLatencyHistogram(name).observe(nanos / 1e9));
+    }
+
+    private Histogram getLatencyHistogram(String name) {
+      DomainPresenceInfo info = packet.getSpi(DomainPresenceInfo.class);
+      return MetricsRegistry.getInstance().histogram(name, latencyMetricHelp, Histogram.LATENCY_BUCKETS,
+            "namespace", Optional.ofNullable(getNamespaceFromInfo(info)).orElse(""),
+            "domain_uid", Optional.ofNullable(getDomainUIDFromInfo(info)).orElse(""));
     }
 
     private void checkTimeout(AsyncFiber fiber) {
       if (!future.isDone()) {
+        recordLatency(TimeUnit.MILLISECONDS.toNanos(timeoutMillis));
         resume(fiber, null, new HttpTimeoutException(request.method(), request.uri()));
+        future.cancel(false);
       }
     }
 
     private void resume(AsyncFiber fiber, HttpResponse<String> response, Throwable throwable) {
+      if (!resumed.compareAndSet(false, true)) {
+        return;
+      }
+
       DomainPresenceInfo info = packet.getSpi(DomainPresenceInfo.class);
       try (LoggingContext ignored =
                setThreadContext().namespace(getNamespaceFromInfo(info)).domainUid(getDomainUIDFromInfo(info))) {
@@ -0,0 +1,206 @@
+// Copyright (c) 2021, Oracle and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.http;
+
+import java.net.URI;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import oracle.kubernetes.operator.TuningParameters;
+import oracle.kubernetes.operator.http.HttpAsyncRequestStep.FutureFactory;
+
+/**
+ * Sends the operator's HTTP requests to WebLogic servers, across all domains. It limits the number of requests
+ * in flight to the "serverHttpMaxConcurrentRequests" tuning parameter, queueing any others in the order received,
+ * and keeps an estimate of the response time of each host, from which it computes timeouts that adapt to the
+ * observed latency. Connections are reused by the underlying client, which keeps them alive between requests.
+ */
+class HttpRequestDispatcher {
+
+  static final String MAX_CONCURRENT_REQUESTS_PARAM = "serverHttpMaxConcurrentRequests";
+  static final int DEFAULT_MAX_CONCURRENT_REQUESTS = 64;
+
+  // adaptive timeouts are never shorter than this, so that an occasional slow response does not fail
+  static final long MIN_ADAPTIVE_TIMEOUT_MILLIS = TimeUnit.SECONDS.toMillis(10);
+  private static final int MAX_TRACKED_HOSTS = 1024;
+
+  private final AtomicInteger inFlight = new AtomicInteger();
+  private final Queue<PendingRequest> pending = new ConcurrentLinkedQueue<>();
+  private final Map<String, LatencyEstimate> latencies = new LinkedHashMap<>(16, 0.75f, true) {
+    @Override
+    protected boolean removeEldestEntry(Map.Entry<String, LatencyEstimate> eldest) {
+      return size() > MAX_TRACKED_HOSTS;
+    }
+  };
+
+  /**
+   * Sends the specified request when fewer than the maximum number of requests are in flight.
+   * @param request the request to send
+   * @param factory the means of sending the request
+   * @param result a future to complete with the response. If it is completed or cancelled before the request
+   *     is sent, the request is discarded; if while the request is in flight, the request no longer counts
+   *     against the limit.
+   * @param onSend an action to run when the request is sent
+   */
+  void send(HttpRequest request, FutureFactory factory, CompletableFuture<HttpResponse<String>> result,
+            Runnable onSend) {
+    pending.add(new PendingRequest(request, factory, result, onSend));
+    dispatchPending();
+  }
+
+  private void dispatchPending() {
+    while (!pending.isEmpty() && tryAcquire()) {
+      PendingRequest next = pending.poll();
+      if (next == null || !next.dispatch()) {
+        release();
+      }
+    }
+  }
+
+  private boolean tryAcquire() {
+    int limit = getMaxConcurrentRequests();
+    int current;
+    do {
+      current = inFlight.get();
+      if (current >= limit) {
+        return false;
+      }
+    } while (!inFlight.compareAndSet(current, current + 1));
+    return true;
+  }
+
+  private void release() {
+    inFlight.decrementAndGet();
+    dispatchPending();
+  }
+
+  int getInFlightCount() {
+    return inFlight.get();
+  }
+
+  int getPendingCount() {
+    return pending.size();
+  }
+
+  private static int getMaxConcurrentRequests() {
+    return Optional.ofNullable(TuningParameters.getInstance())
+          .map(t -> t.get(MAX_CONCURRENT_REQUESTS_PARAM))
+          .map(HttpRequestDispatcher::parseLimit)
+          .orElse(DEFAULT_MAX_CONCURRENT_REQUESTS);
+  }
+
+  private static int parseLimit(String value) {
+    try {
+      return Math.max(1, Integer.parseInt(value.trim()));
+    } catch (NumberFormatException e) {
+      return DEFAULT_MAX_CONCURRENT_REQUESTS;
+    }
+  }
+
+  /**
+   * Returns a timeout for a request to the specified URI, based on the latency observed for its host: the
+   * smoothed response time plus four times its variation, as TCP computes its retransmission timeout.
+   * @param uri the target of a request
+   * @param maxMillis the longest permitted timeout, used when no latency has been observed
+   * @return a timeout in milliseconds
+   */
+  long getTimeoutMillis(URI uri, long maxMillis) {
+    LatencyEstimate estimate;
+    synchronized (latencies) {
+      estimate = latencies.get(getHostKey(uri));
+    }
+    if (estimate == null) {
+      return maxMillis;
+    }
+    return Math.min(maxMillis, Math.max(MIN_ADAPTIVE_TIMEOUT_MILLIS, estimate.getTimeoutMillis()));
+  }
+
+  /**
+   * Records the time taken by a request to the specified URI. A timed-out request should be recorded with its
+   * timeout, so that the next timeout for the host is longer.
+   * @param uri the target of the request
+   * @param nanos the elapsed time, in nanoseconds
+   */
+  void recordLatency(URI uri, long nanos) {
+    synchronized (latencies) {
+      latencies.computeIfAbsent(getHostKey(uri), k -> new LatencyEstimate()).record(nanos / 1_000_000.0);
+    }
+  }
+
+  private static String getHostKey(URI uri) {
+    return uri.getHost() + ":" + uri.getPort();
+  }
+
+  private class PendingRequest {
+    private final HttpRequest request;
+    private final FutureFactory factory;
+    private final CompletableFuture<HttpResponse<String>> result;
+    private final Runnable onSend;
+
+    PendingRequest(HttpRequest request, FutureFactory factory, CompletableFuture<HttpResponse<String>> result,
+                   Runnable onSend) {
+      this.request = request;
+      this.factory = factory;
+      this.result = result;
+      this.onSend = onSend;
+    }
+
+    // returns false if the request was not sent, so that its permit may be released
+    boolean dispatch() {
+      if (result.isDone()) {
+        return false;
+      }
+
+      CompletableFuture<HttpResponse<String>> future;
+      try {
+        future = factory.createFuture(request);
+      } catch (RuntimeException e) {
+        result.completeExceptionally(e);
+        return false;
+      }
+      result.whenComplete((r, t) -> release());
+      future.whenComplete(this::complete);
+      onSend.run();
+      return true;
+    }
+
+    private void complete(HttpResponse<String> response, Throwable throwable) {
+      if (throwable != null) {
+        result.completeExceptionally(throwable);
+      } else {
+        result.complete(response);
+      }
+    }
+  }
+
+  // a smoothed response time and its mean deviation, as defined for TCP by RFC 6298
+  private static class LatencyEstimate {
+    private double smoothedMillis;
+    private double deviationMillis;
+    private boolean initialized;
+
+    void record(double millis) {
+      if (!initialized) {
+        smoothedMillis = millis;
+        deviationMillis = millis / 2;
+        initialized = true;
+      } else {
+        deviationMillis = 0.75 * deviationMillis + 0.25 * Math.abs(smoothedMillis - millis);
+        smoothedMillis = 0.875 * smoothedMillis + 0.125 * millis;
+      }
+    }
+
+    long getTimeoutMillis() {
+      return (long) Math.ceil(smoothedMillis + 4 * deviationMillis);
+    }
+  }
+}
@@ -0,0 +1,155 @@
+// Copyright (c) 2021, Oracle and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.logging;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.ConsoleHandler;
+import java.util.logging.Level;
+import java.util.logging.LogManager;
+import java.util.logging.LogRecord;
+
+/**
+ * A console handler which formats and writes its records on a background thread, so that the threads which run
+ * fibers do not wait for JSON formatting or console output. Each record is {@link LoggingFormatter#capture captured}
+ * before it is queued, so that it reports the fiber and domain which logged it.
+ *
+ * <p>The queue is bounded. When it is full, a logging thread waits for space, rather than lose or reorder records.
+ */
+public class AsyncConsoleHandler extends ConsoleHandler {
+  private static final int DEFAULT_CAPACITY = 4096;
+  private static final long FLUSH_TIMEOUT_MILLIS = 5000;
+
+  private final BlockingQueue<LogRecord> queue;
+  private final Object progress = new Object();
+  private long queuedCount;
+  private long writtenCount;
+  private volatile Thread writer;
+  private volatile boolean closed;
+
+  public AsyncConsoleHandler() {
+    this(DEFAULT_CAPACITY);
+  }
+
+  AsyncConsoleHandler(int capacity) {
+    queue = new ArrayBlockingQueue<>(capacity);
+    useConsoleHandlerLevel();
+  }
+
+  // The logging configuration names java.util.logging.ConsoleHandler, whose settings do not apply to a subclass
+  private void useConsoleHandlerLevel() {
+    LogManager manager = LogManager.getLogManager();
+    String level = manager.getProperty(ConsoleHandler.class.getName() + ".level");
+    if (level != null && manager.getProperty(getClass().getName() + ".level") == null) {
+      try {
+        setLevel(Level.parse(level.trim()));
+      } catch (IllegalArgumentException e) {
+        // keep the default level, as ConsoleHandler does
+      }
+    }
+  }
+
+  @Override
+  public void publish(LogRecord record) {
+    if (!isLoggable(record)) {
+      return;
+    }
+
+    LogRecord captured = LoggingFormatter.capture(record);
+    if (closed || Thread.currentThread() == writer) {
+      super.publish(captured);
+      return;
+    }
+
+    try {
+      synchronized (progress) {
+        ensureWriterStarted();
+        queuedCount++;
+      }
+      queue.put(captured);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      recordWritten(1);
+      super.publish(captured);
+    }
+  }
+
+  private void ensureWriterStarted() {
+    if (writer == null) {
+      writer = new Thread(this::writeRecords, "operator-log-writer");
+      writer.setDaemon(true);
+      writer.start();
+    }
+  }
+
+  private void writeRecords() {
+    List<LogRecord> batch = new ArrayList<>();
+    while (!Thread.currentThread().isInterrupted()) {
+      try {
+        batch.add(queue.take());
+      } catch (InterruptedException e) {
+        return;
+      }
+      queue.drainTo(batch);
+      for (LogRecord record : batch) {
+        super.publish(record);
+      }
+      recordWritten(batch.size());
+      batch.clear();
+    }
+  }
+
+  private void recordWritten(int count) {
+    synchronized (progress) {
+      writtenCount += count;
+      progress.notifyAll();
+    }
+  }
+
+  /**
+   * Waits until the records queued before this call have been written, and then flushes the console.
+   */
+  @Override
+  public void flush() {
+    if (Thread.currentThread() != writer) {
+      awaitWritten();
+    }
+    super.flush();
+  }
+
+  private void awaitWritten() {
+    long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(FLUSH_TIMEOUT_MILLIS);
+    synchronized (progress) {
+      long target = queuedCount;
+      long remaining;
+      while (writtenCount < target && (remaining = deadline - System.nanoTime()) > 0) {
+        try {
+          TimeUnit.NANOSECONDS.timedWait(progress, remaining);
+        } catch (InterruptedException e) {
+          Thread.currentThread().interrupt();
+          return;
+        }
+      }
+    }
+  }
+
+  /**
+   * Writes any queued records and stops the background thread. Records published afterwards are written
+   * immediately.
+   */
+  @Override
+  public void close() {
+    closed = true;
+    flush();
+    synchronized (progress) {
+      if (writer != null) {
+        writer.interrupt();
+      }
+    }
+    super.close();
+  }
+}
@@ -0,0 +1,52 @@
+// Copyright (c) 2021, Oracle and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.logging;
+
+import java.util.logging.LogRecord;
+
+/**
+ * A copy of a log record which also holds the logging context current when it was logged, so that it may be
+ * formatted later on another thread.
+ */
+class CapturedLogRecord extends LogRecord {
+  private final long capturedThreadId;
+  private final String fiberName;
+  private final String namespace;
+  private final String domainUid;
+
+  @SuppressWarnings("deprecation")
+  CapturedLogRecord(LogRecord record, long threadId, String fiberName, String namespace, String domainUid) {
+    super(record.getLevel(), record.getMessage());
+    setLoggerName(record.getLoggerName());
+    setResourceBundle(record.getResourceBundle());
+    setResourceBundleName(record.getResourceBundleName());
+    setSourceClassName(record.getSourceClassName());
+    setSourceMethodName(record.getSourceMethodName());
+    setSequenceNumber(record.getSequenceNumber());
+    setThreadID(record.getThreadID());
+    setInstant(record.getInstant());
+    setThrown(record.getThrown());
+    setParameters(record.getParameters());
+    this.capturedThreadId = threadId;
+    this.fiberName = fiberName;
+    this.namespace = namespace;
+    this.domainUid = domainUid;
+  }
+
+  long getCapturedThreadId() {
+    return capturedThreadId;
+  }
+
+  String getFiberName() {
+    return fiberName;
+  }
+
+  String getNamespace() {
+    return namespace;
+  }
+
+  String getDomainUid() {
+    return domainUid;
+  }
+}
@@ -15,6 +15,12 @@ public class LoggingFacade {
 
   public static final String TRACE = "OWLS-KO-TRACE: ";
   protected static final String CLASS = LoggingFacade.class.getName();
+
+  // Walking the stack to find the caller is costly, so is done only if requested; otherwise the logger name is
+  // reported in place of the calling class.
+  private static final CallerDetails UNKNOWN_CALLER = new CallerDetails();
+  private static final boolean INFER_CALLER = Boolean.getBoolean("inferLogCaller");
+
   private final Logger logger;
 
   /**
@@ -32,7 +38,7 @@ public class LoggingFacade {
       }
     }
 
-    ConsoleHandler handler = new ConsoleHandler();
+    ConsoleHandler handler = new AsyncConsoleHandler();
     handler.setFormatter(new LoggingFormatter());
     logger.addHandler(handler);
   }
@@ -625,9 +631,13 @@ public class LoggingFacade {
    * Obtains caller details, class name and method, to be provided to the actual Logger. This code
    * is adapted from ODLLogRecord, which should yield consistency in reporting using PlatformLogger
    * versus a raw (ODL) Logger. JDK Logger does something similar but utilizes native methods
-   * directly.
+   * directly. Unless the system property 'inferLogCaller' is true, no details are returned.
    */
   CallerDetails inferCaller() {
+    if (!INFER_CALLER) {
+      return UNKNOWN_CALLER;
+    }
+
     CallerDetails details = new CallerDetails();
     Throwable t = new Throwable();
     StackTraceElement[] stack = t.getStackTrace();
@@ -3,21 +3,21 @@
 
 package oracle.kubernetes.operator.logging;
 
+import java.io.IOException;
 import java.io.PrintWriter;
 import java.io.StringWriter;
 import java.time.OffsetDateTime;
 import java.time.ZoneId;
 import java.time.format.DateTimeFormatter;
-import java.util.HashMap;
-import java.util.LinkedHashMap;
+import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.logging.Formatter;
 import java.util.logging.LogRecord;
 
-import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
 import io.kubernetes.client.openapi.ApiException;
 import io.kubernetes.client.openapi.JSON;
 import io.swagger.annotations.ApiModel;
@@ -25,9 +25,17 @@ import oracle.kubernetes.operator.helpers.DomainPresenceInfo;
 import oracle.kubernetes.operator.work.Fiber;
 import oracle.kubernetes.operator.work.Packet;
 
-/** Custom log formatter to format log messages in JSON format. */
+/**
+ * Custom log formatter to format log messages in JSON format. The JSON is streamed from a shared factory into a
+ * per-thread buffer, so that formatting a record allocates little more than the resulting string.
+ *
+ * <p>The thread, fiber, namespace and domain UID reported for a record are those current when it is formatted,
+ * unless the record was {@link #capture captured} when it was logged, as is done by {@link AsyncConsoleHandler}.
+ */
 public class LoggingFormatter extends Formatter {
-  private static final Map<String, List<String>> PLACEHOLDER = new HashMap<>();
+  private static final JsonFactory JSON_FACTORY = new JsonFactory();
+  private static final ThreadLocal<StringWriter> BUFFER = ThreadLocal.withInitial(StringWriter::new);
+  private static final int MAX_RETAINED_BUFFER_SIZE = 64 * 1024;
 
   private static final String LOG_LEVEL = "level";
   private static final String TIMESTAMP = "timestamp";
@@ -48,8 +56,53 @@ public class LoggingFormatter extends Formatter {
 
   private static final DateTimeFormatter DATE_FORMAT = DateTimeFormatter.ISO_OFFSET_DATE_TIME;
 
+  /**
+   * Returns a copy of the specified record which also holds the logging context of the current thread, and
+   * whose model object parameters have been replaced by their JSON serialization. The copy may then be formatted
+   * on another thread.
+   * @param record the record to capture
+   * @return a captured record
+   */
+  static CapturedLogRecord capture(LogRecord record) {
+    if (record instanceof CapturedLogRecord) {
+      return (CapturedLogRecord) record;
+    }
+    Fiber fiber = Fiber.getCurrentIfSet();
+    CapturedLogRecord captured = new CapturedLogRecord(record, Thread.currentThread().getId(),
+          fiber != null ? fiber.toString() : "", getNamespace(fiber), getDomainUid(fiber));
+    captured.setParameters(serializeModelParameters(copyOf(record.getParameters())));
+    return captured;
+  }
+
+  private static Object[] copyOf(Object[] parameters) {
+    return parameters == null ? null : parameters.clone();
+  }
+
+  // the toString() format for the model classes is inappropriate for our logs
+  // so, replace with the JSON serialization
+  private static Object[] serializeModelParameters(Object[] parameters) {
+    JSON j = LoggingFactory.getJson();
+    if (j != null && parameters != null) {
+      for (int i = 0; i < parameters.length; i++) {
+        Object pi = parameters[i];
+        if (pi != null && isModelObject(pi)) {
+          parameters[i] = j.serialize(pi);
+        }
+      }
+    }
+    return parameters;
+  }
+
+  private static boolean isModelObject(Object parameter) {
+    return parameter.getClass().getAnnotation(ApiModel.class) != null
+          || parameter.getClass().getName().startsWith("oracle.kubernetes.weblogic.domain.");
+  }
+
   @Override
   public String format(LogRecord record) {
+    if (!(record instanceof CapturedLogRecord)) {
+      serializeModelParameters(record.getParameters());
+    }
     String sourceClassName = "";
     String sourceMethodName = "";
     if (record.getSourceClassName() != null) {
@@ -61,39 +114,78 @@ public class LoggingFormatter extends Formatter {
       sourceClassName = record.getLoggerName();
     }
 
-    // the toString() format for the model classes is inappropriate for our logs
-    // so, replace with the JSON serialization
-    JSON j = LoggingFactory.getJson();
-    if (j != null) {
-      Object[] parameters = record.getParameters();
-      if (parameters != null) {
-        for (int i = 0; i < parameters.length; i++) {
-          Object pi = parameters[i];
-          if (pi != null) {
-            if (pi.getClass().getAnnotation(ApiModel.class) != null
-                || pi.getClass().getName().startsWith("oracle.kubernetes.weblogic.domain.")) {
-              // this is a model object
-              parameters[i] = j.serialize(pi);
-            }
-          }
-        }
-      }
+    final String message = formatMessage(record);
+    String level = record.getLevel().getLocalizedName();
+    long rawTime = record.getMillis();
+    final String dateString = DATE_FORMAT.format(OffsetDateTime.ofInstant(record.getInstant(), ZoneId.systemDefault()));
+
+    StringWriter buffer = getBuffer();
+    try (JsonGenerator generator = JSON_FACTORY.createGenerator(buffer)) {
+      generator.writeStartObject();
+      generator.writeStringField(TIMESTAMP, dateString);
+      writeContext(generator, record);
+      generator.writeStringField(LOG_LEVEL, level);
+      generator.writeStringField(SOURCE_CLASS, sourceClassName);
+      generator.writeStringField(SOURCE_METHOD, sourceMethodName);
+      generator.writeNumberField(TIME_IN_MILLIS, rawTime);
+      generator.writeStringField(MESSAGE, message != null ? message : "");
+      writeThrown(generator, record.getThrown());
+      generator.writeEndObject();
+    } catch (IOException e) {
+      String tmp =
+          "{\"@timestamp\":%1$s,\"level\":%2$s, \"class\":%3$s, \"method\":\"format\", \"timeInMillis\":%4$d, "
+              + "\"@message\":\"Exception while preparing json object\",\"exception\":%5$s}\n";
+      return String.format(
+          tmp,
+          dateString,
+          level,
+          LoggingFormatter.class.getName(),
+          rawTime,
+          e.getLocalizedMessage());
     }
+    return buffer.append('\n').toString();
+  }
 
-    final String message = formatMessage(record);
+  private void writeContext(JsonGenerator generator, LogRecord record) throws IOException {
+    if (record instanceof CapturedLogRecord) {
+      CapturedLogRecord captured = (CapturedLogRecord) record;
+      generator.writeNumberField(THREAD, captured.getCapturedThreadId());
+      generator.writeStringField(FIBER, captured.getFiberName());
+      generator.writeStringField(DOMAIN_NAMESPACE, captured.getNamespace());
+      generator.writeStringField(DOMAIN_UID, captured.getDomainUid());
+    } else {
+      Fiber fiber = Fiber.getCurrentIfSet();
+      generator.writeNumberField(THREAD, Thread.currentThread().getId());
+      generator.writeStringField(FIBER, fiber != null ? fiber.toString() : "");
+      generator.writeStringField(DOMAIN_NAMESPACE, getNamespace(fiber));
+      generator.writeStringField(DOMAIN_UID, getDomainUid(fiber));
+    }
+  }
+
+  private StringWriter getBuffer() {
+    StringWriter buffer = BUFFER.get();
+    if (buffer.getBuffer().capacity() > MAX_RETAINED_BUFFER_SIZE) {
+      buffer = new StringWriter();
+      BUFFER.set(buffer);
+    }
+    buffer.getBuffer().setLength(0);
+    return buffer;
+  }
+
+  private void writeThrown(JsonGenerator generator, Throwable thrown) throws IOException {
     String code = "";
-    Map<String, List<String>> headers = PLACEHOLDER;
+    Map<String, List<String>> headers = Collections.emptyMap();
     String body = "";
     String throwable = "";
-    if (record.getThrown() != null) {
+    if (thrown != null) {
       StringWriter sw = new StringWriter();
       PrintWriter pw = new PrintWriter(sw);
       pw.println();
-      record.getThrown().printStackTrace(pw);
+      thrown.printStackTrace(pw);
       pw.close();
       throwable = sw.toString();
-      if (record.getThrown() instanceof ApiException) {
-        ApiException ae = (ApiException) record.getThrown();
+      if (thrown instanceof ApiException) {
+        ApiException ae = (ApiException) thrown;
         code = String.valueOf(ae.getCode());
         if (ae.getResponseHeaders() != null) {
           headers = ae.getResponseHeaders();
@@ -104,47 +196,21 @@ public class LoggingFormatter extends Formatter {
         }
       }
     }
-    String level = record.getLevel().getLocalizedName();
-    Map<String, Object> map = new LinkedHashMap<>();
-    long rawTime = record.getMillis();
-    final String dateString = DATE_FORMAT.format(OffsetDateTime.ofInstant(record.getInstant(), ZoneId.systemDefault()));
-    long thread = Thread.currentThread().getId();
-    Fiber fiber = Fiber.getCurrentIfSet();
 
-    map.put(TIMESTAMP, dateString);
-    map.put(THREAD, thread);
-    map.put(FIBER, fiber != null ? fiber.toString() : "");
-    map.put(DOMAIN_NAMESPACE, getNamespace(fiber));
-    map.put(DOMAIN_UID, getDomainUid(fiber));
-    map.put(LOG_LEVEL, level);
-    map.put(SOURCE_CLASS, sourceClassName);
-    map.put(SOURCE_METHOD, sourceMethodName);
-    map.put(TIME_IN_MILLIS, rawTime);
-    // if message or throwable have new lines in them, we need to replace with JSON newline control
-    // character \n
-    map.put(MESSAGE, message != null ? message.replaceAll("\n", "\\\n") : "");
-    map.put(EXCEPTION, throwable.replaceAll("\n", "\\\n"));
-    map.put(RESPONSE_CODE, code);
-    map.put(RESPONSE_HEADERS, headers);
-    map.put(RESPONSE_BODY, body.replaceAll("\n", "\\\n"));
-    String json = "";
-    try {
-      ObjectMapper mapper = new ObjectMapper();
-      json = mapper.writeValueAsString(map);
-
-    } catch (JsonProcessingException e) {
-      String tmp =
-          "{\"@timestamp\":%1$s,\"level\":%2$s, \"class\":%3$s, \"method\":\"format\", \"timeInMillis\":%4$d, "
-              + "\"@message\":\"Exception while preparing json object\",\"exception\":%5$s}\n";
-      return String.format(
-          tmp,
-          dateString,
-          level,
-          LoggingFormatter.class.getName(),
-          rawTime,
-          e.getLocalizedMessage());
+    generator.writeStringField(EXCEPTION, throwable);
+    generator.writeStringField(RESPONSE_CODE, code);
+    generator.writeObjectFieldStart(RESPONSE_HEADERS);
+    for (Map.Entry<String, List<String>> header : headers.entrySet()) {
+      if (header.getKey() != null) {
+        generator.writeArrayFieldStart(header.getKey());
+        for (String value : Optional.ofNullable(header.getValue()).orElse(Collections.emptyList())) {
+          generator.writeString(value);
+        }
+        generator.writeEndArray();
+      }
     }
-    return json + "\n";
+    generator.writeEndObject();
+    generator.writeStringField(RESPONSE_BODY, body);
   }
 
   /**
@@ -155,27 +221,27 @@ public class LoggingFormatter extends Formatter {
    * @param fiber The current Fiber
    * @return the domain UID or empty string
    */
-  private String getDomainUid(Fiber fiber) {
+  private static String getDomainUid(Fiber fiber) {
     return Optional.ofNullable(fiber)
           .map(Fiber::getPacket)
-          .map(this::getDomainPresenceInfo)
+          .map(LoggingFormatter::getDomainPresenceInfo)
           .map(DomainPresenceInfo::getDomainUid)
-          .orElse(getDomainUidFromLoggingContext(fiber));
+          .orElseGet(() -> getDomainUidFromLoggingContext(fiber));
   }
 
-  private String getDomainUidFromLoggingContext(Fiber fiber) {
+  private static String getDomainUidFromLoggingContext(Fiber fiber) {
     return Optional.ofNullable(fiber)
         .map(Fiber::getPacket)
         .map(p -> p.getSpi(LoggingContext.class))
         .map(LoggingContext::domainUid)
-        .orElse(getDomainUidFromThreadContext());
+        .orElseGet(LoggingFormatter::getDomainUidFromThreadContext);
   }
 
-  private String getDomainUidFromThreadContext() {
+  private static String getDomainUidFromThreadContext() {
     return LoggingContext.optionalContext().map(LoggingContext::domainUid).orElse("");
   }
 
-  private DomainPresenceInfo getDomainPresenceInfo(Packet packet) {
+  private static DomainPresenceInfo getDomainPresenceInfo(Packet packet) {
     return packet.getSpi(DomainPresenceInfo.class);
   }
 
@@ -187,15 +253,15 @@ public class LoggingFormatter extends Formatter {
    * @param fiber The current Fiber
    * @return the namespace or empty string
    */
-  private String getNamespace(Fiber fiber) {
+  private static String getNamespace(Fiber fiber) {
     return Optional.ofNullable(fiber)
           .map(Fiber::getPacket)
-          .map(this::getDomainPresenceInfo)
+          .map(LoggingFormatter::getDomainPresenceInfo)
           .map(DomainPresenceInfo::getNamespace)
-          .orElse(getNamespaceFromLoggingContext(fiber));
+          .orElseGet(() -> getNamespaceFromLoggingContext(fiber));
   }
 
-  private String getNamespaceFromLoggingContext(Fiber fiber) {
+  private static String getNamespaceFromLoggingContext(Fiber fiber) {
     return Optional.ofNullable(fiber)
           .map(Fiber::getPacket)
           .map(p -> p.getSpi(LoggingContext.class))
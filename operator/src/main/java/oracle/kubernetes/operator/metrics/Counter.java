@@ -0,0 +1,31 @@
+// Copyright (c) 2021, Oracle and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.metrics;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/** A monotonically increasing count. */
+public class Counter implements Metric {
+  private final LongAdder count = new LongAdder();
+
+  Counter() {
+  }
+
+  public void inc() {
+    count.increment();
+  }
+
+  public void inc(long amount) {
+    count.add(amount);
+  }
+
+  public long get() {
+    return count.sum();
+  }
+
+  @Override
+  public void writeSamples(StringBuilder sb, String name, String labels) {
+    MetricsRegistry.appendSample(sb, name, labels, get());
+  }
+}
@@ -0,0 +1,24 @@
+// Copyright (c) 2021, Oracle and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.metrics;
+
+import java.util.function.DoubleSupplier;
+
+/** A value which is read from its source whenever the metrics are collected. */
+public class Gauge implements Metric {
+  private final DoubleSupplier supplier;
+
+  Gauge(DoubleSupplier supplier) {
+    this.supplier = supplier;
+  }
+
+  public double get() {
+    return supplier.getAsDouble();
+  }
+
+  @Override
+  public void writeSamples(StringBuilder sb, String name, String labels) {
+    MetricsRegistry.appendSample(sb, name, labels, get());
+  }
+}
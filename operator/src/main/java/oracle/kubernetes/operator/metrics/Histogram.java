@@ -0,0 +1,72 @@
+// Copyright (c) 2021, Oracle and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.metrics;
+
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.DoubleAdder;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A distribution of observed values, recorded in cumulative buckets so that quantiles
+ * may be estimated by the metrics consumer.
+ */
+public class Histogram implements Metric {
+
+  /** Bucket upper bounds, in seconds, suitable for the latency of Kubernetes and WebLogic calls. */
+  public static final double[] LATENCY_BUCKETS = {.001, .005, .01, .025, .05, .1, .25, .5, 1, 2.5, 5, 10, 30};
+
+  private final double[] upperBounds;
+  private final LongAdder[] bucketCounts;
+  private final LongAdder count = new LongAdder();
+  private final DoubleAdder sum = new DoubleAdder();
+
+  Histogram(double[] upperBounds) {
+    this.upperBounds = Arrays.copyOf(upperBounds, upperBounds.length);
+    Arrays.sort(this.upperBounds);
+    this.bucketCounts = new LongAdder[this.upperBounds.length];
+    Arrays.setAll(bucketCounts, i -> new LongAdder());
+  }
+
+  /**
+   * Records a single value.
+   * @param value the value to record
+   */
+  public void observe(double value) {
+    int index = Arrays.binarySearch(upperBounds, value);
+    for (int i = index >= 0 ? index : -index - 1; i < upperBounds.length; i++) {
+      bucketCounts[i].increment();
+    }
+    count.increment();
+    sum.add(value);
+  }
+
+  /**
+   * Records a duration, converted to seconds.
+   * @param startNanos the result of {@link System#nanoTime()} at the start of the measured interval
+   */
+  public void observeSince(long startNanos) {
+    observe((System.nanoTime() - startNanos) / (double) TimeUnit.SECONDS.toNanos(1));
+  }
+
+  public long getCount() {
+    return count.sum();
+  }
+
+  public double getSum() {
+    return sum.sum();
+  }
+
+  @Override
+  public void writeSamples(StringBuilder sb, String name, String labels) {
+    String separator = labels.isEmpty() ? "" : labels + ",";
+    for (int i = 0; i < upperBounds.length; i++) {
+      MetricsRegistry.appendSample(
+            sb, name + "_bucket", separator + "le=\"" + upperBounds[i] + "\"", bucketCounts[i].sum());
+    }
+    MetricsRegistry.appendSample(sb, name + "_bucket", separator + "le=\"+Inf\"", getCount());
+    MetricsRegistry.appendSample(sb, name + "_sum", labels, getSum());
+    MetricsRegistry.appendSample(sb, name + "_count", labels, getCount());
+  }
+}
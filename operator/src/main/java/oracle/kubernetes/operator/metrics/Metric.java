@@ -0,0 +1,16 @@
+// Copyright (c) 2021, Oracle and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.metrics;
+
+/** A single time series, identified by its family name and labels. */
+interface Metric {
+
+  /**
+   * Appends the samples of this metric in the Prometheus text format.
+   * @param sb the builder to which to append the samples
+   * @param name the name of the metric family
+   * @param labels the formatted labels of this series, without braces; may be empty
+   */
+  void writeSamples(StringBuilder sb, String name, String labels);
+}
@@ -0,0 +1,145 @@
+// Copyright (c) 2021, Oracle and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.metrics;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.function.DoubleSupplier;
+import java.util.function.Function;
+
+/**
+ * The registry of the operator's internal metrics. Each metric belongs to a family, identified by name,
+ * and is distinguished within that family by its labels, which are specified as alternating names and values.
+ * Requesting a metric which already exists returns the existing instance, so callers may simply look up
+ * a metric each time they need it, or hold on to it.
+ */
+public class MetricsRegistry {
+
+  private static final MetricsRegistry INSTANCE = new MetricsRegistry();
+
+  private final Map<String, Family> families = new ConcurrentSkipListMap<>();
+
+  public static MetricsRegistry getInstance() {
+    return INSTANCE;
+  }
+
+  /**
+   * Returns the specified counter, creating it if necessary.
+   * @param name the name of the counter
+   * @param help a description of the counter
+   * @param labels alternating label names and values
+   * @return a counter
+   */
+  public Counter counter(String name, String help, String... labels) {
+    return getFamily(name, "counter", help).getMetric(labels, l -> new Counter(), Counter.class);
+  }
+
+  /**
+   * Returns the specified gauge, creating it if necessary. If the gauge already exists, the specified supplier
+   * replaces its current one.
+   * @param name the name of the gauge
+   * @param help a description of the gauge
+   * @param supplier the source of the gauge value
+   * @param labels alternating label names and values
+   * @return a gauge
+   */
+  public Gauge gauge(String name, String help, DoubleSupplier supplier, String... labels) {
+    Gauge gauge = new Gauge(supplier);
+    getFamily(name, "gauge", help).metrics.put(formatLabels(labels), gauge);
+    return gauge;
+  }
+
+  /**
+   * Returns the specified histogram, creating it if necessary.
+   * @param name the name of the histogram
+   * @param help a description of the histogram
+   * @param buckets the upper bounds of the histogram buckets; ignored if the histogram already exists
+   * @param labels alternating label names and values
+   * @return a histogram
+   */
+  public Histogram histogram(String name, String help, double[] buckets, String... labels) {
+    return getFamily(name, "histogram", help).getMetric(labels, l -> new Histogram(buckets), Histogram.class);
+  }
+
+  /**
+   * Removes the metric with the specified name and labels, if present.
+   * @param name the name of the metric family
+   * @param labels alternating label names and values
+   */
+  public void remove(String name, String... labels) {
+    Family family = families.get(name);
+    if (family != null) {
+      family.metrics.remove(formatLabels(labels));
+    }
+  }
+
+  /**
+   * Returns all metrics in the Prometheus text exposition format.
+   */
+  public String scrape() {
+    StringBuilder sb = new StringBuilder();
+    families.forEach((name, family) -> family.writeTo(sb, name));
+    return sb.toString();
+  }
+
+  // for test
+  void clear() {
+    families.clear();
+  }
+
+  private Family getFamily(String name, String type, String help) {
+    return families.computeIfAbsent(name, n -> new Family(type, help));
+  }
+
+  private static String formatLabels(String... labels) {
+    if (labels.length % 2 != 0) {
+      throw new IllegalArgumentException("Labels must be specified as name/value pairs");
+    }
+    StringBuilder sb = new StringBuilder();
+    for (int i = 0; i < labels.length; i += 2) {
+      if (sb.length() > 0) {
+        sb.append(',');
+      }
+      sb.append(labels[i]).append("=\"").append(escape(labels[i + 1])).append('"');
+    }
+    return sb.toString();
+  }
+
+  private static String escape(String value) {
+    return String.valueOf(value).replace("\\", "\\\\").replace("\"", "\\\"").replace("\n", "\\n");
+  }
+
+  static void appendSample(StringBuilder sb, String name, String labels, double value) {
+    sb.append(name);
+    if (!labels.isEmpty()) {
+      sb.append('{').append(labels).append('}');
+    }
+    sb.append(' ').append(value).append('\n');
+  }
+
+  private static class Family {
+    private final String type;
+    private final String help;
+    private final Map<String, Metric> metrics = new ConcurrentHashMap<>();
+
+    Family(String type, String help) {
+      this.type = type;
+      this.help = help;
+    }
+
+    <M extends Metric> M getMetric(String[] labels, Function<String, M> factory, Class<M> metricClass) {
+      return metricClass.cast(metrics.computeIfAbsent(formatLabels(labels), factory));
+    }
+
+    void writeTo(StringBuilder sb, String name) {
+      if (metrics.isEmpty()) {
+        return;
+      }
+      sb.append("# HELP ").append(name).append(' ').append(help).append('\n');
+      sb.append("# TYPE ").append(name).append(' ').append(type).append('\n');
+      metrics.forEach((labels, metric) -> metric.writeSamples(sb, name, labels));
+    }
+  }
+}
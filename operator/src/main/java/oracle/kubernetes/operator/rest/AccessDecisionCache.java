@@ -0,0 +1,113 @@
+// Copyright (c) 2021, Oracle and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.rest;
+
+import java.time.OffsetDateTime;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.BooleanSupplier;
+import java.util.function.Supplier;
+
+import io.kubernetes.client.openapi.models.V1UserInfo;
+import oracle.kubernetes.operator.helpers.AuthorizationProxy.Operation;
+import oracle.kubernetes.operator.helpers.AuthorizationProxy.Resource;
+import oracle.kubernetes.operator.helpers.AuthorizationProxy.Scope;
+import oracle.kubernetes.utils.SystemClock;
+import org.apache.commons.codec.digest.DigestUtils;
+
+/**
+ * Remembers, for a short time, the results of the token reviews and subject access reviews made to authenticate
+ * and authorize REST requests, so that a burst of requests from the same client, such as the scaling requests
+ * sent by WLDF, does not repeat them. Tokens are held only as digests, and each kind of result is limited to
+ * a fixed number of entries, the least recently used of which is discarded first.
+ */
+class AccessDecisionCache {
+
+  static final long DECISION_LIFETIME_SECONDS = 30;
+  static final int MAX_ENTRIES = 1024;
+
+  private final Map<String, Decision<V1UserInfo>> users = createMap();
+  private final Map<String, Decision<Boolean>> accessDecisions = createMap();
+
+  private static <T> Map<String, Decision<T>> createMap() {
+    return new LinkedHashMap<>(16, 0.75f, true) {
+      @Override
+      protected boolean removeEldestEntry(Map.Entry<String, Decision<T>> eldest) {
+        return size() > MAX_ENTRIES;
+      }
+    };
+  }
+
+  /**
+   * Returns the user identified by the specified access token, reviewing the token only if it has not been
+   * reviewed recently. A review which fails by throwing an exception is not remembered.
+   * @param accessToken the token presented by a REST client
+   * @param review a function which reviews the token and returns its user
+   * @return the user information
+   */
+  V1UserInfo getUser(String accessToken, Supplier<V1UserInfo> review) {
+    String key = DigestUtils.sha256Hex(Optional.ofNullable(accessToken).orElse(""));
+    V1UserInfo user = getCurrentValue(users, key);
+    if (user == null) {
+      user = review.get();
+      record(users, key, user);
+    }
+    return user;
+  }
+
+  /**
+   * Returns true if the specified user may perform the specified operation, checking access only if the same
+   * access has not been checked recently.
+   * @param user the user making a request
+   * @param operation the operation requested
+   * @param resource the kind of resource on which the operation is requested
+   * @param resourceName the name of the resource, or null for all resources of the kind
+   * @param scope the scope of the operation
+   * @param namespace the namespace of the operation, or null for the cluster scope
+   * @param check a function which checks the access
+   * @return true if the operation is allowed
+   */
+  boolean isAllowed(V1UserInfo user, Operation operation, Resource resource, String resourceName,
+                    Scope scope, String namespace, BooleanSupplier check) {
+    String key = String.join("|", user.getUsername(), getGroups(user), operation.name(), resource.name(),
+          String.valueOf(resourceName), scope.name(), String.valueOf(namespace));
+    Boolean allowed = getCurrentValue(accessDecisions, key);
+    if (allowed == null) {
+      allowed = check.getAsBoolean();
+      record(accessDecisions, key, allowed);
+    }
+    return allowed;
+  }
+
+  private static String getGroups(V1UserInfo user) {
+    return Optional.ofNullable(user.getGroups()).map(List::toString).orElse("");
+  }
+
+  private static <T> T getCurrentValue(Map<String, Decision<T>> decisions, String key) {
+    synchronized (decisions) {
+      return Optional.ofNullable(decisions.get(key)).filter(Decision::isCurrent).map(d -> d.value).orElse(null);
+    }
+  }
+
+  private static <T> void record(Map<String, Decision<T>> decisions, String key, T value) {
+    synchronized (decisions) {
+      decisions.put(key, new Decision<>(value));
+    }
+  }
+
+  private static class Decision<T> {
+    private final T value;
+    private final OffsetDateTime expiration = SystemClock.now().plusSeconds(DECISION_LIFETIME_SECONDS);
+
+    Decision(T value) {
+      this.value = value;
+    }
+
+    boolean isCurrent() {
+      return SystemClock.now().isBefore(expiration);
+    }
+  }
+}
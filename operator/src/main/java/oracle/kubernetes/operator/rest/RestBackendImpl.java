@@ -6,6 +6,7 @@ package oracle.kubernetes.operator.rest;
 import java.util.Collection;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
 import java.util.function.Consumer;
@@ -25,6 +26,7 @@ import jakarta.ws.rs.WebApplicationException;
 import jakarta.ws.rs.core.Response;
 import jakarta.ws.rs.core.Response.ResponseBuilder;
 import jakarta.ws.rs.core.Response.Status;
+import oracle.kubernetes.operator.DomainProcessorImpl;
 import oracle.kubernetes.operator.Main;
 import oracle.kubernetes.operator.TuningParameters;
 import oracle.kubernetes.operator.helpers.AuthenticationProxy;
@@ -42,6 +44,7 @@ import oracle.kubernetes.operator.rest.model.DomainActionType;
 import oracle.kubernetes.operator.wlsconfig.WlsClusterConfig;
 import oracle.kubernetes.operator.wlsconfig.WlsDomainConfig;
 import oracle.kubernetes.weblogic.domain.model.Domain;
+import org.apache.commons.codec.digest.DigestUtils;
 
 import static oracle.kubernetes.operator.helpers.NamespaceHelper.getOperatorNamespace;
 import static oracle.kubernetes.operator.logging.MessageKeys.INVALID_DOMAIN_UID;
@@ -68,12 +71,22 @@ public class RestBackendImpl implements RestBackend {
         return null;
       };
 
+  @SuppressWarnings({"FieldMayBeFinal", "CanBeFinal"}) // used by unit test
+  private static DomainRetriever domainRetriever = DomainProcessorImpl::getKnownDomain;
+
+  @SuppressWarnings({"FieldMayBeFinal", "CanBeFinal"}) // used by unit test
+  private static AccessDecisionCache decisionCache = new AccessDecisionCache();
+
+  @SuppressWarnings({"FieldMayBeFinal", "CanBeFinal"}) // used by unit test
+  private static ScaleRequestQueue scaleRequests = new ScaleRequestQueue();
+
   private final AuthenticationProxy atn = new AuthenticationProxy();
   private AuthorizationProxy atz = new AuthorizationProxy();
   private final String principal;
   private final Supplier<Collection<String>> domainNamespaces;
   private V1UserInfo userInfo;
   private final CallBuilder callBuilder;
+  private final String clientKey;
 
   /**
    * Construct a RestBackendImpl that is used to handle one WebLogic operator REST request.
@@ -86,6 +99,7 @@ public class RestBackendImpl implements RestBackend {
   RestBackendImpl(String principal, String accessToken, Supplier<Collection<String>> domainNamespaces) {
     this.domainNamespaces = domainNamespaces;
     this.principal = principal;
+    this.clientKey = DigestUtils.sha256Hex(Optional.ofNullable(accessToken).orElse(""));
     userInfo = authenticate(accessToken);
     callBuilder = userInfo != null ? new CallBuilder() :
         new CallBuilder().withAuthentication(accessToken);
@@ -99,25 +113,9 @@ public class RestBackendImpl implements RestBackend {
     }
     boolean authorized;
     if (domainUid == null) {
-      authorized =
-          atz.check(
-              userInfo.getUsername(),
-              userInfo.getGroups(),
-              operation,
-              Resource.DOMAINS,
-              null,
-              Scope.cluster,
-              null);
+      authorized = isAllowed(operation, null, Scope.cluster, null);
     } else {
-      authorized =
-          atz.check(
-              userInfo.getUsername(),
-              userInfo.getGroups(),
-              operation,
-              Resource.DOMAINS,
-              domainUid,
-              Scope.namespace,
-              getNamespace(domainUid));
+      authorized = isAllowed(operation, domainUid, Scope.namespace, getNamespace(domainUid));
     }
     if (authorized) {
       LOGGER.exiting();
@@ -129,6 +127,12 @@ public class RestBackendImpl implements RestBackend {
     throw e;
   }
 
+  private boolean isAllowed(Operation operation, String domainUid, Scope scope, String namespace) {
+    return decisionCache.isAllowed(userInfo, operation, Resource.DOMAINS, domainUid, scope, namespace,
+        () -> atz.check(userInfo.getUsername(), userInfo.getGroups(),
+                        operation, Resource.DOMAINS, domainUid, scope, namespace));
+  }
+
   private String getNamespace(String domainUid) {
     return getDomain(domainUid).map(Domain::getMetadata).map(V1ObjectMeta::getNamespace).orElse(null);
   }
@@ -139,6 +143,12 @@ public class RestBackendImpl implements RestBackend {
     if (!authenticateWithTokenReview()) {
       return null;
     }
+    userInfo = decisionCache.getUser(accessToken, () -> reviewToken(accessToken));
+    LOGGER.exiting(userInfo);
+    return userInfo;
+  }
+
+  private V1UserInfo reviewToken(String accessToken) {
     V1TokenReviewStatus status = atn.check(principal, accessToken,
         Main.isDedicated() ? getOperatorNamespace() : null);
     if (status == null) {
@@ -156,12 +166,11 @@ public class RestBackendImpl implements RestBackend {
       LOGGER.throwing(e);
       throw e;
     }
-    userInfo = status.getUser();
-    if (userInfo == null) {
+    V1UserInfo user = status.getUser();
+    if (user == null) {
       throw new AssertionError(LOGGER.formatMessage(MessageKeys.NULL_USER_INFO, status));
     }
-    LOGGER.exiting(userInfo);
-    return userInfo;
+    return user;
   }
 
   private boolean isNotAuthenticated(@Nonnull V1TokenReviewStatus status) {
@@ -216,7 +225,7 @@ public class RestBackendImpl implements RestBackend {
   }
 
   private void introspect(String domainUid) {
-    forDomainDo(domainUid, this::markForIntrospection);
+    forCurrentDomainDo(domainUid, this::markForIntrospection);
   }
 
   private void markForIntrospection(Domain domain) {
@@ -232,7 +241,7 @@ public class RestBackendImpl implements RestBackend {
   }
 
   private void restartDomain(String domainUid) {
-    forDomainDo(domainUid, this::markDomainForRestart);
+    forCurrentDomainDo(domainUid, this::markDomainForRestart);
   }
 
   private void markDomainForRestart(Domain domain) {
@@ -256,14 +265,48 @@ public class RestBackendImpl implements RestBackend {
     getDomain(domainUid).ifPresentOrElse(consumer, () -> reportNotFound(domainUid));
   }
 
+  // Patches are built from the domain's current spec, so the domains known to the operator, which may lag behind
+  // Kubernetes, are used only to find the namespace in which to read the domain.
+  private void forCurrentDomainDo(String domainUid, Consumer<Domain> consumer) {
+    if (domainUid == null) {
+      throw new AssertionError(LOGGER.formatMessage(MessageKeys.NULL_DOMAIN_UID));
+    }
+
+    getCurrentDomain(domainUid).ifPresentOrElse(consumer, () -> reportNotFound(domainUid));
+  }
+
   private void reportNotFound(String domainUid) {
     throw createWebApplicationException(Status.NOT_FOUND, MessageKeys.MATCHING_DOMAIN_NOT_FOUND, domainUid);
   }
 
   private Optional<Domain> getDomain(String domainUid) {
     authorize(null, Operation.list);
-    
-    return getDomainStream().filter(domain -> domainUid.equals(domain.getDomainUid())).findFirst();
+
+    return getKnownDomain(domainUid)
+        .or(() -> getDomainStream().filter(domain -> domainUid.equals(domain.getDomainUid())).findFirst());
+  }
+
+  private Optional<Domain> getCurrentDomain(String domainUid) {
+    authorize(null, Operation.list);
+
+    return getKnownDomain(domainUid)
+        .map(domain -> getDomains(domain.getMetadata().getNamespace()).stream())
+        .orElseGet(this::getDomainStream)
+        .filter(domain -> domainUid.equals(domain.getDomainUid()))
+        .findFirst();
+  }
+
+  // Without a token review, listing the domains with the client's token is what checks its access to them,
+  // so the domains already known to the operator may only be used when the token has been reviewed.
+  private Optional<Domain> getKnownDomain(String domainUid) {
+    if (!authenticateWithTokenReview()) {
+      return Optional.empty();
+    }
+
+    return domainNamespaces.get().stream()
+        .map(ns -> domainRetriever.getDomain(ns, domainUid))
+        .filter(Objects::nonNull)
+        .findFirst();
   }
 
   @Override
@@ -290,7 +333,7 @@ public class RestBackendImpl implements RestBackend {
   }
 
   @Override
-  public void scaleCluster(String domainUid, String cluster, int managedServerCount) {
+  public int scaleCluster(String domainUid, String cluster, int managedServerCount) {
     LOGGER.entering(domainUid, cluster, managedServerCount);
 
     if (managedServerCount < 0) {
@@ -299,13 +342,16 @@ public class RestBackendImpl implements RestBackend {
     }
 
     authorize(domainUid, Operation.update);
-    forDomainDo(domainUid, d -> performScaling(d, cluster, managedServerCount));
-    LOGGER.exiting();
+    forDomainDo(domainUid, d -> verifyWlsConfiguredClusterCapacity(d, cluster, managedServerCount));
+    int result = scaleRequests.scale(getScaleRequestKey(domainUid, cluster), managedServerCount,
+        replicas -> forCurrentDomainDo(domainUid, d -> patchClusterReplicas(d, cluster, replicas)));
+    LOGGER.exiting(result);
+    return result;
   }
 
-  private void performScaling(Domain domain, String cluster, int managedServerCount) {
-    verifyWlsConfiguredClusterCapacity(domain, cluster, managedServerCount);
-    patchClusterReplicas(domain, cluster, managedServerCount);
+  // only requests made with the same credentials are coalesced, as the patch is made with those of one of them
+  private String getScaleRequestKey(String domainUid, String cluster) {
+    return String.join("|", domainUid, cluster, clientKey);
   }
 
   private void patchClusterReplicas(Domain domain, String cluster, int replicas) {
@@ -434,4 +480,8 @@ public class RestBackendImpl implements RestBackend {
   interface TopologyRetriever {
     WlsDomainConfig getWlsDomainConfig(String ns, String domainUid);
   }
+
+  interface DomainRetriever {
+    Domain getDomain(String ns, String domainUid);
+  }
 }
@@ -10,17 +10,23 @@ import java.nio.file.Files;
 import java.security.SecureRandom;
 import java.util.Collection;
 import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.ThreadFactory;
 import javax.net.ssl.KeyManager;
 import javax.net.ssl.SSLContext;
 
 import io.kubernetes.client.util.SSLUtils;
+import oracle.kubernetes.operator.TuningParameters;
+import oracle.kubernetes.operator.TuningParameters.EngineTuning;
 import oracle.kubernetes.operator.logging.LoggingFacade;
 import oracle.kubernetes.operator.logging.LoggingFactory;
 import oracle.kubernetes.operator.rest.resource.VersionsResource;
 import oracle.kubernetes.operator.work.Container;
 import oracle.kubernetes.operator.work.ContainerResolver;
+import oracle.kubernetes.operator.work.Engine;
 import org.apache.commons.codec.binary.Base64;
 import org.glassfish.grizzly.http.server.HttpServer;
 import org.glassfish.grizzly.http.server.NetworkListener;
@@ -46,8 +52,10 @@ import org.glassfish.jersey.server.filter.CsrfProtectionFilter;
  * </ul>
  */
 public class RestServer {
+  public static final String REQUEST_EXECUTOR_PROPERTY = "RequestExecutor";
   private static final LoggingFacade LOGGER = LoggingFactory.getLogger("Operator", "Operator");
   private static final int CORE_POOL_SIZE = 3;
+  private static final int REQUEST_THREAD_COUNT = 16;
   private static final String SSL_PROTOCOL = "TLSv1.2";
   private static final String[] SSL_PROTOCOLS = {
     SSL_PROTOCOL
@@ -59,6 +67,8 @@ public class RestServer {
   private final String baseInternalHttpsUri;
   private HttpServer externalHttpsServer;
   private HttpServer internalHttpsServer;
+  private ExecutorService requestExecutorService;
+  private Executor requestExecutor;
 
   /**
    * Constructs the WebLogic Operator REST server.
@@ -127,9 +137,10 @@ public class RestServer {
    * package.
    *
    * @param restConfig the operator REST configuration
+   * @param requestExecutor the executor which runs the work of the REST requests that call Kubernetes
    * @return a resource configuration
    */
-  static ResourceConfig createResourceConfig(RestConfig restConfig) {
+  static ResourceConfig createResourceConfig(RestConfig restConfig, Executor requestExecutor) {
     ResourceConfig rc =
         new ResourceConfig()
             .register(JacksonFeature.class)
@@ -140,19 +151,33 @@ public class RestServer {
             .register(ResponseDebugLoggingFilter.class)
             .register(ExceptionMapper.class)
             .packages(VersionsResource.class.getPackageName());
-    rc.setProperties(Map.of(RestConfig.REST_CONFIG_PROPERTY, restConfig));
+    rc.setProperties(Map.of(RestConfig.REST_CONFIG_PROPERTY, restConfig, REQUEST_EXECUTOR_PROPERTY, requestExecutor));
     return rc;
   }
 
   private ResourceConfig createResourceConfig() {
     LOGGER.entering();
 
-    ResourceConfig rc = createResourceConfig(config);
+    ResourceConfig rc = createResourceConfig(config, requestExecutor);
 
     LOGGER.exiting();
     return rc;
   }
 
+  /**
+   * Creates the executor service which runs the work of the REST requests that call Kubernetes, so that a slow
+   * response does not hold one of the few threads of the HTTP server. It uses virtual threads when the fiber engine
+   * does.
+   * @return an executor service, which is shut down when the server is stopped
+   */
+  private static ExecutorService createRequestExecutorService() {
+    boolean virtualThreads = Optional.ofNullable(TuningParameters.getInstance())
+          .map(TuningParameters::getEngineTuning)
+          .map(tuning -> tuning.virtualThreads)
+          .orElse(false);
+    return Engine.createWorkExecutorService("rest", new EngineTuning(REQUEST_THREAD_COUNT, virtualThreads));
+  }
+
   private static byte[] readFromDataOrFile(String data, String file) throws IOException {
     if (data != null && data.length() > 0) {
       return Base64.decodeBase64(data);
@@ -195,6 +220,8 @@ public class RestServer {
       throw new AssertionError("Already started");
     }
     boolean fullyStarted = false;
+    requestExecutorService = createRequestExecutorService();
+    requestExecutor = Engine.withContainer(container, requestExecutorService);
     try {
       if (isExternalSslConfigured()) {
         externalHttpsServer = createExternalHttpsServer(container);
@@ -247,6 +274,11 @@ public class RestServer {
       internalHttpsServer = null;
       LOGGER.fine("Stopped the internal ssl REST server");
     }
+    if (requestExecutorService != null) {
+      requestExecutorService.shutdownNow();
+      requestExecutorService = null;
+      requestExecutor = null;
+    }
     LOGGER.exiting();
   }
 
@@ -0,0 +1,116 @@
+// Copyright (c) 2021, Oracle and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.rest;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.IntConsumer;
+
+import oracle.kubernetes.operator.metrics.Counter;
+import oracle.kubernetes.operator.metrics.MetricsRegistry;
+
+/**
+ * Coalesces the requests to scale a cluster which arrive while an earlier request for the same cluster is being
+ * applied. Such requests wait, and are then applied together by a single patch to the latest replica count
+ * requested, so that a burst of requests from an autoscaler does not issue a burst of competing patches.
+ *
+ * <p>The thread of the first request for a cluster applies the patches, until no more requests are waiting.
+ */
+class ScaleRequestQueue {
+
+  static final Counter SCALE_REQUESTS = MetricsRegistry.getInstance().counter(
+        "wko_scale_requests_total", "Number of cluster scaling requests received by the REST api");
+  static final Counter SCALE_PATCHES = MetricsRegistry.getInstance().counter(
+        "wko_scale_patches_total", "Number of domain patches made to apply cluster scaling requests");
+
+  private final Map<String, List<ScaleRequest>> pending = new HashMap<>();
+
+  ScaleRequestQueue() {
+    MetricsRegistry.getInstance().gauge(
+          "wko_scale_requests_pending", "Number of cluster scaling requests waiting to be applied",
+          this::getPendingCount);
+  }
+
+  /**
+   * Requests that a cluster be scaled, and waits until the request has been applied.
+   * @param key identifies the cluster and the client, so that only requests which the same client makes for the
+   *     same cluster are coalesced
+   * @param replicas the requested replica count
+   * @param patcher a function which patches the cluster to a replica count. It may throw a runtime exception,
+   *     which is thrown to each of the requests that it was to apply.
+   * @return the replica count applied, which is that of the latest coalesced request
+   */
+  int scale(String key, int replicas, IntConsumer patcher) {
+    SCALE_REQUESTS.inc();
+    ScaleRequest request = new ScaleRequest(replicas);
+    if (addRequest(key, request)) {
+      applyRequests(key, patcher);
+    }
+    return request.getResult();
+  }
+
+  // returns true if no request for the cluster was already being applied, so the caller must apply the requests
+  private synchronized boolean addRequest(String key, ScaleRequest request) {
+    List<ScaleRequest> requests = pending.get(key);
+    if (requests != null) {
+      requests.add(request);
+      return false;
+    }
+
+    pending.put(key, new ArrayList<>(List.of(request)));
+    return true;
+  }
+
+  private void applyRequests(String key, IntConsumer patcher) {
+    List<ScaleRequest> batch;
+    while (!(batch = takeRequests(key)).isEmpty()) {
+      int replicas = batch.get(batch.size() - 1).replicas;
+      try {
+        SCALE_PATCHES.inc();
+        patcher.accept(replicas);
+        batch.forEach(request -> request.result.complete(replicas));
+      } catch (RuntimeException e) {
+        batch.forEach(request -> request.result.completeExceptionally(e));
+      }
+    }
+  }
+
+  // removes the cluster once it has no waiting requests, so that the next request will apply itself
+  private synchronized List<ScaleRequest> takeRequests(String key) {
+    List<ScaleRequest> requests = pending.get(key);
+    if (requests.isEmpty()) {
+      pending.remove(key);
+      return requests;
+    }
+
+    List<ScaleRequest> batch = new ArrayList<>(requests);
+    requests.clear();
+    return batch;
+  }
+
+  synchronized int getPendingCount() {
+    return pending.values().stream().mapToInt(List::size).sum();
+  }
+
+  private static class ScaleRequest {
+    private final int replicas;
+    private final CompletableFuture<Integer> result = new CompletableFuture<>();
+
+    ScaleRequest(int replicas) {
+      this.replicas = replicas;
+    }
+
+    int getResult() {
+      try {
+        return result.join();
+      } catch (CompletionException e) {
+        throw (RuntimeException) e.getCause();
+      }
+    }
+  }
+}
@@ -70,6 +70,8 @@ public interface RestBackend {
    * @param cluster - the name of the cluster in the WebLogic domain. The caller is responsible for
    *     calling isCluster first and not calling this method if the cluster does not exist.
    * @param managedServerCount - the desired number of WebLogic managed servers.
+   * @return the number of managed servers configured. When concurrent requests to scale the same cluster are
+   *     combined, this is the number requested by the latest of them.
    */
-  void scaleCluster(String domainUid, String cluster, int managedServerCount);
+  int scaleCluster(String domainUid, String cluster, int managedServerCount);
 }
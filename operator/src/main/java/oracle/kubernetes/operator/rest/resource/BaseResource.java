@@ -5,15 +5,23 @@ package oracle.kubernetes.operator.rest.resource;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.Executor;
+import java.util.function.Supplier;
 
 import jakarta.ws.rs.WebApplicationException;
+import jakarta.ws.rs.container.AsyncResponse;
 import jakarta.ws.rs.container.ContainerRequestContext;
+import jakarta.ws.rs.core.Configuration;
 import jakarta.ws.rs.core.Context;
 import jakarta.ws.rs.core.Response;
 import jakarta.ws.rs.core.Response.Status;
 import jakarta.ws.rs.core.UriBuilder;
 import jakarta.ws.rs.core.UriInfo;
+import oracle.kubernetes.operator.metrics.Histogram;
+import oracle.kubernetes.operator.metrics.MetricsRegistry;
 import oracle.kubernetes.operator.rest.AuthenticationFilter;
+import oracle.kubernetes.operator.rest.RestServer;
 import oracle.kubernetes.operator.rest.backend.RestBackend;
 import oracle.kubernetes.operator.rest.model.LinkContainerModel;
 
@@ -28,6 +36,7 @@ public class BaseResource {
 
   @Context private UriInfo uriInfo;
   @Context private ContainerRequestContext containerRequestContext;
+  @Context private Configuration configuration;
 
   protected BaseResource(BaseResource parent, String pathSegment) {
     this.parent = parent;
@@ -55,6 +64,43 @@ public class BaseResource {
     return getRoot().containerRequestContext;
   }
 
+  /**
+   * Runs the specified request work on the REST request executor, rather than on the HTTP server thread which
+   * received the request, and resumes the suspended response with its result or exception. The time taken to
+   * respond is recorded under the name of the request.
+   *
+   * @param asyncResponse the suspended response
+   * @param requestName the name of the request, used to label its latency metric
+   * @param work the work of the request, which returns the response entity, or null for no content
+   */
+  protected void respondAsync(AsyncResponse asyncResponse, String requestName, Supplier<?> work) {
+    long startNanos = System.nanoTime();
+    getRequestExecutor().execute(() -> {
+      Object result;
+      try {
+        result = work.get();
+      } catch (RuntimeException | Error e) {
+        getRequestLatency(requestName).observeSince(startNanos);
+        asyncResponse.resume(e);
+        return;
+      }
+      getRequestLatency(requestName).observeSince(startNanos);
+      asyncResponse.resume(result);
+    });
+  }
+
+  private Executor getRequestExecutor() {
+    return Optional.ofNullable(getRoot().configuration)
+          .map(c -> (Executor) c.getProperty(RestServer.REQUEST_EXECUTOR_PROPERTY))
+          .orElse(Runnable::run);
+  }
+
+  private static Histogram getRequestLatency(String requestName) {
+    return MetricsRegistry.getInstance().histogram(
+          "wko_rest_request_seconds", "Time to respond to an operator REST request",
+          Histogram.LATENCY_BUCKETS, "request", requestName);
+  }
+
   protected BaseResource getRoot() {
     return (getParent() != null) ? getParent().getRoot() : this;
   }
@@ -8,9 +8,12 @@ import jakarta.ws.rs.GET;
 import jakarta.ws.rs.POST;
 import jakarta.ws.rs.Path;
 import jakarta.ws.rs.Produces;
+import jakarta.ws.rs.container.AsyncResponse;
+import jakarta.ws.rs.container.Suspended;
 import jakarta.ws.rs.core.MediaType;
 import oracle.kubernetes.operator.logging.LoggingFacade;
 import oracle.kubernetes.operator.logging.LoggingFactory;
+import oracle.kubernetes.operator.rest.backend.RestBackend;
 import oracle.kubernetes.operator.rest.model.DomainAction;
 import oracle.kubernetes.operator.rest.model.DomainModel;
 
@@ -53,11 +56,17 @@ public class DomainResource extends BaseResource {
    * Apply changes to this domain. The changes depend on the details of the specified instructions
    *
    * @param params - an update command, including a command type and optional parameters
+   * @param asyncResponse - the response, which is resumed once the changes have been applied
    */
   @POST
   @Consumes(MediaType.APPLICATION_JSON)
-  public void post(final DomainAction params) {
-    getBackend().performDomainAction(getDomainUid(), params);
+  public void post(final DomainAction params, @Suspended AsyncResponse asyncResponse) {
+    RestBackend backend = getBackend();
+    String domainUid = getDomainUid();
+    respondAsync(asyncResponse, "performDomainAction", () -> {
+      backend.performDomainAction(domainUid, params);
+      return null;
+    });
   }
 
   /**
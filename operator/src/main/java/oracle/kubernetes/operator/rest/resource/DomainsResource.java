@@ -8,9 +8,12 @@ import jakarta.ws.rs.Path;
 import jakarta.ws.rs.PathParam;
 import jakarta.ws.rs.Produces;
 import jakarta.ws.rs.WebApplicationException;
+import jakarta.ws.rs.container.AsyncResponse;
+import jakarta.ws.rs.container.Suspended;
 import jakarta.ws.rs.core.MediaType;
 import oracle.kubernetes.operator.logging.LoggingFacade;
 import oracle.kubernetes.operator.logging.LoggingFactory;
+import oracle.kubernetes.operator.rest.backend.RestBackend;
 import oracle.kubernetes.operator.rest.model.CollectionModel;
 import oracle.kubernetes.operator.rest.model.DomainModel;
 
@@ -36,20 +39,28 @@ public class DomainsResource extends BaseResource {
   /**
    * List the WebLogic domains that are registered with the WebLogic operator.
    *
-   * @return a collection of DomainModels describing the domains.
+   * @param asyncResponse - the response, which is resumed with a collection of DomainModels describing
+   *     the domains.
    */
   @GET
   @Produces(MediaType.APPLICATION_JSON)
-  public CollectionModel<DomainModel> get() {
+  public void get(@Suspended AsyncResponse asyncResponse) {
     LOGGER.entering(href());
+    RestBackend backend = getBackend();
+    String href = href();
+    String parentHref = getParent().href();
+    respondAsync(asyncResponse, "getDomains", () -> createCollection(backend, href, parentHref));
+    LOGGER.exiting();
+  }
+
+  private CollectionModel<DomainModel> createCollection(RestBackend backend, String href, String parentHref) {
     CollectionModel<DomainModel> collection = new CollectionModel<>();
-    for (String domainUid : getBackend().getDomainUids()) {
+    for (String domainUid : backend.getDomainUids()) {
       DomainModel item = new DomainModel(domainUid);
-      item.addSelfLinks(href(item.getDomainUid()));
+      item.addSelfLinks(href + "/" + domainUid);
       collection.addItem(item);
     }
-    addSelfAndParentLinks(collection);
-    LOGGER.exiting(collection);
+    collection.addSelfAndParentLinks(href, parentHref);
     return collection;
   }
 
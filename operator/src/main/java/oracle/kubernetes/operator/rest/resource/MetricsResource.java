@@ -0,0 +1,45 @@
+// Copyright (c) 2021, Oracle and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.rest.resource;
+
+import jakarta.ws.rs.GET;
+import jakarta.ws.rs.Produces;
+import jakarta.ws.rs.core.MediaType;
+import oracle.kubernetes.operator.logging.LoggingFacade;
+import oracle.kubernetes.operator.logging.LoggingFactory;
+import oracle.kubernetes.operator.metrics.MetricsRegistry;
+
+/**
+ * MetricsResource is a jaxrs resource that implements the REST api for the
+ * /operator/{version}/metrics path. It can be used to get the operator's internal performance
+ * metrics in the Prometheus text format.
+ */
+public class MetricsResource extends BaseResource {
+
+  private static final LoggingFacade LOGGER = LoggingFactory.getLogger("Operator", "Operator");
+
+  /**
+   * Construct a MetricsResource.
+   *
+   * @param parent - the jaxrs resource that parents this resource.
+   * @param pathSegment - the last path segment in the url to this resource.
+   */
+  public MetricsResource(BaseResource parent, String pathSegment) {
+    super(parent, pathSegment);
+  }
+
+  /**
+   * Get the operator's internal metrics.
+   *
+   * @return the metrics, in the Prometheus text format.
+   */
+  @GET
+  @Produces(MediaType.TEXT_PLAIN)
+  public String get() {
+    LOGGER.entering();
+    String result = MetricsRegistry.getInstance().scrape();
+    LOGGER.exiting();
+    return result;
+  }
+}
@@ -5,9 +5,13 @@ package oracle.kubernetes.operator.rest.resource;
 
 import jakarta.ws.rs.Consumes;
 import jakarta.ws.rs.POST;
+import jakarta.ws.rs.container.AsyncResponse;
+import jakarta.ws.rs.container.Suspended;
 import jakarta.ws.rs.core.MediaType;
+import jakarta.ws.rs.core.Response;
 import oracle.kubernetes.operator.logging.LoggingFacade;
 import oracle.kubernetes.operator.logging.LoggingFactory;
+import oracle.kubernetes.operator.rest.backend.RestBackend;
 import oracle.kubernetes.operator.rest.model.ScaleClusterParamsModel;
 
 /**
@@ -36,12 +40,21 @@ public class ScaleClusterResource extends BaseResource {
    *
    * @param params - a ScaleClusterParamsModel that specifies the desired number of managed servers
    *     in the cluster
+   * @param asyncResponse - the response, which is resumed once the scaling has been configured, with the
+   *     number of managed servers configured
    */
   @POST
   @Consumes(MediaType.APPLICATION_JSON)
-  public void post(final ScaleClusterParamsModel params) {
+  public void post(final ScaleClusterParamsModel params, @Suspended AsyncResponse asyncResponse) {
     LOGGER.entering(href(), params);
-    getBackend().scaleCluster(getDomainUid(), getCluster(), params.getManagedServerCount());
+    RestBackend backend = getBackend();
+    String domainUid = getDomainUid();
+    String cluster = getCluster();
+    respondAsync(asyncResponse, "scaleCluster", () -> {
+      ScaleClusterParamsModel result = new ScaleClusterParamsModel();
+      result.setManagedServerCount(backend.scaleCluster(domainUid, cluster, params.getManagedServerCount()));
+      return Response.accepted(result).build();
+    });
     LOGGER.exiting();
   }
 
@@ -49,6 +49,7 @@ public class VersionResource extends BaseResource {
     addSelfAndParentLinks(item);
     addLink(item, "domains");
     addLink(item, "swagger");
+    addLink(item, "metrics");
     LOGGER.exiting(item);
     return item;
   }
@@ -79,6 +80,19 @@ public class VersionResource extends BaseResource {
     return result;
   }
 
+  /**
+   * Construct and return the 'metrics' jaxrs child resource.
+   *
+   * @return the metrics sub resource.
+   */
+  @Path("metrics")
+  public MetricsResource getMetricsResource() {
+    LOGGER.entering(href());
+    MetricsResource result = new MetricsResource(this, "metrics");
+    LOGGER.exiting(result);
+    return result;
+  }
+
   private String getVersion() {
     return getPathSegment();
   }
@@ -27,12 +27,15 @@ import oracle.kubernetes.operator.Pair;
 import oracle.kubernetes.operator.ProcessingConstants;
 import oracle.kubernetes.operator.WebLogicConstants;
 import oracle.kubernetes.operator.helpers.DomainPresenceInfo;
+import oracle.kubernetes.operator.helpers.LastKnownHealth;
 import oracle.kubernetes.operator.helpers.SecretHelper;
 import oracle.kubernetes.operator.http.HttpResponseStep;
 import oracle.kubernetes.operator.logging.LoggingFacade;
 import oracle.kubernetes.operator.logging.LoggingFactory;
 import oracle.kubernetes.operator.logging.LoggingFilter;
 import oracle.kubernetes.operator.logging.MessageKeys;
+import oracle.kubernetes.operator.metrics.Counter;
+import oracle.kubernetes.operator.metrics.MetricsRegistry;
 import oracle.kubernetes.operator.rest.Scan;
 import oracle.kubernetes.operator.rest.ScanCache;
 import oracle.kubernetes.operator.wlsconfig.PortDetails;
@@ -53,10 +56,17 @@ import static oracle.kubernetes.utils.OperatorUtils.emptyToNull;
 
 public class ReadHealthStep extends Step {
 
+  public static final String HEALTH_READ_METRIC = "wko_server_health_read_seconds";
   static final String OVERALL_HEALTH_NOT_AVAILABLE = "Not available";
   static final String OVERALL_HEALTH_FOR_SERVER_OVERLOADED =
       OVERALL_HEALTH_NOT_AVAILABLE + " (possibly overloaded)";
   private static final LoggingFacade LOGGER = LoggingFactory.getLogger("Operator", "Operator");
+  static final Counter HEALTH_CACHE_HITS = MetricsRegistry.getInstance().counter(
+        "wko_server_health_cache_hits_total",
+        "Number of server health responses which were unchanged from the previous read, and so were not parsed");
+  static final Counter HEALTH_CACHE_MISSES = MetricsRegistry.getInstance().counter(
+        "wko_server_health_cache_misses_total",
+        "Number of server health responses which were parsed");
 
   private ReadHealthStep(Step next) {
     super(next);
@@ -191,7 +201,9 @@ public class ReadHealthStep extends Step {
     @Override
     public NextAction apply(Packet packet) {
       ReadHealthProcessing processing = new ReadHealthProcessing(packet, service, pod);
-      return doNext(createRequestStep(processing.createRequest(), new RecordHealthStep(getNext())), packet);
+      return doNext(createRequestStep(processing.createRequest(), new RecordHealthStep(getNext()))
+            .withAdaptiveTimeout()
+            .withLatencyMetric(HEALTH_READ_METRIC, "Time taken to read the health of a WebLogic server"), packet);
     }
 
   }
@@ -259,10 +271,24 @@ public class ReadHealthStep extends Step {
       }
 
       void recordStateAndHealth() throws IOException {
-        Pair<String, ServerHealth> pair = RecordHealthStep.parseServerHealthJson(getResponse().body());
-        String state = emptyToNull(pair.getLeft());
-        ServerHealth health = pair.getRight();
-        recordStateAndHealth(state, health);
+        LastKnownHealth lastKnownHealth = getLastKnownHealth(getResponse().body());
+        recordStateAndHealth(lastKnownHealth.getState(), lastKnownHealth.getHealth());
+      }
+
+      // an unchanged response is not parsed again, and yields the same health instance as before,
+      // so that comparisons with the previously observed status are cheap
+      private LastKnownHealth getLastKnownHealth(String body) throws IOException {
+        LastKnownHealth previous = getDomainPresenceInfo().getLastKnownServerHealth(serverName);
+        if (previous != null && body != null && previous.isFrom(body)) {
+          HEALTH_CACHE_HITS.inc();
+          return previous;
+        }
+
+        HEALTH_CACHE_MISSES.inc();
+        Pair<String, ServerHealth> pair = RecordHealthStep.parseServerHealthJson(body);
+        LastKnownHealth lastKnownHealth = new LastKnownHealth(body, emptyToNull(pair.getLeft()), pair.getRight());
+        getDomainPresenceInfo().setLastKnownServerHealth(serverName, lastKnownHealth);
+        return lastKnownHealth;
       }
 
       private void recordStateAndHealth(String state, ServerHealth health) {
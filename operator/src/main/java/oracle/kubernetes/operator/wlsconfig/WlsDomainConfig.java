@@ -4,9 +4,11 @@
 package oracle.kubernetes.operator.wlsconfig;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.stream.Collectors;
 import javax.annotation.Nonnull;
 
@@ -21,7 +23,10 @@ import org.apache.commons.lang3.builder.ToStringBuilder;
 
 import static oracle.kubernetes.utils.OperatorUtils.isNullOrEmpty;
 
-/** Contains a snapshot of configuration for a WebLogic Domain. */
+/**
+ * Contains a snapshot of configuration for a WebLogic Domain. Lookups of servers and clusters by name use an index
+ * of the configuration, which is rebuilt if servers or clusters are added after it was created.
+ */
 public class WlsDomainConfig implements WlsDomain {
   private static final LoggingFacade LOGGER = LoggingFactory.getLogger("Operator", "Operator");
 
@@ -39,6 +44,9 @@ public class WlsDomainConfig implements WlsDomain {
   // Contains all configured machines in the WLS domain
   private Map<String, WlsMachineConfig> wlsMachineConfigs = new HashMap<>();
 
+  // not part of the configuration: don't include in toString, hashCode, equals
+  private volatile TopologyIndex index;
+
   public WlsDomainConfig() {
   }
 
@@ -207,11 +215,7 @@ public class WlsDomainConfig implements WlsDomain {
    * @return cluster name
    */
   public String getClusterName(String serverName) {
-    return getConfiguredClusters().stream()
-        .filter(c -> c.hasNamedServer(serverName))
-        .findFirst()
-        .map(WlsClusterConfig::getClusterName)
-        .orElse(null);
+    return serverName == null ? null : getIndex().clusterNamesByServerName.get(serverName);
   }
 
   /**
@@ -242,12 +246,8 @@ public class WlsDomainConfig implements WlsDomain {
    * @return A Map of WlsClusterConfig, keyed by name, containing server configurations for all
    *     clusters found in the WLS domain
    */
-  public synchronized Map<String, WlsClusterConfig> getClusterConfigs() {
-    Map<String, WlsClusterConfig> clusterConfigs = new HashMap<>();
-    for (WlsClusterConfig clusterConfig : configuredClusters) {
-      clusterConfigs.put(clusterConfig.getClusterName(), clusterConfig);
-    }
-    return clusterConfigs;
+  public Map<String, WlsClusterConfig> getClusterConfigs() {
+    return Collections.unmodifiableMap(getIndex().clustersByName);
   }
 
   public List<WlsClusterConfig> getConfiguredClusters() {
@@ -261,12 +261,8 @@ public class WlsDomainConfig implements WlsDomain {
    *
    * @return A Map of WlsServerConfig, keyed by name, for each server configured the WLS domain
    */
-  public synchronized Map<String, WlsServerConfig> getServerConfigs() {
-    Map<String, WlsServerConfig> serverConfigs = new HashMap<>();
-    for (WlsServerConfig serverConfig : servers) {
-      serverConfigs.put(serverConfig.getName(), serverConfig);
-    }
-    return serverConfigs;
+  public Map<String, WlsServerConfig> getServerConfigs() {
+    return Collections.unmodifiableMap(getIndex().serversByName);
   }
 
   public List<WlsServerConfig> getServers() {
@@ -282,7 +278,7 @@ public class WlsDomainConfig implements WlsDomain {
    *
    * @return A Map of WlsMachineConfig, keyed by name, for each machine configured the WLS domain
    */
-  public synchronized Map<String, WlsMachineConfig> getMachineConfigs() {
+  public Map<String, WlsMachineConfig> getMachineConfigs() {
     return wlsMachineConfigs;
   }
 
@@ -294,16 +290,8 @@ public class WlsDomainConfig implements WlsDomain {
    *     name. This methods return an empty WlsClusterConfig object even if no WLS configuration is
    *     found for the given cluster name.
    */
-  public synchronized WlsClusterConfig getClusterConfig(String clusterName) {
-    WlsClusterConfig result = null;
-    if (clusterName != null) {
-      for (WlsClusterConfig clusterConfig : configuredClusters) {
-        if (clusterConfig.getClusterName().equals(clusterName)) {
-          result = clusterConfig;
-          break;
-        }
-      }
-    }
+  public WlsClusterConfig getClusterConfig(String clusterName) {
+    WlsClusterConfig result = clusterName == null ? null : getIndex().clustersByName.get(clusterName);
     if (result == null) {
       // create an empty WlsClusterConfig, but do not add to configuredClusters
       result = new WlsClusterConfig(clusterName);
@@ -319,17 +307,8 @@ public class WlsDomainConfig implements WlsDomain {
    * @return The WlsServerConfig object containing configuration of the WLS server with the given
    *     name. This methods return null if no WLS configuration is found for the given server name.
    */
-  public synchronized WlsServerConfig getServerConfig(String serverName) {
-    WlsServerConfig result = null;
-    if (serverName != null && servers != null) {
-      for (WlsServerConfig serverConfig : servers) {
-        if (serverConfig.getName().equals(serverName)) {
-          result = serverConfig;
-          break;
-        }
-      }
-    }
-    return result;
+  public WlsServerConfig getServerConfig(String serverName) {
+    return serverName == null ? null : getIndex().serversByName.get(serverName);
   }
 
   /**
@@ -338,16 +317,8 @@ public class WlsDomainConfig implements WlsDomain {
    * @param clusterName cluster name to be checked
    * @return True if the WebLogic domain contains a cluster with the given cluster name
    */
-  public synchronized boolean containsCluster(String clusterName) {
-    if (clusterName != null) {
-      for (WlsClusterConfig clusterConfig : configuredClusters) {
-        if (clusterConfig.getClusterName().equals(clusterName)) {
-          return true;
-        }
-      }
-    }
-
-    return false;
+  public boolean containsCluster(String clusterName) {
+    return clusterName != null && getIndex().clustersByName.containsKey(clusterName);
   }
 
   /**
@@ -357,10 +328,11 @@ public class WlsDomainConfig implements WlsDomain {
    * @param serverName server name to be checked
    * @return True if the WebLogic domain contains a server with the given server name
    */
-  public synchronized boolean containsServer(String serverName) {
+  public boolean containsServer(String serverName) {
     if (!isNullOrEmpty(serverName)) {
-      return getServers().stream().anyMatch(s -> serverName.equals(s.getName()))
-          || getConfiguredClusters().stream().anyMatch(c -> c.containsServer(serverName));
+      TopologyIndex topologyIndex = getIndex();
+      return topologyIndex.serversByName.containsKey(serverName)
+          || topologyIndex.clusterNamesByServerName.containsKey(serverName);
     }
     return false;
   }
@@ -372,7 +344,7 @@ public class WlsDomainConfig implements WlsDomain {
    * @return The WlsMachineConfig object containing configuration of the WLS machine with the given
    *     name. This methods return null if no WLS machine is configured with the given name.
    */
-  public synchronized WlsMachineConfig getMachineConfig(String machineName) {
+  public WlsMachineConfig getMachineConfig(String machineName) {
     WlsMachineConfig result = null;
     if (machineName != null && wlsMachineConfigs != null) {
       result = wlsMachineConfigs.get(machineName);
@@ -387,11 +359,10 @@ public class WlsDomainConfig implements WlsDomain {
 
   @Override
   public int getReplicaLimit(String clusterName) {
-    if (!getClusterConfigs().containsKey(clusterName)) {
-      return 0;
-    }
-
-    return getClusterConfigs().get(clusterName).getMaxClusterSize();
+    return Optional.ofNullable(clusterName)
+          .map(getIndex().clustersByName::get)
+          .map(WlsClusterConfig::getMaxClusterSize)
+          .orElse(0);
   }
 
   /**
@@ -407,13 +378,20 @@ public class WlsDomainConfig implements WlsDomain {
     return this;
   }
 
-  public WlsDomainConfig addWlsServer(String name, String listenAddress, int port) {
+  public synchronized WlsDomainConfig addWlsServer(String name, String listenAddress, int port) {
     getServers().add(new WlsServerConfig(name, listenAddress, port));
+    index = null;
     return this;
   }
 
-  public WlsDomainConfig withCluster(WlsClusterConfig clusterConfig) {
+  /**
+   * Adds a cluster to this domain.
+   * @param clusterConfig the cluster to add
+   * @return this object
+   */
+  public synchronized WlsDomainConfig withCluster(WlsClusterConfig clusterConfig) {
     configuredClusters.add(clusterConfig);
+    index = null;
     return this;
   }
 
@@ -511,7 +489,7 @@ public class WlsDomainConfig implements WlsDomain {
   /**
    * Process dynamic clusters.
    */
-  public void processDynamicClusters() {
+  public synchronized void processDynamicClusters() {
     for (WlsClusterConfig wlsClusterConfig : configuredClusters) {
       wlsClusterConfig.setWlsDomainConfig(this);
       if (wlsClusterConfig.hasDynamicServers()) {
@@ -530,6 +508,22 @@ public class WlsDomainConfig implements WlsDomain {
         }
       }
     }
+    index = new TopologyIndex(this);
+  }
+
+  private TopologyIndex getIndex() {
+    TopologyIndex result = index;
+    return result != null && result.isCurrent(this) ? result : rebuildIndex();
+  }
+
+  // the lists are read under the same lock as the changes made by this class, so that they are not changed mid-scan
+  private synchronized TopologyIndex rebuildIndex() {
+    TopologyIndex result = index;
+    if (result == null || !result.isCurrent(this)) {
+      result = new TopologyIndex(this);
+      index = result;
+    }
+    return result;
   }
 
   WlsServerConfig getServerTemplate(String serverTemplateName) {
@@ -541,6 +535,87 @@ public class WlsDomainConfig implements WlsDomain {
     return null;
   }
 
+  /**
+   * An immutable index of the servers and clusters in the domain. It records the lists from which it was built,
+   * so that a lookup can verify, without locking, that no server or cluster has since been added or removed.
+   * Only a rebuild of the index takes the lock on the domain configuration.
+   */
+  private static class TopologyIndex {
+    private final Map<String, WlsServerConfig> serversByName = new HashMap<>();
+    private final Map<String, WlsClusterConfig> clustersByName = new HashMap<>();
+    private final Map<String, String> clusterNamesByServerName = new HashMap<>();
+    private final List<WlsServerConfig> servers;
+    private final int numServers;
+    private final List<WlsClusterConfig> clusters;
+    private final List<ClusterState> clusterStates = new ArrayList<>();
+
+    TopologyIndex(WlsDomainConfig config) {
+      servers = config.servers;
+      numServers = sizeOf(servers);
+      clusters = config.configuredClusters;
+      Optional.ofNullable(servers).ifPresent(list -> list.forEach(this::addServer));
+      Optional.ofNullable(clusters).ifPresent(list -> list.forEach(this::addCluster));
+    }
+
+    // the first entry with a given name is used, as when searching the lists
+    private void addServer(WlsServerConfig server) {
+      serversByName.putIfAbsent(server.getName(), server);
+    }
+
+    private void addCluster(WlsClusterConfig cluster) {
+      clusterStates.add(new ClusterState(cluster));
+      clustersByName.putIfAbsent(cluster.getClusterName(), cluster);
+      for (WlsServerConfig server : cluster.getServerConfigs()) {
+        clusterNamesByServerName.putIfAbsent(server.getName(), cluster.getClusterName());
+      }
+    }
+
+    boolean isCurrent(WlsDomainConfig config) {
+      if (config.servers != servers || sizeOf(servers) != numServers || config.configuredClusters != clusters
+            || sizeOf(clusters) != clusterStates.size()) {
+        return false;
+      }
+      for (int i = 0; i < clusterStates.size(); i++) {
+        if (!clusterStates.get(i).isCurrent(clusters.get(i))) {
+          return false;
+        }
+      }
+      return true;
+    }
+
+    private static int sizeOf(List<?> list) {
+      return list == null ? 0 : list.size();
+    }
+  }
+
+  private static class ClusterState {
+    private final WlsClusterConfig cluster;
+    private final int numStaticServers;
+    private final List<WlsServerConfig> dynamicServers;
+    private final int numDynamicServers;
+
+    ClusterState(WlsClusterConfig cluster) {
+      this.cluster = cluster;
+      this.numStaticServers = cluster.getServers().size();
+      this.dynamicServers = getDynamicServers(cluster);
+      this.numDynamicServers = TopologyIndex.sizeOf(dynamicServers);
+    }
+
+    private static List<WlsServerConfig> getDynamicServers(WlsClusterConfig cluster) {
+      return Optional.ofNullable(cluster.getDynamicServersConfig())
+            .map(WlsDynamicServersConfig::getServerConfigs)
+            .orElse(null);
+    }
+
+    boolean isCurrent(WlsClusterConfig cluster) {
+      List<WlsServerConfig> currentDynamicServers = getDynamicServers(cluster);
+      return cluster == this.cluster
+            && cluster.getServers().size() == numStaticServers
+            && currentDynamicServers == dynamicServers
+            && TopologyIndex.sizeOf(currentDynamicServers) == numDynamicServers;
+    }
+  }
+
   /**
    * Object used by the {@link #parseJson(String)} method to return multiple parsed objects.
    */
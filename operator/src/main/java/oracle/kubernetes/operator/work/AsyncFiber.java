@@ -40,4 +40,11 @@ public interface AsyncFiber {
    * @return a new child fiber
    */
   Fiber createChildFiber();
+
+  /**
+   * Creates a Fiber on the same engine which is not a child of this one, and so is not cancelled with it.
+   *
+   * @return a new fiber
+   */
+  Fiber createIndependentFiber();
 }
@@ -4,6 +4,8 @@
 package oracle.kubernetes.operator.work;
 
 import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.ScheduledThreadPoolExecutor;
 import java.util.concurrent.ThreadFactory;
@@ -11,20 +13,49 @@ import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicReference;
 import javax.annotation.Nonnull;
 
+import oracle.kubernetes.operator.TuningParameters.EngineTuning;
+import oracle.kubernetes.operator.logging.LoggingFacade;
+import oracle.kubernetes.operator.logging.LoggingFactory;
+import oracle.kubernetes.operator.logging.MessageKeys;
+import oracle.kubernetes.operator.metrics.Histogram;
+import oracle.kubernetes.operator.metrics.MetricsRegistry;
+
 /**
- * Collection of {@link Fiber}s. Owns an {@link Executor} to run them.
+ * Collection of {@link Fiber}s. Owns a {@link ScheduledExecutorService} to run timed tasks,
+ * and an {@link Executor} to run the fibers themselves.
  */
 public class Engine {
+  private static final LoggingFacade LOGGER = LoggingFactory.getLogger("Operator", "Operator");
   private static final int DEFAULT_THREAD_COUNT = 10;
+  private static final double[] QUEUE_DEPTH_BUCKETS = {0, 1, 2, 5, 10, 25, 50, 100, 250, 500, 1000};
+  private static final Histogram QUEUE_DEPTH = MetricsRegistry.getInstance().histogram("wko_fiber_queue_depth",
+        "Number of fibers waiting for a thread when another is submitted", QUEUE_DEPTH_BUCKETS);
+  private static final Histogram QUEUE_WAIT_SECONDS = MetricsRegistry.getInstance().histogram(
+        "wko_fiber_queue_wait_seconds", "Time a runnable fiber waits for a thread", Histogram.LATENCY_BUCKETS);
+
   private final AtomicReference<ScheduledExecutorService> threadPool = new AtomicReference<>();
+  private final Executor workExecutor;
+  private final AtomicInteger queued = new AtomicInteger();
 
   /**
-   * Creates engine with the specified executor.
+   * Creates engine with the specified executor, used both to run fibers and for timed tasks.
    *
    * @param threadPool Executor
    */
   public Engine(ScheduledExecutorService threadPool) {
+    this(threadPool, threadPool);
+  }
+
+  /**
+   * Creates engine with separate executors for timed tasks and for running fibers. Timed tasks
+   * only start or resume fibers, so a small scheduler may serve an engine whose fibers run elsewhere.
+   *
+   * @param threadPool the executor for timed tasks
+   * @param workExecutor the executor which runs fibers
+   */
+  public Engine(ScheduledExecutorService threadPool, Executor workExecutor) {
     this.threadPool.set(threadPool);
+    this.workExecutor = workExecutor;
   }
 
   /**
@@ -53,6 +84,68 @@ public class Engine {
     return container != null ? ContainerResolver.getDefault().wrapExecutor(container, ex) : ex;
   }
 
+  /**
+   * Creates an executor to run fibers, as selected by the tuning parameters. If virtual threads are requested
+   * and the JVM supports them, each fiber run uses a new virtual thread; otherwise, the fibers share a fixed pool of
+   * daemon threads.
+   * @param id id
+   * @param container the container which each fiber run enters, or null
+   * @param tuning the engine tuning parameters
+   * @return an executor
+   */
+  public static Executor createWorkExecutor(String id, Container container, EngineTuning tuning) {
+    return withContainer(container, createWorkExecutorService(id, tuning));
+  }
+
+  /**
+   * Creates an executor service as selected by the tuning parameters, which the caller is responsible for shutting
+   * down. If virtual threads are requested and the JVM supports them, each task uses a new virtual thread;
+   * otherwise, the tasks share a fixed pool of daemon threads.
+   * @param id id
+   * @param tuning the engine tuning parameters
+   * @return an executor service
+   */
+  public static ExecutorService createWorkExecutorService(String id, EngineTuning tuning) {
+    ExecutorService executor = null;
+    if (tuning.virtualThreads) {
+      executor = createVirtualThreadExecutor();
+    }
+    if (executor == null) {
+      executor = Executors.newFixedThreadPool(Math.max(1, tuning.threadCount), new DaemonThreadFactory(id));
+    }
+    return executor;
+  }
+
+  // Virtual threads are not part of the Java release this is compiled for, so find them reflectively
+  private static ExecutorService createVirtualThreadExecutor() {
+    try {
+      return (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+    } catch (ReflectiveOperationException | RuntimeException e) {
+      LOGGER.warning(MessageKeys.VIRTUAL_THREADS_UNAVAILABLE, e.toString());
+      return null;
+    }
+  }
+
+  /**
+   * Wraps an executor so that each task it runs enters the specified container.
+   * @param container the container which each task enters, or null to return the executor unchanged
+   * @param executor the executor to wrap
+   * @return an executor
+   */
+  public static Executor withContainer(Container container, Executor executor) {
+    if (container == null) {
+      return executor;
+    }
+    return command -> executor.execute(() -> {
+      Container old = ContainerResolver.getDefault().enterContainer(container);
+      try {
+        command.run();
+      } finally {
+        ContainerResolver.getDefault().exitContainer(old);
+      }
+    });
+  }
+
   /**
    * Returns the executor.
    *
@@ -63,7 +156,13 @@ public class Engine {
   }
 
   void addRunnable(Fiber fiber) {
-    getExecutor().execute(fiber);
+    long submitted = System.nanoTime();
+    QUEUE_DEPTH.observe(queued.getAndIncrement());
+    workExecutor.execute(() -> {
+      queued.decrementAndGet();
+      QUEUE_WAIT_SECONDS.observeSince(submitted);
+      fiber.run();
+    });
   }
 
   /**
@@ -18,6 +18,8 @@ import java.util.function.Consumer;
 import oracle.kubernetes.operator.logging.LoggingFacade;
 import oracle.kubernetes.operator.logging.LoggingFactory;
 import oracle.kubernetes.operator.logging.MessageKeys;
+import oracle.kubernetes.operator.metrics.Histogram;
+import oracle.kubernetes.operator.metrics.MetricsRegistry;
 import oracle.kubernetes.operator.work.NextAction.Kind;
 
 import static oracle.kubernetes.operator.logging.MessageKeys.CURRENT_STEPS;
@@ -54,6 +56,8 @@ public final class Fiber implements Runnable, ComponentRegistry, AsyncFiber {
   private static final int DONE = 1;
   private static final int CANCELLED = 2;
   private static final ThreadLocal<Fiber> CURRENT_FIBER = new ThreadLocal<>();
+  private static final Histogram STEP_SECONDS = MetricsRegistry.getInstance().histogram("wko_fiber_step_seconds",
+        "Time spent in a single fiber step", Histogram.LATENCY_BUCKETS);
   /** Used to allocate unique number for each fiber. */
   private static final AtomicInteger iotaGen = new AtomicInteger();
   public final Engine owner;
@@ -242,6 +246,11 @@ public final class Fiber implements Runnable, ComponentRegistry, AsyncFiber {
     }
   }
 
+  @Override
+  public Fiber createIndependentFiber() {
+    return owner.createFiber();
+  }
+
   /**
    * The most recently invoked step if the fiber is currently suspended.
    * @return Last invoked step for suspended fiber.
@@ -448,6 +457,7 @@ public final class Fiber implements Runnable, ComponentRegistry, AsyncFiber {
       addBreadCrumb(na);
 
       NextAction result;
+      long stepStart = System.nanoTime();
       try {
         result = na.next.apply(na.packet);
       } catch (Throwable t) {
@@ -457,6 +467,8 @@ public final class Fiber implements Runnable, ComponentRegistry, AsyncFiber {
 
         addBreadCrumb(na);
         return false;
+      } finally {
+        STEP_SECONDS.observeSince(stepStart);
       }
 
       if (LOGGER.isFinerEnabled()) {
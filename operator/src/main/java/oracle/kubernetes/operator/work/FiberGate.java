@@ -3,14 +3,19 @@
 
 package oracle.kubernetes.operator.work;
 
+import java.util.ArrayDeque;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.Queue;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicReference;
 
 import oracle.kubernetes.operator.ProcessingConstants;
+import oracle.kubernetes.operator.metrics.Counter;
+import oracle.kubernetes.operator.metrics.MetricsRegistry;
 import oracle.kubernetes.operator.work.Fiber.CompletionCallback;
 
 /**
@@ -18,13 +23,26 @@ import oracle.kubernetes.operator.work.Fiber.CompletionCallback;
  * this class cancels the earlier arriving Fibers. For the operator, this makes sense as domain
  * presence Fibers that come later will always complete or correct work that may have been
  * in-flight.
+ *
+ * <p>Fibers may instead be {@link #enqueueFiber enqueued}, in which case requests for the same key which arrive
+ * within the coalescing window are merged into a single start, and no more than the configured number of fibers
+ * run at once; requests beyond that limit wait for a running fiber to complete.
  */
 public class FiberGate {
+  private static final Counter COALESCED = MetricsRegistry.getInstance().counter("wko_fiber_gate_coalesced_total",
+        "Number of enqueued fiber requests merged into an earlier pending request for the same key");
+
   private final Engine engine;
   private final ConcurrentMap<String, Fiber> gateMap = new ConcurrentHashMap<>();
 
   private final Fiber placeholder;
 
+  // requests not yet started, and the keys of those which are waiting only for a free slot; guarded by this
+  private final Map<String, PendingFiber> pending = new HashMap<>();
+  private final Queue<String> waiting = new ArrayDeque<>();
+  private long coalescingWindowMillis;
+  private int maxConcurrentFibers;
+
   /**
    * Constructor taking Engine for running Fibers.
    *
@@ -47,6 +65,85 @@ public class FiberGate {
     return engine.getExecutor();
   }
 
+  /**
+   * Configures how {@link #enqueueFiber enqueued} requests are handled.
+   * @param coalescingWindowMillis the time to hold a request, during which later requests for the same key
+   *                               are merged into it; zero to start requests immediately
+   * @param maxConcurrentFibers the maximum number of fibers running at once; zero for no limit
+   * @return this gate
+   */
+  public synchronized FiberGate withQueueing(long coalescingWindowMillis, int maxConcurrentFibers) {
+    this.coalescingWindowMillis = coalescingWindowMillis;
+    this.maxConcurrentFibers = maxConcurrentFibers;
+    return this;
+  }
+
+  /**
+   * Requests a Fiber for the given key. If a request for the key is already pending, the two are merged: the
+   * later step and packet replace the earlier ones, and the merged request interrupts a running Fiber if
+   * either one would. Otherwise, the request is started once the coalescing window has passed and fewer than
+   * the maximum number of fibers are running.
+   *
+   * @param key Key
+   * @param strategy Step for Fiber to begin with
+   * @param packet Packet
+   * @param callback Completion callback
+   * @param interrupt if true, the Fiber replaces any running Fiber with the same key, as with {@link #startFiber};
+   *                  otherwise it is started only if there is none, as with {@link #startFiberIfNoCurrentFiber}
+   */
+  public synchronized void enqueueFiber(
+      String key, Step strategy, Packet packet, CompletionCallback callback, boolean interrupt) {
+    PendingFiber request = pending.get(key);
+    if (request != null) {
+      request.merge(strategy, packet, callback, interrupt);
+      COALESCED.inc();
+    } else if (interrupt || !gateMap.containsKey(key)) {
+      pending.put(key, new PendingFiber(strategy, packet, callback, interrupt));
+      if (coalescingWindowMillis > 0) {
+        getExecutor().schedule(() -> dispatch(key), coalescingWindowMillis, TimeUnit.MILLISECONDS);
+      } else {
+        dispatch(key);
+      }
+    }
+  }
+
+  /**
+   * Returns the number of enqueued requests which have not yet been started.
+   * @return a count of requests
+   */
+  public synchronized int getPendingCount() {
+    return pending.size();
+  }
+
+  private synchronized void dispatch(String key) {
+    PendingFiber request = pending.get(key);
+    if (request == null || waiting.contains(key)) {
+      return;
+    } else if (isAtConcurrencyLimit(key)) {
+      waiting.add(key);
+      return;
+    }
+
+    pending.remove(key);
+    if (request.interrupt) {
+      startFiber(key, request.strategy, request.packet, request.callback);
+    } else {
+      startFiberIfNoCurrentFiber(key, request.strategy, request.packet, request.callback);
+    }
+  }
+
+  // a fiber which replaces a running one with the same key does not increase the number running
+  private boolean isAtConcurrencyLimit(String key) {
+    return maxConcurrentFibers > 0 && gateMap.size() >= maxConcurrentFibers && !gateMap.containsKey(key);
+  }
+
+  private synchronized void startWaitingFibers() {
+    while (!waiting.isEmpty() && !isAtConcurrencyLimit(waiting.peek())) {
+      String key = waiting.remove();
+      dispatch(key);
+    }
+  }
+
   /**
    * Starts Fiber that cancels any earlier running Fibers with the same key. Fiber map is not
    * updated if no Fiber is started.
@@ -111,17 +208,40 @@ public class FiberGate {
           public void onCompletion(Packet packet) {
             gateMap.remove(key, f);
             callback.onCompletion(packet);
+            startWaitingFibers();
           }
 
           @Override
           public void onThrowable(Packet packet, Throwable throwable) {
             gateMap.remove(key, f);
             callback.onThrowable(packet, throwable);
+            startWaitingFibers();
           }
         });
     return f;
   }
 
+  private static class PendingFiber {
+    private Step strategy;
+    private Packet packet;
+    private CompletionCallback callback;
+    private boolean interrupt;
+
+    PendingFiber(Step strategy, Packet packet, CompletionCallback callback, boolean interrupt) {
+      this.strategy = strategy;
+      this.packet = packet;
+      this.callback = callback;
+      this.interrupt = interrupt;
+    }
+
+    void merge(Step strategy, Packet packet, CompletionCallback callback, boolean interrupt) {
+      this.strategy = strategy;
+      this.packet = packet;
+      this.callback = callback;
+      this.interrupt |= interrupt;
+    }
+  }
+
   private static class WaitForOldFiberStep extends Step {
     private final AtomicReference<Fiber> old;
     private final AtomicReference<WaitForOldFiberStep> current;
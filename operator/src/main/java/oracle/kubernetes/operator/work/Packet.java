@@ -10,26 +10,41 @@ import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
 
-/** Context of a single processing flow. Acts as a map and as a registry of components. */
+/**
+ * Context of a single processing flow. Acts as a map and as a registry of components.
+ *
+ * <p>Copies share their values and components with the original packet until either one is modified, at which
+ * point the modified packet takes a private copy. Forking a packet for each of many servers is therefore cheap
+ * when, as is usual, each fork changes few values. SPI lookups are cached until the components change.
+ *
+ * <p>Reads are made without locking. Each change, and each copy, is made while holding the lock on the packet,
+ * so that no change can be made to a map after a copy has started to share it.
+ */
 public class Packet extends AbstractMap<String, Object> implements ComponentRegistry, ComponentEx {
-  private final ConcurrentMap<String, Component> components =
-      new ConcurrentHashMap<>();
-  private final ConcurrentMap<String, Object> delegate = new ConcurrentHashMap<>();
+  // marks a cached lookup which found no SPI
+  private static final Object NO_SPI = new Object();
+
+  private volatile Store<Object> values;
+  private volatile ComponentStore components;
+  private final Map<String, Component> componentMap = new ComponentMap();
 
   public Packet() {
+    values = new Store<>(new ConcurrentHashMap<>());
+    components = new ComponentStore(new ConcurrentHashMap<>());
   }
 
   private Packet(Packet that) {
-    components.putAll(that.components);
-    delegate.putAll(that.delegate);
+    values = that.values.share();
+    components = that.components.share();
   }
 
   /**
-   * Copies a packet so that the new packet starts with identical values and components.
+   * Copies a packet so that the new packet starts with identical values and components. The copy is made
+   * lazily, when either packet is next modified.
    *
    * @return Cloned packet
    */
-  public Packet copy() {
+  public synchronized Packet copy() {
     return new Packet(this);
   }
 
@@ -40,18 +55,29 @@ public class Packet extends AbstractMap<String, Object> implements ComponentRegi
    * @return implementation object
    */
   public <S> S getSpi(Class<S> spiType) {
-    for (Component c : components.values()) {
-      S s = c.getSpi(spiType);
+    ComponentStore store = components;
+    Map<Class<?>, Object> cache = store.spiCache;
+    Object spi = cache.get(spiType);
+    if (spi == null) {
+      spi = findSpi(store, spiType);
+      cache.put(spiType, spi);
+    }
+    return spi == NO_SPI ? null : spiType.cast(spi);
+  }
+
+  private Object findSpi(ComponentStore store, Class<?> spiType) {
+    for (Component c : store.map.values()) {
+      Object s = c.getSpi(spiType);
       if (s != null) {
         return s;
       }
     }
-    return null;
+    return NO_SPI;
   }
 
   @Override
   public Map<String, Component> getComponents() {
-    return components;
+    return componentMap;
   }
 
   @Override
@@ -65,16 +91,148 @@ public class Packet extends AbstractMap<String, Object> implements ComponentRegi
 
   @Override
   public Set<Entry<String, Object>> entrySet() {
-    return delegate.entrySet();
+    return Collections.unmodifiableMap(values.map).entrySet();
   }
 
   @Override
-  public Object put(String key, Object value) {
-    return value != null ? delegate.put(key, value) : delegate.remove(key);
+  public Object get(Object key) {
+    return values.map.get(key);
+  }
+
+  @Override
+  public boolean containsKey(Object key) {
+    return values.map.containsKey(key);
+  }
+
+  @Override
+  public int size() {
+    return values.map.size();
+  }
+
+  @Override
+  public synchronized Object put(String key, Object value) {
+    return value != null ? writableValues().put(key, value) : remove(key);
+  }
+
+  @Override
+  public synchronized Object remove(Object key) {
+    return values.map.containsKey(key) ? writableValues().remove(key) : null;
+  }
+
+  @Override
+  public synchronized void clear() {
+    writableValues().clear();
   }
 
   @SuppressWarnings("unchecked")
   public <T> T getValue(String key) {
     return (T) get(key);
   }
+
+  // must be called while holding the lock on this packet, which must still be held while the map is changed
+  private ConcurrentMap<String, Object> writableValues() {
+    if (values.shared) {
+      values = new Store<>(new ConcurrentHashMap<>(values.map));
+    }
+    return values.map;
+  }
+
+  // must be called while holding the lock on this packet, which must still be held while the map is changed
+  private ConcurrentMap<String, Component> writableComponents() {
+    if (components.shared) {
+      components = new ComponentStore(new ConcurrentHashMap<>(components.map));
+    }
+    return components.map;
+  }
+
+  // called after each change to the components, so that no lookup made before the change can be cached
+  private void componentsChanged() {
+    components.spiCache = new ConcurrentHashMap<>();
+  }
+
+  private static class Store<V> {
+    final ConcurrentMap<String, V> map;
+    volatile boolean shared;
+
+    Store(ConcurrentMap<String, V> map) {
+      this.map = map;
+    }
+
+    Store<V> share() {
+      shared = true;
+      return this;
+    }
+  }
+
+  // The SPI cache is replaced, rather than cleared, after the components change, so that a lookup which raced
+  // with the change can only update a cache which is no longer in use.
+  private static class ComponentStore extends Store<Component> {
+    volatile Map<Class<?>, Object> spiCache = new ConcurrentHashMap<>();
+
+    ComponentStore(ConcurrentMap<String, Component> map) {
+      super(map);
+    }
+
+    @Override
+    ComponentStore share() {
+      super.share();
+      return this;
+    }
+  }
+
+  private class ComponentMap extends AbstractMap<String, Component> {
+
+    @Override
+    public Component get(Object key) {
+      return components.map.get(key);
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+      return components.map.containsKey(key);
+    }
+
+    @Override
+    public int size() {
+      return components.map.size();
+    }
+
+    @Override
+    public Component put(String key, Component value) {
+      synchronized (Packet.this) {
+        try {
+          return writableComponents().put(key, value);
+        } finally {
+          componentsChanged();
+        }
+      }
+    }
+
+    @Override
+    public Component remove(Object key) {
+      synchronized (Packet.this) {
+        if (!components.map.containsKey(key)) {
+          return null;
+        }
+        try {
+          return writableComponents().remove(key);
+        } finally {
+          componentsChanged();
+        }
+      }
+    }
+
+    @Override
+    public void clear() {
+      synchronized (Packet.this) {
+        writableComponents().clear();
+        componentsChanged();
+      }
+    }
+
+    @Override
+    public Set<Entry<String, Component>> entrySet() {
+      return Collections.unmodifiableMap(components.map).entrySet();
+    }
+  }
 }
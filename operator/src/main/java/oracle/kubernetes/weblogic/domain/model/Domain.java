@@ -9,6 +9,7 @@ import java.util.Arrays;
 import java.util.Collection;
 import java.util.Comparator;
 import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Optional;
 import java.util.Set;
@@ -120,6 +121,12 @@ public class Domain implements KubernetesObject {
   @Description("The current status of the operation of the WebLogic domain. Updated automatically by the operator.")
   private DomainStatus status;
 
+  /**
+   * The effective configuration of the servers and clusters, resolved for a single generation of the domain.
+   * Null unless caching has been enabled.
+   */
+  private transient volatile CachedConfiguration cachedConfiguration;
+
   @SuppressWarnings({"rawtypes"})
   static List sortOrNull(List list) {
     return sortOrNull(list, null);
@@ -267,7 +274,69 @@ public class Domain implements KubernetesObject {
   }
 
   private EffectiveConfigurationFactory getEffectiveConfigurationFactory() {
-    return spec.getEffectiveConfigurationFactory(apiVersion);
+    CachedConfiguration cached = cachedConfiguration;
+    Long generation = metadata.getGeneration();
+    if (cached == null || generation == null) {
+      return spec.getEffectiveConfigurationFactory(apiVersion);
+    } else if (!generation.equals(cached.generation)) {
+      cached = new CachedConfiguration(generation, spec.createCachingEffectiveConfigurationFactory());
+      cachedConfiguration = cached;
+    }
+    return cached.factory;
+  }
+
+  /**
+   * Enables caching of the effective configuration of the servers and clusters of this domain, discarding anything
+   * previously cached. Each server and cluster is then resolved once per generation of the domain. Changes to the
+   * spec which do not change the generation, other than setting a replica count, are not seen until caching is
+   * enabled again, so caching should be enabled only while the domain is treated as read-only.
+   */
+  public void enableEffectiveConfigurationCache() {
+    cachedConfiguration = new CachedConfiguration(null, null);
+  }
+
+  /**
+   * Disables caching of the effective configuration, discarding anything previously cached.
+   */
+  public void disableEffectiveConfigurationCache() {
+    cachedConfiguration = null;
+  }
+
+  /**
+   * If caching of the effective configuration is enabled for the specified domain, enables it for this domain
+   * as well. Any configuration already resolved is shared only if both domains have the same spec, as a cached
+   * factory reads and updates the spec for which it was created.
+   * @param previous an earlier version of this domain; may be null
+   */
+  public void shareEffectiveConfigurationCache(Domain previous) {
+    Optional.ofNullable(previous)
+          .filter(d -> d != this)
+          .filter(d -> d.cachedConfiguration != null)
+          .ifPresent(this::shareEffectiveConfigurationCacheWith);
+  }
+
+  private void shareEffectiveConfigurationCacheWith(Domain previous) {
+    if (previous.spec == spec) {
+      cachedConfiguration = previous.cachedConfiguration;
+    } else {
+      enableEffectiveConfigurationCache();
+    }
+  }
+
+  private void resetEffectiveConfigurationCache() {
+    if (cachedConfiguration != null) {
+      enableEffectiveConfigurationCache();
+    }
+  }
+
+  private static class CachedConfiguration {
+    private final Long generation;
+    private final EffectiveConfigurationFactory factory;
+
+    CachedConfiguration(Long generation, EffectiveConfigurationFactory factory) {
+      this.generation = generation;
+      this.factory = factory;
+    }
   }
 
   public MonitoringExporterConfiguration getMonitoringExporterConfiguration() {
@@ -390,6 +459,7 @@ public class Domain implements KubernetesObject {
    */
   public void setSpec(@Nonnull DomainSpec spec) {
     this.spec = spec;
+    resetEffectiveConfigurationCache();
   }
 
   /**
@@ -399,7 +469,7 @@ public class Domain implements KubernetesObject {
    * @return this
    */
   public Domain withSpec(DomainSpec spec) {
-    this.spec = spec;
+    setSpec(spec);
     return this;
   }
 
@@ -795,6 +865,44 @@ public class Domain implements KubernetesObject {
     return new Validator().getAfterIntrospectValidationFailures(packet);
   }
 
+  /**
+   * Returns the names of the secrets, in the namespace of this domain, which validation requires to exist.
+   * @return a set of secret names
+   */
+  public Set<String> getReferencedSecretNames() {
+    ReferenceRecorder recorder = new ReferenceRecorder();
+    new Validator().addMissingSecrets(recorder);
+    return recorder.secretNames;
+  }
+
+  /**
+   * Returns the names of the config maps, in the namespace of this domain, which validation requires to exist.
+   * @return a set of config map names
+   */
+  public Set<String> getReferencedConfigMapNames() {
+    ReferenceRecorder recorder = new ReferenceRecorder();
+    new Validator().addMissingModelConfigMap(recorder);
+    return recorder.configMapNames;
+  }
+
+  // records the resources for which the validator checks, so that the names always match those which it requires
+  private static class ReferenceRecorder implements KubernetesResourceLookup {
+    private final Set<String> secretNames = new LinkedHashSet<>();
+    private final Set<String> configMapNames = new LinkedHashSet<>();
+
+    @Override
+    public boolean isSecretExists(String name, String namespace) {
+      secretNames.add(name);
+      return true;
+    }
+
+    @Override
+    public boolean isConfigMapExists(String name, String namespace) {
+      configMapNames.add(name);
+      return true;
+    }
+  }
+
   class Validator {
     private final List<String> failures = new ArrayList<>();
     private final Set<String> clusterNames = new HashSet<>();
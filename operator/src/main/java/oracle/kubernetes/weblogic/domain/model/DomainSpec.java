@@ -5,9 +5,14 @@ package oracle.kubernetes.weblogic.domain.model;
 
 import java.io.File;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 
@@ -442,6 +447,16 @@ public class DomainSpec extends BaseConfiguration {
     return new CommonEffectiveConfigurationFactory();
   }
 
+  /**
+   * Returns a factory which resolves the effective configuration of each server and cluster only once, and looks them
+   * up by name. Its results become stale if this spec is changed other than by setting a replica count through the
+   * factory, so it should be discarded when the spec may have changed.
+   * @return a caching factory
+   */
+  EffectiveConfigurationFactory createCachingEffectiveConfigurationFactory() {
+    return new CachingEffectiveConfigurationFactory();
+  }
+
   /**
    * Domain unique identifier. Must be unique across the Kubernetes cluster. Not required. Defaults
    * to the value of metadata.name.
@@ -1122,6 +1137,14 @@ public class DomainSpec extends BaseConfiguration {
   }
 
   class CommonEffectiveConfigurationFactory implements EffectiveConfigurationFactory {
+    ManagedServer getManagedServer(String serverName) {
+      return DomainSpec.this.getManagedServer(serverName);
+    }
+
+    Cluster getCluster(String clusterName) {
+      return DomainSpec.this.getCluster(clusterName);
+    }
+
     @Override
     public AdminServerSpec getAdminServerSpec() {
       return new AdminServerSpecCommonImpl(DomainSpec.this, adminServer);
@@ -1200,4 +1223,69 @@ public class DomainSpec extends BaseConfiguration {
       return cluster;
     }
   }
+
+  class CachingEffectiveConfigurationFactory extends CommonEffectiveConfigurationFactory {
+    private final Map<List<String>, ServerSpec> serverSpecs = new ConcurrentHashMap<>();
+    private final Map<List<String>, ClusterSpec> clusterSpecs = new ConcurrentHashMap<>();
+    private volatile AdminServerSpec adminServerSpec;
+    private volatile Map<String, ManagedServer> managedServersByName;
+    private volatile Map<String, Cluster> clustersByName;
+
+    CachingEffectiveConfigurationFactory() {
+      index();
+    }
+
+    private void index() {
+      managedServersByName = indexByName(managedServers, ManagedServer::getServerName);
+      clustersByName = indexByName(clusters, Cluster::getClusterName);
+    }
+
+    // the first entry with a given name is used, as when searching the list
+    private <T> Map<String, T> indexByName(List<T> list, Function<T, String> getName) {
+      Map<String, T> result = new HashMap<>();
+      for (T item : list) {
+        Optional.ofNullable(getName.apply(item)).ifPresent(name -> result.putIfAbsent(name, item));
+      }
+      return result;
+    }
+
+    @Override
+    ManagedServer getManagedServer(String serverName) {
+      return serverName == null ? null : managedServersByName.get(serverName);
+    }
+
+    @Override
+    Cluster getCluster(String clusterName) {
+      return clusterName == null ? null : clustersByName.get(clusterName);
+    }
+
+    @Override
+    public AdminServerSpec getAdminServerSpec() {
+      if (adminServerSpec == null) {
+        adminServerSpec = super.getAdminServerSpec();
+      }
+      return adminServerSpec;
+    }
+
+    @Override
+    public ServerSpec getServerSpec(String serverName, String clusterName) {
+      return serverSpecs.computeIfAbsent(
+            Arrays.asList(serverName, clusterName), k -> super.getServerSpec(serverName, clusterName));
+    }
+
+    @Override
+    public ClusterSpec getClusterSpec(String clusterName) {
+      return clusterSpecs.computeIfAbsent(
+            Collections.singletonList(clusterName), k -> super.getClusterSpec(clusterName));
+    }
+
+    // a server's effective configuration depends on the replica count of its cluster
+    @Override
+    public synchronized void setReplicaCount(String clusterName, int replicaCount) {
+      super.setReplicaCount(clusterName, replicaCount);
+      index();
+      serverSpecs.clear();
+      clusterSpecs.clear();
+    }
+  }
 }
@@ -103,10 +103,11 @@ if [ $? != 0 ]; then
 fi
 
 if [ ${DOMAIN_SOURCE_TYPE} != "FromModel" ]; then
-  copySitCfgWhileRunning /weblogic-operator/introspector ${DOMAIN_HOME}/optconfig             'Sit-Cfg-CFG--'
-  copySitCfgWhileRunning /weblogic-operator/introspector ${DOMAIN_HOME}/optconfig/jms         'Sit-Cfg-JMS--'
-  copySitCfgWhileRunning /weblogic-operator/introspector ${DOMAIN_HOME}/optconfig/jdbc        'Sit-Cfg-JDBC--'
-  copySitCfgWhileRunning /weblogic-operator/introspector ${DOMAIN_HOME}/optconfig/diagnostics 'Sit-Cfg-WLDF--'
+  sitcfg_dir=$(getSitCfgDir /weblogic-operator/introspector /tmp/introspector-sitcfg-probe) || exit $RETVAL
+  copySitCfgWhileRunning ${sitcfg_dir} ${DOMAIN_HOME}/optconfig             'Sit-Cfg-CFG--'
+  copySitCfgWhileRunning ${sitcfg_dir} ${DOMAIN_HOME}/optconfig/jms         'Sit-Cfg-JMS--'
+  copySitCfgWhileRunning ${sitcfg_dir} ${DOMAIN_HOME}/optconfig/jdbc        'Sit-Cfg-JDBC--'
+  copySitCfgWhileRunning ${sitcfg_dir} ${DOMAIN_HOME}/optconfig/diagnostics 'Sit-Cfg-WLDF--'
 fi
 
 exit 0
@@ -292,10 +292,12 @@ copyIfChanged /weblogic-operator/introspector/boot.properties \
 
 if [ ${DOMAIN_SOURCE_TYPE} != "FromModel" ]; then
   trace "Copying situational configuration files from operator cm to ${DOMAIN_HOME}/optconfig directory"
-  copySitCfgWhileBooting /weblogic-operator/introspector ${DOMAIN_HOME}/optconfig             'Sit-Cfg-CFG--'
-  copySitCfgWhileBooting /weblogic-operator/introspector ${DOMAIN_HOME}/optconfig/jms         'Sit-Cfg-JMS--'
-  copySitCfgWhileBooting /weblogic-operator/introspector ${DOMAIN_HOME}/optconfig/jdbc        'Sit-Cfg-JDBC--'
-  copySitCfgWhileBooting /weblogic-operator/introspector ${DOMAIN_HOME}/optconfig/diagnostics 'Sit-Cfg-WLDF--'
+  sitcfg_dir=$(getSitCfgDir /weblogic-operator/introspector /tmp/introspector-sitcfg-boot)
+  [ $? -ne 0 ] && trace SEVERE "Unable to expand compressed situational configuration files" && exitOrLoop
+  copySitCfgWhileBooting ${sitcfg_dir} ${DOMAIN_HOME}/optconfig             'Sit-Cfg-CFG--'
+  copySitCfgWhileBooting ${sitcfg_dir} ${DOMAIN_HOME}/optconfig/jms         'Sit-Cfg-JMS--'
+  copySitCfgWhileBooting ${sitcfg_dir} ${DOMAIN_HOME}/optconfig/jdbc        'Sit-Cfg-JDBC--'
+  copySitCfgWhileBooting ${sitcfg_dir} ${DOMAIN_HOME}/optconfig/diagnostics 'Sit-Cfg-WLDF--'
 fi
 
 #
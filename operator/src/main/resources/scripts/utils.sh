@@ -573,6 +573,48 @@ function createFolder {
   fi
 }
 
+#
+# Define helper fn to locate the situational config files in the introspector config maps.
+#   - params $1/$2 == 'src_dir work_dir'
+#   - $src_dir is the mount of the first introspector config map; any others are mounted at $src_dir-1, $src_dir-2...
+#   - echoes $src_dir if the operator did not compress any of the 'Sit-Cfg-*.xml' files
+#   - otherwise, copies the uncompressed files to $work_dir, expands each 'Sit-Cfg-*.xml.gz' file there
+#     (joining its parts in config map order, since a large file may be split across maps), and echoes $work_dir
+#
+
+function getSitCfgDir() {
+  local src_dir=${1?}
+  local work_dir=${2?}
+  local src_dirs="${src_dir}"
+  local local_fname
+  local fname
+  local dir
+  local i=1
+
+  while [ -d "${src_dir}-${i}" ]; do
+    src_dirs="${src_dirs} ${src_dir}-${i}"
+    i=$((i + 1))
+  done
+
+  local compressed_files=$(for dir in ${src_dirs}; do ls ${dir}/Sit-Cfg-*.xml.gz 2> /dev/null; done \
+                             | xargs -r -n 1 basename | sort -u)
+  if [ -z "${compressed_files}" ]; then
+    echo "${src_dir}"
+    return 0
+  fi
+
+  rm -rf ${work_dir} && mkdir -m 750 -p ${work_dir} || return 1
+  for local_fname in ${src_dir}/Sit-Cfg-*.xml ; do
+    [ -f "${local_fname}" ] && cp ${local_fname} ${work_dir}/
+  done
+  for fname in ${compressed_files} ; do
+    for dir in ${src_dirs}; do
+      [ -f "${dir}/${fname}" ] && cat ${dir}/${fname}
+    done | base64 -d | gunzip > ${work_dir}/${fname%.gz} || return 1
+  done
+  echo "${work_dir}"
+}
+
 # Returns the count of the number of files in the specified directory
 function countFilesInDir() {
   dir=${1}
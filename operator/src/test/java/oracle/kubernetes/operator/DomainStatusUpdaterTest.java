@@ -8,6 +8,7 @@ import java.util.Collections;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.concurrent.TimeUnit;
 
 import com.google.common.collect.ImmutableMap;
 import com.meterware.simplestub.Memento;
@@ -18,11 +19,16 @@ import io.kubernetes.client.openapi.models.V1PodSpec;
 import io.kubernetes.client.openapi.models.V1PodStatus;
 import oracle.kubernetes.operator.helpers.DomainPresenceInfo;
 import oracle.kubernetes.operator.helpers.KubernetesTestSupport;
+import oracle.kubernetes.operator.helpers.TuningParametersStub;
 import oracle.kubernetes.operator.utils.RandomStringGenerator;
 import oracle.kubernetes.operator.utils.WlsDomainConfigSupport;
 import oracle.kubernetes.operator.wlsconfig.WlsDomainConfig;
+import oracle.kubernetes.operator.work.Fiber;
+import oracle.kubernetes.operator.work.FiberGate;
+import oracle.kubernetes.operator.work.Packet;
 import oracle.kubernetes.operator.work.Step;
 import oracle.kubernetes.operator.work.TerminalStep;
+import oracle.kubernetes.utils.SystemClockTestSupport;
 import oracle.kubernetes.utils.TestUtils;
 import oracle.kubernetes.weblogic.domain.DomainConfigurator;
 import oracle.kubernetes.weblogic.domain.DomainConfiguratorFactory;
@@ -65,6 +71,7 @@ import static org.hamcrest.junit.MatcherAssert.assertThat;
 public class DomainStatusUpdaterTest {
   private static final String NAME = UID;
   private final TerminalStep endStep = new TerminalStep();
+  private final Fiber.CompletionCallback callback = new NullCallback();
   private final WlsDomainConfigSupport configSupport = new WlsDomainConfigSupport("mydomain");
   private final KubernetesTestSupport testSupport = new KubernetesTestSupport();
   private final List<Memento> mementos = new ArrayList<>();
@@ -1092,4 +1099,86 @@ public class DomainStatusUpdaterTest {
 
     assertThat(getDomainStatusCondition(ConfigChangesPendingRestart), nullValue());
   }
+
+  @Test
+  void whenStatusUpdatesBatched_writeFirstUpdateImmediately() throws NoSuchFieldException {
+    enableStatusUpdateBatching();
+
+    testSupport.runSteps(DomainStatusUpdater.createProgressingStep(reason, false, endStep));
+
+    assertThat(getRecordedDomain(), hasCondition(Progressing).withStatus("True").withReason(reason));
+  }
+
+  @Test
+  void whenStatusUpdatesBatched_doNotWriteLaterUpdateBeforeWindowEnds() throws NoSuchFieldException {
+    enableStatusUpdateBatching();
+    testSupport.runSteps(DomainStatusUpdater.createProgressingStep(reason, false, endStep));
+
+    testSupport.runSteps(DomainStatusUpdater.createAvailableStep(reason, endStep));
+
+    assertThat(getRecordedDomain(), not(hasCondition(Available)));
+  }
+
+  @Test
+  void whenStatusUpdatesBatched_mergeUpdatesMadeWithinWindowIntoOneWrite() throws NoSuchFieldException {
+    enableStatusUpdateBatching();
+    testSupport.runSteps(DomainStatusUpdater.createProgressingStep(reason, false, endStep));
+    int callsAfterFirstWrite = testSupport.getNumCalls();
+
+    testSupport.runSteps(DomainStatusUpdater.createAvailableStep(reason, endStep));
+    testSupport.runSteps(DomainStatusUpdater.createEndProgressingStep(endStep));
+    SystemClockTestSupport.increment();
+    testSupport.setTime(1, TimeUnit.SECONDS);
+
+    assertThat(testSupport.getNumCalls(), equalTo(callsAfterFirstWrite + 1));
+    assertThat(getRecordedDomain(), hasCondition(Available).withStatus("True").withReason(reason));
+    assertThat(getRecordedDomain(), not(hasCondition(Progressing)));
+  }
+
+  @Test
+  void whenStatusUpdatesBatched_countAvoidedWrites() throws NoSuchFieldException {
+    enableStatusUpdateBatching();
+    testSupport.runSteps(DomainStatusUpdater.createProgressingStep(reason, false, endStep));
+    long avoided = DomainStatusUpdateBatcher.WRITES_AVOIDED.get();
+
+    testSupport.runSteps(DomainStatusUpdater.createAvailableStep(reason, endStep));
+    testSupport.runSteps(DomainStatusUpdater.createEndProgressingStep(endStep));
+    SystemClockTestSupport.increment();
+    testSupport.setTime(1, TimeUnit.SECONDS);
+
+    assertThat(DomainStatusUpdateBatcher.WRITES_AVOIDED.get(), equalTo(avoided + 1));
+  }
+
+  @Test
+  void whenStatusUpdatesBatched_andFiberWhichStartedBatchIsReplaced_stillWriteBatch() throws NoSuchFieldException {
+    enableStatusUpdateBatching();
+    testSupport.runSteps(DomainStatusUpdater.createProgressingStep(reason, false, endStep));
+    FiberGate gate = testSupport.createFiberGate();
+
+    gate.startFiber(UID, DomainStatusUpdater.createAvailableStep(reason, endStep), testSupport.getPacket(), callback);
+    gate.startFiber(UID, endStep, testSupport.getPacket(), callback);
+    SystemClockTestSupport.increment();
+    testSupport.setTime(1, TimeUnit.SECONDS);
+
+    assertThat(getRecordedDomain(), hasCondition(Available).withStatus("True").withReason(reason));
+  }
+
+  private void enableStatusUpdateBatching() throws NoSuchFieldException {
+    mementos.add(TuningParametersStub.install());
+    mementos.add(SystemClockTestSupport.installClock());
+    TuningParametersStub.setParameter(DomainStatusUpdateBatcher.WINDOW_PARAM, "1000");
+    DomainStatusUpdateBatcher.remove(NS, UID);
+  }
+
+  private static class NullCallback implements Fiber.CompletionCallback {
+    @Override
+    public void onCompletion(Packet packet) {
+      // no-op
+    }
+
+    @Override
+    public void onThrowable(Packet packet, Throwable throwable) {
+      // no-op
+    }
+  }
 }
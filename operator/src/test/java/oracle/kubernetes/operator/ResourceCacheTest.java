@@ -0,0 +1,221 @@
+// Copyright (c) 2021, Oracle and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import io.kubernetes.client.openapi.models.V1ListMeta;
+import io.kubernetes.client.openapi.models.V1ObjectMeta;
+import io.kubernetes.client.openapi.models.V1Pod;
+import io.kubernetes.client.openapi.models.V1PodList;
+import oracle.kubernetes.operator.builders.WatchEvent;
+import org.junit.jupiter.api.Test;
+
+import static oracle.kubernetes.operator.LabelConstants.CREATEDBYOPERATOR_LABEL;
+import static oracle.kubernetes.operator.LabelConstants.DOMAINUID_LABEL;
+import static oracle.kubernetes.operator.LabelConstants.SERVERNAME_LABEL;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsInAnyOrder;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.sameInstance;
+
+public class ResourceCacheTest {
+  private static final String NS = "namespace";
+  private static final String UID1 = "domain1";
+  private static final String UID2 = "domain2";
+
+  private final ResourceCache<V1Pod, V1PodList> cache = new ResourceCache<>("TestPod",
+        (items, meta) -> new V1PodList().items(items).metadata(meta),
+        o -> o.getMetadata().getLabels() != null && o.getMetadata().getLabels().containsKey(CREATEDBYOPERATOR_LABEL));
+
+  @Test
+  public void beforeListRecorded_namespaceIsNotSynchronized() {
+    assertThat(cache.isSynchronized(NS), equalTo(false));
+    assertThat(cache.list(NS, null).isPresent(), equalTo(false));
+  }
+
+  @Test
+  public void afterLastPageRecorded_namespaceIsSynchronized() {
+    cache.recordList(NS, createList("10", null, createPod("pod1", UID1, "ms1", "5")));
+
+    assertThat(cache.isSynchronized(NS), equalTo(true));
+  }
+
+  @Test
+  public void afterIntermediatePageRecorded_namespaceIsNotSynchronized() {
+    cache.recordList(NS, createList("10", "continue", createPod("pod1", UID1, "ms1", "5")));
+
+    assertThat(cache.isSynchronized(NS), equalTo(false));
+  }
+
+  @Test
+  public void whenListRecorded_cachedListContainsItsResources() {
+    cache.recordList(NS, createList("10", null,
+          createPod("pod1", UID1, "ms1", "5"), createPod("pod2", UID2, "ms1", "6")));
+
+    assertThat(getCachedNames(null), containsInAnyOrder("pod1", "pod2"));
+  }
+
+  @Test
+  public void cachedList_excludesResourcesRejectedByFilter() {
+    cache.recordList(NS, createList("10", null,
+          createPod("pod1", UID1, "ms1", "5"), new V1Pod().metadata(new V1ObjectMeta().name("other"))));
+
+    assertThat(getCachedNames(null), containsInAnyOrder("pod1"));
+  }
+
+  @Test
+  public void whenDomainUidSpecified_cachedListContainsOnlyResourcesForThatDomain() {
+    cache.recordList(NS, createList("10", null,
+          createPod("pod1", UID1, "ms1", "5"), createPod("pod2", UID2, "ms1", "6")));
+
+    assertThat(getCachedNames(UID2), containsInAnyOrder("pod2"));
+  }
+
+  @Test
+  public void cachedList_reportsListResourceVersion() {
+    cache.recordList(NS, createList("10", null, createPod("pod1", UID1, "ms1", "5")));
+
+    assertThat(cache.list(NS, null).map(V1PodList::getMetadata).map(V1ListMeta::getResourceVersion).orElse(null),
+          equalTo("10"));
+  }
+
+  @Test
+  public void afterAddedEvent_cachedListContainsNewResource() {
+    cache.recordList(NS, createList("10", null, createPod("pod1", UID1, "ms1", "5")));
+
+    cache.recordWatchEvent(WatchEvent.createAddedEvent(createPod("pod2", UID1, "ms2", "11")).toWatchResponse());
+
+    assertThat(getCachedNames(UID1), containsInAnyOrder("pod1", "pod2"));
+  }
+
+  @Test
+  public void afterWatchEvent_cachedListReportsNewResourceVersion() {
+    cache.recordList(NS, createList("10", null, createPod("pod1", UID1, "ms1", "5")));
+
+    cache.recordWatchEvent(WatchEvent.createModifiedEvent(createPod("pod1", UID1, "ms1", "12")).toWatchResponse());
+
+    assertThat(cache.list(NS, null).map(V1PodList::getMetadata).map(V1ListMeta::getResourceVersion).orElse(null),
+          equalTo("12"));
+  }
+
+  @Test
+  public void afterDeletedEvent_cachedListOmitsResource() {
+    cache.recordList(NS, createList("10", null,
+          createPod("pod1", UID1, "ms1", "5"), createPod("pod2", UID1, "ms2", "6")));
+
+    cache.recordWatchEvent(WatchEvent.createDeletedEvent(createPod("pod1", UID1, "ms1", "11")).toWatchResponse());
+
+    assertThat(getCachedNames(UID1), containsInAnyOrder("pod2"));
+  }
+
+  @Test
+  public void afterMarkedUnsynchronized_namespaceIsNotSynchronized() {
+    cache.recordList(NS, createList("10", null, createPod("pod1", UID1, "ms1", "5")));
+
+    cache.markUnsynchronized(NS);
+
+    assertThat(cache.list(NS, null).isPresent(), equalTo(false));
+  }
+
+  @Test
+  public void afterRelisted_namespaceIsSynchronizedAgain() {
+    cache.recordList(NS, createList("10", null, createPod("pod1", UID1, "ms1", "5")));
+    cache.markUnsynchronized(NS);
+
+    cache.recordList(NS, createList("20", null, createPod("pod1", UID1, "ms1", "5")));
+
+    assertThat(cache.isSynchronized(NS), equalTo(true));
+  }
+
+  @Test
+  public void whenRelisted_discardResourcesMissingFromList() {
+    cache.recordList(NS, createList("10", null,
+          createPod("pod1", UID1, "ms1", "5"), createPod("pod2", UID1, "ms2", "6")));
+
+    cache.recordList(NS, createList("20", null, createPod("pod2", UID1, "ms2", "6")));
+
+    assertThat(getCachedNames(UID1), containsInAnyOrder("pod2"));
+  }
+
+  @Test
+  public void whenRelisted_keepResourcesAddedSinceList() {
+    cache.recordList(NS, createList("10", null, createPod("pod1", UID1, "ms1", "5")));
+    cache.recordWatchEvent(WatchEvent.createAddedEvent(createPod("pod2", UID1, "ms2", "25")).toWatchResponse());
+
+    cache.recordList(NS, createList("20", null, createPod("pod1", UID1, "ms1", "5")));
+
+    assertThat(getCachedNames(UID1), containsInAnyOrder("pod1", "pod2"));
+  }
+
+  @Test
+  public void whenRelisted_dontRestoreResourcesDeletedSinceList() {
+    cache.recordList(NS, createList("10", null,
+          createPod("pod1", UID1, "ms1", "5"), createPod("pod2", UID1, "ms2", "6")));
+    cache.recordWatchEvent(WatchEvent.createDeletedEvent(createPod("pod1", UID1, "ms1", "21")).toWatchResponse());
+
+    cache.recordList(NS, createList("20", null,
+          createPod("pod1", UID1, "ms1", "5"), createPod("pod2", UID1, "ms2", "6")));
+
+    assertThat(getCachedNames(UID1), containsInAnyOrder("pod2"));
+  }
+
+  @Test
+  public void whenModifiedEventOlderThanCachedResource_ignoreIt() {
+    V1Pod current = createPod("pod1", UID1, "ms1", "8");
+    cache.recordList(NS, createList("10", null, current));
+
+    cache.recordWatchEvent(WatchEvent.createModifiedEvent(createPod("pod1", UID1, "ms1", "7")).toWatchResponse());
+
+    assertThat(cache.getServerResource(NS, UID1, "ms1").orElse(null), sameInstance(current));
+  }
+
+  @Test
+  public void whenEventForUnknownNamespace_ignoreIt() {
+    cache.recordWatchEvent(WatchEvent.createAddedEvent(createPod("pod1", UID1, "ms1", "11")).toWatchResponse());
+
+    assertThat(cache.size(), equalTo(0));
+  }
+
+  @Test
+  public void canLookUpResourceByServerName() {
+    V1Pod pod = createPod("pod2", UID1, "ms2", "6");
+    cache.recordList(NS, createList("10", null, createPod("pod1", UID1, "ms1", "5"), pod));
+
+    assertThat(cache.getServerResource(NS, UID1, "ms2").orElse(null), sameInstance(pod));
+  }
+
+  @Test
+  public void afterNamespaceRemoved_namespaceIsNotSynchronized() {
+    cache.recordList(NS, createList("10", null, createPod("pod1", UID1, "ms1", "5")));
+
+    cache.removeNamespace(NS);
+
+    assertThat(cache.isSynchronized(NS), equalTo(false));
+    assertThat(cache.size(), equalTo(0));
+  }
+
+  private List<String> getCachedNames(String domainUid) {
+    return cache.list(NS, domainUid).map(V1PodList::getItems).map(this::getNames).orElse(null);
+  }
+
+  private List<String> getNames(List<V1Pod> pods) {
+    return pods.stream().map(V1Pod::getMetadata).map(V1ObjectMeta::getName).collect(Collectors.toList());
+  }
+
+  private V1PodList createList(String resourceVersion, String continueToken, V1Pod... pods) {
+    return new V1PodList()
+          .metadata(new V1ListMeta().resourceVersion(resourceVersion)._continue(continueToken))
+          .items(Arrays.asList(pods));
+  }
+
+  private V1Pod createPod(String name, String domainUid, String serverName, String resourceVersion) {
+    return new V1Pod().metadata(new V1ObjectMeta().name(name).namespace(NS).resourceVersion(resourceVersion)
+          .putLabelsItem(CREATEDBYOPERATOR_LABEL, "true")
+          .putLabelsItem(DOMAINUID_LABEL, domainUid)
+          .putLabelsItem(SERVERNAME_LABEL, serverName));
+  }
+}
@@ -18,11 +18,15 @@ import com.meterware.pseudoserver.HttpUserAgentTest;
 import com.meterware.simplestub.Memento;
 import com.meterware.simplestub.StaticStubSupport;
 import io.kubernetes.client.openapi.ApiClient;
+import io.kubernetes.client.openapi.models.V1ContainerState;
+import io.kubernetes.client.openapi.models.V1ContainerStateRunning;
+import io.kubernetes.client.openapi.models.V1ContainerStatus;
 import io.kubernetes.client.openapi.models.V1ObjectMeta;
 import io.kubernetes.client.openapi.models.V1Pod;
 import io.kubernetes.client.openapi.models.V1PodCondition;
 import io.kubernetes.client.openapi.models.V1PodStatus;
 import oracle.kubernetes.operator.helpers.DomainPresenceInfo;
+import oracle.kubernetes.operator.helpers.LastKnownStatus;
 import oracle.kubernetes.operator.helpers.LegalNames;
 import oracle.kubernetes.operator.helpers.TuningParametersStub;
 import oracle.kubernetes.operator.utils.KubernetesExec;
@@ -35,6 +39,7 @@ import oracle.kubernetes.operator.work.TerminalStep;
 import oracle.kubernetes.utils.TestUtils;
 import oracle.kubernetes.weblogic.domain.model.Domain;
 import oracle.kubernetes.weblogic.domain.model.DomainSpec;
+import oracle.kubernetes.weblogic.domain.model.ServerHealth;
 import org.hamcrest.Matchers;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
@@ -44,6 +49,7 @@ import static com.meterware.simplestub.Stub.createStub;
 import static oracle.kubernetes.operator.ProcessingConstants.SERVER_HEALTH_MAP;
 import static oracle.kubernetes.operator.ProcessingConstants.SERVER_STATE_MAP;
 import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.equalTo;
 import static org.hamcrest.Matchers.hasEntry;
 import static org.hamcrest.Matchers.is;
 import static org.hamcrest.junit.MatcherAssert.assertThat;
@@ -153,6 +159,20 @@ public class ServerStatusReaderTest extends HttpUserAgentTest {
     assertThat(serverStates, hasEntry("server1", "still not ready yet"));
   }
 
+  @Test
+  public void whenPodNotReadyAndLastKnownStateLongUnchanged_readStateAgain() {
+    info.setServerPod("server1", createPod("server1"));
+    info.restoreLastKnownServerStatus("server1", new LastKnownStatus("not ready yet", 1000));
+
+    execFactory.defineResponse("server1", "still not ready yet");
+
+    Packet packet =
+        testSupport.runSteps(ServerStatusReader.createDomainStatusReaderStep(info, 0, endStep));
+
+    Map<String, String> serverStates = getServerStates(packet);
+    assertThat(serverStates, hasEntry("server1", "still not ready yet"));
+  }
+
   private void setReadyStatus(V1Pod pod) {
     pod.setStatus(
         new V1PodStatus()
@@ -172,23 +192,114 @@ public class ServerStatusReaderTest extends HttpUserAgentTest {
     assertThat(stepFactory.serverNames, contains("server1"));
   }
 
+  @Test
+  public void whenHttpModeAndContainerNotRunning_recordStartingStateWithoutExec() {
+    TuningParametersStub.setParameter("serverStatusReadMode", "http");
+    info.setServerPod("server1", createPod("server1"));
+
+    Packet packet = testSupport.runSteps(ServerStatusReader.createDomainStatusReaderStep(info, 0, endStep));
+
+    assertThat(getServerStates(packet), hasEntry("server1", WebLogicConstants.STARTING_STATE));
+    assertThat(execFactory.numExecs, is(0));
+  }
+
+  @Test
+  public void whenHttpModeAndContainerNotRunning_countStateFromPod() {
+    TuningParametersStub.setParameter("serverStatusReadMode", "http");
+    info.setServerPod("server1", createPod("server1"));
+    long statesFromPod = ServerStatusReader.STATES_FROM_POD.get();
+
+    testSupport.runSteps(ServerStatusReader.createDomainStatusReaderStep(info, 0, endStep));
+
+    assertThat(ServerStatusReader.STATES_FROM_POD.get(), equalTo(statesFromPod + 1));
+  }
+
+  @Test
+  public void whenHttpModeAndRestCallReturnsState_recordItWithoutExec() {
+    TuningParametersStub.setParameter("serverStatusReadMode", "http");
+    info.setServerPod("server1", createPodWithRunningContainer("server1"));
+    stepFactory.defineState("server1", "ADMIN");
+    execFactory.defineResponse("server1", "RUNNING");
+
+    Packet packet = testSupport.runSteps(ServerStatusReader.createDomainStatusReaderStep(info, 0, endStep));
+
+    assertThat(getServerStates(packet), hasEntry("server1", "ADMIN"));
+    assertThat(execFactory.numExecs, is(0));
+  }
+
+  @Test
+  public void whenHttpModeAndRestCallReturnsState_doNotReadHealthAgain() {
+    TuningParametersStub.setParameter("serverStatusReadMode", "http");
+    info.setServerPod("server1", createPodWithRunningContainer("server1"));
+    stepFactory.defineState("server1", "ADMIN");
+
+    testSupport.runSteps(ServerStatusReader.createDomainStatusReaderStep(info, 0, endStep));
+
+    assertThat(stepFactory.serverNames, contains("server1"));
+  }
+
+  @Test
+  public void whenHttpModeAndRestCallFails_fallBackToExec() {
+    TuningParametersStub.setParameter("serverStatusReadMode", "http");
+    info.setServerPod("server1", createPodWithRunningContainer("server1"));
+    execFactory.defineResponse("server1", "SHUTDOWN");
+
+    Packet packet = testSupport.runSteps(ServerStatusReader.createDomainStatusReaderStep(info, 0, endStep));
+
+    assertThat(getServerStates(packet), hasEntry("server1", "SHUTDOWN"));
+    assertThat(execFactory.numExecs, is(1));
+  }
+
+  @Test
+  public void whenHttpModeAndBothReadsFail_keepLastKnownStatus() {
+    TuningParametersStub.setParameter("serverStatusReadMode", "http");
+    info.setServerPod("server1", createPodWithRunningContainer("server1"));
+    info.updateLastKnownServerStatus("server1", "ADMIN");
+    stepFactory.defineState("server1", WebLogicConstants.UNKNOWN_STATE);
+
+    Packet packet = testSupport.runSteps(ServerStatusReader.createDomainStatusReaderStep(info, 0, endStep));
+
+    assertThat(getServerStates(packet), hasEntry("server1", "ADMIN"));
+    assertThat(info.getLastKnownServerStatus("server1").getStatus(), equalTo("ADMIN"));
+  }
+
+  private V1Pod createPodWithRunningContainer(String serverName) {
+    return createPod(serverName).status(new V1PodStatus().phase("Running").addContainerStatusesItem(
+        new V1ContainerStatus().name(KubernetesConstants.CONTAINER_NAME)
+            .state(new V1ContainerState().running(new V1ContainerStateRunning()))));
+  }
+
   static class ReadServerHealthStepFactoryFake implements Function<Step, Step> {
     final List<String> serverNames = new ArrayList<>();
+    private final Map<String, String> states = new HashMap<>();
+
+    void defineState(String serverName, String state) {
+      states.put(serverName, state);
+    }
 
     @Override
     public Step apply(Step next) {
-      return new Step() {
+      return new Step(next) {
         @Override
         public NextAction apply(Packet packet) {
-          serverNames.add((String) packet.get(ProcessingConstants.SERVER_NAME));
+          String serverName = (String) packet.get(ProcessingConstants.SERVER_NAME);
+          serverNames.add(serverName);
+          Optional.ofNullable(states.get(serverName)).ifPresent(state -> recordState(packet, serverName, state));
           return doNext(packet);
         }
       };
     }
+
+    private void recordState(Packet packet, String serverName, String state) {
+      packet.getSpi(DomainPresenceInfo.class).updateLastKnownServerStatus(serverName, state);
+      packet.<Map<String, String>>getValue(SERVER_STATE_MAP).put(serverName, state);
+      packet.<Map<String, ServerHealth>>getValue(SERVER_HEALTH_MAP).put(serverName, new ServerHealth());
+    }
   }
 
   static class KubernetesExecFactoryFake implements KubernetesExecFactory {
     private final Map<String, String> responses = new HashMap<>();
+    private int numExecs;
 
     void defineResponse(String serverName, String response) {
       responses.put(LegalNames.toPodName(UID, serverName), response);
@@ -199,6 +310,7 @@ public class ServerStatusReaderTest extends HttpUserAgentTest {
       return new KubernetesExec() {
         @Override
         public Process exec(String... command) {
+          numExecs++;
           return createStub(ProcessStub.class, getResponse(pod.getMetadata().getName()));
         }
 
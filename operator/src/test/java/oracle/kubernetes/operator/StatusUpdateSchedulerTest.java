@@ -0,0 +1,202 @@
+// Copyright (c) 2021, Oracle and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import oracle.kubernetes.operator.TuningParameters.MainTuning;
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.equalTo;
+
+public class StatusUpdateSchedulerTest {
+
+  private static final String NS = "namespace";
+  private static final String UID1 = "domain1";
+  private static final String UID2 = "domain2";
+  private static final long SHORT_DELAY = 5;
+  private static final long LONG_DELAY = 30;
+  private static final int UNCHANGED_COUNT = 2;
+
+  private final MainTuning tuning
+        = new MainTuning(5, 2, 2, 2, 2, 2, UNCHANGED_COUNT, 30, SHORT_DELAY, LONG_DELAY, 120, "exec");
+  private long jitterValue;
+  private final StatusUpdateScheduler scheduler
+        = new StatusUpdateScheduler(() -> tuning, max -> Math.min(max, jitterValue));
+  private final List<String> updates = new ArrayList<>();
+
+  @Test
+  public void afterRegistration_firstUpdateRunsAfterShortDelay() {
+    register(UID1);
+
+    tick(SHORT_DELAY - 1);
+    assertThat(updates, empty());
+
+    tick(1);
+    assertThat(updates, contains(UID1));
+  }
+
+  @Test
+  public void whileStatusChanging_updatesRepeatAtShortDelay() {
+    register(UID1);
+
+    tick(SHORT_DELAY * 3);
+
+    assertThat(updates, contains(UID1, UID1, UID1));
+  }
+
+  @Test
+  public void whenJitterApplied_firstUpdateRunsEarlier() {
+    jitterValue = 3;
+    register(UID1);
+
+    tick(SHORT_DELAY - 3);
+
+    assertThat(updates, contains(UID1));
+  }
+
+  @Test
+  public void afterStatusUnchangedForConfiguredCount_intervalDoubles() {
+    register(UID1);
+
+    recordResults(UID1, "same", UNCHANGED_COUNT + 1);
+
+    assertThat(scheduler.getInterval(NS, UID1), equalTo(SHORT_DELAY * 2));
+  }
+
+  @Test
+  public void beforeConfiguredCountReached_intervalIsUnchanged() {
+    register(UID1);
+
+    recordResults(UID1, "same", UNCHANGED_COUNT);
+
+    assertThat(scheduler.getInterval(NS, UID1), equalTo(SHORT_DELAY));
+  }
+
+  @Test
+  public void whenStatusRemainsUnchanged_intervalLimitedToEventualLongDelay() {
+    register(UID1);
+
+    recordResults(UID1, "same", 20);
+
+    assertThat(scheduler.getInterval(NS, UID1), equalTo(LONG_DELAY));
+  }
+
+  @Test
+  public void whenIncompleteStatusReported_intervalIsNotIncreased() {
+    register(UID1);
+
+    recordResults(UID1, null, 20);
+
+    assertThat(scheduler.getInterval(NS, UID1), equalTo(SHORT_DELAY));
+  }
+
+  @Test
+  public void whenStatusChanges_restoreShortDelay() {
+    register(UID1);
+    recordResults(UID1, "same", 20);
+
+    scheduler.recordResult(NS, UID1, "different");
+
+    assertThat(scheduler.getInterval(NS, UID1), equalTo(SHORT_DELAY));
+  }
+
+  @Test
+  public void afterBackoff_updatesRunAtLongerInterval() {
+    register(UID1);
+    tick(SHORT_DELAY);
+    recordResults(UID1, "same", 20);
+    updates.clear();
+
+    tick(SHORT_DELAY);
+    updates.clear();
+    tick(LONG_DELAY - 1);
+    assertThat(updates, empty());
+
+    tick(1);
+    assertThat(updates, contains(UID1));
+  }
+
+  @Test
+  public void whenExpedited_updateRunsOnNextTick() {
+    register(UID1);
+    recordResults(UID1, "same", 20);
+
+    scheduler.expedite(NS, UID1);
+    tick(1);
+
+    assertThat(updates, contains(UID1));
+    assertThat(scheduler.getInterval(NS, UID1), equalTo(SHORT_DELAY));
+  }
+
+  @Test
+  public void afterUnregister_updatesStop() {
+    register(UID1);
+    register(UID2);
+
+    scheduler.unregister(NS, UID1);
+    tick(SHORT_DELAY);
+
+    assertThat(updates, contains(UID2));
+  }
+
+  @Test
+  public void afterNamespaceRemoved_updatesStop() {
+    register(UID1);
+    register(UID2);
+
+    scheduler.removeNamespace(NS);
+    tick(SHORT_DELAY);
+
+    assertThat(updates, empty());
+    assertThat(scheduler.size(), equalTo(0));
+  }
+
+  @Test
+  public void whenRegisteredAgain_replacePreviousRegistration() {
+    register(UID1);
+    register(UID1);
+
+    tick(SHORT_DELAY);
+
+    assertThat(updates, contains(UID1));
+    assertThat(scheduler.size(), equalTo(1));
+  }
+
+  @Test
+  public void whenDelayExceedsWheelSize_updateWaitsForFullDelay() {
+    StatusUpdateScheduler longScheduler = new StatusUpdateScheduler(
+          () -> new MainTuning(5, 2, 2, 2, 2, 2, 0, 30, StatusUpdateScheduler.WHEEL_SIZE + 10, 1000, 120, "exec"),
+          max -> 0);
+    longScheduler.register(NS, UID1, () -> updates.add(UID1));
+
+    for (int i = 0; i < StatusUpdateScheduler.WHEEL_SIZE + 9; i++) {
+      longScheduler.tick();
+    }
+    assertThat(updates, empty());
+
+    longScheduler.tick();
+    assertThat(updates, contains(UID1));
+  }
+
+  private void register(String domainUid) {
+    scheduler.register(NS, domainUid, () -> updates.add(domainUid));
+  }
+
+  private void tick(long count) {
+    for (int i = 0; i < count; i++) {
+      scheduler.tick();
+    }
+  }
+
+  private void recordResults(String domainUid, Object status, int count) {
+    for (int i = 0; i < count; i++) {
+      scheduler.recordResult(NS, domainUid, status);
+    }
+  }
+}
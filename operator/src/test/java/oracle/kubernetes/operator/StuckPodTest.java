@@ -8,6 +8,8 @@ import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
 import java.util.logging.Level;
 import java.util.logging.LogRecord;
 import java.util.stream.Stream;
@@ -15,6 +17,7 @@ import java.util.stream.Stream;
 import com.meterware.simplestub.Memento;
 import io.kubernetes.client.openapi.models.V1ObjectMeta;
 import io.kubernetes.client.openapi.models.V1Pod;
+import oracle.kubernetes.operator.builders.WatchEvent;
 import oracle.kubernetes.operator.helpers.DomainPresenceInfo;
 import oracle.kubernetes.operator.helpers.KubernetesTestSupport;
 import oracle.kubernetes.operator.helpers.TuningParametersStub;
@@ -142,6 +145,66 @@ public class StuckPodTest {
     assertThat(mainDelegate.makeRightInvoked(domain), is(true));
   }
 
+  @Test
+  public void whenPodReportedTerminating_deleteItWhenGracePeriodAndMarginExpire() {
+    markAsDelete(getSelectedPod(SERVER_POD_1));
+
+    processing.dispatchPodWatch(WatchEvent.createModifiedEvent(getSelectedPod(SERVER_POD_1)).toWatchResponse());
+    testSupport.setTime(getForcedDeleteSeconds(), TimeUnit.SECONDS);
+
+    assertThat(getSelectedPod(SERVER_POD_1), nullValue());
+  }
+
+  @Test
+  public void whenPodReportedTerminating_dontDeleteItBeforeMarginExpires() {
+    markAsDelete(getSelectedPod(SERVER_POD_1));
+
+    processing.dispatchPodWatch(WatchEvent.createModifiedEvent(getSelectedPod(SERVER_POD_1)).toWatchResponse());
+    testSupport.setTime(getForcedDeleteSeconds() - 1, TimeUnit.SECONDS);
+
+    assertThat(getSelectedPod(SERVER_POD_1), notNullValue());
+  }
+
+  private int getForcedDeleteSeconds() {
+    return (int) DELETION_GRACE_PERIOD_SECONDS + StuckPodProcessing.FORCED_DELETE_MARGIN_SECONDS;
+  }
+
+  @Test
+  public void whenPodsInNamespaceExpireTogether_initiateMakeRightOnce() {
+    markAsDelete(getSelectedPod(SERVER_POD_1));
+    markAsDelete(getSelectedPod(SERVER_POD_2));
+
+    processing.dispatchPodWatch(WatchEvent.createModifiedEvent(getSelectedPod(SERVER_POD_1)).toWatchResponse());
+    processing.dispatchPodWatch(WatchEvent.createModifiedEvent(getSelectedPod(SERVER_POD_2)).toWatchResponse());
+    testSupport.setTime(getForcedDeleteSeconds(), TimeUnit.SECONDS);
+
+    assertThat(getSelectedPod(SERVER_POD_1), nullValue());
+    assertThat(getSelectedPod(SERVER_POD_2), nullValue());
+    assertThat(mainDelegate.numMakeRightInvocations(domain), equalTo(1));
+  }
+
+  @Test
+  public void whenTerminatingPodReportedDeleted_dontForceDeleteIt() {
+    markAsDelete(getSelectedPod(SERVER_POD_1));
+    testSupport.doOnDelete(POD, this::recordGracePeriodSeconds);
+
+    processing.dispatchPodWatch(WatchEvent.createModifiedEvent(getSelectedPod(SERVER_POD_1)).toWatchResponse());
+    processing.dispatchPodWatch(WatchEvent.createDeletedEvent(getSelectedPod(SERVER_POD_1)).toWatchResponse());
+    testSupport.setTime(getForcedDeleteSeconds() + 1, TimeUnit.SECONDS);
+
+    assertThat(gracePeriodSeconds, nullValue());
+  }
+
+  @Test
+  public void whenListFindsPodTerminating_deleteItWhenGracePeriodAndMarginExpire() {
+    markAsDelete(getSelectedPod(SERVER_POD_1));
+
+    processing.checkStuckPods(NS);
+    testSupport.setTime(getForcedDeleteSeconds(), TimeUnit.SECONDS);
+
+    assertThat(getSelectedPod(SERVER_POD_1), nullValue());
+  }
+
   @Test
   public void whenForeignPodStuck_ignoreIt() {
     markAsDelete(getSelectedPod(FOREIGN_POD));
@@ -198,6 +261,10 @@ public class StuckPodTest {
       return invocations.contains(domain);
     }
 
+    int numMakeRightInvocations(Domain domain) {
+      return (int) invocations.stream().filter(domain::equals).count();
+    }
+
     @Override
     public void runSteps(Step firstStep) {
       testSupport.runSteps(firstStep);
@@ -218,6 +285,11 @@ public class StuckPodTest {
       return domainNamespaces;
     }
 
+    @Override
+    public ScheduledFuture<?> schedule(Runnable command, long delay, TimeUnit unit) {
+      return testSupport.schedule(command, delay, unit);
+    }
+
     abstract static class DomainProcessorStub implements DomainProcessor {
       private final MainDelegateStub delegateStub;
 
@@ -0,0 +1,178 @@
+// Copyright (c) 2021, Oracle and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import com.meterware.simplestub.Memento;
+import io.kubernetes.client.openapi.models.V1ObjectMeta;
+import io.kubernetes.client.openapi.models.V1Service;
+import io.kubernetes.client.util.Watch;
+import oracle.kubernetes.operator.builders.WatchEvent;
+import oracle.kubernetes.operator.helpers.TuningParametersStub;
+import oracle.kubernetes.operator.watcher.WatchListener;
+import oracle.kubernetes.utils.TestUtils;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.nullValue;
+
+public class WatchMultiplexerTest extends ThreadFactoryTestBase {
+  private static final String NS1 = "ns1";
+  private static final String NS2 = "ns2";
+
+  private final List<Memento> mementos = new ArrayList<>();
+  private final List<Watch.Response<V1Service>> ns1Responses = new ArrayList<>();
+  private final List<Watch.Response<V1Service>> ns2Responses = new ArrayList<>();
+  private final AtomicBoolean ns1Stopping = new AtomicBoolean(false);
+  private final AtomicBoolean ns2Stopping = new AtomicBoolean(false);
+
+  @BeforeEach
+  public void setUp() throws Exception {
+    mementos.add(TestUtils.silenceOperatorLogger());
+    mementos.add(TuningParametersStub.install());
+    mementos.add(NoopWatcherStarter.install());
+  }
+
+  @AfterEach
+  public void tearDown() {
+    WatchMultiplexer.stopAll();
+    mementos.forEach(Memento::revert);
+  }
+
+  @Test
+  public void whenFeatureGateNotEnabled_sharedWatchesAreDisabled() {
+    assertThat(WatchMultiplexer.isEnabled(), equalTo(false));
+  }
+
+  @Test
+  public void whenNotEnabled_watchersDoNotAttach() {
+    createServiceWatcher(NS1, ns1Responses, ns1Stopping);
+
+    assertThat(WatchMultiplexer.getNumSharedWatches(), equalTo(0));
+  }
+
+  @Test
+  public void whenWatchersOfSameTypeAttached_shareSingleWatch() {
+    attach(createServiceWatcher(NS1, ns1Responses, ns1Stopping));
+    attach(createServiceWatcher(NS2, ns2Responses, ns2Stopping));
+
+    assertThat(WatchMultiplexer.getNumSharedWatches(), equalTo(1));
+    assertThat(getSharedServiceWatch().getNumAttachedWatchers(), equalTo(2));
+  }
+
+  @Test
+  public void sharedWatch_dispatchesEventsToWatcherForObjectNamespace() {
+    attach(createServiceWatcher(NS1, ns1Responses, ns1Stopping));
+    attach(createServiceWatcher(NS2, ns2Responses, ns2Stopping));
+
+    Watch.Response<V1Service> response = createAddResponse(NS2);
+    getSharedServiceWatch().receivedResponse(response);
+
+    assertThat(ns1Responses, empty());
+    assertThat(ns2Responses, contains(response));
+  }
+
+  @Test
+  public void sharedWatch_ignoresEventsForUnattachedNamespace() {
+    attach(createServiceWatcher(NS1, ns1Responses, ns1Stopping));
+
+    getSharedServiceWatch().receivedResponse(createAddResponse("other"));
+
+    assertThat(ns1Responses, empty());
+  }
+
+  @Test
+  public void whenWatcherAttachesWithEarlierVersion_sharedWatchRestartsFromIt() {
+    attach(createServiceWatcher(NS1, "20", ns1Responses, ns1Stopping));
+    attach(createServiceWatcher(NS2, "10", ns2Responses, ns2Stopping));
+
+    assertThat(getSharedServiceWatch().getRestartVersion(), equalTo("10"));
+  }
+
+  @Test
+  public void whenWatcherAttachesWithLaterVersion_sharedWatchDoesNotRestart() {
+    attach(createServiceWatcher(NS1, "10", ns1Responses, ns1Stopping));
+    attach(createServiceWatcher(NS2, "20", ns2Responses, ns2Stopping));
+
+    assertThat(getSharedServiceWatch().getRestartVersion(), equalTo("10"));
+  }
+
+  @Test
+  public void sharedWatch_ignoresEventsAlreadySeenByWatcher() {
+    attach(createServiceWatcher(NS1, "10", ns1Responses, ns1Stopping));
+
+    getSharedServiceWatch().receivedResponse(createAddResponse(NS1, "8"));
+
+    assertThat(ns1Responses, empty());
+  }
+
+  @Test
+  public void sharedWatch_dispatchesEventsNewerThanWatcherVersion() {
+    attach(createServiceWatcher(NS1, "10", ns1Responses, ns1Stopping));
+
+    Watch.Response<V1Service> response = createAddResponse(NS1, "12");
+    getSharedServiceWatch().receivedResponse(response);
+
+    assertThat(ns1Responses, contains(response));
+  }
+
+  @Test
+  public void whenNamespaceStopping_sharedWatchDetachesItsWatcher() {
+    attach(createServiceWatcher(NS1, ns1Responses, ns1Stopping));
+    attach(createServiceWatcher(NS2, ns2Responses, ns2Stopping));
+
+    ns1Stopping.set(true);
+    getSharedServiceWatch().receivedResponse(createAddResponse(NS1));
+
+    assertThat(ns1Responses, empty());
+    assertThat(getSharedServiceWatch().getNumAttachedWatchers(), equalTo(1));
+  }
+
+  @Test
+  public void afterStopAll_noSharedWatchesRemain() {
+    attach(createServiceWatcher(NS1, ns1Responses, ns1Stopping));
+
+    WatchMultiplexer.stopAll();
+
+    assertThat(WatchMultiplexer.getSharedWatch(ServiceWatcher.class), nullValue());
+  }
+
+  private ServiceWatcher createServiceWatcher(
+        String ns, List<Watch.Response<V1Service>> responses, AtomicBoolean stopping) {
+    return createServiceWatcher(ns, "0", responses, stopping);
+  }
+
+  private ServiceWatcher createServiceWatcher(
+        String ns, String resourceVersion, List<Watch.Response<V1Service>> responses, AtomicBoolean stopping) {
+    WatchListener<V1Service> listener = responses::add;
+    return ServiceWatcher.create(this, ns, resourceVersion, DomainNamespaces.getWatchTuning(), listener, stopping);
+  }
+
+  private void attach(ServiceWatcher watcher) {
+    WatchMultiplexer.attach(this, watcher);
+  }
+
+  private WatchMultiplexer<V1Service> getSharedServiceWatch() {
+    return WatchMultiplexer.getSharedWatch(ServiceWatcher.class);
+  }
+
+  private Watch.Response<V1Service> createAddResponse(String namespace) {
+    return createAddResponse(namespace, "1");
+  }
+
+  private Watch.Response<V1Service> createAddResponse(String namespace, String resourceVersion) {
+    return WatchEvent.createAddedEvent(
+          new V1Service().metadata(new V1ObjectMeta().name("service").namespace(namespace)
+                .resourceVersion(resourceVersion)))
+          .toWatchResponse();
+  }
+}
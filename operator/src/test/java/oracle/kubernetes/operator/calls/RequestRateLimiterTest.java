@@ -0,0 +1,113 @@
+// Copyright (c) 2021, Oracle and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.calls;
+
+import java.util.concurrent.TimeUnit;
+
+import oracle.kubernetes.operator.TuningParameters.CallBuilderTuning;
+import org.junit.jupiter.api.Test;
+
+import static oracle.kubernetes.operator.calls.RequestRateLimiter.Lane.EVENT;
+import static oracle.kubernetes.operator.calls.RequestRateLimiter.Lane.LIST;
+import static oracle.kubernetes.operator.calls.RequestRateLimiter.Lane.MAKE_RIGHT;
+import static oracle.kubernetes.operator.calls.RequestRateLimiter.Lane.STATUS;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.greaterThan;
+
+public class RequestRateLimiterTest {
+
+  private static final int QPS = 10;
+  private static final int BURST = 10;
+
+  private long nanoTime;
+  private CallBuilderTuning tuning = new CallBuilderTuning(50, 5, 10, QPS, BURST);
+  private final RequestRateLimiter limiter = new RequestRateLimiter(() -> nanoTime, () -> tuning);
+
+  @Test
+  public void callsAreAssignedToLanes() {
+    assertThat(RequestRateLimiter.Lane.forCall("replaceDomainStatus"), equalTo(STATUS));
+    assertThat(RequestRateLimiter.Lane.forCall("listPod"), equalTo(LIST));
+    assertThat(RequestRateLimiter.Lane.forCall("listEvent"), equalTo(LIST));
+    assertThat(RequestRateLimiter.Lane.forCall("createEvent"), equalTo(EVENT));
+    assertThat(RequestRateLimiter.Lane.forCall("createPod"), equalTo(MAKE_RIGHT));
+    assertThat(RequestRateLimiter.Lane.forCall("patchDomain"), equalTo(MAKE_RIGHT));
+  }
+
+  @Test
+  public void whenRateLimitDisabled_neverDelayRequests() {
+    tuning = new CallBuilderTuning(50, 5, 10);
+
+    for (int i = 0; i < 1000; i++) {
+      assertThat(limiter.tryAcquire(EVENT), equalTo(0L));
+    }
+  }
+
+  @Test
+  public void makeRightRequests_mayUseEntireBurst() {
+    for (int i = 0; i < BURST; i++) {
+      assertThat(limiter.tryAcquire(MAKE_RIGHT), equalTo(0L));
+    }
+  }
+
+  @Test
+  public void whenBurstExhausted_delayRequestUntilTokenAvailable() {
+    consumeTokens(MAKE_RIGHT, BURST);
+
+    assertThat(limiter.tryAcquire(MAKE_RIGHT), equalTo(100L));
+  }
+
+  @Test
+  public void afterDelay_requestMayProceed() {
+    consumeTokens(MAKE_RIGHT, BURST);
+
+    nanoTime += TimeUnit.MILLISECONDS.toNanos(limiter.tryAcquire(MAKE_RIGHT));
+
+    assertThat(limiter.tryAcquire(MAKE_RIGHT), equalTo(0L));
+  }
+
+  @Test
+  public void eventRequests_leaveReserveForHigherPriorityLanes() {
+    assertThat(consumeTokens(EVENT, BURST), equalTo(BURST / 2));
+  }
+
+  @Test
+  public void statusRequests_leaveReserveForHigherPriorityLanes() {
+    assertThat(consumeTokens(STATUS, BURST), equalTo(BURST - 3));
+  }
+
+  @Test
+  public void whenBackgroundLanesThrottled_makeRightRequestsProceed() {
+    consumeTokens(EVENT, BURST);
+    consumeTokens(STATUS, BURST);
+    consumeTokens(LIST, BURST);
+
+    assertThat(limiter.tryAcquire(MAKE_RIGHT), equalTo(0L));
+  }
+
+  @Test
+  public void whenThrottled_lowerPriorityLaneWaitsLonger() {
+    consumeTokens(MAKE_RIGHT, BURST);
+
+    assertThat(limiter.tryAcquire(EVENT), greaterThan(limiter.tryAcquire(MAKE_RIGHT)));
+  }
+
+  @Test
+  public void whenBurstIsOne_allLanesMayProceed() {
+    tuning = new CallBuilderTuning(50, 5, 10, QPS, 1);
+
+    assertThat(limiter.tryAcquire(EVENT), equalTo(0L));
+  }
+
+  // attempts to take the specified number of tokens, returning the number actually granted
+  private int consumeTokens(RequestRateLimiter.Lane lane, int count) {
+    int granted = 0;
+    for (int i = 0; i < count; i++) {
+      if (limiter.tryAcquire(lane) == 0) {
+        granted++;
+      }
+    }
+    return granted;
+  }
+}
@@ -0,0 +1,69 @@
+// Copyright (c) 2021, Oracle and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.helpers;
+
+import io.kubernetes.client.custom.IntOrString;
+import io.kubernetes.client.openapi.models.V1Container;
+import io.kubernetes.client.openapi.models.V1EnvVar;
+import io.kubernetes.client.openapi.models.V1ObjectMeta;
+import io.kubernetes.client.openapi.models.V1Pod;
+import io.kubernetes.client.openapi.models.V1PodSpec;
+import io.kubernetes.client.openapi.models.V1Service;
+import io.kubernetes.client.openapi.models.V1ServicePort;
+import io.kubernetes.client.openapi.models.V1ServiceSpec;
+import io.kubernetes.client.util.Yaml;
+import org.apache.commons.codec.digest.DigestUtils;
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.not;
+
+public class AnnotationHelperTest {
+
+  @Test
+  public void podHash_matchesHashOfYamlString() {
+    V1Pod pod = createPod("managed-server1");
+
+    assertThat(AnnotationHelper.sha256Hex(pod), equalTo(DigestUtils.sha256Hex(Yaml.dump(pod))));
+  }
+
+  @Test
+  public void serviceHash_matchesHashOfYamlString() {
+    V1Service service = new V1Service()
+          .metadata(new V1ObjectMeta().name("domain1-cluster-cluster1").namespace("ns1")
+                .putLabelsItem("weblogic.domainUID", "domain1"))
+          .spec(new V1ServiceSpec().type("ClusterIP").putSelectorItem("weblogic.clusterName", "cluster1")
+                .addPortsItem(new V1ServicePort().name("default").port(8001).targetPort(new IntOrString(8001))));
+
+    assertThat(AnnotationHelper.sha256Hex(service), equalTo(DigestUtils.sha256Hex(Yaml.dump(service))));
+  }
+
+  @Test
+  public void whenObjectContainsNonAsciiText_hashMatchesHashOfYamlString() {
+    V1Pod pod = createPod("managed-server1");
+    pod.getMetadata().putAnnotationsItem("description", "café 東京 🚀");
+
+    assertThat(AnnotationHelper.sha256Hex(pod), equalTo(DigestUtils.sha256Hex(Yaml.dump(pod))));
+  }
+
+  @Test
+  public void whenObjectsDiffer_hashesDiffer() {
+    assertThat(AnnotationHelper.sha256Hex(createPod("managed-server1")),
+          not(equalTo(AnnotationHelper.sha256Hex(createPod("managed-server2")))));
+  }
+
+  private V1Pod createPod(String serverName) {
+    return new V1Pod()
+          .metadata(new V1ObjectMeta().name("domain1-" + serverName).namespace("ns1")
+                .putLabelsItem("weblogic.domainUID", "domain1")
+                .putLabelsItem("weblogic.serverName", serverName))
+          .spec(new V1PodSpec()
+                .addContainersItem(new V1Container().name("weblogic-server")
+                      .image("container-registry/weblogic:12.2.1.4")
+                      .addCommandItem("/weblogic-operator/scripts/startServer.sh")
+                      .addEnvItem(new V1EnvVar().name("SERVER_NAME").value(serverName))
+                      .addEnvItem(new V1EnvVar().name("DOMAIN_HOME").value("/u01/oracle/user_projects/domains"))));
+  }
+}
@@ -5,23 +5,37 @@ package oracle.kubernetes.operator.helpers;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
 import com.meterware.simplestub.Memento;
 import io.kubernetes.client.openapi.ApiClient;
+import okhttp3.OkHttpClient;
+import okhttp3.Protocol;
 import oracle.kubernetes.operator.ClientFactoryStub;
+import oracle.kubernetes.operator.TuningParameters.HttpClientTuning;
+import oracle.kubernetes.operator.metrics.MetricsRegistry;
 import oracle.kubernetes.utils.TestUtils;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.both;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.equalTo;
 import static org.hamcrest.Matchers.instanceOf;
 import static org.hamcrest.Matchers.not;
 import static org.hamcrest.Matchers.sameInstance;
 
 public class ClientPoolTest {
 
+  private static final int MAX_REQUESTS = 100;
+  private static final int MAX_REQUESTS_PER_HOST = 25;
+
   private final List<Memento> mementos = new ArrayList<>();
+  private final ExecutorService executor = Executors.newSingleThreadExecutor();
 
   @BeforeEach
   public void setUp() throws NoSuchFieldException {
@@ -32,6 +46,7 @@ public class ClientPoolTest {
   @AfterEach
   public void tearDown() {
     mementos.forEach(Memento::revert);
+    executor.shutdownNow();
   }
 
   @Test
@@ -54,4 +69,39 @@ public class ClientPoolTest {
 
     assertThat(ClientPool.getInstance().take(), not(sameInstance(apiClient)));
   }
+
+  @Test
+  public void tunedHttpClient_usesDispatcherLimitsFromTuning() {
+    OkHttpClient httpClient = ClientPool.tuneHttpClient(new OkHttpClient(), executor, createTuning(true));
+
+    assertThat(httpClient.dispatcher().getMaxRequests(), equalTo(MAX_REQUESTS));
+    assertThat(httpClient.dispatcher().getMaxRequestsPerHost(), equalTo(MAX_REQUESTS_PER_HOST));
+  }
+
+  @Test
+  public void whenHttp2Enabled_tunedHttpClientMayNegotiateHttp2() {
+    OkHttpClient httpClient = ClientPool.tuneHttpClient(new OkHttpClient(), executor, createTuning(true));
+
+    assertThat(httpClient.protocols(), contains(Protocol.HTTP_2, Protocol.HTTP_1_1));
+  }
+
+  @Test
+  public void whenHttp2Disabled_tunedHttpClientUsesOnlyHttp1() {
+    OkHttpClient httpClient = ClientPool.tuneHttpClient(new OkHttpClient(), executor, createTuning(false));
+
+    assertThat(httpClient.protocols(), contains(Protocol.HTTP_1_1));
+  }
+
+  @Test
+  public void tunedHttpClient_registersDispatcherGauges() {
+    ClientPool.tuneHttpClient(new OkHttpClient(), executor, createTuning(true));
+
+    assertThat(MetricsRegistry.getInstance().scrape(),
+          both(containsString("wko_http_client_queued_calls 0.0"))
+                .and(containsString("wko_http_client_running_calls 0.0")));
+  }
+
+  private HttpClientTuning createTuning(boolean http2Enabled) {
+    return new HttpClientTuning(MAX_REQUESTS, MAX_REQUESTS_PER_HOST, 4, 60, http2Enabled);
+  }
 }
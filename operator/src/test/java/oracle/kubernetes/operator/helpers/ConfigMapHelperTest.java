@@ -3,6 +3,7 @@
 
 package oracle.kubernetes.operator.helpers;
 
+import java.io.StringReader;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
@@ -31,7 +32,10 @@ import static oracle.kubernetes.operator.logging.MessageKeys.CM_EXISTS;
 import static oracle.kubernetes.operator.logging.MessageKeys.CM_REPLACED;
 import static oracle.kubernetes.utils.LogMatcher.containsFine;
 import static oracle.kubernetes.utils.LogMatcher.containsInfo;
+import static org.hamcrest.Matchers.contains;
 import static org.hamcrest.Matchers.hasEntry;
+import static org.hamcrest.Matchers.hasKey;
+import static org.hamcrest.Matchers.not;
 import static org.hamcrest.Matchers.notNullValue;
 import static org.hamcrest.Matchers.sameInstance;
 import static org.hamcrest.junit.MatcherAssert.assertThat;
@@ -140,4 +144,46 @@ public class ConfigMapHelperTest {
     testSupport.runSteps(ConfigMapHelper.createScriptConfigMapStep(DOMAIN_NS, PRODUCT_VERSION));
   }
 
+  @Test
+  public void whenIntrospectorResultParsed_fileContentsAreTrimmed() {
+    Map<String, String> result = ConfigMapHelper.parseIntrospectorResult(
+          new StringReader(String.join("\n",
+                "@[2021-01-01T00:00:00.000000Z][introspectDomain.py:100][INFO] starting",
+                ">>> /u01/introspect/domain1/topology.yaml",
+                "",
+                "  domainValid: true",
+                "",
+                ">>> EOF",
+                ">>> /u01/introspect/domain1/userConfigNodeManager.secure",
+                "#WebLogic User Configuration File; 2",
+                ">>> EOF")), "domain1", line -> { });
+
+    assertThat(result, hasEntry("topology.yaml", "domainValid: true"));
+    assertThat(result, hasEntry("userConfigNodeManager.secure", "#WebLogic User Configuration File; 2"));
+  }
+
+  @Test
+  public void whenIntrospectorResultParsed_passLinesOutsideFilesToConsumer() {
+    List<String> otherLines = new ArrayList<>();
+    ConfigMapHelper.parseIntrospectorResult(
+          new StringReader(String.join("\n",
+                "@[2021-01-01T00:00:00.000000Z][introspectDomain.py:100][INFO] starting",
+                ">>> /u01/introspect/domain1/topology.yaml",
+                "domainValid: true",
+                ">>> EOF",
+                "@[2021-01-01T00:00:01.000000Z][introspectDomain.py:200][INFO] done")), "domain1", otherLines::add);
+
+    assertThat(otherLines, contains(
+          "@[2021-01-01T00:00:00.000000Z][introspectDomain.py:100][INFO] starting",
+          "@[2021-01-01T00:00:01.000000Z][introspectDomain.py:200][INFO] done"));
+  }
+
+  @Test
+  public void whenIntrospectorFileNotTerminated_omitIt() {
+    Map<String, String> result = ConfigMapHelper.parseIntrospectorResult(
+          String.join("\n", ">>> /u01/introspect/domain1/topology.yaml", "domainValid: true"), "domain1");
+
+    assertThat(result, not(hasKey("topology.yaml")));
+  }
+
 }
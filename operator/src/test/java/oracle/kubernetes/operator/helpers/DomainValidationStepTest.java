@@ -4,7 +4,6 @@
 package oracle.kubernetes.operator.helpers;
 
 import java.util.ArrayList;
-import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -30,6 +29,7 @@ import oracle.kubernetes.operator.utils.WlsDomainConfigSupport;
 import oracle.kubernetes.operator.wlsconfig.WlsDomainConfig;
 import oracle.kubernetes.operator.work.Step;
 import oracle.kubernetes.operator.work.TerminalStep;
+import oracle.kubernetes.utils.SystemClockTestSupport;
 import oracle.kubernetes.utils.TestUtils;
 import oracle.kubernetes.weblogic.domain.DomainConfigurator;
 import oracle.kubernetes.weblogic.domain.DomainConfiguratorFactory;
@@ -73,9 +73,6 @@ public class DomainValidationStepTest {
   private static final int MULTI_CHUNKS_MIDDLE_NUM_IN_FIRST_CHUNK = DEFAULT_CALL_LIMIT / 2;
   private static final int MULTI_CHUNKS_LAST_NUM = DEFAULT_CALL_LIMIT * 2 + 1;
 
-  private static final String SECRETS = "secrets";
-  private static final String CONFIGMAPS = "configmaps";
-
   private static final String TEST_SECRET_PREFIX = "TEST_SECRET";
   private static final String TEST_CONFIGMAP_PREFIX = "TEST_CM";
 
@@ -124,6 +121,9 @@ public class DomainValidationStepTest {
     topologyValidationStep = DomainValidationSteps.createValidateDomainTopologyStep(terminalStep);
     mementos.add(StaticStubSupport.install(DomainProcessorImpl.class, "domainEventK8SObjects", domainEventObjects));
     mementos.add(StaticStubSupport.install(DomainProcessorImpl.class, "namespaceEventK8SObjects", nsEventObjects));
+    mementos.add(StaticStubSupport.install(DomainValidationSteps.class, "referenceCache",
+          new DomainValidationSteps.ReferenceCache()));
+    mementos.add(SystemClockTestSupport.installClock());
   }
 
   @AfterEach
@@ -219,25 +219,6 @@ public class DomainValidationStepTest {
     assertThat(terminalStep.wasRun(), is(true));
   }
 
-  @Test
-  public void whenDomainValidationStepsCalled_withSecretInMultiChunks_packetContainsAllSecrets() {
-    createSecrets(MULTI_CHUNKS_LAST_NUM);
-    testSupport.runSteps(domainValidationSteps);
-
-    assertThat(getMatchingSecretsCount(), is(MULTI_CHUNKS_LAST_NUM));
-  }
-
-  private int getMatchingSecretsCount() {
-    List<V1Secret> list =
-        (List<V1Secret>) Optional.ofNullable(testSupport.getPacket().get(SECRETS)).orElse(Collections.EMPTY_LIST);
-    return Math.toIntExact(list.stream().filter(secret -> matchesExpectedSecretNamePattern(secret)).count());
-  }
-
-  private boolean matchesExpectedSecretNamePattern(V1Secret secret) {
-    return Optional.of(secret).map(V1Secret::getMetadata).map(V1ObjectMeta::getName).orElse("")
-        .startsWith(TEST_SECRET_PREFIX);
-  }
-
   @Test
   public void whenDomainRefersToDefinedSecretInMiddleChunk_runNextStep() {
     domain.getSpec().withWebLogicCredentialsSecret(
@@ -268,35 +249,67 @@ public class DomainValidationStepTest {
     assertThat(terminalStep.wasRun(), is(true));
   }
 
-  private void createSecrets(int lastSecretNum) {
-    IntStream.rangeClosed(1, lastSecretNum)
-        .boxed()
-        .map(i -> TEST_SECRET_PREFIX + i)
-        .map(this::createSecret)
-        .forEach(testSupport::defineResources);
+  @Test
+  public void whenDomainValidationStepsCalled_readOnlyReferencedSecrets() {
+    domain.getSpec().withWebLogicCredentialsSecret(
+        new V1SecretReference().name(TEST_SECRET_PREFIX + MULTI_CHUNKS_LAST_NUM).namespace(NS));
+    createSecrets(MULTI_CHUNKS_LAST_NUM);
+    int numCalls = testSupport.getNumCalls();
+
+    testSupport.runSteps(domainValidationSteps);
+
+    assertThat(testSupport.getNumCalls() - numCalls, equalTo(1));
   }
 
-  private V1Secret createSecret(String secret) {
-    return new V1Secret().metadata(new V1ObjectMeta().name(secret).namespace(NS));
+  @Test
+  public void whenReferencedSecretRecentlyFound_dontReadItAgain() {
+    domain.getSpec().withWebLogicCredentialsSecret(new V1SecretReference().name("name"));
+    testSupport.defineResources(new V1Secret().metadata(new V1ObjectMeta().name("name").namespace(NS)));
+    testSupport.runSteps(domainValidationSteps);
+    int numCalls = testSupport.getNumCalls();
+
+    testSupport.runSteps(DomainValidationSteps.createDomainValidationSteps(NS, terminalStep));
+
+    assertThat(testSupport.getNumCalls(), equalTo(numCalls));
+    assertThat(terminalStep.wasRun(), is(true));
   }
 
   @Test
-  public void whenDomainValidationStepsCalled_withConfigMapInMultiChunks_packetContainsAllConfigMaps() {
-    createConfigMaps(MULTI_CHUNKS_LAST_NUM);
+  public void whenReferencedSecretFoundLongAgo_readItAgain() {
+    domain.getSpec().withWebLogicCredentialsSecret(new V1SecretReference().name("name"));
+    testSupport.defineResources(new V1Secret().metadata(new V1ObjectMeta().name("name").namespace(NS)));
     testSupport.runSteps(domainValidationSteps);
+    int numCalls = testSupport.getNumCalls();
+    testSupport.runSteps(DomainValidationSteps.createDomainValidationSteps(NS, terminalStep));
+
+    SystemClockTestSupport.increment(DomainValidationSteps.REFERENCE_CACHE_SECONDS + 1);
+    testSupport.runSteps(DomainValidationSteps.createDomainValidationSteps(NS, terminalStep));
 
-    assertThat(getMatchingConfigMapsCount(), is(MULTI_CHUNKS_LAST_NUM));
+    assertThat(testSupport.getNumCalls(), equalTo(numCalls + 1));
   }
 
-  private int getMatchingConfigMapsCount() {
-    List<V1ConfigMap> list =
-        (List<V1ConfigMap>) Optional.ofNullable(testSupport.getPacket().get(CONFIGMAPS)).orElse(Collections.EMPTY_LIST);
-    return Math.toIntExact(list.stream().filter(cm -> matchesExpectedConfigMapNamePattern(cm)).count());
+  @Test
+  public void whenReferencedSecretNotFound_readItAgainOnNextValidation() {
+    consoleControl.ignoreMessage(DOMAIN_VALIDATION_FAILED);
+    domain.getSpec().withWebLogicCredentialsSecret(new V1SecretReference().name("name"));
+    testSupport.runSteps(domainValidationSteps);
+    testSupport.defineResources(new V1Secret().metadata(new V1ObjectMeta().name("name").namespace(NS)));
+
+    testSupport.runSteps(DomainValidationSteps.createDomainValidationSteps(NS, terminalStep));
+
+    assertThat(terminalStep.wasRun(), is(true));
   }
 
-  private boolean matchesExpectedConfigMapNamePattern(V1ConfigMap cm) {
-    return Optional.of(cm).map(V1ConfigMap::getMetadata).map(V1ObjectMeta::getName).orElse("")
-        .startsWith(TEST_CONFIGMAP_PREFIX);
+  private void createSecrets(int lastSecretNum) {
+    IntStream.rangeClosed(1, lastSecretNum)
+        .boxed()
+        .map(i -> TEST_SECRET_PREFIX + i)
+        .map(this::createSecret)
+        .forEach(testSupport::defineResources);
+  }
+
+  private V1Secret createSecret(String secret) {
+    return new V1Secret().metadata(new V1ObjectMeta().name(secret).namespace(NS));
   }
 
   @Test
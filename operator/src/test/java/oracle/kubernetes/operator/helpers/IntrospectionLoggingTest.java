@@ -87,6 +87,17 @@ public class IntrospectionLoggingTest {
     logRecords.clear();
   }
 
+  @Test
+  public void whenIntrospectorLogContainsFiles_dontAddThemToLogMessages() {
+    IntrospectionTestUtils.defineResources(testSupport,
+          onSeparateLines(INFO_MESSAGE, ">>> /u01/introspect/domain1/topology.yaml", INFO_EXTRA1, ">>> EOF"));
+
+    testSupport.runSteps(JobHelper.readDomainIntrospectorPodLog(terminalStep));
+
+    assertThat(logRecords, containsInfo(INTROSPECTOR_LOG_PREFIX + INFO_MESSAGE));
+    logRecords.clear();
+  }
+
   @Test
   public void whenJobLogContainsSevereError_copyToDomainStatus() {
     IntrospectionTestUtils.defineResources(testSupport, SEVERE_MESSAGE_1);
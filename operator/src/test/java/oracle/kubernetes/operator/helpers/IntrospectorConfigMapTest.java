@@ -3,17 +3,23 @@
 
 package oracle.kubernetes.operator.helpers;
 
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
 import java.time.Instant;
 import java.time.OffsetDateTime;
 import java.time.ZoneId;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Base64;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.stream.Collectors;
+import java.util.zip.GZIPInputStream;
 import javax.annotation.Nonnull;
 
 import com.meterware.simplestub.Memento;
@@ -24,6 +30,7 @@ import oracle.kubernetes.operator.DomainProcessorTestSetup;
 import oracle.kubernetes.operator.DomainSourceType;
 import oracle.kubernetes.operator.IntrospectorConfigMapConstants;
 import oracle.kubernetes.operator.ProcessingConstants;
+import oracle.kubernetes.operator.TuningParameters;
 import oracle.kubernetes.operator.rest.ScanCacheStub;
 import oracle.kubernetes.operator.wlsconfig.WlsDomainConfig;
 import oracle.kubernetes.operator.work.Packet;
@@ -47,10 +54,12 @@ import static oracle.kubernetes.operator.IntrospectorConfigMapConstants.TOPOLOGY
 import static oracle.kubernetes.operator.IntrospectorConfigMapConstants.getIntrospectorConfigMapNamePrefix;
 import static oracle.kubernetes.operator.LabelConstants.CREATEDBYOPERATOR_LABEL;
 import static oracle.kubernetes.operator.LabelConstants.INTROSPECTION_STATE_LABEL;
+import static oracle.kubernetes.operator.LabelConstants.INTROSPECTOR_DATA_ENCODING;
 import static oracle.kubernetes.operator.ProcessingConstants.DOMAIN_TOPOLOGY;
 import static oracle.kubernetes.operator.helpers.DomainStatusMatcher.hasStatus;
 import static oracle.kubernetes.weblogic.domain.DomainConfiguratorFactory.forDomain;
 import static org.hamcrest.Matchers.allOf;
+import static org.hamcrest.Matchers.containsString;
 import static org.hamcrest.Matchers.empty;
 import static org.hamcrest.Matchers.equalTo;
 import static org.hamcrest.Matchers.hasEntry;
@@ -78,6 +87,8 @@ public class IntrospectorConfigMapTest {
   private static final String INPUTS_HASH_VALUE = "MII_inputs_hash";
   private static final String MD5_SECRETS = "md5-secrets";
   private static final String RESTART_VERSION = "123";
+  private static final String SIT_CONFIG_FILE = "Sit-Cfg-CFG--introspector-situational-config.xml";
+  private static final String SIT_CONFIG_VALUE = "<server><name>ms1</name></server>".repeat(20);
   private final KubernetesTestSupport testSupport = new KubernetesTestSupport();
   private final List<Memento> mementos = new ArrayList<>();
   private final TerminalStep terminalStep = new TerminalStep();
@@ -119,7 +130,8 @@ public class IntrospectorConfigMapTest {
     }
 
     void addToPacket() {
-      testSupport.addToPacket(ProcessingConstants.DOMAIN_INTROSPECTOR_LOG_RESULT, builder.toString());
+      testSupport.addToPacket(ProcessingConstants.DOMAIN_INTROSPECTOR_LOG_RESULT,
+            ConfigMapHelper.parseIntrospectorResult(builder.toString(), UID));
     }
 
   }
@@ -387,6 +399,99 @@ public class IntrospectorConfigMapTest {
     assertThat(getIntrospectorConfigMapValue("primordial_domainzip.secure.range"), nullValue());
   }
 
+  @Test
+  public void whenCompressionThresholdSet_compressLargeSitConfigFiles() throws Exception {
+    mementos.add(TuningParametersStub.install());
+    TuningParameters.getInstance().put("introspectorCompressionThreshold", "100");
+    introspectResult
+          .defineFile(TOPOLOGY_YAML, "domainValid: true", "domain:", "  name: \"sample\"")
+          .defineFile(SIT_CONFIG_FILE, SIT_CONFIG_VALUE)
+          .addToPacket();
+
+    testSupport.runSteps(ConfigMapHelper.createIntrospectorConfigMapStep(terminalStep));
+
+    assertThat(getIntrospectorConfigMapData(), not(hasKey(SIT_CONFIG_FILE)));
+    assertThat(decompress(getIntrospectorConfigMapValue(SIT_CONFIG_FILE + ".gz")), equalTo(SIT_CONFIG_VALUE));
+    assertThat(getIntrospectorConfigMapLabel(INTROSPECTOR_DATA_ENCODING), equalTo("gzip"));
+  }
+
+  @Test
+  public void whenCompressionThresholdNotSet_dontCompressSitConfigFiles() throws Exception {
+    mementos.add(TuningParametersStub.install());
+    introspectResult
+          .defineFile(TOPOLOGY_YAML, "domainValid: true", "domain:", "  name: \"sample\"")
+          .defineFile(SIT_CONFIG_FILE, SIT_CONFIG_VALUE)
+          .addToPacket();
+
+    testSupport.runSteps(ConfigMapHelper.createIntrospectorConfigMapStep(terminalStep));
+
+    assertThat(getIntrospectorConfigMapData(), hasEntry(SIT_CONFIG_FILE, SIT_CONFIG_VALUE));
+    assertThat(getIntrospectorConfigMapLabel(INTROSPECTOR_DATA_ENCODING), nullValue());
+  }
+
+  @Test
+  public void whenExistingMapOutdated_patchChangedEntries() {
+    testSupport.defineResources(createOutdatedIntrospectorConfigMap(
+          Map.of(TOPOLOGY_YAML, "domainValid: false", SECRETS_MD_5, MD5_SECRETS)));
+    introspectResult
+          .defineFile(TOPOLOGY_YAML, "domainValid: true", "domain:", "  name: \"sample\"")
+          .defineFile(SECRETS_MD_5, MD5_SECRETS)
+          .addToPacket();
+
+    testSupport.runSteps(ConfigMapHelper.createIntrospectorConfigMapStep(terminalStep));
+
+    assertThat(getIntrospectorConfigMapValue(TOPOLOGY_YAML), containsString("name: \"sample\""));
+    assertThat(getIntrospectorConfigMapValue(SECRETS_MD_5), equalTo(MD5_SECRETS));
+  }
+
+  @Test
+  public void whenExistingMapEntryChangedByOthers_restoreIt() {
+    testSupport.defineResources(createOutdatedIntrospectorConfigMap(
+          Map.of(TOPOLOGY_YAML, "domainValid: false", SECRETS_MD_5, "stored value")));
+    introspectResult
+          .defineFile(TOPOLOGY_YAML, "domainValid: true", "domain:", "  name: \"sample\"")
+          .defineFile(SECRETS_MD_5, MD5_SECRETS)
+          .addToPacket();
+
+    testSupport.runSteps(ConfigMapHelper.createIntrospectorConfigMapStep(terminalStep));
+
+    assertThat(getIntrospectorConfigMapValue(SECRETS_MD_5), equalTo(MD5_SECRETS));
+  }
+
+  @Test
+  public void whenExistingMapOutdated_removeEntriesNoLongerPresent() {
+    testSupport.defineResources(createOutdatedIntrospectorConfigMap(
+          Map.of(TOPOLOGY_YAML, TOPOLOGY_VALUE, SIT_CONFIG_FILE, SIT_CONFIG_VALUE)));
+    introspectResult
+          .defineFile(TOPOLOGY_YAML, "domainValid: true", "domain:", "  name: \"sample\"")
+          .addToPacket();
+
+    testSupport.runSteps(ConfigMapHelper.createIntrospectorConfigMapStep(terminalStep));
+
+    assertThat(getIntrospectorConfigMapData(), not(hasKey(SIT_CONFIG_FILE)));
+  }
+
+  private V1ConfigMap createOutdatedIntrospectorConfigMap(Map<String, String> entries) {
+    V1ConfigMap configMap = createIntrospectorConfigMap(0, entries);
+    configMap.getMetadata().putAnnotationsItem(AnnotationHelper.SHA256_ANNOTATION, "outdated");
+    return configMap;
+  }
+
+  private String decompress(String encoded) throws IOException {
+    try (InputStream in = new GZIPInputStream(new ByteArrayInputStream(Base64.getDecoder().decode(encoded)))) {
+      return new String(in.readAllBytes(), StandardCharsets.UTF_8);
+    }
+  }
+
+  @SuppressWarnings("SameParameterValue")
+  private String getIntrospectorConfigMapLabel(String name) {
+    return getIntrospectionConfigMap()
+          .map(V1ConfigMap::getMetadata)
+          .map(V1ObjectMeta::getLabels)
+          .map(m -> m.get(name))
+          .orElse(null);
+  }
+
   private V1ConfigMap createIntrospectorConfigMap(int mapIndex, Map<String, String> entries) {
     return new V1ConfigMap()
           .metadata(createOperatorMetadata().name(getIntrospectorConfigMapName(mapIndex)).namespace(NS))
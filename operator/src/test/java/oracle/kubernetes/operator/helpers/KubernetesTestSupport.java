@@ -3,6 +3,7 @@
 
 package oracle.kubernetes.operator.helpers;
 
+import java.io.Reader;
 import java.io.StringReader;
 import java.lang.reflect.Field;
 import java.lang.reflect.InvocationTargetException;
@@ -1167,8 +1168,14 @@ public class KubernetesTestSupport extends FiberTestSupport {
       return dataRepository.listResources(requestParams.namespace, limit, cont, fieldSelector, labelSelector);
     }
 
-    private <T> T readResource(DataRepository<T> dataRepository) {
-      return dataRepository.readResource(requestParams.name, requestParams.namespace);
+    // a pod log may be read as a stream, by a function passed as the request body
+    @SuppressWarnings("unchecked")
+    private <T> Object readResource(DataRepository<T> dataRepository) {
+      T resource = dataRepository.readResource(requestParams.name, requestParams.namespace);
+      if (requestParams.body instanceof Function && resource instanceof String) {
+        return ((Function<Reader, ?>) requestParams.body).apply(new StringReader((String) resource));
+      }
+      return resource;
     }
 
     public <T> V1Status deleteCollection(DataRepository<T> dataRepository) {
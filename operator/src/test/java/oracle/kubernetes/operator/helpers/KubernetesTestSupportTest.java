@@ -3,6 +3,9 @@
 
 package oracle.kubernetes.operator.helpers;
 
+import java.io.IOException;
+import java.io.Reader;
+import java.io.UncheckedIOException;
 import java.time.OffsetDateTime;
 import java.util.ArrayList;
 import java.util.List;
@@ -541,6 +544,28 @@ public class KubernetesTestSupportTest {
     assertThat(endStep.callResponse.getResult(), equalTo(POD_LOG_CONTENTS));
   }
 
+  @Test
+  public void whenDefined_readPodLogAsStream() {
+    TestResponseStep<Integer> endStep = new TestResponseStep<>();
+    testSupport.definePodLog("name", "namespace", POD_LOG_CONTENTS);
+
+    testSupport.runSteps(new CallBuilder().readPodLogAsync("name", "namespace", "", this::countChars, endStep));
+
+    assertThat(endStep.callResponse.getResult(), equalTo(POD_LOG_CONTENTS.length()));
+  }
+
+  private int countChars(Reader reader) {
+    try {
+      int count = 0;
+      while (reader.read() >= 0) {
+        count++;
+      }
+      return count;
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
   @Test
   public void deleteNamespace_deletesAllMatchingNamespacedResources() {
     Domain dom1 = createDomain("ns1", "domain1");
@@ -33,6 +33,10 @@ public abstract class TuningParametersStub implements TuningParameters {
   public static final int CALL_REQUEST_LIMIT = 10;
   public static final int CALL_MAX_RETRY_COUNT = 3;
   public static final int CALL_TIMEOUT_SECONDS = 5;
+
+  // HTTP client tuning
+  public static final int HTTP_MAX_REQUESTS = 20;
+  public static final int HTTP_MAX_REQUESTS_PER_HOST = 10;
   static Map<String, String> namedParameters;
 
   /**
@@ -69,7 +73,8 @@ public abstract class TuningParametersStub implements TuningParameters {
 
   @Override
   public MainTuning getMainTuning() {
-    return new MainTuning(5, 2, 2, 2, 2, 2, 2, 30, 2L, 2L, 120);
+    return new MainTuning(5, 2, 2, 2, 2, 2, 2, 30, 2L, 2L, 120,
+          namedParameters.getOrDefault("serverStatusReadMode", "exec"));
   }
 
   @Override
@@ -77,6 +82,21 @@ public abstract class TuningParametersStub implements TuningParameters {
     return new CallBuilderTuning(CALL_REQUEST_LIMIT, CALL_MAX_RETRY_COUNT, CALL_TIMEOUT_SECONDS);
   }
 
+  @Override
+  public HttpClientTuning getHttpClientTuning() {
+    return new HttpClientTuning(HTTP_MAX_REQUESTS, HTTP_MAX_REQUESTS_PER_HOST, 5, 300, true);
+  }
+
+  @Override
+  public EngineTuning getEngineTuning() {
+    return new EngineTuning(10, false);
+  }
+
+  @Override
+  public MakeRightTuning getMakeRightTuning() {
+    return new MakeRightTuning(0, 10, 300);
+  }
+
   @Override
   public WatchTuning getWatchTuning() {
     return new TuningParameters.WatchTuning(30, 0, 5, 1);
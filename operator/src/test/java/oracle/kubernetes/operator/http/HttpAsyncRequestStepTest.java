@@ -16,7 +16,10 @@ import java.util.logging.LogRecord;
 
 import com.meterware.simplestub.Memento;
 import com.meterware.simplestub.StaticStubSupport;
+import oracle.kubernetes.operator.helpers.DomainPresenceInfo;
+import oracle.kubernetes.operator.metrics.MetricsRegistry;
 import oracle.kubernetes.operator.work.AsyncFiber;
+import oracle.kubernetes.operator.work.Component;
 import oracle.kubernetes.operator.work.FiberTestSupport;
 import oracle.kubernetes.operator.work.NextAction;
 import oracle.kubernetes.operator.work.Packet;
@@ -28,11 +31,13 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
 import static com.meterware.simplestub.Stub.createStub;
+import static oracle.kubernetes.operator.ProcessingConstants.DOMAIN_COMPONENT_NAME;
 import static oracle.kubernetes.operator.logging.MessageKeys.HTTP_METHOD_FAILED;
 import static oracle.kubernetes.operator.logging.MessageKeys.HTTP_REQUEST_GOT_THROWABLE;
 import static oracle.kubernetes.operator.logging.MessageKeys.HTTP_REQUEST_TIMED_OUT;
 import static oracle.kubernetes.utils.LogMatcher.containsFine;
 import static oracle.kubernetes.utils.LogMatcher.containsWarning;
+import static org.hamcrest.Matchers.containsString;
 import static org.hamcrest.Matchers.equalTo;
 import static org.hamcrest.Matchers.is;
 import static org.hamcrest.Matchers.nullValue;
@@ -45,6 +50,8 @@ import static org.hamcrest.junit.MatcherAssert.assertThat;
  */
 public class HttpAsyncRequestStepTest {
 
+  private static final String LATENCY_METRIC = "test_http_request_seconds";
+
   private final HttpResponseStepImpl responseStep = new HttpResponseStepImpl(null);
   private final Packet packet = new Packet();
   private final List<Memento> mementos = new ArrayList<>();
@@ -53,6 +60,7 @@ public class HttpAsyncRequestStepTest {
   private HttpAsyncRequestStep requestStep;
   private final CompletableFuture<HttpResponse<String>> responseFuture = new CompletableFuture<>();
   private final HttpAsyncRequestStep.FutureFactory futureFactory = r -> responseFuture;
+  private final HttpRequestDispatcher dispatcher = new HttpRequestDispatcher();
   private final Collection<LogRecord> logRecords = new ArrayList<>();
   private TestUtils.ConsoleHandlerMemento consoleMemento;
 
@@ -63,6 +71,7 @@ public class HttpAsyncRequestStepTest {
           .withLogLevel(Level.FINE)
           .ignoringLoggedExceptions(HttpAsyncRequestStep.HttpTimeoutException.class));
     mementos.add(StaticStubSupport.install(HttpAsyncRequestStep.class, "factory", futureFactory));
+    mementos.add(StaticStubSupport.install(HttpAsyncRequestStep.class, "dispatcher", dispatcher));
 
     requestStep = createStep();
   }
@@ -70,6 +79,7 @@ public class HttpAsyncRequestStepTest {
   @AfterEach
   public void tearDown() {
     mementos.forEach(Memento::revert);
+    MetricsRegistry.getInstance().remove(LATENCY_METRIC, "namespace", "ns1", "domain_uid", "domain1");
   }
 
   @Test
@@ -178,6 +188,48 @@ public class HttpAsyncRequestStepTest {
     assertThat(logRecords, containsFine(HTTP_REQUEST_TIMED_OUT));
   }
 
+  @Test
+  public void whenResponseTimesOut_releaseDispatcherLimit() {
+    consoleMemento.ignoreMessage(HTTP_REQUEST_TIMED_OUT);
+    NextAction nextAction = requestStep.apply(packet);
+
+    receiveTimeout(nextAction);
+
+    assertThat(dispatcher.getInFlightCount(), equalTo(0));
+  }
+
+  @Test
+  public void whenResponseReceived_dispatcherLimitReleased() {
+    NextAction nextAction = requestStep.apply(packet);
+
+    receiveResponseBeforeTimeout(nextAction, response);
+
+    assertThat(dispatcher.getInFlightCount(), equalTo(0));
+  }
+
+  @Test
+  public void whenLatencyMetricSpecified_recordResponseTimeForDomain() {
+    packet.getComponents().put(DOMAIN_COMPONENT_NAME,
+          Component.createFor(new DomainPresenceInfo("ns1", "domain1")));
+    NextAction nextAction = requestStep.withLatencyMetric(LATENCY_METRIC, "a test metric").apply(packet);
+
+    receiveResponseBeforeTimeout(nextAction, response);
+
+    assertThat(MetricsRegistry.getInstance().scrape(),
+          containsString(LATENCY_METRIC + "_count{namespace=\"ns1\",domain_uid=\"domain1\"} 1"));
+  }
+
+  @Test
+  public void whenAdaptiveTimeoutSpecifiedAndHostRespondedQuickly_timeoutIsShortened() {
+    consoleMemento.ignoreMessage(HTTP_REQUEST_TIMED_OUT);
+    dispatcher.recordLatency(URI.create("http://localhost/nothing"), TimeUnit.MILLISECONDS.toNanos(20));
+    requestStep.withTimeoutSeconds(60).withAdaptiveTimeout();
+
+    receiveTimeout(requestStep.apply(packet));
+
+    assertThat(fiber.getScheduledTimeoutMillis(), equalTo(HttpRequestDispatcher.MIN_ADAPTIVE_TIMEOUT_MILLIS));
+  }
+
   @Test
   public void whenTestSupportEnabled_retrieveCannedResult() throws NoSuchFieldException {
     HttpRequest request = HttpRequest.newBuilder().uri(URI.create("http://nowhere")).build();
@@ -204,6 +256,11 @@ public class HttpAsyncRequestStepTest {
   abstract static class TestFiber implements AsyncFiber {
     private Packet packet;
     private Throwable terminationCause;
+    private long scheduledTimeoutMillis;
+
+    long getScheduledTimeoutMillis() {
+      return scheduledTimeoutMillis;
+    }
 
     boolean wasResumed() {
       return terminationCause == null && packet != null;
@@ -222,6 +279,7 @@ public class HttpAsyncRequestStepTest {
 
     @Override
     public void scheduleOnce(long timeout, TimeUnit unit, Runnable runnable) {
+      scheduledTimeoutMillis = unit.toMillis(timeout);
       runnable.run();
     }
   }
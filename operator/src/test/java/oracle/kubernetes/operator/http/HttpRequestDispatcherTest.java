@@ -0,0 +1,188 @@
+// Copyright (c) 2021, Oracle and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.http;
+
+import java.net.URI;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import com.meterware.simplestub.Memento;
+import oracle.kubernetes.operator.helpers.TuningParametersStub;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static com.meterware.simplestub.Stub.createStub;
+import static oracle.kubernetes.operator.http.HttpRequestDispatcher.MAX_CONCURRENT_REQUESTS_PARAM;
+import static oracle.kubernetes.operator.http.HttpRequestDispatcher.MIN_ADAPTIVE_TIMEOUT_MILLIS;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.hamcrest.junit.MatcherAssert.assertThat;
+
+public class HttpRequestDispatcherTest {
+
+  private static final URI HOST1_URI = URI.create("http://host1:7001/management");
+  private static final URI HOST2_URI = URI.create("http://host2:7001/management");
+  private static final long MAX_TIMEOUT_MILLIS = TimeUnit.SECONDS.toMillis(60);
+
+  private final List<Memento> mementos = new ArrayList<>();
+  private final HttpRequestDispatcher dispatcher = new HttpRequestDispatcher();
+  private final List<CompletableFuture<HttpResponse<String>>> sentFutures = new ArrayList<>();
+  private final List<String> sentRequests = new ArrayList<>();
+  private final HttpAsyncRequestStep.FutureFactory factory = this::createFuture;
+
+  private CompletableFuture<HttpResponse<String>> createFuture(HttpRequest request) {
+    CompletableFuture<HttpResponse<String>> future = new CompletableFuture<>();
+    sentFutures.add(future);
+    return future;
+  }
+
+  @BeforeEach
+  public void setUp() throws NoSuchFieldException {
+    mementos.add(TuningParametersStub.install());
+    TuningParametersStub.setParameter(MAX_CONCURRENT_REQUESTS_PARAM, "2");
+  }
+
+  @AfterEach
+  public void tearDown() {
+    mementos.forEach(Memento::revert);
+  }
+
+  private CompletableFuture<HttpResponse<String>> send(String name) {
+    CompletableFuture<HttpResponse<String>> result = new CompletableFuture<>();
+    dispatcher.send(createRequest(), factory, result, () -> sentRequests.add(name));
+    return result;
+  }
+
+  private HttpRequest createRequest() {
+    return HttpRequest.newBuilder(HOST1_URI).GET().build();
+  }
+
+  @Test
+  public void whenBelowLimit_sendRequestsImmediately() {
+    send("first");
+    send("second");
+
+    assertThat(sentRequests, contains("first", "second"));
+    assertThat(dispatcher.getInFlightCount(), equalTo(2));
+  }
+
+  @Test
+  public void whenLimitReached_queueFurtherRequests() {
+    send("first");
+    send("second");
+    send("third");
+
+    assertThat(sentRequests, contains("first", "second"));
+    assertThat(dispatcher.getPendingCount(), equalTo(1));
+  }
+
+  @Test
+  public void whenInFlightRequestCompletes_sendQueuedRequest() {
+    send("first");
+    send("second");
+    send("third");
+
+    sentFutures.get(0).complete(createStub(HttpResponseStub.class, 200));
+
+    assertThat(sentRequests, contains("first", "second", "third"));
+    assertThat(dispatcher.getInFlightCount(), equalTo(2));
+  }
+
+  @Test
+  public void whenResponseReceived_completeResult() {
+    HttpResponse<String> response = createStub(HttpResponseStub.class, 200);
+    CompletableFuture<HttpResponse<String>> result = send("first");
+
+    sentFutures.get(0).complete(response);
+
+    assertThat(result.join(), sameInstance(response));
+  }
+
+  @Test
+  public void whenQueuedRequestCancelled_doNotSendIt() {
+    send("first");
+    send("second");
+    send("third").cancel(false);
+    send("fourth");
+
+    sentFutures.get(0).complete(createStub(HttpResponseStub.class, 200));
+
+    assertThat(sentRequests, contains("first", "second", "fourth"));
+  }
+
+  @Test
+  public void whenInFlightRequestCancelled_sendQueuedRequest() {
+    CompletableFuture<HttpResponse<String>> first = send("first");
+    send("second");
+    send("third");
+
+    first.cancel(false);
+
+    assertThat(sentRequests, contains("first", "second", "third"));
+    assertThat(dispatcher.getInFlightCount(), equalTo(2));
+  }
+
+  @Test
+  public void whenCancelledRequestLaterCompletes_doNotReleaseLimitAgain() {
+    CompletableFuture<HttpResponse<String>> first = send("first");
+    send("second");
+    send("third");
+    first.cancel(false);
+
+    sentFutures.get(0).complete(createStub(HttpResponseStub.class, 200));
+
+    assertThat(dispatcher.getInFlightCount(), equalTo(2));
+  }
+
+  @Test
+  public void whenNoLatencyRecorded_useMaximumTimeout() {
+    assertThat(dispatcher.getTimeoutMillis(HOST1_URI, MAX_TIMEOUT_MILLIS), equalTo(MAX_TIMEOUT_MILLIS));
+  }
+
+  @Test
+  public void whenHostRespondsQuickly_useMinimumTimeout() {
+    dispatcher.recordLatency(HOST1_URI, TimeUnit.MILLISECONDS.toNanos(20));
+
+    assertThat(dispatcher.getTimeoutMillis(HOST1_URI, MAX_TIMEOUT_MILLIS), equalTo(MIN_ADAPTIVE_TIMEOUT_MILLIS));
+  }
+
+  @Test
+  public void whenHostRespondsSlowly_useTimeoutBasedOnLatency() {
+    dispatcher.recordLatency(HOST1_URI, TimeUnit.SECONDS.toNanos(8));
+
+    assertThat(dispatcher.getTimeoutMillis(HOST1_URI, MAX_TIMEOUT_MILLIS), equalTo(TimeUnit.SECONDS.toMillis(24)));
+  }
+
+  @Test
+  public void whenHostRespondsVerySlowly_useMaximumTimeout() {
+    dispatcher.recordLatency(HOST1_URI, TimeUnit.SECONDS.toNanos(50));
+
+    assertThat(dispatcher.getTimeoutMillis(HOST1_URI, MAX_TIMEOUT_MILLIS), equalTo(MAX_TIMEOUT_MILLIS));
+  }
+
+  @Test
+  public void latencyIsRecordedPerHost() {
+    dispatcher.recordLatency(HOST1_URI, TimeUnit.MILLISECONDS.toNanos(20));
+
+    assertThat(dispatcher.getTimeoutMillis(HOST2_URI, MAX_TIMEOUT_MILLIS), equalTo(MAX_TIMEOUT_MILLIS));
+  }
+
+  @Test
+  public void whenLimitInvalid_useDefault() {
+    TuningParametersStub.setParameter(MAX_CONCURRENT_REQUESTS_PARAM, "bad");
+
+    for (int i = 0; i < HttpRequestDispatcher.DEFAULT_MAX_CONCURRENT_REQUESTS + 1; i++) {
+      send("request" + i);
+    }
+
+    assertThat(dispatcher.getPendingCount(), is(1));
+  }
+}
@@ -0,0 +1,89 @@
+// Copyright (c) 2021, Oracle and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.logging;
+
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.util.logging.Formatter;
+import java.util.logging.Level;
+import java.util.logging.LogRecord;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+
+public class AsyncConsoleHandlerTest {
+
+  private final ByteArrayOutputStream output = new ByteArrayOutputStream();
+  private PrintStream savedErr;
+  private AsyncConsoleHandler handler;
+
+  @BeforeEach
+  public void setUp() {
+    savedErr = System.err;
+    System.setErr(new PrintStream(output, true, StandardCharsets.UTF_8));
+    handler = new AsyncConsoleHandler(2);
+    handler.setFormatter(new MessageOnlyFormatter());
+  }
+
+  @AfterEach
+  public void tearDown() {
+    handler.close();
+    System.setErr(savedErr);
+  }
+
+  @Test
+  public void afterFlush_publishedRecordsAreWrittenInOrder() {
+    for (int i = 1; i <= 10; i++) {
+      handler.publish(new LogRecord(Level.INFO, "message " + i));
+    }
+
+    handler.flush();
+
+    assertThat(getOutput(), equalTo(expectedMessages(10)));
+  }
+
+  @Test
+  public void recordsBelowHandlerLevel_areNotWritten() {
+    handler.setLevel(Level.INFO);
+
+    handler.publish(new LogRecord(Level.FINE, "hidden"));
+    handler.publish(new LogRecord(Level.INFO, "message 1"));
+    handler.flush();
+
+    assertThat(getOutput(), equalTo(expectedMessages(1)));
+  }
+
+  @Test
+  public void afterClose_recordsAreWrittenImmediately() {
+    handler.close();
+
+    handler.publish(new LogRecord(Level.INFO, "message 1"));
+
+    assertThat(getOutput(), equalTo(expectedMessages(1)));
+  }
+
+  private String getOutput() {
+    return output.toString(StandardCharsets.UTF_8);
+  }
+
+  private String expectedMessages(int count) {
+    StringBuilder sb = new StringBuilder();
+    for (int i = 1; i <= count; i++) {
+      sb.append("message ").append(i).append('\n');
+    }
+    return sb.toString();
+  }
+
+  static class MessageOnlyFormatter extends Formatter {
+    @Override
+    public String format(LogRecord record) {
+      return record.getMessage() + '\n';
+    }
+  }
+}
@@ -4,6 +4,7 @@
 package oracle.kubernetes.operator.logging;
 
 import java.util.Collections;
+import java.util.List;
 import java.util.Map;
 import java.util.logging.Level;
 import java.util.logging.LogRecord;
@@ -11,6 +12,7 @@ import java.util.logging.LogRecord;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import io.kubernetes.client.openapi.ApiException;
+import io.kubernetes.client.openapi.models.V1ObjectMeta;
 import oracle.kubernetes.operator.helpers.DomainPresenceInfo;
 import oracle.kubernetes.operator.work.FiberTestSupport;
 import oracle.kubernetes.operator.work.NextAction;
@@ -182,12 +184,62 @@ public class LoggingFormatterTest {
     }
   }
 
+  @Test
+  public void whenThrowableIsApiException_extractHeaders() throws JsonProcessingException {
+    logRecord.setThrown(new ApiException(420, Map.of("Retry-After", List.of("5")), "a response"));
+
+    assertThat(getFormattedMessage(), hasEntry("headers", Map.of("Retry-After", List.of("5"))));
+  }
+
+  @Test
+  public void whenMessageContainsNewLines_preserveThem() throws JsonProcessingException {
+    logRecord.setMessage("line 1\nline 2");
+
+    assertThat(getFormattedMessage().get("message"), equalTo("line 1\nline 2"));
+  }
+
+  @Test
+  public void whenRecordCapturedInFiber_formatItElsewhereWithFiberContext() throws JsonProcessingException {
+    testSupport.addDomainPresenceInfo(new DomainPresenceInfo("test-ns", "test-uid"));
+    final Packet packet = testSupport.runSteps(new CapturingStep());
+
+    Map<String, Object> message = readJson(formatter.format((LogRecord) packet.get("RECORD")));
+
+    assertThat(message, allOf(hasEntry("domainUID", "test-uid"), hasEntry("namespace", "test-ns")));
+  }
+
+  @Test
+  public void whenRecordCaptured_modelParametersAreSerializedImmediately() {
+    logRecord.setMessage("domain {0}");
+    V1ObjectMeta metadata = new V1ObjectMeta().name("original");
+    logRecord.setParameters(new Object[] {metadata});
+
+    LogRecord captured = LoggingFormatter.capture(logRecord);
+    metadata.setName("changed");
+
+    assertThat(formatter.formatMessage(captured), containsString("original"));
+  }
+
+  @SuppressWarnings("unchecked")
+  private Map<String, Object> readJson(String json) throws JsonProcessingException {
+    return new ObjectMapper().readValue(json, Map.class);
+  }
+
   @SuppressWarnings("unchecked")
   private Map<String, String> getFormattedMessageInFiber() {
     final Packet packet = testSupport.runSteps(new LoggingStep());
     return (Map<String, String>) packet.get("MESSAGE");
   }
 
+  class CapturingStep extends Step {
+
+    @Override
+    public NextAction apply(Packet packet) {
+      packet.put("RECORD", LoggingFormatter.capture(logRecord));
+      return doNext(packet);
+    }
+  }
+
   class LoggingStep extends Step {
 
     @Override
@@ -0,0 +1,103 @@
+// Copyright (c) 2021, Oracle and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.metrics;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class MetricsRegistryTest {
+
+  private final MetricsRegistry registry = MetricsRegistry.getInstance();
+
+  @AfterEach
+  public void tearDown() {
+    registry.clear();
+  }
+
+  @Test
+  public void whenCounterRequestedTwice_returnSameInstance() {
+    Counter counter = registry.counter("test_total", "a test counter", "kind", "a");
+
+    assertThat(registry.counter("test_total", "a test counter", "kind", "a"), sameInstance(counter));
+  }
+
+  @Test
+  public void scrape_reportsCounterWithHelpTypeAndLabels() {
+    registry.counter("test_total", "a test counter", "kind", "a").inc(3);
+
+    String text = registry.scrape();
+
+    assertThat(text, containsString("# HELP test_total a test counter\n"));
+    assertThat(text, containsString("# TYPE test_total counter\n"));
+    assertThat(text, containsString("test_total{kind=\"a\"} 3.0\n"));
+  }
+
+  @Test
+  public void scrape_reportsCurrentGaugeValue() {
+    registry.gauge("test_gauge", "a test gauge", () -> 7);
+
+    assertThat(registry.scrape(), containsString("test_gauge 7.0\n"));
+  }
+
+  @Test
+  public void whenGaugeReplaced_scrapeReportsNewValue() {
+    registry.gauge("test_gauge", "a test gauge", () -> 7);
+    registry.gauge("test_gauge", "a test gauge", () -> 9);
+
+    assertThat(registry.scrape(), containsString("test_gauge 9.0\n"));
+  }
+
+  @Test
+  public void histogram_reportsCumulativeBuckets() {
+    Histogram histogram = registry.histogram("test_seconds", "a test histogram", new double[] {1, 5});
+    histogram.observe(0.5);
+    histogram.observe(2);
+    histogram.observe(10);
+
+    String text = registry.scrape();
+
+    assertThat(text, containsString("test_seconds_bucket{le=\"1.0\"} 1.0\n"));
+    assertThat(text, containsString("test_seconds_bucket{le=\"5.0\"} 2.0\n"));
+    assertThat(text, containsString("test_seconds_bucket{le=\"+Inf\"} 3.0\n"));
+    assertThat(text, containsString("test_seconds_sum 12.5\n"));
+    assertThat(text, containsString("test_seconds_count 3.0\n"));
+  }
+
+  @Test
+  public void labelValues_areEscaped() {
+    registry.counter("test_total", "a test counter", "name", "a\"b").inc();
+
+    assertThat(registry.scrape(), containsString("test_total{name=\"a\\\"b\"} 1.0\n"));
+  }
+
+  @Test
+  public void afterMetricRemoved_scrapeOmitsIt() {
+    registry.counter("test_total", "a test counter", "kind", "a").inc();
+
+    registry.remove("test_total", "kind", "a");
+
+    assertThat(registry.scrape(), not(containsString("test_total")));
+  }
+
+  @Test
+  public void whenLabelsNotPaired_throwException() {
+    assertThrows(IllegalArgumentException.class, () -> registry.counter("test_total", "a test counter", "kind"));
+  }
+
+  @Test
+  public void counter_reportsAccumulatedValue() {
+    Counter counter = registry.counter("test_total", "a test counter");
+    counter.inc();
+    counter.inc(4);
+
+    assertThat(counter.get(), equalTo(5L));
+  }
+}
@@ -6,7 +6,9 @@ package oracle.kubernetes.operator.rest;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import javax.annotation.Nonnull;
 
@@ -27,6 +29,7 @@ import oracle.kubernetes.operator.TuningParameters;
 import oracle.kubernetes.operator.helpers.AuthorizationProxy;
 import oracle.kubernetes.operator.helpers.KubernetesTestSupport;
 import oracle.kubernetes.operator.helpers.TuningParametersStub;
+import oracle.kubernetes.operator.rest.RestBackendImpl.DomainRetriever;
 import oracle.kubernetes.operator.rest.RestBackendImpl.TopologyRetriever;
 import oracle.kubernetes.operator.rest.backend.RestBackend;
 import oracle.kubernetes.operator.rest.model.DomainAction;
@@ -44,6 +47,7 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
 import static java.net.HttpURLConnection.HTTP_CONFLICT;
+import static java.net.HttpURLConnection.HTTP_INTERNAL_ERROR;
 import static oracle.kubernetes.operator.helpers.KubernetesTestSupport.DOMAIN;
 import static oracle.kubernetes.operator.helpers.KubernetesTestSupport.SUBJECT_ACCESS_REVIEW;
 import static oracle.kubernetes.operator.helpers.KubernetesTestSupport.TOKEN_REVIEW;
@@ -78,6 +82,9 @@ public class RestBackendImplTest {
   private final DomainConfigurator configurator = DomainConfiguratorFactory.forDomain(domain1);
   private final KubernetesTestSupport testSupport = new KubernetesTestSupport();
   private WlsDomainConfig config;
+  private final Map<String, Domain> knownDomains = new HashMap<>();
+  private int numTokenReviews;
+  private int numAccessReviews;
 
   private static V1Namespace createNamespace(String name) {
     return new V1Namespace().metadata(new V1ObjectMeta().name(name));
@@ -97,6 +104,10 @@ public class RestBackendImplTest {
     mementos.add(TuningParametersStub.install());
     mementos.add(
         StaticStubSupport.install(RestBackendImpl.class, "INSTANCE", new TopologyRetrieverStub()));
+    mementos.add(StaticStubSupport.install(RestBackendImpl.class, "domainRetriever",
+        (DomainRetriever) (ns, domainUid) -> knownDomains.get(domainUid)));
+    mementos.add(StaticStubSupport.install(RestBackendImpl.class, "decisionCache", new AccessDecisionCache()));
+    mementos.add(StaticStubSupport.install(RestBackendImpl.class, "scaleRequests", new ScaleRequestQueue()));
 
     testSupport.defineResources(namespace, domain1, domain2);
     testSupport.doOnCreate(TOKEN_REVIEW, r -> authenticate((V1TokenReview) r));
@@ -113,10 +124,12 @@ public class RestBackendImplTest {
   }
 
   private void authenticate(V1TokenReview tokenReview) {
+    numTokenReviews++;
     tokenReview.setStatus(new V1TokenReviewStatus().authenticated(true).user(new V1UserInfo()));
   }
 
   private void allow(V1SubjectAccessReview subjectAccessReview) {
+    numAccessReviews++;
     subjectAccessReview.setStatus(new V1SubjectAccessReviewStatus().allowed(true));
   }
 
@@ -308,6 +321,13 @@ public class RestBackendImplTest {
     assertThat(getUpdatedDomain().getReplicaCount("cluster1"), equalTo(5));
   }
 
+  @Test
+  public void whenClusterScaled_returnRequestedReplicas() {
+    configureCluster("cluster1").withReplicas(1);
+
+    assertThat(restBackend.scaleCluster(DOMAIN1, "cluster1", 5), equalTo(5));
+  }
+
   @Test
   public void whenNoPerClusterReplicaSettingAndDefaultMatchesRequest_doNothing() {
     configureDomain().withDefaultReplicaCount(REPLICA_LIMIT);
@@ -404,6 +424,78 @@ public class RestBackendImplTest {
     assertNull(apiKey);
   }
 
+  @Test
+  public void whenUsingTokenReview_reviewRepeatedTokenOnce() {
+    TuningParameters.getInstance().put("tokenReviewAuthentication", "true");
+    new RestBackendImpl("", "1234", this::getDomainNamespaces);
+    new RestBackendImpl("", "1234", this::getDomainNamespaces);
+
+    assertThat(numTokenReviews, equalTo(1));
+  }
+
+  @Test
+  public void whenUsingTokenReview_reviewDifferentTokensSeparately() {
+    TuningParameters.getInstance().put("tokenReviewAuthentication", "true");
+    new RestBackendImpl("", "1234", this::getDomainNamespaces);
+    new RestBackendImpl("", "5678", this::getDomainNamespaces);
+
+    assertThat(numTokenReviews, equalTo(2));
+  }
+
+  @Test
+  public void whenUsingTokenReview_checkRepeatedAccessOnce() {
+    TuningParameters.getInstance().put("tokenReviewAuthentication", "true");
+    new RestBackendImpl("", "1234", this::getDomainNamespaces).getClusters(DOMAIN1);
+    int accessReviews = numAccessReviews;
+
+    new RestBackendImpl("", "1234", this::getDomainNamespaces).getClusters(DOMAIN1);
+
+    assertThat(numAccessReviews, equalTo(accessReviews));
+  }
+
+  @Test
+  public void whenUsingTokenReview_useDomainKnownToOperator() {
+    TuningParameters.getInstance().put("tokenReviewAuthentication", "true");
+    knownDomains.put(DOMAIN1, domain1);
+    testSupport.failOnResource(DOMAIN, null, NS, HTTP_INTERNAL_ERROR);
+
+    RestBackendImpl restBackend = new RestBackendImpl("", "1234", this::getDomainNamespaces);
+
+    assertThat(restBackend.getClusters(DOMAIN1), containsInAnyOrder("cluster1"));
+  }
+
+  @Test
+  public void whenUsingTokenReview_patchCurrentDomainRatherThanDomainKnownToOperator() {
+    TuningParameters.getInstance().put("tokenReviewAuthentication", "true");
+    knownDomains.put(DOMAIN1, createDomain(NS, DOMAIN1));
+    configurator.withIntrospectVersion("17");
+
+    new RestBackendImpl("", "1234", this::getDomainNamespaces).performDomainAction(DOMAIN1, createIntrospectRequest());
+
+    assertThat(getUpdatedIntrospectVersion(), equalTo("18"));
+  }
+
+  @Test
+  public void whenUsingTokenReview_scaleCurrentDomainRatherThanDomainKnownToOperator() {
+    TuningParameters.getInstance().put("tokenReviewAuthentication", "true");
+    knownDomains.put(DOMAIN1, createDomain(NS, DOMAIN1));
+    configureCluster("cluster1").withReplicas(2);
+
+    new RestBackendImpl("", "1234", this::getDomainNamespaces).scaleCluster(DOMAIN1, "cluster1", 2);
+
+    assertThat(getUpdatedDomain(), nullValue());
+  }
+
+  @Test
+  public void whenUsingAccessToken_dontUseDomainKnownToOperator() {
+    knownDomains.put(DOMAIN1, domain1);
+    testSupport.failOnResource(DOMAIN, null, NS, HTTP_INTERNAL_ERROR);
+
+    RestBackendImpl restBackend = new RestBackendImpl("", "1234", this::getDomainNamespaces);
+
+    assertThrows(WebApplicationException.class, () -> restBackend.getClusters(DOMAIN1));
+  }
+
 
   private DomainConfigurator configureDomain() {
     return configurator;
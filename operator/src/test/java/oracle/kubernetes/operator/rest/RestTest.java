@@ -23,6 +23,7 @@ import jakarta.ws.rs.core.Application;
 import jakarta.ws.rs.core.HttpHeaders;
 import jakarta.ws.rs.core.MediaType;
 import jakarta.ws.rs.core.Response;
+import oracle.kubernetes.operator.metrics.MetricsRegistry;
 import oracle.kubernetes.operator.rest.backend.RestBackend;
 import oracle.kubernetes.operator.rest.model.ScaleClusterParamsModel;
 import oracle.kubernetes.utils.TestUtils;
@@ -42,6 +43,7 @@ import static java.net.HttpURLConnection.HTTP_NOT_FOUND;
 import static java.net.HttpURLConnection.HTTP_UNAUTHORIZED;
 import static oracle.kubernetes.operator.rest.AuthenticationFilter.ACCESS_TOKEN_PREFIX;
 import static oracle.kubernetes.operator.rest.RestTest.JsonArrayMatcher.withValues;
+import static org.hamcrest.Matchers.containsString;
 import static org.hamcrest.Matchers.equalTo;
 import static org.hamcrest.junit.MatcherAssert.assertThat;
 
@@ -55,6 +57,7 @@ public class RestTest extends JerseyTest {
   private static final String V1_SWAGGER_HREF = V1_HREF + "/swagger";
   private static final String V1_DOMAINS_HREF = V1_HREF + "/domains";
   private static final String SWAGGER_HREF = LATEST_HREF + "/swagger";
+  private static final String METRICS_HREF = LATEST_HREF + "/metrics";
   private static final String DOMAINS_HREF = LATEST_HREF + "/domains";
   private static final String DOMAIN1_HREF = DOMAINS_HREF + "/uid1";
   private static final String DOMAIN2_HREF = DOMAINS_HREF + "/uid2";
@@ -80,7 +83,7 @@ public class RestTest extends JerseyTest {
 
   @Override
   protected Application configure() {
-    return RestServer.createResourceConfig(RestConfigStub.create(this::getRestBackend));
+    return RestServer.createResourceConfig(RestConfigStub.create(this::getRestBackend), Runnable::run);
   }
 
   // Note: the #configure method is called during class initialization, before the restBackend field
@@ -176,6 +179,20 @@ public class RestTest extends JerseyTest {
     assertThat(result, hasJsonPath("$.paths./operator.get.tags", withValues("Version")));
   }
 
+  @Test
+  public void latestVersionEndPoint_includesMetricsLink() {
+    Map result = getJsonResponse(LATEST_HREF);
+
+    assertThat(result, hasJsonPath("$.links[*].href", withValues(METRICS_HREF)));
+  }
+
+  @Test
+  public void metricsEndPoint_returnsRegisteredMetrics() {
+    MetricsRegistry.getInstance().counter("wko_rest_test_total", "A counter for REST testing").inc();
+
+    assertThat(createRequest(METRICS_HREF).get(String.class), containsString("wko_rest_test_total 1.0"));
+  }
+
   @Test
   public void domainsEndPoint_returnsListOfDomainsAndLinks() {
     defineDomains("uid1", "uid2");
@@ -273,6 +290,32 @@ public class RestTest extends JerseyTest {
     assertThat(restBackend.getNumManagedServers("uid1", "cluster1"), equalTo(3));
   }
 
+  @Test
+  public void whenClusterScaled_respondWithAccepted() {
+    defineClusters("uid1", "cluster1", "cluster2");
+
+    assertThat(sendScaleRequest("cluster1", 3).getStatus(), equalTo(HttpURLConnection.HTTP_ACCEPTED));
+  }
+
+  @Test
+  public void whenClusterScaled_respondWithConfiguredServerCount() {
+    defineClusters("uid1", "cluster1", "cluster2");
+
+    String result = sendScaleRequest("cluster1", 3).readEntity(String.class);
+
+    assertThat(result, hasJsonPath("$.managedServerCount", equalTo(3)));
+  }
+
+  @Test
+  public void whenClusterScaled_recordRequestLatency() {
+    defineClusters("uid1", "cluster1", "cluster2");
+
+    sendScaleRequest("cluster1", 3);
+
+    assertThat(MetricsRegistry.getInstance().scrape(),
+        containsString("wko_rest_request_seconds_count{request=\"scaleCluster\"}"));
+  }
+
   private Response sendScaleRequest(String cluster, int numManagedServers) {
     return createRequest(DOMAIN1_CLUSTERS_HREF + String.format("/%s/scale", cluster))
         .post(createScaleRequest(numManagedServers));
@@ -419,8 +462,9 @@ public class RestTest extends JerseyTest {
     }
 
     @Override
-    public void scaleCluster(String domainUid, String cluster, int managedServerCount) {
+    public int scaleCluster(String domainUid, String cluster, int managedServerCount) {
       getClusterStateStream(domainUid, cluster).forEach(cs -> cs.setScale(managedServerCount));
+      return managedServerCount;
     }
 
     Stream<ClusterState> getClusterStateStream(String domainUid, String cluster) {
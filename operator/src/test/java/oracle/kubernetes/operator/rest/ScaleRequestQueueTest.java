@@ -0,0 +1,118 @@
+// Copyright (c) 2021, Oracle and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.rest;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.function.IntConsumer;
+
+import jakarta.ws.rs.WebApplicationException;
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.junit.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class ScaleRequestQueueTest {
+
+  private static final String CLUSTER_KEY = "domain1|cluster1|client";
+  private static final String OTHER_CLUSTER_KEY = "domain1|cluster2|client";
+
+  private final ScaleRequestQueue queue = new ScaleRequestQueue();
+  private final List<Integer> patches = Collections.synchronizedList(new ArrayList<>());
+  private final CountDownLatch firstPatchStarted = new CountDownLatch(1);
+  private final CountDownLatch firstPatchReleased = new CountDownLatch(1);
+
+  private final IntConsumer recordPatch = patches::add;
+  private final IntConsumer blockFirstPatch = replicas -> {
+    patches.add(replicas);
+    firstPatchStarted.countDown();
+    awaitLatch(firstPatchReleased);
+  };
+
+  private static void awaitLatch(CountDownLatch latch) {
+    try {
+      latch.await(10, TimeUnit.SECONDS);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+
+  private CompletableFuture<Integer> scaleAsync(String key, int replicas) {
+    return CompletableFuture.supplyAsync(() -> queue.scale(key, replicas, blockFirstPatch));
+  }
+
+  private void waitForPendingCount(int count) throws InterruptedException {
+    long deadline = System.currentTimeMillis() + TimeUnit.SECONDS.toMillis(10);
+    while (queue.getPendingCount() < count && System.currentTimeMillis() < deadline) {
+      Thread.sleep(10);
+    }
+  }
+
+  @Test
+  public void whenNoPatchInProgress_applyRequestImmediately() {
+    assertThat(queue.scale(CLUSTER_KEY, 3, recordPatch), equalTo(3));
+    assertThat(queue.scale(CLUSTER_KEY, 4, recordPatch), equalTo(4));
+
+    assertThat(patches, contains(3, 4));
+  }
+
+  @Test
+  public void whenRequestsArriveDuringPatch_applyLatestRequestOnce() throws Exception {
+    CompletableFuture<Integer> first = scaleAsync(CLUSTER_KEY, 2);
+    awaitLatch(firstPatchStarted);
+    CompletableFuture<Integer> second = scaleAsync(CLUSTER_KEY, 5);
+    waitForPendingCount(1);
+    CompletableFuture<Integer> third = scaleAsync(CLUSTER_KEY, 4);
+    waitForPendingCount(2);
+
+    firstPatchReleased.countDown();
+
+    assertThat(first.get(10, TimeUnit.SECONDS), equalTo(2));
+    assertThat(second.get(10, TimeUnit.SECONDS), equalTo(4));
+    assertThat(third.get(10, TimeUnit.SECONDS), equalTo(4));
+    assertThat(patches, contains(2, 4));
+  }
+
+  @Test
+  public void whenPatchInProgressForOtherCluster_applyRequestImmediately() throws Exception {
+    CompletableFuture<Integer> first = scaleAsync(CLUSTER_KEY, 2);
+    awaitLatch(firstPatchStarted);
+
+    try {
+      assertThat(queue.scale(OTHER_CLUSTER_KEY, 3, recordPatch), equalTo(3));
+    } finally {
+      firstPatchReleased.countDown();
+    }
+
+    assertThat(first.get(10, TimeUnit.SECONDS), equalTo(2));
+  }
+
+  @Test
+  public void whenPatchFails_throwException() {
+    assertThrows(WebApplicationException.class,
+        () -> queue.scale(CLUSTER_KEY, 3, replicas -> {
+          throw new WebApplicationException();
+        }));
+  }
+
+  @Test
+  public void afterPatchFails_applyNextRequest() {
+    try {
+      queue.scale(CLUSTER_KEY, 3, replicas -> {
+        throw new WebApplicationException();
+      });
+    } catch (WebApplicationException ignored) {
+      // expected
+    }
+
+    assertThat(queue.scale(CLUSTER_KEY, 4, recordPatch), equalTo(4));
+    assertThat(queue.getPendingCount(), equalTo(0));
+  }
+}
@@ -22,6 +22,7 @@ import io.kubernetes.client.openapi.models.V1ServiceSpec;
 import oracle.kubernetes.operator.DomainProcessorTestSetup;
 import oracle.kubernetes.operator.helpers.DomainPresenceInfo;
 import oracle.kubernetes.operator.helpers.KubernetesTestSupport;
+import oracle.kubernetes.operator.helpers.LastKnownHealth;
 import oracle.kubernetes.operator.helpers.TuningParametersStub;
 import oracle.kubernetes.operator.http.HttpAsyncTestSupport;
 import oracle.kubernetes.operator.http.HttpResponseStub;
@@ -56,6 +57,7 @@ import static org.hamcrest.CoreMatchers.nullValue;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.equalTo;
 import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.sameInstance;
 
 public class ReadHealthStepTest {
   static final String OK_RESPONSE =
@@ -219,6 +221,45 @@ public class ReadHealthStepTest {
     assertThat(getServerStateMap(packet).get(MANAGED_SERVER1), is("RUNNING"));
   }
 
+  @Test
+  public void whenSameResponseReadAgain_reuseParsedHealth() {
+    selectServer(MANAGED_SERVER1);
+    defineResponse(200, OK_RESPONSE, "http://127.0.0.1:8001");
+    ServerHealth firstHealth = getServerHealthMap(testSupport.runSteps(readHealthStep)).get(MANAGED_SERVER1);
+
+    Packet packet = testSupport.runSteps(readHealthStep);
+
+    assertThat(getServerHealthMap(packet).get(MANAGED_SERVER1), sameInstance(firstHealth));
+    assertThat(getServerStateMap(packet).get(MANAGED_SERVER1), is("RUNNING"));
+  }
+
+  @Test
+  public void whenSameResponseReadAgain_countCacheHit() {
+    selectServer(MANAGED_SERVER1);
+    defineResponse(200, OK_RESPONSE, "http://127.0.0.1:8001");
+    testSupport.runSteps(readHealthStep);
+    long hits = ReadHealthStep.HEALTH_CACHE_HITS.get();
+
+    testSupport.runSteps(readHealthStep);
+
+    assertThat(ReadHealthStep.HEALTH_CACHE_HITS.get(), equalTo(hits + 1));
+  }
+
+  @Test
+  public void whenResponseDiffersFromLastRead_parseIt() {
+    selectServer(MANAGED_SERVER1);
+    info.setLastKnownServerHealth(MANAGED_SERVER1,
+          new LastKnownHealth("{}", "SHUTDOWN", new ServerHealth().withOverallHealth("failed")));
+    defineResponse(200, OK_RESPONSE, "http://127.0.0.1:8001");
+    long misses = ReadHealthStep.HEALTH_CACHE_MISSES.get();
+
+    Packet packet = testSupport.runSteps(readHealthStep);
+
+    assertThat(getServerHealthMap(packet).get(MANAGED_SERVER1).getOverallHealth(), equalTo("ok"));
+    assertThat(getServerStateMap(packet).get(MANAGED_SERVER1), is("RUNNING"));
+    assertThat(ReadHealthStep.HEALTH_CACHE_MISSES.get(), equalTo(misses + 1));
+  }
+
   private Map<String, ServerHealth> getServerHealthMap(Packet packet) {
     return packet.getValue(SERVER_HEALTH_MAP);
   }
@@ -458,6 +458,50 @@ public class WlsDomainConfigTest {
     assertEquals(6, wlsDomainConfig.getServerConfigs().size());
   }
 
+  @Test
+  public void whenServerInCluster_getClusterNameReturnsIt() {
+    createDomainConfig(JSON_STRING_MIXED_CLUSTER);
+
+    assertThat(wlsDomainConfig.getClusterName("ms-1"), equalTo("DockerCluster"));
+  }
+
+  @Test
+  public void whenDynamicServerInCluster_domainContainsIt() {
+    createDomainConfig(JSON_STRING_MIXED_CLUSTER);
+
+    assertTrue(wlsDomainConfig.containsServer("dynamic-2"));
+  }
+
+  @Test
+  public void afterServerAddedToCluster_getClusterNameReturnsIt() {
+    createDomainConfig(JSON_STRING_1_CLUSTER);
+    wlsDomainConfig.getClusterName("ms-0");
+
+    wlsDomainConfig.getClusterConfig("DockerCluster").addServerConfig(new WlsServerConfig("added", "host", 8001));
+
+    assertThat(wlsDomainConfig.getClusterName("added"), equalTo("DockerCluster"));
+  }
+
+  @Test
+  public void afterServerAddedToDomain_getServerConfigReturnsIt() {
+    createDomainConfig(JSON_STRING_1_CLUSTER);
+    wlsDomainConfig.getServerConfig("AdminServer");
+
+    wlsDomainConfig.getServers().add(new WlsServerConfig("added", "host", 8001));
+
+    assertNotNull(wlsDomainConfig.getServerConfig("added"));
+  }
+
+  @Test
+  public void afterClusterAdded_containsClusterReturnsTrue() {
+    createDomainConfig(JSON_STRING_1_CLUSTER);
+    wlsDomainConfig.containsCluster("DockerCluster");
+
+    wlsDomainConfig.withCluster(new WlsClusterConfig("added"));
+
+    assertTrue(wlsDomainConfig.containsCluster("added"));
+  }
+
   @Test
   public void verifyNetworkAccessPointsInDynamicServersLoadedFromJsonString() {
     createDomainConfig(JSON_STRING_MIXED_CLUSTER);
@@ -0,0 +1,104 @@
+// Copyright (c) 2021, Oracle and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.work;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import oracle.kubernetes.operator.TuningParameters.EngineTuning;
+import oracle.kubernetes.operator.metrics.MetricsRegistry;
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.sameInstance;
+
+public class EngineTest {
+
+  private final FiberTestSupport.ScheduledExecutorStub scheduler = FiberTestSupport.ScheduledExecutorStub.create();
+  private final List<Runnable> submitted = new ArrayList<>();
+  private final Executor workExecutor = submitted::add;
+  private final Engine engine = new Engine(scheduler, workExecutor);
+  private final List<String> stepsRun = new ArrayList<>();
+
+  @Test
+  public void whenWorkExecutorSpecified_fibersRunOnIt() {
+    engine.createFiber().start(new RecordingStep("step1"), new Packet(), null);
+
+    assertThat(stepsRun, empty());
+    assertThat(submitted, hasSize(1));
+
+    submitted.remove(0).run();
+    assertThat(stepsRun, equalTo(List.of("step1")));
+  }
+
+  @Test
+  public void whenWorkExecutorSpecified_timedTasksUseScheduler() {
+    assertThat(engine.getExecutor(), sameInstance(scheduler));
+  }
+
+  @Test
+  public void whenFiberRuns_queueMetricsAreRecorded() {
+    engine.createFiber().start(new RecordingStep("step1"), new Packet(), null);
+    submitted.remove(0).run();
+
+    String metrics = MetricsRegistry.getInstance().scrape();
+    assertThat(metrics, containsString("wko_fiber_queue_depth_count"));
+    assertThat(metrics, containsString("wko_fiber_queue_wait_seconds_count"));
+    assertThat(metrics, containsString("wko_fiber_step_seconds_count"));
+  }
+
+  @Test
+  public void fixedPoolWorkExecutor_runsTasks() throws InterruptedException {
+    assertThat(runsTask(Engine.createWorkExecutor("test", null, new EngineTuning(2, false))), is(true));
+  }
+
+  @Test
+  public void whenVirtualThreadsRequested_workExecutorRunsTasksWhetherOrNotSupported() throws InterruptedException {
+    assertThat(runsTask(Engine.createWorkExecutor("test", null, new EngineTuning(2, true))), is(true));
+  }
+
+  @Test
+  public void whenContainerSpecified_workExecutorRunsTasksInIt() throws InterruptedException {
+    Container container = new Container();
+    AtomicReference<Container> found = new AtomicReference<>();
+    CountDownLatch latch = new CountDownLatch(1);
+
+    Engine.createWorkExecutor("test", container, new EngineTuning(1, false)).execute(() -> {
+      found.set(ContainerResolver.getDefault().getContainer());
+      latch.countDown();
+    });
+
+    assertThat(latch.await(5, TimeUnit.SECONDS), is(true));
+    assertThat(found.get(), sameInstance(container));
+  }
+
+  private boolean runsTask(Executor executor) throws InterruptedException {
+    CountDownLatch latch = new CountDownLatch(1);
+    executor.execute(latch::countDown);
+    return latch.await(5, TimeUnit.SECONDS);
+  }
+
+  private class RecordingStep extends Step {
+    private final String name;
+
+    RecordingStep(String name) {
+      this.name = name;
+    }
+
+    @Override
+    public NextAction apply(Packet packet) {
+      stepsRun.add(name);
+      return doNext(packet);
+    }
+  }
+}
@@ -0,0 +1,144 @@
+// Copyright (c) 2021, Oracle and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.work;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.equalTo;
+
+public class FiberGateTest {
+
+  private static final String KEY1 = "domain1";
+  private static final String KEY2 = "domain2";
+
+  private final FiberTestSupport testSupport = new FiberTestSupport();
+  private final FiberGate gate = testSupport.createFiberGate();
+  private final List<String> stepsRun = new ArrayList<>();
+  private final Map<String, AsyncFiber> suspended = new HashMap<>();
+
+  @Test
+  public void whenNoCoalescingWindow_enqueuedFiberStartsImmediately() {
+    gate.withQueueing(0, 0).enqueueFiber(KEY1, new RecordingStep("step1"), new Packet(), new NullCallback(), true);
+
+    assertThat(stepsRun, contains("step1"));
+  }
+
+  @Test
+  public void whenRequestsArriveWithinWindow_runOnlyLatest() {
+    gate.withQueueing(100, 0);
+
+    gate.enqueueFiber(KEY1, new RecordingStep("step1"), new Packet(), new NullCallback(), false);
+    gate.enqueueFiber(KEY1, new RecordingStep("step2"), new Packet(), new NullCallback(), false);
+    assertThat(stepsRun, empty());
+    assertThat(gate.getPendingCount(), equalTo(1));
+
+    testSupport.setTime(100, TimeUnit.MILLISECONDS);
+    assertThat(stepsRun, contains("step2"));
+    assertThat(gate.getPendingCount(), equalTo(0));
+  }
+
+  @Test
+  public void whenRequestsForDifferentKeysArriveWithinWindow_runBoth() {
+    gate.withQueueing(100, 0);
+
+    gate.enqueueFiber(KEY1, new RecordingStep("step1"), new Packet(), new NullCallback(), false);
+    gate.enqueueFiber(KEY2, new RecordingStep("step2"), new Packet(), new NullCallback(), false);
+    testSupport.setTime(100, TimeUnit.MILLISECONDS);
+
+    assertThat(stepsRun, contains("step1", "step2"));
+  }
+
+  @Test
+  public void whileFiberRunning_nonInterruptingRequestIsIgnored() {
+    gate.withQueueing(0, 0);
+    gate.enqueueFiber(KEY1, new SuspendingStep(KEY1), new Packet(), new NullCallback(), true);
+
+    gate.enqueueFiber(KEY1, new RecordingStep("step2"), new Packet(), new NullCallback(), false);
+    suspended.get(KEY1).resume(new Packet());
+
+    assertThat(stepsRun, contains(KEY1));
+  }
+
+  @Test
+  public void whileFiberRunning_interruptingRequestReplacesIt() {
+    gate.withQueueing(0, 0);
+    gate.enqueueFiber(KEY1, new SuspendingStep(KEY1), new Packet(), new NullCallback(), true);
+
+    gate.enqueueFiber(KEY1, new RecordingStep("step2"), new Packet(), new NullCallback(), true);
+
+    assertThat(stepsRun, contains(KEY1, "step2"));
+  }
+
+  @Test
+  public void whenAtConcurrencyLimit_laterRequestWaitsForRunningFiberToComplete() {
+    gate.withQueueing(0, 1);
+    gate.enqueueFiber(KEY1, new SuspendingStep(KEY1), new Packet(), new NullCallback(), true);
+
+    gate.enqueueFiber(KEY2, new RecordingStep("step2"), new Packet(), new NullCallback(), true);
+    assertThat(stepsRun, contains(KEY1));
+    assertThat(gate.getPendingCount(), equalTo(1));
+
+    suspended.get(KEY1).resume(new Packet());
+    assertThat(stepsRun, contains(KEY1, "step2"));
+  }
+
+  @Test
+  public void whenAtConcurrencyLimit_requestForRunningKeyMayReplaceIt() {
+    gate.withQueueing(0, 1);
+    gate.enqueueFiber(KEY1, new SuspendingStep(KEY1), new Packet(), new NullCallback(), true);
+
+    gate.enqueueFiber(KEY1, new RecordingStep("step2"), new Packet(), new NullCallback(), true);
+
+    assertThat(stepsRun, contains(KEY1, "step2"));
+  }
+
+  private class RecordingStep extends Step {
+    private final String name;
+
+    RecordingStep(String name) {
+      this.name = name;
+    }
+
+    @Override
+    public NextAction apply(Packet packet) {
+      stepsRun.add(name);
+      return doNext(packet);
+    }
+  }
+
+  private class SuspendingStep extends Step {
+    private final String key;
+
+    SuspendingStep(String key) {
+      this.key = key;
+    }
+
+    @Override
+    public NextAction apply(Packet packet) {
+      stepsRun.add(key);
+      return doSuspend(fiber -> suspended.put(key, fiber));
+    }
+  }
+
+  private static class NullCallback implements Fiber.CompletionCallback {
+    @Override
+    public void onCompletion(Packet packet) {
+      // no-op
+    }
+
+    @Override
+    public void onThrowable(Packet packet, Throwable throwable) {
+      // no-op
+    }
+  }
+}
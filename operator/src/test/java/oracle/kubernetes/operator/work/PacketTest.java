@@ -0,0 +1,122 @@
+// Copyright (c) 2021, Oracle and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.work;
+
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.hasEntry;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.nullValue;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class PacketTest {
+
+  private final Packet packet = new Packet();
+
+  @Test
+  public void copyStartsWithSameValues() {
+    packet.put("key", "value");
+
+    assertThat(packet.copy(), hasEntry("key", "value"));
+  }
+
+  @Test
+  public void whenCopyModified_originalIsUnchanged() {
+    packet.put("key", "value");
+
+    Packet copy = packet.copy();
+    copy.put("key", "changed");
+    copy.put("other", "added");
+
+    assertThat(packet.get("key"), equalTo("value"));
+    assertThat(packet.containsKey("other"), equalTo(false));
+  }
+
+  @Test
+  public void whenOriginalModified_copyIsUnchanged() {
+    packet.put("key", "value");
+
+    Packet copy = packet.copy();
+    packet.remove("key");
+
+    assertThat(copy.get("key"), equalTo("value"));
+  }
+
+  @Test
+  public void whenValueSetToNull_removeIt() {
+    packet.put("key", "value");
+
+    packet.put("key", null);
+
+    assertThat(packet.containsKey("key"), equalTo(false));
+  }
+
+  @Test
+  public void entrySetCannotModifyPacket() {
+    packet.put("key", "value");
+
+    Map.Entry<String, Object> entry = packet.entrySet().iterator().next();
+
+    assertThrows(UnsupportedOperationException.class, () -> entry.setValue("changed"));
+  }
+
+  @Test
+  public void whenCopyComponentAdded_originalDoesNotSeeIt() {
+    Packet copy = packet.copy();
+
+    copy.getComponents().put("component", Component.createFor(new SampleSpi()));
+
+    assertThat(packet.getSpi(SampleSpi.class), nullValue());
+    assertThat(copy.getSpi(SampleSpi.class), not(nullValue()));
+  }
+
+  @Test
+  public void spiLookupReturnsSameInstanceEachTime() {
+    SampleSpi spi = new SampleSpi();
+    packet.getComponents().put("component", Component.createFor(spi));
+
+    assertThat(packet.getSpi(SampleSpi.class), sameInstance(spi));
+    assertThat(packet.getSpi(SampleSpi.class), sameInstance(spi));
+  }
+
+  @Test
+  public void afterSpiNotFound_addingComponentMakesItAvailable() {
+    assertThat(packet.getSpi(SampleSpi.class), nullValue());
+
+    SampleSpi spi = new SampleSpi();
+    packet.getComponents().put("component", Component.createFor(spi));
+
+    assertThat(packet.getSpi(SampleSpi.class), sameInstance(spi));
+  }
+
+  @Test
+  public void afterComponentRemoved_spiIsNoLongerFound() {
+    packet.getComponents().put("component", Component.createFor(new SampleSpi()));
+    packet.getSpi(SampleSpi.class);
+
+    packet.getComponents().remove("component");
+
+    assertThat(packet.getSpi(SampleSpi.class), nullValue());
+  }
+
+  @Test
+  public void afterComponentReplaced_findNewSpi() {
+    packet.getComponents().put("component", Component.createFor(new SampleSpi()));
+    packet.getSpi(SampleSpi.class);
+
+    SampleSpi replacement = new SampleSpi();
+    packet.copy().getComponents().put("component", Component.createFor(replacement));
+    packet.getComponents().put("component", Component.createFor(replacement));
+
+    assertThat(packet.getSpi(SampleSpi.class), sameInstance(replacement));
+  }
+
+  static class SampleSpi {
+  }
+}
@@ -41,6 +41,7 @@ import static org.hamcrest.Matchers.equalTo;
 import static org.hamcrest.Matchers.hasEntry;
 import static org.hamcrest.Matchers.not;
 import static org.hamcrest.Matchers.nullValue;
+import static org.hamcrest.Matchers.sameInstance;
 import static org.hamcrest.core.Is.is;
 import static org.hamcrest.junit.MatcherAssert.assertThat;
 
@@ -307,6 +308,97 @@ public class DomainV2Test extends DomainTestBase {
             envVar("name4", "server")));
   }
 
+  @Test
+  public void whenEffectiveConfigurationCached_reuseServerSpec() {
+    domain.getMetadata().setGeneration(1L);
+    domain.enableEffectiveConfigurationCache();
+
+    assertThat(domain.getServer("server1", "cluster1"), sameInstance(domain.getServer("server1", "cluster1")));
+  }
+
+  @Test
+  public void whenEffectiveConfigurationCached_serverSpecCombinesAllLevels() {
+    configureDomain(domain).withEnvironmentVariable("name1", "domain");
+    configureCluster("cluster1").withEnvironmentVariable("name2", "cluster");
+    configureServer("server1").withEnvironmentVariable("name3", "server");
+    domain.getMetadata().setGeneration(1L);
+    domain.enableEffectiveConfigurationCache();
+
+    assertThat(
+        domain.getServer("server1", "cluster1").getEnvironmentVariables(),
+        containsInAnyOrder(envVar("name1", "domain"), envVar("name2", "cluster"), envVar("name3", "server")));
+  }
+
+  @Test
+  public void whenEffectiveConfigurationNotCached_createNewServerSpec() {
+    domain.getMetadata().setGeneration(1L);
+
+    assertThat(domain.getServer("server1", "cluster1"), not(sameInstance(domain.getServer("server1", "cluster1"))));
+  }
+
+  @Test
+  public void whenGenerationChanges_resolveServerSpecAgain() {
+    domain.getMetadata().setGeneration(1L);
+    domain.enableEffectiveConfigurationCache();
+    domain.getServer("server1", null);
+
+    configureServer("server1").withEnvironmentVariable("name1", "server");
+    domain.getMetadata().setGeneration(2L);
+
+    assertThat(domain.getServer("server1", null).getEnvironmentVariables(), contains(envVar("name1", "server")));
+  }
+
+  @Test
+  public void whenReplicaCountSetWhileCached_serverSpecUsesNewLimit() {
+    configureCluster("cluster1").withReplicas(3);
+    domain.getMetadata().setGeneration(1L);
+    domain.enableEffectiveConfigurationCache();
+    domain.getServer("server1", "cluster1");
+
+    domain.setReplicaCount("cluster1", 5);
+
+    assertThat(domain.getServer("server1", "cluster1").shouldStart(4), is(true));
+  }
+
+  @Test
+  public void whenCacheSharedWithNewerVersionOfDomainWithSameSpec_reuseServerSpec() {
+    domain.getMetadata().setGeneration(1L);
+    domain.enableEffectiveConfigurationCache();
+    ServerSpec serverSpec = domain.getServer("server1", "cluster1");
+
+    Domain newer = createDomain().withSpec(domain.getSpec());
+    newer.getMetadata().setGeneration(1L);
+    newer.shareEffectiveConfigurationCache(domain);
+
+    assertThat(newer.getServer("server1", "cluster1"), sameInstance(serverSpec));
+  }
+
+  @Test
+  public void whenCacheSharedWithNewerVersionOfDomainWithOtherSpec_resolveServerSpecFromNewerSpec() {
+    domain.getMetadata().setGeneration(1L);
+    domain.enableEffectiveConfigurationCache();
+    domain.getServer("server1", "cluster1");
+
+    Domain newer = createDomain();
+    newer.getMetadata().setGeneration(1L);
+    configureDomain(newer).configureServer("server1").withEnvironmentVariable("name1", "newer");
+    newer.shareEffectiveConfigurationCache(domain);
+
+    assertThat(newer.getServer("server1", "cluster1").getEnvironmentVariables(), contains(envVar("name1", "newer")));
+  }
+
+  @Test
+  public void whenCacheSharedWithNewerVersionOfDomainWithOtherSpec_keepCachingServerSpec() {
+    domain.getMetadata().setGeneration(1L);
+    domain.enableEffectiveConfigurationCache();
+
+    Domain newer = createDomain();
+    newer.getMetadata().setGeneration(1L);
+    newer.shareEffectiveConfigurationCache(domain);
+
+    assertThat(newer.getServer("server1", "cluster1"), sameInstance(newer.getServer("server1", "cluster1")));
+  }
+
   private V1EnvVar envVar(String name, String value) {
     return new V1EnvVar().name(name).value(value);
   }